@@ -206,39 +206,15 @@ abstract class AbstractRetriever
                                                            final String databaseSpecificTypeName,
                                                            final String mappedClassName)
   {
-    MutableColumnDataType columnDataType = catalog
-      .lookupColumnDataType(schema, databaseSpecificTypeName).orElse(catalog
-        .lookupSystemColumnDataType(databaseSpecificTypeName).orElse(null));
-    // Create new data type, if needed
-    if (columnDataType == null)
+    // Column data types are shared by all tables in the catalog, and
+    // may be created by retrievers running on different threads
+    synchronized (catalog)
     {
-      columnDataType = new MutableColumnDataType(schema,
-                                                 databaseSpecificTypeName);
-      final JavaSqlType javaSqlType = retrieverConnection.getJavaSqlTypes()
-        .valueOf(javaSqlTypeInt);
-      columnDataType.setJavaSqlType(javaSqlType);
-      if (isBlank(mappedClassName))
-      {
-        final TypeMap typeMap = retrieverConnection.getTypeMap();
-        final Class<?> mappedClass;
-        if (typeMap.containsKey(databaseSpecificTypeName))
-        {
-          mappedClass = typeMap.get(databaseSpecificTypeName);
-        }
-        else
-        {
-          mappedClass = typeMap.get(javaSqlType.getName());
-        }
-        columnDataType.setTypeMappedClass(mappedClass);
-      }
-      else
-      {
-        columnDataType.setTypeMappedClass(mappedClassName);
-      }
-
-      catalog.addColumnDataType(columnDataType);
+      return internalLookupOrCreateColumnDataType(schema,
+                                                  javaSqlTypeInt,
+                                                  databaseSpecificTypeName,
+                                                  mappedClassName);
     }
-    return columnDataType;
   }
 
   final Optional<MutableRoutine> lookupRoutine(final String catalogName,
@@ -254,8 +230,7 @@ abstract class AbstractRetriever
                                            final String schemaName,
                                            final String tableName)
   {
-    return catalog
-      .lookupTable(Arrays.asList(catalogName, schemaName, tableName));
+    return catalog.lookupTable(catalogName, schemaName, tableName);
   }
 
   final String normalizeCatalogName(final String name)
@@ -282,4 +257,44 @@ abstract class AbstractRetriever
     }
   }
 
+  private MutableColumnDataType internalLookupOrCreateColumnDataType(final Schema schema,
+                                                                     final int javaSqlTypeInt,
+                                                                     final String databaseSpecificTypeName,
+                                                                     final String mappedClassName)
+  {
+    MutableColumnDataType columnDataType = catalog
+      .lookupColumnDataType(schema, databaseSpecificTypeName).orElse(catalog
+        .lookupSystemColumnDataType(databaseSpecificTypeName).orElse(null));
+    // Create new data type, if needed
+    if (columnDataType == null)
+    {
+      columnDataType = new MutableColumnDataType(schema,
+                                                 databaseSpecificTypeName);
+      final JavaSqlType javaSqlType = retrieverConnection.getJavaSqlTypes()
+        .valueOf(javaSqlTypeInt);
+      columnDataType.setJavaSqlType(javaSqlType);
+      if (isBlank(mappedClassName))
+      {
+        final TypeMap typeMap = retrieverConnection.getTypeMap();
+        final Class<?> mappedClass;
+        if (typeMap.containsKey(databaseSpecificTypeName))
+        {
+          mappedClass = typeMap.get(databaseSpecificTypeName);
+        }
+        else
+        {
+          mappedClass = typeMap.get(javaSqlType.getName());
+        }
+        columnDataType.setTypeMappedClass(mappedClass);
+      }
+      else
+      {
+        columnDataType.setTypeMappedClass(mappedClassName);
+      }
+
+      catalog.addColumnDataType(columnDataType);
+    }
+    return columnDataType;
+  }
+
 }
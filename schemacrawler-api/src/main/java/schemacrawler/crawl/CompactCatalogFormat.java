@@ -0,0 +1,108 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+
+import java.io.Serializable;
+
+/**
+ * Constants shared by the compact catalog writer and reader. Strings
+ * are written once, with a UTF-8 encoding, and later occurrences refer
+ * to the first one by its index in the string table. Catalog objects
+ * are numbered in the order that they are written, and references to
+ * them are written as varints. A reference of 0 is null, a reference of
+ * 1 means that the definition of the object follows, and any other
+ * reference is the number of an object written earlier, plus 2.
+ *
+ * @author Sualeh Fatehi
+ */
+final class CompactCatalogFormat
+{
+
+  /**
+   * Stands in for a catalog object inside a Java serialized attribute
+   * value, so that the object is not serialized again.
+   */
+  static final class ObjectReference
+    implements Serializable
+  {
+
+    private static final long serialVersionUID = 2712473461853204876L;
+
+    private final int id;
+
+    ObjectReference(final int id)
+    {
+      this.id = id;
+    }
+
+    int getId()
+    {
+      return id;
+    }
+
+  }
+
+  static final int NULL_REFERENCE = 0;
+  static final int NEW_REFERENCE = 1;
+  static final int REFERENCE_OFFSET = 2;
+
+  static final int NULL_STRING = 0;
+  static final int NEW_STRING = 1;
+  static final int STRING_OFFSET = 2;
+
+  static final int KIND_TABLE = 0;
+  static final int KIND_VIEW = 1;
+  static final int KIND_FUNCTION = 0;
+  static final int KIND_PROCEDURE = 1;
+
+  static final int VALUE_NULL = 0;
+  static final int VALUE_OBJECT = 1;
+  static final int VALUE_STRING = 2;
+  static final int VALUE_TRUE = 3;
+  static final int VALUE_FALSE = 4;
+  static final int VALUE_INT = 5;
+  static final int VALUE_LONG = 6;
+  static final int VALUE_SHORT = 7;
+  static final int VALUE_BYTE = 8;
+  static final int VALUE_DOUBLE = 9;
+  static final int VALUE_FLOAT = 10;
+  static final int VALUE_CHARACTER = 11;
+  static final int VALUE_BIG_INTEGER = 12;
+  static final int VALUE_BIG_DECIMAL = 13;
+  static final int VALUE_LIST = 14;
+  static final int VALUE_BYTES = 15;
+  static final int VALUE_SERIALIZED = 16;
+
+  private CompactCatalogFormat()
+  {
+    // Prevent instantiation
+  }
+
+}
@@ -0,0 +1,1035 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.crawl.CompactCatalogFormat.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.DriverPropertyInfo;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import schemacrawler.BaseProductVersion;
+import schemacrawler.ProductVersion;
+import schemacrawler.schema.ActionOrientationType;
+import schemacrawler.schema.AttributedObject;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.CheckOptionType;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ConditionTimingType;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.EventManipulationType;
+import schemacrawler.schema.ForeignKeyDeferrability;
+import schemacrawler.schema.ForeignKeyUpdateRule;
+import schemacrawler.schema.FunctionColumnType;
+import schemacrawler.schema.FunctionReturnType;
+import schemacrawler.schema.IndexColumnSortSequence;
+import schemacrawler.schema.IndexType;
+import schemacrawler.schema.ProcedureColumnType;
+import schemacrawler.schema.ProcedureReturnType;
+import schemacrawler.schema.RoutineBodyType;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.SchemaReference;
+import schemacrawler.schema.SearchableType;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraintType;
+import schemacrawler.schema.TableType;
+import schemacrawler.utility.JavaSqlTypes;
+
+/**
+ * Reads a catalog that was written by a {@link CompactCatalogWriter}.
+ * The stream is not closed.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class CompactCatalogReader
+{
+
+  /**
+   * Reads a Java serialized attribute value, resolving references to
+   * catalog objects that have already been read.
+   */
+  private final class ReferencingObjectInputStream
+    extends ObjectInputStream
+  {
+
+    ReferencingObjectInputStream(final InputStream in)
+      throws IOException
+    {
+      super(in);
+      enableResolveObject(true);
+    }
+
+    @Override
+    protected Object resolveObject(final Object obj)
+      throws IOException
+    {
+      if (obj instanceof ObjectReference)
+      {
+        return lookupObject(((ObjectReference) obj).getId());
+      }
+      return obj;
+    }
+
+  }
+
+  private final DataInputStream in;
+  private final List<String> strings;
+  private final List<Object> objects;
+  private final JavaSqlTypes javaSqlTypes;
+
+  public CompactCatalogReader(final InputStream in)
+  {
+    requireNonNull(in, "No input stream provided");
+    this.in = new DataInputStream(in);
+    strings = new ArrayList<>();
+    objects = new ArrayList<>();
+    javaSqlTypes = new JavaSqlTypes();
+  }
+
+  /**
+   * Reads a catalog from the input stream.
+   *
+   * @return Catalog
+   * @throws IOException
+   *         On an exception reading the catalog, or if the catalog is
+   *         malformed
+   */
+  public Catalog read()
+    throws IOException
+  {
+    final MutableCatalog catalog = new MutableCatalog(readString());
+    register(catalog);
+    readRemarks(catalog);
+
+    readDatabaseInfo(catalog.getDatabaseInfo());
+    readJdbcDriverInfo(catalog.getJdbcDriverInfo());
+    readCrawlInfo(catalog);
+
+    final int schemaCount = readVarint();
+    for (int i = 0; i < schemaCount; i++)
+    {
+      catalog.addSchema((SchemaReference) readSchemaReference());
+    }
+
+    final int columnDataTypeCount = readVarint();
+    for (int i = 0; i < columnDataTypeCount; i++)
+    {
+      catalog.addColumnDataType(readColumnDataTypeReference());
+    }
+
+    final int tableCount = readVarint();
+    final List<MutableTable> tables = new ArrayList<>(tableCount);
+    for (int i = 0; i < tableCount; i++)
+    {
+      tables.add(readTable(catalog));
+    }
+
+    final int routineCount = readVarint();
+    for (int i = 0; i < routineCount; i++)
+    {
+      readRoutine(catalog);
+    }
+
+    final int sequenceCount = readVarint();
+    for (int i = 0; i < sequenceCount; i++)
+    {
+      catalog.addSequence(readSequence());
+    }
+
+    final int synonymCount = readVarint();
+    for (int i = 0; i < synonymCount; i++)
+    {
+      catalog.addSynonym(readSynonym());
+    }
+
+    final int foreignKeyCount = readVarint();
+    for (int i = 0; i < foreignKeyCount; i++)
+    {
+      readForeignKey();
+    }
+    for (final MutableTable table: tables)
+    {
+      final int tableForeignKeyCount = readVarint();
+      for (int i = 0; i < tableForeignKeyCount; i++)
+      {
+        table.addForeignKey(lookupObject(readVarint(),
+                                         MutableForeignKey.class));
+      }
+    }
+
+    readReferencedColumns();
+    readAttributes();
+
+    return catalog;
+  }
+
+  private boolean isSet(final int flags, final int bit)
+  {
+    return (flags & 1 << bit) != 0;
+  }
+
+  private Object lookupObject(final int id)
+    throws IOException
+  {
+    if (id < 0 || id >= objects.size())
+    {
+      throw new IOException(String
+        .format("Unknown object %d in catalog snapshot", id));
+    }
+    return objects.get(id);
+  }
+
+  private <T> T lookupObject(final int id, final Class<T> objectClass)
+    throws IOException
+  {
+    final Object object = lookupObject(id);
+    if (!objectClass.isInstance(object))
+    {
+      throw new IOException(String
+        .format("Expected %s, but found %s in catalog snapshot",
+                objectClass.getSimpleName(),
+                object.getClass().getSimpleName()));
+    }
+    return objectClass.cast(object);
+  }
+
+  private <T> T lookupReference(final int reference,
+                                final Class<T> objectClass)
+    throws IOException
+  {
+    if (reference == NULL_REFERENCE)
+    {
+      return null;
+    }
+    return lookupObject(reference - REFERENCE_OFFSET, objectClass);
+  }
+
+  private void readAttributes()
+    throws IOException
+  {
+    final int objectCount = readVarint();
+    for (int i = 0; i < objectCount; i++)
+    {
+      final AttributedObject attributedObject = lookupObject(readVarint(),
+                                                             AttributedObject.class);
+      final int attributeCount = readVarint();
+      for (int j = 0; j < attributeCount; j++)
+      {
+        final String name = readString();
+        attributedObject.setAttribute(name, readValue());
+      }
+    }
+  }
+
+  private byte[] readBytes()
+    throws IOException
+  {
+    final byte[] bytes = new byte[readVarint()];
+    in.readFully(bytes);
+    return bytes;
+  }
+
+  private MutableColumn readColumn(final MutableTable table)
+    throws IOException
+  {
+    final MutableColumn column = new MutableColumn(table, readString());
+    register(column);
+    readRemarks(column);
+    column.setColumnDataType(readColumnDataTypeReference());
+    column.setOrdinalPosition(readSignedVarint());
+    column.setSize(readSignedVarint());
+    column.setDecimalDigits(readSignedVarint());
+    column.setDefaultValue(readString());
+
+    final int flags = readVarint();
+    column.setNullable(isSet(flags, 0));
+    column.setAutoIncremented(isSet(flags, 1));
+    column.setGenerated(isSet(flags, 2));
+    column.setHidden(isSet(flags, 3));
+    if (isSet(flags, 4))
+    {
+      column.markAsPartOfPrimaryKey();
+    }
+    if (isSet(flags, 5))
+    {
+      column.markAsPartOfUniqueIndex();
+    }
+    if (isSet(flags, 6))
+    {
+      column.markAsPartOfIndex();
+    }
+
+    final int privilegeCount = readVarint();
+    for (int i = 0; i < privilegeCount; i++)
+    {
+      final MutablePrivilege<Column> privilege = new MutablePrivilege<>(new ColumnReference(column),
+                                                                        readString());
+      readPrivilege(privilege);
+      column.addPrivilege(privilege);
+    }
+
+    return column;
+  }
+
+  private MutableColumnDataType readColumnDataTypeReference()
+    throws IOException
+  {
+    final int reference = readVarint();
+    if (reference != NEW_REFERENCE)
+    {
+      return lookupReference(reference, MutableColumnDataType.class);
+    }
+
+    final Schema schema = readSchemaReference();
+    final MutableColumnDataType columnDataType = new MutableColumnDataType(schema,
+                                                                           readString());
+    register(columnDataType);
+    readRemarks(columnDataType);
+
+    final int flags = readVarint();
+    columnDataType.setAutoIncrementable(isSet(flags, 0));
+    columnDataType.setCaseSensitive(isSet(flags, 1));
+    columnDataType.setFixedPrecisionScale(isSet(flags, 2));
+    columnDataType.setNullable(isSet(flags, 3));
+    columnDataType.setUnsigned(isSet(flags, 4));
+    columnDataType.setUserDefined(isSet(flags, 5));
+
+    columnDataType.setCreateParameters(readString());
+    columnDataType.setJavaSqlType(javaSqlTypes.valueOf(readSignedVarint()));
+    columnDataType.setTypeMappedClass(readString());
+    columnDataType.setLiteralPrefix(readString());
+    columnDataType.setLiteralSuffix(readString());
+    columnDataType.setLocalTypeName(readString());
+    columnDataType.setMinimumScale(readSignedVarint());
+    columnDataType.setMaximumScale(readSignedVarint());
+    columnDataType.setNumPrecisionRadix(readSignedVarint());
+    columnDataType.setPrecision(readSignedVarlong());
+    columnDataType.setSearchable(readEnum(SearchableType.class));
+    columnDataType.setBaseType(readColumnDataTypeReference());
+
+    return columnDataType;
+  }
+
+  /**
+   * Reads a reference to a column, creating a partial column for
+   * columns of tables that were not crawled.
+   */
+  private Column readColumnReference()
+    throws IOException
+  {
+    final int reference = readVarint();
+    if (reference != NEW_REFERENCE)
+    {
+      return lookupReference(reference, Column.class);
+    }
+
+    final Table table = readTableReference();
+    final ColumnPartial column = new ColumnPartial(table, readString());
+    register(column);
+    if (table instanceof TablePartial)
+    {
+      ((TablePartial) table).addColumn(column);
+    }
+    return column;
+  }
+
+  private void readCrawlInfo(final MutableCatalog catalog)
+    throws IOException
+  {
+    if (!in.readBoolean())
+    {
+      return;
+    }
+
+    final ProductVersion schemaCrawlerInfo = readProductVersion();
+    final ProductVersion jdbcDriverInfo = readProductVersion();
+    final ProductVersion databaseInfo = readProductVersion();
+    final ProductVersion osInfo = readProductVersion();
+    final ProductVersion jvmInfo = readProductVersion();
+    final LocalDateTime crawlTimestamp = LocalDateTime.parse(readString());
+    final UUID runId = UUID.fromString(readString());
+
+    final Map<String, String> retrievalStrategyProbes = new LinkedHashMap<>();
+    final int retrievalStrategyProbeCount = readVarint();
+    for (int i = 0; i < retrievalStrategyProbeCount; i++)
+    {
+      final String phase = readString();
+      retrievalStrategyProbes.put(phase, readString());
+    }
+    catalog.getRetrievalStrategyProbes().putAll(retrievalStrategyProbes);
+
+    catalog.setCrawlInfo(new ImmutableCrawlInfo(schemaCrawlerInfo,
+                                                jdbcDriverInfo,
+                                                databaseInfo,
+                                                osInfo,
+                                                jvmInfo,
+                                                crawlTimestamp,
+                                                runId,
+                                                retrievalStrategyProbes));
+  }
+
+  private void readDatabaseInfo(final MutableDatabaseInfo databaseInfo)
+    throws IOException
+  {
+    databaseInfo.setUserName(readString());
+    databaseInfo.setProductName(readString());
+    databaseInfo.setProductVersion(readString());
+
+    final int propertyCount = readVarint();
+    final List<ImmutableDatabaseProperty> properties = new ArrayList<>(propertyCount);
+    for (int i = 0; i < propertyCount; i++)
+    {
+      final String name = readString();
+      properties.add(new ImmutableDatabaseProperty(name, readValue()));
+    }
+    databaseInfo.addAll(properties);
+
+    final int serverInfoCount = readVarint();
+    for (int i = 0; i < serverInfoCount; i++)
+    {
+      final String name = readString();
+      final String value = readString();
+      final String description = readString();
+      databaseInfo
+        .addServerInfo(new ImmutableServerInfoProperty(name,
+                                                       value,
+                                                       description));
+    }
+  }
+
+  private <E extends Enum<E>> E readEnum(final Class<E> enumClass)
+    throws IOException
+  {
+    final String name = readString();
+    if (name == null)
+    {
+      return null;
+    }
+    try
+    {
+      return Enum.valueOf(enumClass, name);
+    }
+    catch (final IllegalArgumentException e)
+    {
+      throw new IOException(String
+        .format("Unknown %s, %s, in catalog snapshot",
+                enumClass.getSimpleName(),
+                name));
+    }
+  }
+
+  private void readForeignKey()
+    throws IOException
+  {
+    final MutableForeignKey foreignKey = new MutableForeignKey(readString());
+    register(foreignKey);
+    readRemarks(foreignKey);
+    foreignKey.setSpecificName(readString());
+    foreignKey.setUpdateRule(readEnum(ForeignKeyUpdateRule.class));
+    foreignKey.setDeleteRule(readEnum(ForeignKeyUpdateRule.class));
+    foreignKey.setDeferrability(readEnum(ForeignKeyDeferrability.class));
+    foreignKey.appendDefinition(readString());
+
+    final int columnReferenceCount = readVarint();
+    for (int i = 0; i < columnReferenceCount; i++)
+    {
+      final int keySequence = readSignedVarint();
+      final Column pkColumn = readColumnReference();
+      final Column fkColumn = readColumnReference();
+      foreignKey.addColumnReference(keySequence, pkColumn, fkColumn);
+
+      // Tables that were not crawled only know about foreign keys, as
+      // when the foreign keys were retrieved
+      if (fkColumn.getParent() instanceof TablePartial)
+      {
+        ((TablePartial) fkColumn.getParent()).addForeignKey(foreignKey);
+      }
+      if (pkColumn.getParent() instanceof TablePartial)
+      {
+        ((TablePartial) pkColumn.getParent()).addForeignKey(foreignKey);
+      }
+    }
+  }
+
+  private void readIndex(final MutableTable table, final MutableIndex index)
+    throws IOException
+  {
+    register(index);
+    readRemarks(index);
+    index.setIndexType(readEnum(IndexType.class));
+    index.setCardinality(readSignedVarint());
+    index.setPages(readSignedVarint());
+    index.setUnique(isSet(readVarint(), 0));
+    index.appendDefinition(readString());
+
+    final int columnCount = readVarint();
+    for (int i = 0; i < columnCount; i++)
+    {
+      final String name = readString();
+      final Optional<MutableColumn> tableColumn = table.lookupColumn(name);
+      final Column column = tableColumn.isPresent()? tableColumn.get()
+                                                   : new ColumnPartial(table,
+                                                                       name);
+      final MutableIndexColumn indexColumn = new MutableIndexColumn(index,
+                                                                    column);
+      register(indexColumn);
+      readRemarks(indexColumn);
+      indexColumn.setIndexOrdinalPosition(readSignedVarint());
+      indexColumn.setSortSequence(readEnum(IndexColumnSortSequence.class));
+      indexColumn.appendDefinition(readString());
+      index.addColumn(indexColumn);
+    }
+  }
+
+  private void readJdbcDriverInfo(final MutableJdbcDriverInfo jdbcDriverInfo)
+    throws IOException
+  {
+    jdbcDriverInfo.setDriverName(readString());
+    jdbcDriverInfo.setJdbcDriverClassName(readString());
+    jdbcDriverInfo.setDriverVersion(readString());
+    jdbcDriverInfo.setConnectionUrl(readString());
+    jdbcDriverInfo.setJdbcCompliant(isSet(readVarint(), 0));
+
+    final int driverPropertyCount = readVarint();
+    for (int i = 0; i < driverPropertyCount; i++)
+    {
+      final String name = readString();
+      final DriverPropertyInfo driverPropertyInfo = new DriverPropertyInfo(name,
+                                                                           readString());
+      driverPropertyInfo.description = readString();
+      driverPropertyInfo.required = isSet(readVarint(), 0);
+      final String[] choices = new String[readVarint()];
+      for (int j = 0; j < choices.length; j++)
+      {
+        choices[j] = readString();
+      }
+      driverPropertyInfo.choices = choices;
+      jdbcDriverInfo
+        .addJdbcDriverProperty(new ImmutableJdbcDriverProperty(driverPropertyInfo));
+    }
+  }
+
+  private void readPrivilege(final MutablePrivilege<?> privilege)
+    throws IOException
+  {
+    register(privilege);
+    readRemarks(privilege);
+
+    final int grantCount = readVarint();
+    for (int i = 0; i < grantCount; i++)
+    {
+      final String grantor = readString();
+      final String grantee = readString();
+      privilege.addGrant(grantor, grantee, isSet(readVarint(), 0));
+    }
+  }
+
+  private ProductVersion readProductVersion()
+    throws IOException
+  {
+    final String productName = readString();
+    return new BaseProductVersion(productName, readString());
+  }
+
+  private void readReferencedColumns()
+    throws IOException
+  {
+    final int columnCount = readVarint();
+    for (int i = 0; i < columnCount; i++)
+    {
+      final Column column = lookupObject(readVarint(), Column.class);
+      final Column referencedColumn = readColumnReference();
+      if (column instanceof MutableColumn)
+      {
+        ((MutableColumn) column).setReferencedColumn(referencedColumn);
+      }
+      else if (column instanceof ColumnPartial)
+      {
+        ((ColumnPartial) column).setReferencedColumn(referencedColumn);
+      }
+    }
+  }
+
+  private void readRemarks(final AbstractNamedObjectWithAttributes namedObject)
+    throws IOException
+  {
+    final String remarks = readString();
+    if (remarks != null)
+    {
+      namedObject.setRemarks(remarks);
+    }
+  }
+
+  private void readRoutine(final MutableCatalog catalog)
+    throws IOException
+  {
+    final boolean inCatalog = isSet(readVarint(), 0);
+    final int kind = readVarint();
+    final Schema schema = readSchemaReference();
+    final String name = readString();
+    final MutableRoutine routine;
+    if (kind == KIND_FUNCTION)
+    {
+      routine = new MutableFunction(schema, name);
+    }
+    else
+    {
+      routine = new MutableProcedure(schema, name);
+    }
+    register(routine);
+    readRemarks(routine);
+    routine.setSpecificName(readString());
+    routine.setRoutineBodyType(readEnum(RoutineBodyType.class));
+    if (routine instanceof MutableFunction)
+    {
+      ((MutableFunction) routine)
+        .setReturnType(readEnum(FunctionReturnType.class));
+    }
+    else
+    {
+      ((MutableProcedure) routine)
+        .setReturnType(readEnum(ProcedureReturnType.class));
+    }
+    routine.appendDefinition(readString());
+
+    final int columnCount = readVarint();
+    for (int i = 0; i < columnCount; i++)
+    {
+      final String columnName = readString();
+      final AbstractColumn<?> column;
+      if (routine instanceof MutableFunction)
+      {
+        final MutableFunction function = (MutableFunction) routine;
+        final MutableFunctionColumn functionColumn = new MutableFunctionColumn(function,
+                                                                               columnName);
+        register(functionColumn);
+        readRemarks(functionColumn);
+        functionColumn
+          .setFunctionColumnType(readEnum(FunctionColumnType.class));
+        function.addColumn(functionColumn);
+        column = functionColumn;
+      }
+      else
+      {
+        final MutableProcedure procedure = (MutableProcedure) routine;
+        final MutableProcedureColumn procedureColumn = new MutableProcedureColumn(procedure,
+                                                                                  columnName);
+        register(procedureColumn);
+        readRemarks(procedureColumn);
+        procedureColumn
+          .setProcedureColumnType(readEnum(ProcedureColumnType.class));
+        procedure.addColumn(procedureColumn);
+        column = procedureColumn;
+      }
+      column.setColumnDataType(readColumnDataTypeReference());
+      column.setOrdinalPosition(readSignedVarint());
+      column.setSize(readSignedVarint());
+      column.setDecimalDigits(readSignedVarint());
+      column.setNullable(isSet(readVarint(), 0));
+    }
+
+    if (inCatalog)
+    {
+      catalog.addRoutine(routine);
+    }
+  }
+
+  private Schema readSchemaReference()
+    throws IOException
+  {
+    final int reference = readVarint();
+    if (reference != NEW_REFERENCE)
+    {
+      return lookupReference(reference, Schema.class);
+    }
+
+    final String catalogName = readString();
+    final SchemaReference schema = new SchemaReference(catalogName,
+                                                       readString());
+    register(schema);
+    return schema;
+  }
+
+  private MutableSequence readSequence()
+    throws IOException
+  {
+    final Schema schema = readSchemaReference();
+    final MutableSequence sequence = new MutableSequence(schema, readString());
+    register(sequence);
+    readRemarks(sequence);
+    sequence.setMinimumValue((BigInteger) readValue());
+    sequence.setMaximumValue((BigInteger) readValue());
+    sequence.setIncrement(readSignedVarlong());
+    sequence.setCycle(isSet(readVarint(), 0));
+    return sequence;
+  }
+
+  private int readSignedVarint()
+    throws IOException
+  {
+    final int value = readVarint();
+    return value >>> 1 ^ -(value & 1);
+  }
+
+  private long readSignedVarlong()
+    throws IOException
+  {
+    final long value = readVarlong();
+    return value >>> 1 ^ -(value & 1);
+  }
+
+  private String readString()
+    throws IOException
+  {
+    final int index = readVarint();
+    if (index == NULL_STRING)
+    {
+      return null;
+    }
+    if (index == NEW_STRING)
+    {
+      final String string = new String(readBytes(), StandardCharsets.UTF_8);
+      strings.add(string);
+      return string;
+    }
+    if (index - STRING_OFFSET >= strings.size())
+    {
+      throw new IOException(String
+        .format("Unknown string %d in catalog snapshot",
+                index - STRING_OFFSET));
+    }
+    return strings.get(index - STRING_OFFSET);
+  }
+
+  private MutableSynonym readSynonym()
+    throws IOException
+  {
+    final Schema schema = readSchemaReference();
+    final MutableSynonym synonym = new MutableSynonym(schema, readString());
+    register(synonym);
+    readRemarks(synonym);
+
+    final int reference = readVarint();
+    final DatabaseObject referencedObject;
+    if (reference != NEW_REFERENCE)
+    {
+      referencedObject = lookupReference(reference, DatabaseObject.class);
+    }
+    else
+    {
+      final Schema referencedSchema = readSchemaReference();
+      referencedObject = new AbstractDatabaseObject(referencedSchema,
+                                                    readString())
+      {
+
+        private static final long serialVersionUID = 3217964018425710513L;
+      };
+      register(referencedObject);
+    }
+    synonym.setReferencedObject(referencedObject);
+
+    return synonym;
+  }
+
+  private MutableTable readTable(final MutableCatalog catalog)
+    throws IOException
+  {
+    final int flags = readVarint();
+    final int kind = readVarint();
+    final Schema schema = readSchemaReference();
+    final String name = readString();
+    final MutableTable table;
+    if (kind == KIND_VIEW)
+    {
+      table = new MutableView(schema, name);
+    }
+    else
+    {
+      table = new MutableTable(schema, name);
+    }
+    register(table);
+    readRemarks(table);
+
+    final String tableType = readString();
+    if (TableType.UNKNOWN.getTableType().equals(tableType))
+    {
+      table.setTableType(TableType.UNKNOWN);
+    }
+    else
+    {
+      table.setTableType(new TableType(tableType));
+    }
+    table.setSortIndex(readSignedVarint());
+    table.appendDefinition(readString());
+    if (table instanceof MutableView)
+    {
+      final MutableView view = (MutableView) table;
+      view.setCheckOption(readEnum(CheckOptionType.class));
+      view.setUpdatable(isSet(flags, 1));
+    }
+
+    final int columnCount = readVarint();
+    for (int i = 0; i < columnCount; i++)
+    {
+      table.addColumn(readColumn(table));
+    }
+    final int hiddenColumnCount = readVarint();
+    for (int i = 0; i < hiddenColumnCount; i++)
+    {
+      table.addHiddenColumn(readColumn(table));
+    }
+
+    // Set the primary key before indexes are added, so that no index
+    // is replaced by it
+    if (isSet(readVarint(), 0))
+    {
+      final MutablePrimaryKey primaryKey = new MutablePrimaryKey(table,
+                                                                 readString());
+      readIndex(table, primaryKey);
+      table.setPrimaryKeyAndReplaceIndex(primaryKey);
+    }
+    final int indexCount = readVarint();
+    for (int i = 0; i < indexCount; i++)
+    {
+      final MutableIndex index = new MutableIndex(table, readString());
+      readIndex(table, index);
+      table.addIndex(index);
+    }
+
+    final int tableConstraintCount = readVarint();
+    for (int i = 0; i < tableConstraintCount; i++)
+    {
+      table.addTableConstraint(readTableConstraint(table));
+    }
+
+    final int triggerCount = readVarint();
+    for (int i = 0; i < triggerCount; i++)
+    {
+      table.addTrigger(readTrigger(table));
+    }
+
+    final int privilegeCount = readVarint();
+    for (int i = 0; i < privilegeCount; i++)
+    {
+      final MutablePrivilege<Table> privilege = new MutablePrivilege<>(new TableReference(table),
+                                                                       readString());
+      readPrivilege(privilege);
+      table.addPrivilege(privilege);
+    }
+
+    if (isSet(flags, 0))
+    {
+      catalog.addTable(table);
+    }
+    return table;
+  }
+
+  private MutableTableConstraint readTableConstraint(final MutableTable table)
+    throws IOException
+  {
+    final MutableTableConstraint tableConstraint = new MutableTableConstraint(table,
+                                                                              readString());
+    register(tableConstraint);
+    readRemarks(tableConstraint);
+    tableConstraint
+      .setTableConstraintType(readEnum(TableConstraintType.class));
+    final int flags = readVarint();
+    tableConstraint.setDeferrable(isSet(flags, 0));
+    tableConstraint.setInitiallyDeferred(isSet(flags, 1));
+    tableConstraint.appendDefinition(readString());
+
+    final int columnCount = readVarint();
+    for (int i = 0; i < columnCount; i++)
+    {
+      final String name = readString();
+      final Optional<MutableColumn> tableColumn = table.lookupColumn(name);
+      final MutableColumn column = tableColumn.isPresent()? tableColumn.get()
+                                                          : new MutableColumn(table,
+                                                                              name);
+      final MutableTableConstraintColumn tableConstraintColumn = new MutableTableConstraintColumn(tableConstraint,
+                                                                                                  column);
+      register(tableConstraintColumn);
+      readRemarks(tableConstraintColumn);
+      tableConstraintColumn
+        .setTableConstraintOrdinalPosition(readSignedVarint());
+      tableConstraint.addColumn(tableConstraintColumn);
+    }
+
+    return tableConstraint;
+  }
+
+  /**
+   * Reads a reference to a table, creating a partial table for tables
+   * that were not crawled.
+   */
+  private Table readTableReference()
+    throws IOException
+  {
+    final int reference = readVarint();
+    if (reference != NEW_REFERENCE)
+    {
+      return lookupReference(reference, Table.class);
+    }
+
+    final Schema schema = readSchemaReference();
+    final TablePartial table = new TablePartial(schema, readString());
+    register(table);
+    return table;
+  }
+
+  private MutableTrigger readTrigger(final MutableTable table)
+    throws IOException
+  {
+    final MutableTrigger trigger = new MutableTrigger(table, readString());
+    register(trigger);
+    readRemarks(trigger);
+    trigger
+      .setEventManipulationType(readEnum(EventManipulationType.class));
+    trigger.setActionOrientation(readEnum(ActionOrientationType.class));
+    trigger.setConditionTiming(readEnum(ConditionTimingType.class));
+    trigger.setActionOrder(readSignedVarint());
+    trigger.appendActionCondition(readString());
+    trigger.appendActionStatement(readString());
+    return trigger;
+  }
+
+  private Object readValue()
+    throws IOException
+  {
+    final int valueType = readVarint();
+    switch (valueType)
+    {
+      case VALUE_NULL:
+        return null;
+      case VALUE_OBJECT:
+        return lookupObject(readVarint());
+      case VALUE_STRING:
+        return readString();
+      case VALUE_TRUE:
+        return Boolean.TRUE;
+      case VALUE_FALSE:
+        return Boolean.FALSE;
+      case VALUE_INT:
+        return readSignedVarint();
+      case VALUE_LONG:
+        return readSignedVarlong();
+      case VALUE_SHORT:
+        return (short) readSignedVarint();
+      case VALUE_BYTE:
+        return in.readByte();
+      case VALUE_DOUBLE:
+        return in.readDouble();
+      case VALUE_FLOAT:
+        return in.readFloat();
+      case VALUE_CHARACTER:
+        return in.readChar();
+      case VALUE_BIG_INTEGER:
+        return new BigInteger(readBytes());
+      case VALUE_BIG_DECIMAL:
+        final BigInteger unscaledValue = new BigInteger(readBytes());
+        return new BigDecimal(unscaledValue, readSignedVarint());
+      case VALUE_LIST:
+        final int size = readVarint();
+        final List<Object> list = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+        {
+          list.add(readValue());
+        }
+        return list;
+      case VALUE_BYTES:
+        return readBytes();
+      case VALUE_SERIALIZED:
+        try (
+            final ObjectInputStream objIn = new ReferencingObjectInputStream(new ByteArrayInputStream(readBytes()));)
+        {
+          return objIn.readObject();
+        }
+        catch (final ClassNotFoundException e)
+        {
+          throw new IOException("Cannot read attribute value", e);
+        }
+      default:
+        throw new IOException(String
+          .format("Unknown value type %d in catalog snapshot", valueType));
+    }
+  }
+
+  private int readVarint()
+    throws IOException
+  {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift = shift + 7)
+    {
+      final int b = in.readUnsignedByte();
+      value = value | (b & 0x7F) << shift;
+      if ((b & 0x80) == 0)
+      {
+        return value;
+      }
+    }
+    throw new IOException("Malformed varint in catalog snapshot");
+  }
+
+  private long readVarlong()
+    throws IOException
+  {
+    long value = 0;
+    for (int shift = 0; shift < 64; shift = shift + 7)
+    {
+      final int b = in.readUnsignedByte();
+      value = value | (long) (b & 0x7F) << shift;
+      if ((b & 0x80) == 0)
+      {
+        return value;
+      }
+    }
+    throw new IOException("Malformed varint in catalog snapshot");
+  }
+
+  private void register(final Object object)
+  {
+    objects.add(object);
+  }
+
+}
@@ -0,0 +1,1047 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.crawl.CompactCatalogFormat.*;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import schemacrawler.ProductVersion;
+import schemacrawler.schema.AttributedObject;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.CrawlInfo;
+import schemacrawler.schema.DatabaseInfo;
+import schemacrawler.schema.DatabaseObject;
+import schemacrawler.schema.DatabaseProperty;
+import schemacrawler.schema.DescribedObject;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.ForeignKeyColumnReference;
+import schemacrawler.schema.Function;
+import schemacrawler.schema.Grant;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.JdbcDriverInfo;
+import schemacrawler.schema.JdbcDriverProperty;
+import schemacrawler.schema.Privilege;
+import schemacrawler.schema.Property;
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.RoutineColumn;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Sequence;
+import schemacrawler.schema.Synonym;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schema.TableConstraintColumn;
+import schemacrawler.schema.Trigger;
+import schemacrawler.schema.View;
+
+/**
+ * Writes a catalog field by field, in a compact binary form that can be
+ * read back with a {@link CompactCatalogReader}. Names and other
+ * strings are written once, counts and references are written as
+ * varints, and only attribute values that are not simple values fall
+ * back to Java serialization. Tables and routines that are not in the
+ * catalog, but are referenced by objects in the catalog, are written as
+ * well, just as Java serialization would. The stream is not closed.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class CompactCatalogWriter
+{
+
+  /**
+   * Java serializes an attribute value, replacing catalog objects that
+   * have already been written with references to them.
+   */
+  private final class ReferencingObjectOutputStream
+    extends ObjectOutputStream
+  {
+
+    ReferencingObjectOutputStream(final OutputStream out)
+      throws IOException
+    {
+      super(out);
+      enableReplaceObject(true);
+    }
+
+    @Override
+    protected Object replaceObject(final Object obj)
+    {
+      final Integer id = ids.get(obj);
+      if (id != null)
+      {
+        return new ObjectReference(id);
+      }
+      return obj;
+    }
+
+  }
+
+  private static <T> Set<T> newIdentitySet()
+  {
+    return Collections.newSetFromMap(new IdentityHashMap<>());
+  }
+
+  private final DataOutputStream out;
+  private final Map<String, Integer> strings;
+  private final Map<Object, Integer> ids;
+  private final List<Object> objects;
+
+  public CompactCatalogWriter(final OutputStream out)
+  {
+    requireNonNull(out, "No output stream provided");
+    this.out = new DataOutputStream(out);
+    strings = new HashMap<>();
+    ids = new IdentityHashMap<>();
+    objects = new ArrayList<>();
+  }
+
+  /**
+   * Writes the catalog to the output stream, and flushes it.
+   *
+   * @param catalog
+   *        Catalog to write
+   * @throws IOException
+   *         On an exception writing the catalog
+   */
+  public void write(final Catalog catalog)
+    throws IOException
+  {
+    requireNonNull(catalog, "No catalog provided");
+
+    writeString(catalog.getName());
+    register(catalog);
+    writeRemarks(catalog);
+
+    writeDatabaseInfo(catalog.getDatabaseInfo());
+    writeJdbcDriverInfo(catalog.getJdbcDriverInfo());
+    writeCrawlInfo(catalog.getCrawlInfo());
+
+    final Collection<Schema> schemas = catalog.getSchemas();
+    writeVarint(schemas.size());
+    for (final Schema schema: schemas)
+    {
+      writeSchemaReference(schema);
+    }
+
+    final Collection<ColumnDataType> columnDataTypes = catalog
+      .getColumnDataTypes();
+    writeVarint(columnDataTypes.size());
+    for (final ColumnDataType columnDataType: columnDataTypes)
+    {
+      writeColumnDataTypeReference(columnDataType);
+    }
+
+    final Collection<Table> catalogTables = catalog.getTables();
+    final Collection<Routine> catalogRoutines = catalog.getRoutines();
+    final Collection<Synonym> synonyms = catalog.getSynonyms();
+
+    final List<Table> tables = collectTables(catalogTables, synonyms);
+    writeVarint(tables.size());
+    for (int i = 0; i < tables.size(); i++)
+    {
+      writeTable(tables.get(i), i < catalogTables.size());
+    }
+
+    final List<Routine> routines = collectRoutines(catalogRoutines,
+                                                   synonyms);
+    writeVarint(routines.size());
+    for (int i = 0; i < routines.size(); i++)
+    {
+      writeRoutine(routines.get(i), i < catalogRoutines.size());
+    }
+
+    final Collection<Sequence> sequences = catalog.getSequences();
+    writeVarint(sequences.size());
+    for (final Sequence sequence: sequences)
+    {
+      writeSequence(sequence);
+    }
+
+    writeVarint(synonyms.size());
+    for (final Synonym synonym: synonyms)
+    {
+      writeSynonym(synonym);
+    }
+
+    final List<ForeignKey> foreignKeys = collectForeignKeys(tables);
+    writeVarint(foreignKeys.size());
+    for (final ForeignKey foreignKey: foreignKeys)
+    {
+      writeForeignKey(foreignKey);
+    }
+    for (final Table table: tables)
+    {
+      final Collection<ForeignKey> tableForeignKeys = table.getForeignKeys();
+      writeVarint(tableForeignKeys.size());
+      for (final ForeignKey foreignKey: tableForeignKeys)
+      {
+        writeVarint(ids.get(foreignKey));
+      }
+    }
+
+    writeReferencedColumns();
+    writeAttributes();
+
+    out.flush();
+  }
+
+  private void addTable(final Column column,
+                        final List<Table> tables,
+                        final Set<Table> seen)
+  {
+    if (column instanceof MutableColumn)
+    {
+      final Table table = column.getParent();
+      if (table instanceof MutableTable && seen.add(table))
+      {
+        tables.add(table);
+      }
+    }
+  }
+
+  private List<ForeignKey> collectForeignKeys(final List<Table> tables)
+  {
+    final Set<ForeignKey> seen = newIdentitySet();
+    final List<ForeignKey> foreignKeys = new ArrayList<>();
+    for (final Table table: tables)
+    {
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        if (seen.add(foreignKey))
+        {
+          foreignKeys.add(foreignKey);
+        }
+      }
+    }
+    return foreignKeys;
+  }
+
+  /**
+   * Collects the routines in the catalog, followed by routines that are
+   * not in the catalog, but are referenced by synonyms.
+   */
+  private List<Routine> collectRoutines(final Collection<Routine> catalogRoutines,
+                                        final Collection<Synonym> synonyms)
+  {
+    final Set<Routine> seen = newIdentitySet();
+    final List<Routine> routines = new ArrayList<>();
+    for (final Routine routine: catalogRoutines)
+    {
+      seen.add(routine);
+      routines.add(routine);
+    }
+    for (final Synonym synonym: synonyms)
+    {
+      final DatabaseObject referencedObject = synonym.getReferencedObject();
+      if (referencedObject instanceof MutableRoutine)
+      {
+        final Routine routine = (Routine) referencedObject;
+        if (seen.add(routine))
+        {
+          routines.add(routine);
+        }
+      }
+    }
+    return routines;
+  }
+
+  /**
+   * Collects the tables in the catalog, followed by tables that are not
+   * in the catalog, but are referenced by foreign keys, columns or
+   * synonyms. This happens when tables are filtered out of a catalog
+   * after it is crawled.
+   */
+  private List<Table> collectTables(final Collection<Table> catalogTables,
+                                    final Collection<Synonym> synonyms)
+  {
+    final Set<Table> seen = newIdentitySet();
+    final List<Table> tables = new ArrayList<>();
+    for (final Table table: catalogTables)
+    {
+      seen.add(table);
+      tables.add(table);
+    }
+    for (final Synonym synonym: synonyms)
+    {
+      final DatabaseObject referencedObject = synonym.getReferencedObject();
+      if (referencedObject instanceof MutableTable
+          && seen.add((Table) referencedObject))
+      {
+        tables.add((Table) referencedObject);
+      }
+    }
+    for (int i = 0; i < tables.size(); i++)
+    {
+      final Table table = tables.get(i);
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        for (final ForeignKeyColumnReference columnReference: foreignKey)
+        {
+          addTable(columnReference.getPrimaryKeyColumn(), tables, seen);
+          addTable(columnReference.getForeignKeyColumn(), tables, seen);
+        }
+      }
+      for (final Column column: table.getColumns())
+      {
+        addTable(column.getReferencedColumn(), tables, seen);
+      }
+      for (final Column column: table.getHiddenColumns())
+      {
+        addTable(column.getReferencedColumn(), tables, seen);
+      }
+    }
+    return tables;
+  }
+
+  private void register(final Object object)
+  {
+    ids.put(object, objects.size());
+    objects.add(object);
+  }
+
+  private void writeAttributes()
+    throws IOException
+  {
+    final List<AttributedObject> attributedObjects = new ArrayList<>();
+    for (final Object object: objects)
+    {
+      if (object instanceof AttributedObject
+          && !((AttributedObject) object).getAttributes().isEmpty())
+      {
+        attributedObjects.add((AttributedObject) object);
+      }
+    }
+
+    writeVarint(attributedObjects.size());
+    for (final AttributedObject attributedObject: attributedObjects)
+    {
+      final Map<String, Object> attributes = attributedObject
+        .getAttributes();
+      writeVarint(ids.get(attributedObject));
+      writeVarint(attributes.size());
+      for (final Map.Entry<String, Object> attribute: attributes.entrySet())
+      {
+        writeString(attribute.getKey());
+        writeValue(attribute.getValue());
+      }
+    }
+  }
+
+  private void writeBytes(final byte[] bytes)
+    throws IOException
+  {
+    writeVarint(bytes.length);
+    out.write(bytes);
+  }
+
+  private void writeColumn(final Column column)
+    throws IOException
+  {
+    writeString(column.getName());
+    register(column);
+    writeRemarks(column);
+    writeColumnDataTypeReference(column.getColumnDataType());
+    writeSignedVarint(column.getOrdinalPosition());
+    writeSignedVarint(column.getSize());
+    writeSignedVarint(column.getDecimalDigits());
+    writeString(column.getDefaultValue());
+    writeFlags(column.isNullable(),
+               column.isAutoIncremented(),
+               column.isGenerated(),
+               column.isHidden(),
+               column.isPartOfPrimaryKey(),
+               column.isPartOfUniqueIndex(),
+               column.isPartOfIndex());
+
+    final Collection<Privilege<Column>> privileges = column.getPrivileges();
+    writeVarint(privileges.size());
+    for (final Privilege<Column> privilege: privileges)
+    {
+      writePrivilege(privilege);
+    }
+  }
+
+  private void writeColumnDataTypeReference(final ColumnDataType columnDataType)
+    throws IOException
+  {
+    if (!writeReference(columnDataType))
+    {
+      return;
+    }
+
+    writeSchemaReference(columnDataType.getSchema());
+    writeString(columnDataType.getName());
+    register(columnDataType);
+    writeRemarks(columnDataType);
+    writeFlags(columnDataType.isAutoIncrementable(),
+               columnDataType.isCaseSensitive(),
+               columnDataType.isFixedPrecisionScale(),
+               columnDataType.isNullable(),
+               columnDataType.isUnsigned(),
+               columnDataType.isUserDefined());
+    writeString(columnDataType.getCreateParameters());
+    final Integer javaSqlTypeNumber = columnDataType.getJavaSqlType()
+      .getVendorTypeNumber();
+    writeSignedVarint(javaSqlTypeNumber == null? Integer.MIN_VALUE
+                                               : javaSqlTypeNumber);
+    final Class<?> typeMappedClass = columnDataType.getTypeMappedClass();
+    writeString(typeMappedClass == null? null: typeMappedClass.getName());
+    writeString(columnDataType.getLiteralPrefix());
+    writeString(columnDataType.getLiteralSuffix());
+    writeString(columnDataType.getLocalTypeName());
+    writeSignedVarint(columnDataType.getMinimumScale());
+    writeSignedVarint(columnDataType.getMaximumScale());
+    writeSignedVarint(columnDataType.getNumPrecisionRadix());
+    writeSignedVarlong(columnDataType.getPrecision());
+    writeEnum(columnDataType.getSearchable());
+    writeColumnDataTypeReference(columnDataType.getBaseType());
+  }
+
+  /**
+   * Writes a reference to a column. Columns of tables that are not in
+   * the catalog, and were not crawled, are defined where they are first
+   * referenced.
+   */
+  private void writeColumnReference(final Column column)
+    throws IOException
+  {
+    if (!writeReference(column))
+    {
+      return;
+    }
+
+    writeTableReference(column.getParent());
+    writeString(column.getName());
+    register(column);
+  }
+
+  private void writeCrawlInfo(final CrawlInfo crawlInfo)
+    throws IOException
+  {
+    if (!(crawlInfo instanceof ImmutableCrawlInfo))
+    {
+      out.writeBoolean(false);
+      return;
+    }
+    out.writeBoolean(true);
+
+    final ImmutableCrawlInfo immutableCrawlInfo = (ImmutableCrawlInfo) crawlInfo;
+    writeProductVersion(immutableCrawlInfo.getSchemaCrawlerProductVersion());
+    writeProductVersion(immutableCrawlInfo.getJdbcDriverProductVersion());
+    writeProductVersion(immutableCrawlInfo.getDatabaseProductVersion());
+    writeProductVersion(immutableCrawlInfo
+      .getOperatingSystemProductVersion());
+    writeProductVersion(immutableCrawlInfo.getJvmProductVersion());
+    writeString(crawlInfo.getCrawlTimestamp().toString());
+    writeString(crawlInfo.getRunId());
+
+    final Map<String, String> retrievalStrategyProbes = crawlInfo
+      .getRetrievalStrategyProbes();
+    writeVarint(retrievalStrategyProbes.size());
+    for (final Map.Entry<String, String> retrievalStrategyProbe: retrievalStrategyProbes
+      .entrySet())
+    {
+      writeString(retrievalStrategyProbe.getKey());
+      writeString(retrievalStrategyProbe.getValue());
+    }
+  }
+
+  private void writeDatabaseInfo(final DatabaseInfo databaseInfo)
+    throws IOException
+  {
+    writeString(databaseInfo.getUserName());
+    writeString(databaseInfo.getProductName());
+    writeString(databaseInfo.getProductVersion());
+
+    final Collection<DatabaseProperty> properties = databaseInfo
+      .getProperties();
+    writeVarint(properties.size());
+    for (final DatabaseProperty property: properties)
+    {
+      writeString(property.getName());
+      writeValue(property.getValue());
+    }
+
+    final Collection<Property> serverInfo = databaseInfo.getServerInfo();
+    writeVarint(serverInfo.size());
+    for (final Property property: serverInfo)
+    {
+      writeString(property.getName());
+      final Object value = property.getValue();
+      writeString(value == null? null: String.valueOf(value));
+      writeString(property.getDescription());
+    }
+  }
+
+  private void writeEnum(final Enum<?> value)
+    throws IOException
+  {
+    writeString(value == null? null: value.name());
+  }
+
+  private void writeFlags(final boolean... flags)
+    throws IOException
+  {
+    int bits = 0;
+    for (int i = 0; i < flags.length; i++)
+    {
+      if (flags[i])
+      {
+        bits = bits | 1 << i;
+      }
+    }
+    writeVarint(bits);
+  }
+
+  private void writeForeignKey(final ForeignKey foreignKey)
+    throws IOException
+  {
+    writeString(foreignKey.getName());
+    register(foreignKey);
+    writeRemarks(foreignKey);
+    writeString(foreignKey.getSpecificName());
+    writeEnum(foreignKey.getUpdateRule());
+    writeEnum(foreignKey.getDeleteRule());
+    writeEnum(foreignKey.getDeferrability());
+    writeString(foreignKey.getDefinition());
+
+    final List<ForeignKeyColumnReference> columnReferences = foreignKey
+      .getColumnReferences();
+    writeVarint(columnReferences.size());
+    for (final ForeignKeyColumnReference columnReference: columnReferences)
+    {
+      writeSignedVarint(columnReference.getKeySequence());
+      writeColumnReference(columnReference.getPrimaryKeyColumn());
+      writeColumnReference(columnReference.getForeignKeyColumn());
+    }
+  }
+
+  private void writeIndex(final Index index)
+    throws IOException
+  {
+    writeString(index.getName());
+    register(index);
+    writeRemarks(index);
+    writeEnum(index.getIndexType());
+    writeSignedVarint(index.getCardinality());
+    writeSignedVarint(index.getPages());
+    writeFlags(index.isUnique());
+    writeString(index.getDefinition());
+
+    final List<IndexColumn> columns = index.getColumns();
+    writeVarint(columns.size());
+    for (final IndexColumn column: columns)
+    {
+      writeString(column.getName());
+      register(column);
+      writeRemarks(column);
+      writeSignedVarint(column.getIndexOrdinalPosition());
+      writeEnum(column.getSortSequence());
+      writeString(column.getDefinition());
+    }
+  }
+
+  private void writeJdbcDriverInfo(final JdbcDriverInfo jdbcDriverInfo)
+    throws IOException
+  {
+    writeString(jdbcDriverInfo.getProductName());
+    writeString(jdbcDriverInfo.getDriverClassName());
+    writeString(jdbcDriverInfo.getProductVersion());
+    writeString(jdbcDriverInfo.getConnectionUrl());
+    writeFlags(jdbcDriverInfo.isJdbcCompliant());
+
+    final Collection<JdbcDriverProperty> driverProperties = jdbcDriverInfo
+      .getDriverProperties();
+    writeVarint(driverProperties.size());
+    for (final JdbcDriverProperty driverProperty: driverProperties)
+    {
+      writeString(driverProperty.getName());
+      writeString(driverProperty.getValue());
+      writeString(driverProperty.getDescription());
+      writeFlags(driverProperty.isRequired());
+      final Collection<String> choices = driverProperty.getChoices();
+      writeVarint(choices.size());
+      for (final String choice: choices)
+      {
+        writeString(choice);
+      }
+    }
+  }
+
+  private void writePrivilege(final Privilege<?> privilege)
+    throws IOException
+  {
+    writeString(privilege.getName());
+    register(privilege);
+    writeRemarks(privilege);
+
+    final Collection<? extends Grant<?>> grants = privilege.getGrants();
+    writeVarint(grants.size());
+    for (final Grant<?> grant: grants)
+    {
+      writeString(grant.getGrantor());
+      writeString(grant.getGrantee());
+      writeFlags(grant.isGrantable());
+    }
+  }
+
+  private void writeProductVersion(final ProductVersion productVersion)
+    throws IOException
+  {
+    writeString(productVersion.getProductName());
+    writeString(productVersion.getProductVersion());
+  }
+
+  /**
+   * Links between columns are written once all columns are defined,
+   * since a column can reference a column in a table that is written
+   * after it.
+   */
+  private void writeReferencedColumns()
+    throws IOException
+  {
+    final List<Column> columns = new ArrayList<>();
+    for (final Object object: objects)
+    {
+      if ((object instanceof MutableColumn || object instanceof ColumnPartial)
+          && ((Column) object).getReferencedColumn() != null)
+      {
+        columns.add((Column) object);
+      }
+    }
+
+    writeVarint(columns.size());
+    for (final Column column: columns)
+    {
+      writeVarint(ids.get(column));
+      writeColumnReference(column.getReferencedColumn());
+    }
+  }
+
+  /**
+   * Writes a reference to an object that has already been written, or
+   * marks that the definition of a new object follows.
+   *
+   * @return Whether the definition of the object needs to follow
+   */
+  private boolean writeReference(final Object object)
+    throws IOException
+  {
+    if (object == null)
+    {
+      writeVarint(NULL_REFERENCE);
+      return false;
+    }
+    final Integer id = ids.get(object);
+    if (id != null)
+    {
+      writeVarint(id + REFERENCE_OFFSET);
+      return false;
+    }
+    writeVarint(NEW_REFERENCE);
+    return true;
+  }
+
+  private void writeRemarks(final DescribedObject describedObject)
+    throws IOException
+  {
+    writeString(describedObject.getRemarks());
+  }
+
+  private void writeRoutine(final Routine routine, final boolean inCatalog)
+    throws IOException
+  {
+    final boolean isFunction = routine instanceof Function;
+    writeFlags(inCatalog);
+    writeVarint(isFunction? KIND_FUNCTION: KIND_PROCEDURE);
+    writeSchemaReference(routine.getSchema());
+    writeString(routine.getName());
+    register(routine);
+    writeRemarks(routine);
+    writeString(routine.getSpecificName());
+    writeEnum(routine.getRoutineBodyType());
+    writeEnum((Enum<?>) routine.getReturnType());
+    writeString(routine.getDefinition());
+
+    final List<? extends RoutineColumn<?>> columns = routine.getColumns();
+    writeVarint(columns.size());
+    for (final RoutineColumn<?> column: columns)
+    {
+      writeString(column.getName());
+      register(column);
+      writeRemarks(column);
+      writeEnum((Enum<?>) column.getColumnType());
+      writeColumnDataTypeReference(column.getColumnDataType());
+      writeSignedVarint(column.getOrdinalPosition());
+      writeSignedVarint(column.getSize());
+      writeSignedVarint(column.getDecimalDigits());
+      writeFlags(column.isNullable());
+    }
+  }
+
+  private void writeSchemaReference(final Schema schema)
+    throws IOException
+  {
+    if (!writeReference(schema))
+    {
+      return;
+    }
+
+    writeString(schema.getCatalogName());
+    writeString(schema.getName());
+    register(schema);
+  }
+
+  private void writeSequence(final Sequence sequence)
+    throws IOException
+  {
+    writeSchemaReference(sequence.getSchema());
+    writeString(sequence.getName());
+    register(sequence);
+    writeRemarks(sequence);
+    writeValue(sequence.getMinimumValue());
+    writeValue(sequence.getMaximumValue());
+    writeSignedVarlong(sequence.getIncrement());
+    writeFlags(sequence.isCycle());
+  }
+
+  private void writeSignedVarint(final int value)
+    throws IOException
+  {
+    writeVarint(value << 1 ^ value >> 31);
+  }
+
+  private void writeSignedVarlong(final long value)
+    throws IOException
+  {
+    writeVarlong(value << 1 ^ value >> 63);
+  }
+
+  private void writeString(final String string)
+    throws IOException
+  {
+    if (string == null)
+    {
+      writeVarint(NULL_STRING);
+      return;
+    }
+    final Integer index = strings.get(string);
+    if (index != null)
+    {
+      writeVarint(index + STRING_OFFSET);
+      return;
+    }
+    strings.put(string, strings.size());
+    writeVarint(NEW_STRING);
+    writeBytes(string.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private void writeSynonym(final Synonym synonym)
+    throws IOException
+  {
+    writeSchemaReference(synonym.getSchema());
+    writeString(synonym.getName());
+    register(synonym);
+    writeRemarks(synonym);
+
+    // Objects other than tables and routines are defined where they
+    // are referenced
+    final DatabaseObject referencedObject = synonym.getReferencedObject();
+    if (writeReference(referencedObject))
+    {
+      writeSchemaReference(referencedObject.getSchema());
+      writeString(referencedObject.getName());
+      register(referencedObject);
+    }
+  }
+
+  private void writeTable(final Table table, final boolean inCatalog)
+    throws IOException
+  {
+    final boolean isView = table instanceof View;
+    writeFlags(inCatalog, isView && ((View) table).isUpdatable());
+    writeVarint(isView? KIND_VIEW: KIND_TABLE);
+    writeSchemaReference(table.getSchema());
+    writeString(table.getName());
+    register(table);
+    writeRemarks(table);
+    writeString(table.getTableType().getTableType());
+    writeSignedVarint(table instanceof MutableTable? ((MutableTable) table)
+      .getSortIndex(): 0);
+    writeString(table.getDefinition());
+    if (isView)
+    {
+      writeEnum(((View) table).getCheckOption());
+    }
+
+    final List<Column> columns = table.getColumns();
+    writeVarint(columns.size());
+    for (final Column column: columns)
+    {
+      writeColumn(column);
+    }
+    final Collection<Column> hiddenColumns = table.getHiddenColumns();
+    writeVarint(hiddenColumns.size());
+    for (final Column column: hiddenColumns)
+    {
+      writeColumn(column);
+    }
+
+    final Index primaryKey = table.getPrimaryKey();
+    writeFlags(primaryKey != null);
+    if (primaryKey != null)
+    {
+      writeIndex(primaryKey);
+    }
+    final Collection<Index> indexes = table.getIndexes();
+    writeVarint(indexes.size());
+    for (final Index index: indexes)
+    {
+      writeIndex(index);
+    }
+
+    final Collection<TableConstraint> tableConstraints = table
+      .getTableConstraints();
+    writeVarint(tableConstraints.size());
+    for (final TableConstraint tableConstraint: tableConstraints)
+    {
+      writeTableConstraint(tableConstraint);
+    }
+
+    final Collection<Trigger> triggers = table.getTriggers();
+    writeVarint(triggers.size());
+    for (final Trigger trigger: triggers)
+    {
+      writeTrigger(trigger);
+    }
+
+    final Collection<Privilege<Table>> privileges = table.getPrivileges();
+    writeVarint(privileges.size());
+    for (final Privilege<Table> privilege: privileges)
+    {
+      writePrivilege(privilege);
+    }
+  }
+
+  private void writeTableConstraint(final TableConstraint tableConstraint)
+    throws IOException
+  {
+    writeString(tableConstraint.getName());
+    register(tableConstraint);
+    writeRemarks(tableConstraint);
+    writeEnum(tableConstraint.getConstraintType());
+    writeFlags(tableConstraint.isDeferrable(),
+               tableConstraint.isInitiallyDeferred());
+    writeString(tableConstraint.getDefinition());
+
+    final List<TableConstraintColumn> columns = tableConstraint
+      .getColumns();
+    writeVarint(columns.size());
+    for (final TableConstraintColumn column: columns)
+    {
+      writeString(column.getName());
+      register(column);
+      writeRemarks(column);
+      writeSignedVarint(column.getTableConstraintOrdinalPosition());
+    }
+  }
+
+  /**
+   * Writes a reference to a table. Tables that are not in the catalog,
+   * and were not crawled, are defined where they are first referenced.
+   */
+  private void writeTableReference(final Table table)
+    throws IOException
+  {
+    if (!writeReference(table))
+    {
+      return;
+    }
+
+    writeSchemaReference(table.getSchema());
+    writeString(table.getName());
+    register(table);
+  }
+
+  private void writeTrigger(final Trigger trigger)
+    throws IOException
+  {
+    writeString(trigger.getName());
+    register(trigger);
+    writeRemarks(trigger);
+    writeEnum(trigger.getEventManipulationType());
+    writeEnum(trigger.getActionOrientation());
+    writeEnum(trigger.getConditionTiming());
+    writeSignedVarint(trigger.getActionOrder());
+    writeString(trigger.getActionCondition());
+    writeString(trigger.getActionStatement());
+  }
+
+  private void writeValue(final Object value)
+    throws IOException
+  {
+    if (value == null)
+    {
+      writeVarint(VALUE_NULL);
+    }
+    else if (ids.containsKey(value))
+    {
+      writeVarint(VALUE_OBJECT);
+      writeVarint(ids.get(value));
+    }
+    else if (value instanceof String)
+    {
+      writeVarint(VALUE_STRING);
+      writeString((String) value);
+    }
+    else if (value instanceof Boolean)
+    {
+      writeVarint((Boolean) value? VALUE_TRUE: VALUE_FALSE);
+    }
+    else if (value instanceof Integer)
+    {
+      writeVarint(VALUE_INT);
+      writeSignedVarint((Integer) value);
+    }
+    else if (value instanceof Long)
+    {
+      writeVarint(VALUE_LONG);
+      writeSignedVarlong((Long) value);
+    }
+    else if (value instanceof Short)
+    {
+      writeVarint(VALUE_SHORT);
+      writeSignedVarint((Short) value);
+    }
+    else if (value instanceof Byte)
+    {
+      writeVarint(VALUE_BYTE);
+      out.writeByte((Byte) value);
+    }
+    else if (value instanceof Double)
+    {
+      writeVarint(VALUE_DOUBLE);
+      out.writeDouble((Double) value);
+    }
+    else if (value instanceof Float)
+    {
+      writeVarint(VALUE_FLOAT);
+      out.writeFloat((Float) value);
+    }
+    else if (value instanceof Character)
+    {
+      writeVarint(VALUE_CHARACTER);
+      out.writeChar((Character) value);
+    }
+    else if (value.getClass() == BigInteger.class)
+    {
+      writeVarint(VALUE_BIG_INTEGER);
+      writeBytes(((BigInteger) value).toByteArray());
+    }
+    else if (value.getClass() == BigDecimal.class)
+    {
+      writeVarint(VALUE_BIG_DECIMAL);
+      writeBytes(((BigDecimal) value).unscaledValue().toByteArray());
+      writeSignedVarint(((BigDecimal) value).scale());
+    }
+    else if (value.getClass() == ArrayList.class)
+    {
+      final List<?> list = (List<?>) value;
+      writeVarint(VALUE_LIST);
+      writeVarint(list.size());
+      for (final Object item: list)
+      {
+        writeValue(item);
+      }
+    }
+    else if (value instanceof byte[])
+    {
+      writeVarint(VALUE_BYTES);
+      writeBytes((byte[]) value);
+    }
+    else
+    {
+      // Fall back to Java serialization for any other value, such as
+      // lints
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (
+          final ObjectOutputStream objOut = new ReferencingObjectOutputStream(bytes);)
+      {
+        objOut.writeObject(value);
+      }
+      writeVarint(VALUE_SERIALIZED);
+      writeBytes(bytes.toByteArray());
+    }
+  }
+
+  private void writeVarint(final int value)
+    throws IOException
+  {
+    int remaining = value;
+    while ((remaining & ~0x7F) != 0)
+    {
+      out.writeByte(remaining & 0x7F | 0x80);
+      remaining = remaining >>> 7;
+    }
+    out.writeByte(remaining);
+  }
+
+  private void writeVarlong(final long value)
+    throws IOException
+  {
+    long remaining = value;
+    while ((remaining & ~0x7FL) != 0)
+    {
+      out.writeByte((int) (remaining & 0x7F | 0x80));
+      remaining = remaining >>> 7;
+    }
+    out.writeByte((int) remaining);
+  }
+
+}
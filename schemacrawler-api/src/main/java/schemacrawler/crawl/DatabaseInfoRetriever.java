@@ -336,7 +336,8 @@ final class DatabaseInfoRetriever
 
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
-      final MetadataResultSet results = new MetadataResultSet(serverInfoSql,
+      final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                              serverInfoSql,
                                                               statement,
                                                               new IncludeAll()))
     {
@@ -396,14 +397,16 @@ final class DatabaseInfoRetriever
         .getQuery(InformationSchemaKey.OVERRIDE_TYPE_INFO);
       final Connection connection = getDatabaseConnection();
       statement = connection.createStatement();
-      results = new MetadataResultSet(typeInfoSql,
+      results = new MetadataResultSet(getRetrieverConnection(),
+                                      typeInfoSql,
                                       statement,
                                       getSchemaInclusionRule());
     }
     else
     {
       statement = null;
-      results = new MetadataResultSet(getMetaData().getTypeInfo());
+      results = new MetadataResultSet(getRetrieverConnection(),
+                                      getMetaData().getTypeInfo());
     }
 
     try
@@ -494,7 +497,8 @@ final class DatabaseInfoRetriever
     final String catalogName = schema.getCatalogName();
     final String schemaName = schema.getName();
 
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+    try (final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                 getMetaData()
                                                                    .getUDTs(
                                                                      catalogName,
                                                                      schemaName,
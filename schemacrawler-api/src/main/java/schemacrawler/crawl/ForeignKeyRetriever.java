@@ -107,7 +107,8 @@ final class ForeignKeyRetriever
       .getQuery(InformationSchemaKey.EXT_FOREIGN_KEYS);
 
     try (final Statement statement = connection.createStatement();
-        final MetadataResultSet results = new MetadataResultSet(extForeignKeysSql,
+        final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                extForeignKeysSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
     {
@@ -294,7 +295,7 @@ final class ForeignKeyRetriever
     Column column = null;
 
     final Optional<MutableTable> tableOptional = catalog
-      .lookupTable(Arrays.asList(catalogName, schemaName, tableName));
+      .lookupTable(catalogName, schemaName, tableName);
     if (tableOptional.isPresent())
     {
       final Table table = tableOptional.get();
@@ -340,7 +341,8 @@ final class ForeignKeyRetriever
       .getQuery(InformationSchemaKey.FOREIGN_KEYS);
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
-        final MetadataResultSet results = new MetadataResultSet(fkSql,
+        final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                fkSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
     {
@@ -369,7 +371,8 @@ final class ForeignKeyRetriever
       final DatabaseMetaData metaData = getMetaData();
 
       // Get imported foreign keys
-      try (final MetadataResultSet results = new MetadataResultSet(metaData
+      try (final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                   metaData
         .getImportedKeys(table.getSchema().getCatalogName(),
                          table.getSchema().getName(),
                          table.getName()));)
@@ -386,7 +389,8 @@ final class ForeignKeyRetriever
       // We need to get exported keys as well, since if only a single
       // table is selected, we have not retrieved it's keys that are
       // imported by other tables.
-      try (final MetadataResultSet results = new MetadataResultSet(metaData
+      try (final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                   metaData
         .getExportedKeys(table.getSchema().getCatalogName(),
                          table.getSchema().getName(),
                          table.getName()));)
@@ -409,7 +413,8 @@ final class ForeignKeyRetriever
     final DatabaseMetaData metaData = getMetaData();
 
     // Get imported foreign keys
-    try (final MetadataResultSet results = new MetadataResultSet(metaData
+    try (final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                 metaData
       .getImportedKeys(null, null, "%"));)
     {
       createForeignKeys(results, foreignKeys);
@@ -418,7 +423,8 @@ final class ForeignKeyRetriever
     // We need to get exported keys as well, since if only a single
     // table is selected, we have not retrieved it's keys that are
     // imported by other tables.
-    try (final MetadataResultSet results = new MetadataResultSet(metaData
+    try (final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                 metaData
       .getExportedKeys(null, null, "%"));)
     {
       createForeignKeys(results, foreignKeys);
@@ -228,7 +228,8 @@ final class FunctionColumnRetriever
       .getQuery(InformationSchemaKey.FUNCTION_COLUMNS);
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
-        final MetadataResultSet results = new MetadataResultSet(functionColumnsSql,
+        final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                functionColumnsSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
     {
@@ -253,7 +254,8 @@ final class FunctionColumnRetriever
       final MutableFunction function = (MutableFunction) routine;
 
       LOGGER.log(Level.FINE, "Retrieving function columns for " + function);
-      try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+      try (final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                   getMetaData()
         .getFunctionColumns(function.getSchema().getCatalogName(),
                             function.getSchema().getName(),
                             function.getName(),
@@ -283,7 +285,8 @@ final class FunctionColumnRetriever
                                                                   final InclusionRuleFilter<FunctionColumn> columnFilter)
     throws SQLException
   {
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+    try (final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                 getMetaData()
       .getFunctionColumns(null, null, "%", "%"));)
     {
       while (results.next())
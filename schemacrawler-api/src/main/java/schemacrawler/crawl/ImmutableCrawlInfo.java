@@ -33,6 +33,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
 
 import schemacrawler.*;
@@ -58,9 +61,51 @@ final class ImmutableCrawlInfo
   private final ProductVersion jvmInfo;
   private final LocalDateTime crawlTimestamp;
   private final UUID runId;
+  private final Map<String, String> retrievalStrategyProbes;
+
+  ImmutableCrawlInfo(final ImmutableCrawlInfo crawlInfo,
+                     final Map<String, String> retrievalStrategyProbes)
+  {
+    requireNonNull(crawlInfo, "No crawl information provided");
+    schemaCrawlerInfo = crawlInfo.schemaCrawlerInfo;
+    osInfo = crawlInfo.osInfo;
+    jvmInfo = crawlInfo.jvmInfo;
+    jdbcDriverInfo = crawlInfo.jdbcDriverInfo;
+    databaseInfo = crawlInfo.databaseInfo;
+    crawlTimestamp = crawlInfo.crawlTimestamp;
+    runId = crawlInfo.runId;
+
+    this.retrievalStrategyProbes = copyOf(retrievalStrategyProbes);
+  }
+
+  ImmutableCrawlInfo(final ProductVersion schemaCrawlerInfo,
+                     final ProductVersion jdbcDriverInfo,
+                     final ProductVersion databaseInfo,
+                     final ProductVersion osInfo,
+                     final ProductVersion jvmInfo,
+                     final LocalDateTime crawlTimestamp,
+                     final UUID runId,
+                     final Map<String, String> retrievalStrategyProbes)
+  {
+    this.schemaCrawlerInfo = requireNonNull(schemaCrawlerInfo,
+                                            "No SchemaCrawler information provided");
+    this.jdbcDriverInfo = requireNonNull(jdbcDriverInfo,
+                                         "No JDBC driver information provided");
+    this.databaseInfo = requireNonNull(databaseInfo,
+                                       "No database information provided");
+    this.osInfo = requireNonNull(osInfo,
+                                 "No operating system information provided");
+    this.jvmInfo = requireNonNull(jvmInfo, "No JVM information provided");
+    this.crawlTimestamp = requireNonNull(crawlTimestamp,
+                                         "No crawl timestamp provided");
+    this.runId = requireNonNull(runId, "No run id provided");
+
+    this.retrievalStrategyProbes = copyOf(retrievalStrategyProbes);
+  }
 
   ImmutableCrawlInfo(final JdbcDriverInfo jdbcDriverInfo,
-                     final DatabaseInfo databaseInfo)
+                     final DatabaseInfo databaseInfo,
+                     final Map<String, String> retrievalStrategyProbes)
   {
     schemaCrawlerInfo = new SchemaCrawlerInfo();
     osInfo = new OperatingSystemInfo();
@@ -74,6 +119,8 @@ final class ImmutableCrawlInfo
 
     crawlTimestamp = LocalDateTime.now();
     runId = UUID.randomUUID();
+
+    this.retrievalStrategyProbes = copyOf(retrievalStrategyProbes);
   }
 
   @Override
@@ -106,6 +153,12 @@ final class ImmutableCrawlInfo
     return osInfo.toString();
   }
 
+  @Override
+  public Map<String, String> getRetrievalStrategyProbes()
+  {
+    return retrievalStrategyProbes;
+  }
+
   @Override
   public String getRunId()
   {
@@ -138,8 +191,64 @@ final class ImmutableCrawlInfo
       .append(System.lineSeparator());
     info.append("-- JVM system: ").append(jvmInfo)
       .append(System.lineSeparator());
+    for (final Map.Entry<String, String> retrievalStrategyProbe: retrievalStrategyProbes
+      .entrySet())
+    {
+      info.append("-- retrieval strategy for ")
+        .append(retrievalStrategyProbe.getKey()).append(": ")
+        .append(retrievalStrategyProbe.getValue())
+        .append(System.lineSeparator());
+    }
 
     return info.toString();
   }
 
+  ProductVersion getDatabaseProductVersion()
+  {
+    return databaseInfo;
+  }
+
+  ProductVersion getJdbcDriverProductVersion()
+  {
+    return jdbcDriverInfo;
+  }
+
+  ProductVersion getJvmProductVersion()
+  {
+    return jvmInfo;
+  }
+
+  ProductVersion getOperatingSystemProductVersion()
+  {
+    return osInfo;
+  }
+
+  ProductVersion getSchemaCrawlerProductVersion()
+  {
+    return schemaCrawlerInfo;
+  }
+
+  /**
+   * Snapshots that were saved before retrieval strategy probes were
+   * recorded do not have them, so use an empty map instead.
+   *
+   * @return Crawl information, with retrieval strategy probes
+   */
+  private Object readResolve()
+  {
+    if (retrievalStrategyProbes == null)
+    {
+      return new ImmutableCrawlInfo(this, Collections.emptyMap());
+    }
+    return this;
+  }
+
+  private Map<String, String> copyOf(final Map<String, String> retrievalStrategyProbes)
+  {
+    requireNonNull(retrievalStrategyProbes,
+                   "No retrieval strategy probes provided");
+    return Collections
+      .unmodifiableMap(new LinkedHashMap<>(retrievalStrategyProbes));
+  }
+
 }
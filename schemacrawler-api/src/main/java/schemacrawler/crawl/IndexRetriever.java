@@ -35,7 +35,6 @@ import static sf.util.Utility.isBlank;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.Arrays;
 import java.util.Optional;
 import java.util.logging.Level;
 
@@ -179,7 +178,10 @@ final class IndexRetriever
     final int ordinalPosition = results.getInt("ORDINAL_POSITION", 0);
     final IndexColumnSortSequence sortSequence = IndexColumnSortSequence
       .valueOfFromCode(results.getString("ASC_OR_DESC"));
-    final int cardinality = results.getInt("CARDINALITY", 0);
+    // Cardinality may be a long value for very large tables, so read it
+    // as a long, and cap it to what an index can hold
+    final int cardinality = (int) Math
+      .min(results.getLong("CARDINALITY", 0L), Integer.MAX_VALUE);
     final int pages = results.getInt("PAGES", 0);
 
     final Column column;
@@ -283,7 +285,7 @@ final class IndexRetriever
     final String tableName = results.getString("TABLE_NAME");
 
     final Optional<MutableTable> optionalTable = allTables
-      .lookup(Arrays.asList(catalogName, schemaName, tableName));
+      .lookup(catalogName, schemaName, tableName);
     return optionalTable;
   }
 
@@ -303,7 +305,8 @@ final class IndexRetriever
       .getQuery(InformationSchemaKey.INDEXES);
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
-        final MetadataResultSet results = new MetadataResultSet(indexesSql,
+        final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                indexesSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
     {
@@ -333,7 +336,8 @@ final class IndexRetriever
     throws SQLException
   {
 
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+    try (final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                 getMetaData()
       .getIndexInfo(table.getSchema().getCatalogName(),
                     table.getSchema().getName(),
                     table.getName(),
@@ -371,7 +375,8 @@ final class IndexRetriever
                                                        final boolean unique)
     throws SQLException
   {
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+    try (final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                 getMetaData()
       .getIndexInfo(null, null, "%", unique, true/* approximate */));)
     {
       while (results.next())
@@ -411,7 +416,8 @@ final class IndexRetriever
       .getQuery(InformationSchemaKey.PRIMARY_KEYS);
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
-        final MetadataResultSet results = new MetadataResultSet(pkSql,
+        final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                pkSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
     {
@@ -445,7 +451,8 @@ final class IndexRetriever
       {
         continue;
       }
-      try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+      try (final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                   getMetaData()
         .getPrimaryKeys(table.getSchema().getCatalogName(),
                         table.getSchema().getName(),
                         table.getName()));)
@@ -467,7 +474,8 @@ final class IndexRetriever
   private void retrievePrimaryKeysFromMetadataForAllTables(final NamedObjectList<MutableTable> allTables)
     throws SQLException
   {
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+    try (final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                 getMetaData()
       .getPrimaryKeys(null, null, "%"));)
     {
       while (results.next())
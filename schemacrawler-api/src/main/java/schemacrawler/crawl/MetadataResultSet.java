@@ -43,16 +43,17 @@ import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
 import java.util.logging.Level;
 
 import schemacrawler.schemacrawler.InclusionRule;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
 import schemacrawler.utility.Query;
 import sf.util.IdentifiedEnum;
 import sf.util.SchemaCrawlerLogger;
@@ -73,39 +74,99 @@ final class MetadataResultSet
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(MetadataResultSet.class.getName());
 
-  private static final int FETCHSIZE = 20;
+  private static final int MAXIMUM_ADAPTIVE_FETCH_SIZE = 10000;
+
+  /**
+   * Gets the fetch size for the results of a query. Queries for
+   * information schema views can have their own fetch size.
+   */
+  private static int fetchSize(final RetrieverConnection retrieverConnection,
+                               final Query query)
+  {
+    final SchemaRetrievalOptions schemaRetrievalOptions = retrieverConnection
+      .getSchemaRetrievalOptions();
+    if (query.hasName())
+    {
+      for (final InformationSchemaKey key: InformationSchemaKey.values())
+      {
+        if (key.name().equals(query.getName()))
+        {
+          return schemaRetrievalOptions.getFetchSize(key);
+        }
+      }
+    }
+    return schemaRetrievalOptions.getFetchSize();
+  }
+
+  /**
+   * Sets the fetch size on the statement before the query is executed,
+   * since some drivers fetch the first rows when the query is run.
+   */
+  private static Statement withFetchSize(final Statement statement,
+                                         final int fetchSize)
+  {
+    try
+    {
+      statement.setFetchSize(fetchSize);
+    }
+    catch (final NullPointerException | SQLException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+    }
+    return statement;
+  }
 
   private String description;
   private final ResultSet results;
   private final List<String> resultSetColumns;
-  private Set<String> readColumns;
+  private final Map<String, Integer> resultSetColumnIndexes;
+  private final BitSet readColumns;
+  private final boolean adaptiveFetchSize;
 
   private int rowCount;
+  private int fetchSize;
+  private int fetchedRowCount;
+  private int roundTripCount;
 
-  MetadataResultSet(final Query query,
+  MetadataResultSet(final RetrieverConnection retrieverConnection,
+                    final Query query,
                     final Statement statement,
                     final InclusionRule schemaInclusionRule)
     throws SQLException
   {
-    this(executeAgainstSchema(query, statement, schemaInclusionRule));
+    this(retrieverConnection,
+         executeAgainstSchema(query,
+                              withFetchSize(statement,
+                                            fetchSize(retrieverConnection,
+                                                      query)),
+                              schemaInclusionRule),
+         fetchSize(retrieverConnection, query));
     if (query.hasName())
     {
       description = query.getName();
     }
   }
 
-  MetadataResultSet(final ResultSet resultSet)
+  MetadataResultSet(final RetrieverConnection retrieverConnection,
+                    final ResultSet resultSet)
+    throws SQLException
+  {
+    this(retrieverConnection,
+         resultSet,
+         retrieverConnection.getSchemaRetrievalOptions().getFetchSize());
+  }
+
+  private MetadataResultSet(final RetrieverConnection retrieverConnection,
+                            final ResultSet resultSet,
+                            final int fetchSize)
     throws SQLException
   {
     results = requireNonNull(resultSet, "Cannot use null results");
-    try
-    {
-      results.setFetchSize(FETCHSIZE);
-    }
-    catch (final NullPointerException | SQLException e)
-    {
-      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
-    }
+    adaptiveFetchSize = retrieverConnection.getSchemaRetrievalOptions()
+      .isAdaptiveFetchSize();
+    setFetchSize(fetchSize);
+    // The first rows are fetched when the results are first read
+    roundTripCount = 1;
 
     final List<String> resultSetColumns = new ArrayList<>();
     try
@@ -128,7 +189,14 @@ final class MetadataResultSet
     }
     this.resultSetColumns = Collections.unmodifiableList(resultSetColumns);
 
-    readColumns = new HashSet<>();
+    // Resolve column names to indexes once, so that values in each row
+    // can be read by index
+    resultSetColumnIndexes = new HashMap<>();
+    for (int i = 0; i < resultSetColumns.size(); i++)
+    {
+      resultSetColumnIndexes.putIfAbsent(resultSetColumns.get(i), i + 1);
+    }
+    readColumns = new BitSet(resultSetColumns.size() + 1);
   }
 
   /**
@@ -148,9 +216,11 @@ final class MetadataResultSet
     if (LOGGER.isLoggable(Level.INFO) && !isBlank(description))
     {
       LOGGER.log(Level.INFO,
-                 new StringFormat("Processed %d rows for <%s>",
+                 new StringFormat("Processed %d rows for <%s>, in about %d round trips with a fetch size of %d",
                                   rowCount,
-                                  description));
+                                  description,
+                                  roundTripCount,
+                                  fetchSize));
     }
   }
 
@@ -163,30 +233,40 @@ final class MetadataResultSet
    */
   Map<String, Object> getAttributes()
   {
-    final Map<String, Object> attributes = new HashMap<>();
-    for (final String columnName: resultSetColumns)
+    Map<String, Object> attributes = Collections.emptyMap();
+    final int columnCount = resultSetColumns.size();
+    int columnIndex = readColumns.nextClearBit(1);
+    for (; columnIndex <= columnCount; columnIndex = readColumns
+      .nextClearBit(columnIndex + 1))
     {
-      if (!readColumns.contains(columnName))
+      final String columnName = resultSetColumns.get(columnIndex - 1);
+      if (resultSetColumnIndexes.get(columnName) != columnIndex)
       {
-        try
-        {
-          final Object value = results.getObject(columnName);
-          attributes.put(columnName, value);
-        }
-        catch (final SQLException | ArrayIndexOutOfBoundsException e)
+        // Duplicate column names are read from the first column
+        continue;
+      }
+      try
+      {
+        final Object value = results.getObject(columnIndex);
+        if (attributes.isEmpty())
         {
-          /*
-           * MySQL connector is broken and can cause
-           * ArrayIndexOutOfBoundsExceptions for no good reason (tested
-           * with connector 5.1.26 and server version 5.0.95). Ignoring
-           * the exception, we can still get some useful data out of the
-           * database.
-           */
-          LOGGER.log(Level.WARNING,
-                     new StringFormat("Could not read value for column <%s>",
-                                      columnName),
-                     e);
+          attributes = new HashMap<>();
         }
+        attributes.put(columnName, value);
+      }
+      catch (final SQLException | ArrayIndexOutOfBoundsException e)
+      {
+        /*
+         * MySQL connector is broken and can cause
+         * ArrayIndexOutOfBoundsExceptions for no good reason (tested
+         * with connector 5.1.26 and server version 5.0.95). Ignoring
+         * the exception, we can still get some useful data out of the
+         * database.
+         */
+        LOGGER.log(Level.WARNING,
+                   new StringFormat("Could not read value for column <%s>",
+                                    columnName),
+                   e);
       }
     }
     return attributes;
@@ -223,11 +303,12 @@ final class MetadataResultSet
    */
   boolean getBoolean(final String columnName)
   {
-    if (useColumn(columnName))
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0)
     {
       try
       {
-        final Object booleanValue = results.getObject(columnName);
+        final Object booleanValue = results.getObject(columnIndex);
         final String stringBooleanValue;
         if (results.wasNull() || booleanValue == null)
         {
@@ -333,11 +414,12 @@ final class MetadataResultSet
   int getInt(final String columnName, final int defaultValue)
   {
     int value = defaultValue;
-    if (useColumn(columnName))
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0)
     {
       try
       {
-        value = results.getInt(columnName);
+        value = results.getInt(columnIndex);
         if (results.wasNull())
         {
           LOGGER
@@ -373,11 +455,12 @@ final class MetadataResultSet
   long getLong(final String columnName, final long defaultValue)
   {
     long value = defaultValue;
-    if (useColumn(columnName))
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0)
     {
       try
       {
-        value = results.getLong(columnName);
+        value = results.getLong(columnIndex);
         if (results.wasNull())
         {
           LOGGER
@@ -412,11 +495,12 @@ final class MetadataResultSet
   short getShort(final String columnName, final short defaultValue)
   {
     short value = defaultValue;
-    if (useColumn(columnName))
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0)
     {
       try
       {
-        value = results.getShort(columnName);
+        value = results.getShort(columnIndex);
         if (results.wasNull())
         {
           LOGGER
@@ -449,11 +533,12 @@ final class MetadataResultSet
   String getString(final String columnName)
   {
     String value = null;
-    if (useColumn(columnName))
+    final int columnIndex = useColumn(columnName);
+    if (columnIndex > 0)
     {
       try
       {
-        value = results.getString(columnName);
+        value = results.getString(columnIndex);
         if (results.wasNull())
         {
           value = null;
@@ -491,13 +576,25 @@ final class MetadataResultSet
   boolean next()
     throws SQLException
   {
-    readColumns = new HashSet<>();
+    readColumns.clear();
 
     final boolean next = results.next();
     logSQLWarnings(results);
     if (next)
     {
       rowCount = rowCount + 1;
+      fetchedRowCount = fetchedRowCount + 1;
+      if (fetchedRowCount == fetchSize)
+      {
+        // All fetched rows have been read, so the next row needs
+        // another round trip to the database
+        roundTripCount = roundTripCount + 1;
+        fetchedRowCount = 0;
+        if (adaptiveFetchSize && fetchSize < MAXIMUM_ADAPTIVE_FETCH_SIZE)
+        {
+          setFetchSize(Math.min(fetchSize * 2, MAXIMUM_ADAPTIVE_FETCH_SIZE));
+        }
+      }
     }
     return next;
   }
@@ -507,15 +604,41 @@ final class MetadataResultSet
     this.description = description;
   }
 
-  private boolean useColumn(final String columnName)
+  private void setFetchSize(final int fetchSize)
   {
-    final boolean useColumn = columnName != null
-                              && resultSetColumns.contains(columnName);
-    if (useColumn)
+    this.fetchSize = fetchSize;
+    try
+    {
+      results.setFetchSize(fetchSize);
+    }
+    catch (final NullPointerException | SQLException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not set fetch size", e);
+    }
+  }
+
+  /**
+   * Marks a column as read in the current row, and gets the index of
+   * the column in the result set.
+   *
+   * @param columnName
+   *        Column name
+   * @return 1-based column index, or 0 if the column is not in the
+   *         result set
+   */
+  private int useColumn(final String columnName)
+  {
+    if (columnName == null)
+    {
+      return 0;
+    }
+    final Integer columnIndex = resultSetColumnIndexes.get(columnName);
+    if (columnIndex == null)
     {
-      readColumns.add(columnName);
+      return 0;
     }
-    return useColumn;
+    readColumns.set(columnIndex);
+    return columnIndex;
   }
 
 }
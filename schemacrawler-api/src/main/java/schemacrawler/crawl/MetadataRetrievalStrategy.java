@@ -33,6 +33,12 @@ public enum MetadataRetrievalStrategy
 
  metadata,
  metadata_all,
- data_dictionary_all;
+ data_dictionary_all,
+ /**
+  * Chooses between the other strategies for each table retrieval
+  * phase, by timing each of them on a few tables. Phases that are not
+  * probed use metadata.
+  */
+ auto;
 
 }
@@ -31,9 +31,14 @@ package schemacrawler.crawl;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 
@@ -88,6 +93,7 @@ final class MutableCatalog
   private final NamedObjectList<MutableRoutine> routines = new NamedObjectList<>();
   private final NamedObjectList<MutableSynonym> synonyms = new NamedObjectList<>();
   private final NamedObjectList<MutableSequence> sequences = new NamedObjectList<>();
+  private Map<String, String> retrievalStrategyProbes = new LinkedHashMap<>();
   private ImmutableCrawlInfo crawlInfo;
 
   MutableCatalog(final String name)
@@ -371,6 +377,13 @@ final class MutableCatalog
     return tables.lookup(tableLookupKey);
   }
 
+  Optional<MutableTable> lookupTable(final String catalogName,
+                                     final String schemaName,
+                                     final String tableName)
+  {
+    return tables.lookup(catalogName, schemaName, tableName);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -453,6 +466,11 @@ final class MutableCatalog
     tables.add(table);
   }
 
+  NamedObjectList<MutableColumnDataType> getAllColumnDataTypes()
+  {
+    return columnDataTypes;
+  }
+
   NamedObjectList<MutableRoutine> getAllRoutines()
   {
     return routines;
@@ -491,9 +509,91 @@ final class MutableCatalog
     return routines.lookup(routineLookupKey);
   }
 
+  /**
+   * Removes a table from the catalog. Foreign keys that the table
+   * shares with other tables in the catalog are removed from those
+   * tables as well, so that no references to the removed table remain.
+   *
+   * @param table
+   *        Table to remove
+   */
+  void removeTable(final MutableTable table)
+  {
+    for (final ForeignKey foreignKey: table.getForeignKeys())
+    {
+      for (final ForeignKeyColumnReference columnReference: foreignKey)
+      {
+        final Column fkColumn = columnReference.getForeignKeyColumn();
+        if (fkColumn instanceof MutableColumn
+            && !fkColumn.getParent().equals(table))
+        {
+          ((MutableColumn) fkColumn).setReferencedColumn(null);
+        }
+        for (final Column column: Arrays
+          .asList(columnReference.getPrimaryKeyColumn(), fkColumn))
+        {
+          final Table relatedTable = column.getParent();
+          if (relatedTable instanceof MutableTable
+              && !relatedTable.equals(table))
+          {
+            ((MutableTable) relatedTable)
+              .removeForeignKey((MutableForeignKey) foreignKey);
+          }
+        }
+      }
+    }
+    tables.remove(table);
+  }
+
   void setCrawlInfo()
   {
-    crawlInfo = new ImmutableCrawlInfo(jdbcDriverInfo, databaseInfo);
+    crawlInfo = new ImmutableCrawlInfo(jdbcDriverInfo,
+                                       databaseInfo,
+                                       retrievalStrategyProbes);
+  }
+
+  void setCrawlInfo(final ImmutableCrawlInfo crawlInfo)
+  {
+    this.crawlInfo = requireNonNull(crawlInfo,
+                                    "No crawl information provided");
+  }
+
+  /**
+   * Records the retrieval strategy that was chosen for a table retrieval
+   * phase, so that it is available from the crawl information.
+   *
+   * @param phase
+   *        Table retrieval phase
+   * @param retrievalStrategyProbe
+   *        Chosen strategy, and the timings of the probed strategies
+   */
+  void addRetrievalStrategyProbe(final String phase,
+                                 final String retrievalStrategyProbe)
+  {
+    retrievalStrategyProbes.put(phase, retrievalStrategyProbe);
+    if (crawlInfo != null)
+    {
+      crawlInfo = new ImmutableCrawlInfo(crawlInfo, retrievalStrategyProbes);
+    }
+  }
+
+  Map<String, String> getRetrievalStrategyProbes()
+  {
+    return retrievalStrategyProbes;
+  }
+
+  /**
+   * Snapshots that were saved before retrieval strategy probes were
+   * recorded do not have them, so start with an empty map instead.
+   */
+  private void readObject(final ObjectInputStream in)
+    throws IOException, ClassNotFoundException
+  {
+    in.defaultReadObject();
+    if (retrievalStrategyProbes == null)
+    {
+      retrievalStrategyProbes = new LinkedHashMap<>();
+    }
   }
 
 }
@@ -393,6 +393,16 @@ class MutableTable
     }
   }
 
+  final int getSortIndex()
+  {
+    return sortIndex;
+  }
+
+  final void removeForeignKey(final MutableForeignKey foreignKey)
+  {
+    foreignKeys.remove(foreignKey);
+  }
+
   final void setPrimaryKeyAndReplaceIndex(final MutablePrimaryKey primaryKey)
   {
     if (primaryKey == null)
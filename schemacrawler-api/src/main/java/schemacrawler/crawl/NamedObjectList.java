@@ -32,19 +32,22 @@ package schemacrawler.crawl;
 import static java.util.Comparator.naturalOrder;
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.Predicate;
 
 import schemacrawler.schema.NamedObject;
 import schemacrawler.schema.ReducibleCollection;
+import schemacrawler.schema.SchemaReference;
 import sf.util.ObjectToString;
 
 /**
@@ -58,34 +61,109 @@ final class NamedObjectList<N extends NamedObject>
   implements Serializable, ReducibleCollection<N>
 {
 
+  /**
+   * Composite lookup key, with the hash code computed once. Keys for
+   * the objects in the list are created once when the object is added,
+   * and lookups can create keys directly from names, without building
+   * a list.
+   */
+  private static final class LookupKey
+    implements Serializable
+  {
+
+    private static final long serialVersionUID = -6263563454447461564L;
+
+    private final String[] parts;
+    private final int hashCode;
+
+    LookupKey(final String... parts)
+    {
+      this.parts = parts;
+      hashCode = Arrays.hashCode(parts);
+    }
+
+    @Override
+    public boolean equals(final Object obj)
+    {
+      if (this == obj)
+      {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass())
+      {
+        return false;
+      }
+      final LookupKey other = (LookupKey) obj;
+      return hashCode == other.hashCode && Arrays.equals(parts, other.parts);
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return hashCode;
+    }
+
+    @Override
+    public String toString()
+    {
+      return Arrays.toString(parts);
+    }
+
+  }
+
   private static final long serialVersionUID = 3257847666804142128L;
 
-  private static List<String> makeLookupKey(final NamedObject namedObject)
+  private static LookupKey makeLookupKey(final List<String> lookupKey)
   {
-    final List<String> key;
+    if (lookupKey == null)
+    {
+      return null;
+    }
+    return new LookupKey(lookupKey.toArray(new String[lookupKey.size()]));
+  }
+
+  private static LookupKey makeLookupKey(final NamedObject namedObject)
+  {
+    final LookupKey key;
     if (namedObject == null)
     {
       key = null;
     }
+    else if (namedObject instanceof SchemaReference)
+    {
+      key = new LookupKey(((SchemaReference) namedObject).getCatalogName(),
+                          namedObject.getName());
+    }
     else
     {
-      key = namedObject.toUniqueLookupKey();
+      key = makeLookupKey(namedObject.toUniqueLookupKey());
     }
     return key;
   }
 
-  private static List<String> makeLookupKey(final NamedObject namedObject,
-                                            final String name)
+  private static LookupKey makeLookupKey(final NamedObject namedObject,
+                                         final String name)
   {
-    final List<String> key = makeLookupKey(namedObject);
-    if (key != null)
+    if (namedObject == null)
     {
+      return null;
+    }
+    else if (namedObject instanceof SchemaReference)
+    {
+      return new LookupKey(((SchemaReference) namedObject).getCatalogName(),
+                           namedObject.getName(),
+                           name);
+    }
+    else
+    {
+      final List<String> key = namedObject.toUniqueLookupKey();
       key.add(name);
+      return makeLookupKey(key);
     }
-    return key;
   }
 
-  private final Map<List<String>, N> objects = new HashMap<>();
+  private final Map<LookupKey, N> objects = new HashMap<>();
+  private transient List<N> sortedValues;
 
   @Override
   public void filter(final Predicate<? super N> predicate)
@@ -95,15 +173,9 @@ final class NamedObjectList<N extends NamedObject>
       return;
     }
 
-    final Set<Entry<List<String>, N>> entrySet = objects.entrySet();
-    for (final Iterator<Entry<List<String>, N>> iterator = entrySet
-      .iterator(); iterator.hasNext();)
+    if (objects.values().removeIf(namedObject -> !predicate.test(namedObject)))
     {
-      final Entry<List<String>, N> entry = iterator.next();
-      if (!predicate.test(entry.getValue()))
-      {
-        iterator.remove();
-      }
+      sortedValues = null;
     }
   }
 
@@ -119,37 +191,9 @@ final class NamedObjectList<N extends NamedObject>
   @Override
   public Iterator<N> iterator()
   {
-    final class UnmodifiableIterator
-      implements Iterator<N>
-    {
-
-      private final Iterator<N> iterator;
-
-      UnmodifiableIterator(final Iterator<N> iterator)
-      {
-        this.iterator = iterator;
-      }
-
-      @Override
-      public boolean hasNext()
-      {
-        return iterator.hasNext();
-      }
-
-      @Override
-      public N next()
-      {
-        return iterator.next();
-      }
-
-      @Override
-      public void remove()
-      {
-        throw new UnsupportedOperationException();
-      }
-
-    }
-    return new UnmodifiableIterator(values().iterator());
+    // The sorted view is never modified once it is built, so it is
+    // safe to iterate over it while objects are added or removed
+    return values().iterator();
   }
 
   /**
@@ -170,8 +214,9 @@ final class NamedObjectList<N extends NamedObject>
   boolean add(final N namedObject)
   {
     requireNonNull(namedObject, "Cannot add a null object to the list");
-    final List<String> key = makeLookupKey(namedObject);
+    final LookupKey key = makeLookupKey(namedObject);
     objects.put(key, namedObject);
+    sortedValues = null;
     return true;
   }
 
@@ -188,24 +233,59 @@ final class NamedObjectList<N extends NamedObject>
   /**
    * Looks up a named object by lookup key.
    *
-   * @param fullName
-   *        Fully qualified name
+   * @param lookupKey
+   *        Unique lookup key
    * @return Named object
    */
   Optional<N> lookup(final List<String> lookupKey)
   {
-    return internalGet(lookupKey);
+    return internalGet(makeLookupKey(lookupKey));
   }
 
   Optional<N> lookup(final NamedObject namedObject, final String name)
   {
-    final List<String> key = makeLookupKey(namedObject, name);
+    final LookupKey key = makeLookupKey(namedObject, name);
     return internalGet(key);
   }
 
+  /**
+   * Looks up a named object in a schema, by the catalog and schema
+   * names, and the object name.
+   *
+   * @param catalogName
+   *        Catalog name
+   * @param schemaName
+   *        Schema name
+   * @param name
+   *        Name of the object
+   * @return Named object
+   */
+  Optional<N> lookup(final String catalogName,
+                     final String schemaName,
+                     final String name)
+  {
+    return internalGet(new LookupKey(catalogName, schemaName, name));
+  }
+
+  /**
+   * Discards the cached sort order, so that values are sorted again
+   * when next requested. This needs to be called when objects are
+   * modified after they are added, in a way that changes their sort
+   * order.
+   */
+  void invalidateSortOrder()
+  {
+    sortedValues = null;
+  }
+
   N remove(final N namedObject)
   {
-    return objects.remove(makeLookupKey(namedObject));
+    final N removed = objects.remove(makeLookupKey(namedObject));
+    if (removed != null)
+    {
+      sortedValues = null;
+    }
+    return removed;
   }
 
   /**
@@ -219,19 +299,54 @@ final class NamedObjectList<N extends NamedObject>
   }
 
   /**
-   * Gets all named objects in the list, in sorted order.
+   * Gets all named objects in the list, in sorted order. The sorted
+   * list is cached until objects are added, removed or filtered, or
+   * until the sort order is invalidated.
    *
    * @return All named objects
    */
   List<N> values()
   {
-    final List<N> all = new ArrayList<>(objects.values());
-    all.sort(naturalOrder());
-    return all;
+    if (sortedValues == null)
+    {
+      final List<N> all = new ArrayList<>(objects.values());
+      all.sort(naturalOrder());
+      sortedValues = Collections.unmodifiableList(all);
+    }
+    return sortedValues;
   }
 
-  private Optional<N> internalGet(final List<String> key)
+  private void readObject(final ObjectInputStream in)
+    throws IOException, ClassNotFoundException
   {
+    in.defaultReadObject();
+
+    // Lists that were serialized before lookup keys were introduced
+    // are keyed by lists of names, so rebuild the keys
+    final Map<?, N> serializedObjects = new HashMap<>(objects);
+    objects.clear();
+    for (final Map.Entry<?, N> entry: serializedObjects.entrySet())
+    {
+      final Object key = entry.getKey();
+      if (key instanceof LookupKey)
+      {
+        objects.put((LookupKey) key, entry.getValue());
+      }
+      else if (key instanceof List)
+      {
+        final List<?> lookupKey = (List<?>) key;
+        objects.put(new LookupKey(lookupKey
+          .toArray(new String[lookupKey.size()])), entry.getValue());
+      }
+    }
+  }
+
+  private Optional<N> internalGet(final LookupKey key)
+  {
+    if (key == null)
+    {
+      return Optional.empty();
+    }
     return Optional.ofNullable(objects.get(key));
   }
 
@@ -228,7 +228,8 @@ final class ProcedureColumnRetriever
       .getQuery(InformationSchemaKey.PROCEDURE_COLUMNS);
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
-        final MetadataResultSet results = new MetadataResultSet(procedureColumnsSql,
+        final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                procedureColumnsSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
     {
@@ -253,7 +254,8 @@ final class ProcedureColumnRetriever
 
       final MutableProcedure procedure = (MutableProcedure) routine;
       LOGGER.log(Level.FINE, "Retrieving procedure columns for " + procedure);
-      try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+      try (final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                   getMetaData()
         .getProcedureColumns(procedure.getSchema().getCatalogName(),
                              procedure.getSchema().getName(),
                              procedure.getName(),
@@ -277,7 +279,8 @@ final class ProcedureColumnRetriever
                                                                     final InclusionRuleFilter<ProcedureColumn> columnFilter)
     throws SQLException
   {
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+    try (final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                 getMetaData()
       .getProcedureColumns(null, null, "%", "%"));)
     {
       while (results.next())
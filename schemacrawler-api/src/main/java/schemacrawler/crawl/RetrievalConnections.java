@@ -0,0 +1,119 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import java.sql.Connection;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Additional database connections for retrieval on worker threads,
+ * shared by all retrieval phases of a crawl. Together with the primary
+ * connection, no more connections are open at the same time than the
+ * configured retrieval parallelism, even when sharded retrieval runs
+ * inside a group of retrieval phases that is already running in
+ * parallel. Connections are reserved without waiting, so that nested
+ * retrieval falls back to the connection it already has, instead of
+ * waiting for connections held by its parent.
+ *
+ * @author Sualeh Fatehi
+ */
+final class RetrievalConnections
+{
+
+  private final Supplier<Connection> connectionSupplier;
+  private final Semaphore permits;
+
+  RetrievalConnections(final Supplier<Connection> connectionSupplier,
+                       final int retrievalParallelism)
+  {
+    this.connectionSupplier = connectionSupplier;
+    // The primary connection counts towards the retrieval parallelism
+    permits = new Semaphore(Math.max(retrievalParallelism - 1, 0));
+  }
+
+  /**
+   * Checks whether additional connections can be opened at all.
+   *
+   * @return Whether there is a source of additional connections
+   */
+  boolean isAvailable()
+  {
+    return connectionSupplier != null;
+  }
+
+  /**
+   * Opens a new connection, for which a reservation is held.
+   *
+   * @return New database connection
+   */
+  Connection newConnection()
+  {
+    return connectionSupplier.get();
+  }
+
+  /**
+   * Releases reservations for additional connections, after the
+   * connections are closed.
+   *
+   * @param count
+   *        Number of reservations to release
+   */
+  void release(final int count)
+  {
+    if (count > 0)
+    {
+      permits.release(count);
+    }
+  }
+
+  /**
+   * Reserves up to the requested number of additional connections,
+   * without waiting for reservations held elsewhere.
+   *
+   * @param requested
+   *        Number of additional connections requested
+   * @return Number of additional connections reserved, which may be
+   *         zero
+   */
+  int reserve(final int requested)
+  {
+    if (connectionSupplier == null)
+    {
+      return 0;
+    }
+    int reserved = 0;
+    while (reserved < requested && permits.tryAcquire())
+    {
+      reserved++;
+    }
+    return reserved;
+  }
+
+}
@@ -0,0 +1,682 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import schemacrawler.schema.Column;
+import schemacrawler.schema.SchemaReference;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaInfoLevel;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.utility.TypeMap;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Chooses retrieval strategies for table retrieval phases that are set
+ * to the automatic retrieval strategy. Per-table metadata retrieval
+ * makes one call for each table, so it is timed on a sample of tables,
+ * retrieving into a scratch catalog, and the time is scaled up to all
+ * tables. Other strategies retrieve metadata for all tables in a single
+ * call, so they are not timed on a sample. Instead, the phase is
+ * retrieved with them, and their results are kept if they are complete
+ * for the sample tables, so that the catalog-wide query is run only
+ * once. Strategies that retrieve fewer objects for the sample than
+ * per-table metadata, which some drivers do when asked for all tables
+ * at once, are not kept, and the phase is retrieved with per-table
+ * metadata instead.
+ *
+ * @author Sualeh Fatehi
+ */
+final class RetrievalStrategyProbe
+{
+
+  private enum Phase
+  {
+
+   columns(InformationSchemaKey.TABLE_COLUMNS)
+   {
+
+     @Override
+     boolean isRetrieved(final SchemaInfoLevel infoLevel)
+     {
+       return infoLevel.isRetrieveTableColumns();
+     }
+
+     @Override
+     int count(final MutableTable table)
+     {
+       return table.getColumns().size();
+     }
+
+     @Override
+     void retrieve(final RetrieverConnection retrieverConnection,
+                   final MutableCatalog catalog,
+                   final SchemaCrawlerOptions options,
+                   final NamedObjectList<MutableTable> tables)
+       throws SQLException
+     {
+       new TableColumnRetriever(retrieverConnection, catalog, options)
+         .retrieveTableColumns(tables, options.getColumnInclusionRule());
+     }
+
+     @Override
+     MetadataRetrievalStrategy retrievalStrategy(final SchemaRetrievalOptions schemaRetrievalOptions)
+     {
+       return schemaRetrievalOptions.getTableColumnRetrievalStrategy();
+     }
+
+     @Override
+     void withRetrievalStrategy(final SchemaRetrievalOptionsBuilder builder,
+                                final MetadataRetrievalStrategy retrievalStrategy)
+     {
+       builder.withTableColumnRetrievalStrategy(retrievalStrategy);
+     }
+
+   },
+   primaryKeys(InformationSchemaKey.PRIMARY_KEYS)
+   {
+
+     @Override
+     boolean isRetrieved(final SchemaInfoLevel infoLevel)
+     {
+       return infoLevel.isRetrieveTableColumns();
+     }
+
+     @Override
+     int count(final MutableTable table)
+     {
+       return table.hasPrimaryKey()? 1: 0;
+     }
+
+     @Override
+     void retrieve(final RetrieverConnection retrieverConnection,
+                   final MutableCatalog catalog,
+                   final SchemaCrawlerOptions options,
+                   final NamedObjectList<MutableTable> tables)
+       throws SQLException
+     {
+       new IndexRetriever(retrieverConnection, catalog, options)
+         .retrievePrimaryKeys(tables);
+     }
+
+     @Override
+     MetadataRetrievalStrategy retrievalStrategy(final SchemaRetrievalOptions schemaRetrievalOptions)
+     {
+       return schemaRetrievalOptions.getPrimaryKeyRetrievalStrategy();
+     }
+
+     @Override
+     void withRetrievalStrategy(final SchemaRetrievalOptionsBuilder builder,
+                                final MetadataRetrievalStrategy retrievalStrategy)
+     {
+       builder.withPrimaryKeyRetrievalStrategy(retrievalStrategy);
+     }
+
+   },
+   indexes(InformationSchemaKey.INDEXES)
+   {
+
+     @Override
+     boolean isRetrieved(final SchemaInfoLevel infoLevel)
+     {
+       return infoLevel.isRetrieveTableColumns()
+              && infoLevel.isRetrieveIndexes();
+     }
+
+     @Override
+     int count(final MutableTable table)
+     {
+       return table.getIndexes().size();
+     }
+
+     @Override
+     void retrieve(final RetrieverConnection retrieverConnection,
+                   final MutableCatalog catalog,
+                   final SchemaCrawlerOptions options,
+                   final NamedObjectList<MutableTable> tables)
+       throws SQLException
+     {
+       new IndexRetriever(retrieverConnection, catalog, options)
+         .retrieveIndexes(tables);
+     }
+
+     @Override
+     MetadataRetrievalStrategy retrievalStrategy(final SchemaRetrievalOptions schemaRetrievalOptions)
+     {
+       return schemaRetrievalOptions.getIndexRetrievalStrategy();
+     }
+
+     @Override
+     void withRetrievalStrategy(final SchemaRetrievalOptionsBuilder builder,
+                                final MetadataRetrievalStrategy retrievalStrategy)
+     {
+       builder.withIndexRetrievalStrategy(retrievalStrategy);
+     }
+
+   },
+   foreignKeys(InformationSchemaKey.FOREIGN_KEYS)
+   {
+
+     @Override
+     boolean isRetrieved(final SchemaInfoLevel infoLevel)
+     {
+       return infoLevel.isRetrieveTableColumns()
+              && infoLevel.isRetrieveForeignKeys();
+     }
+
+     @Override
+     int count(final MutableTable table)
+     {
+       return table.getForeignKeys().size();
+     }
+
+     @Override
+     void retrieve(final RetrieverConnection retrieverConnection,
+                   final MutableCatalog catalog,
+                   final SchemaCrawlerOptions options,
+                   final NamedObjectList<MutableTable> tables)
+       throws SQLException
+     {
+       new ForeignKeyRetriever(retrieverConnection, catalog, options)
+         .retrieveForeignKeys(tables);
+     }
+
+     @Override
+     MetadataRetrievalStrategy retrievalStrategy(final SchemaRetrievalOptions schemaRetrievalOptions)
+     {
+       return schemaRetrievalOptions.getForeignKeyRetrievalStrategy();
+     }
+
+     @Override
+     void withRetrievalStrategy(final SchemaRetrievalOptionsBuilder builder,
+                                final MetadataRetrievalStrategy retrievalStrategy)
+     {
+       builder.withForeignKeyRetrievalStrategy(retrievalStrategy);
+     }
+
+   };
+
+    private final InformationSchemaKey dataDictionaryKey;
+
+    private Phase(final InformationSchemaKey dataDictionaryKey)
+    {
+      this.dataDictionaryKey = dataDictionaryKey;
+    }
+
+    /**
+     * Counts the objects that were retrieved for a table, so that
+     * strategies that retrieve less than per-table metadata can be
+     * rejected.
+     */
+    abstract int count(MutableTable table);
+
+    abstract boolean isRetrieved(SchemaInfoLevel infoLevel);
+
+    abstract void retrieve(RetrieverConnection retrieverConnection,
+                           MutableCatalog catalog,
+                           SchemaCrawlerOptions options,
+                           NamedObjectList<MutableTable> tables)
+      throws SQLException;
+
+    abstract MetadataRetrievalStrategy retrievalStrategy(SchemaRetrievalOptions schemaRetrievalOptions);
+
+    abstract void withRetrievalStrategy(SchemaRetrievalOptionsBuilder builder,
+                                        MetadataRetrievalStrategy retrievalStrategy);
+
+  }
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(RetrievalStrategyProbe.class.getName());
+
+  /**
+   * Number of tables to time per-table metadata retrieval on.
+   */
+  static final int PROBE_TABLES_COUNT = 10;
+
+  private final MutableCatalog catalog;
+  private final SchemaCrawlerOptions options;
+  private final Map<Phase, Map<String, Integer>> metadataCounts;
+  private final Map<Phase, String> metadataTimings;
+  private RetrieverConnection retrieverConnection;
+  private NamedObjectList<MutableTable> sampleTables;
+
+  RetrievalStrategyProbe(final RetrieverConnection retrieverConnection,
+                         final MutableCatalog catalog,
+                         final SchemaCrawlerOptions options)
+  {
+    this.retrieverConnection = requireNonNull(retrieverConnection,
+                                              "No retriever connection provided");
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    this.options = requireNonNull(options,
+                                  "No SchemaCrawler options provided");
+    metadataCounts = new EnumMap<>(Phase.class);
+    metadataTimings = new EnumMap<>(Phase.class);
+    sampleTables = new NamedObjectList<>();
+  }
+
+  /**
+   * Times per-table metadata retrieval for primary keys, indexes and
+   * foreign keys, if they are set to the automatic retrieval strategy.
+   * Table columns need to be retrieved first, since keys refer to them.
+   *
+   * @param allTables
+   *        All tables in the catalog, with columns
+   * @return Connection to retrieve the rest of the table metadata with,
+   *         which uses the retrieval strategies to try first
+   * @throws SQLException
+   *         On an exception creating the connection
+   */
+  RetrieverConnection probeTableKeys(final NamedObjectList<MutableTable> allTables)
+    throws SQLException
+  {
+    return probe(allTables,
+                 Arrays.asList(Phase.primaryKeys,
+                               Phase.indexes,
+                               Phase.foreignKeys));
+  }
+
+  /**
+   * Times per-table metadata retrieval for table columns, if they are
+   * set to the automatic retrieval strategy.
+   *
+   * @param allTables
+   *        All tables in the catalog
+   * @return Connection to retrieve table columns with, which uses the
+   *         retrieval strategy to try first
+   * @throws SQLException
+   *         On an exception creating the connection
+   */
+  RetrieverConnection probeTableColumns(final NamedObjectList<MutableTable> allTables)
+    throws SQLException
+  {
+    return probe(allTables, Arrays.asList(Phase.columns));
+  }
+
+  void retrieveForeignKeys(final RetrieverConnection retrieverConnection,
+                           final NamedObjectList<MutableTable> tables)
+    throws SQLException
+  {
+    retrieve(Phase.foreignKeys, retrieverConnection, tables);
+  }
+
+  void retrieveIndexes(final RetrieverConnection retrieverConnection,
+                       final NamedObjectList<MutableTable> tables)
+    throws SQLException
+  {
+    retrieve(Phase.indexes, retrieverConnection, tables);
+  }
+
+  void retrievePrimaryKeys(final RetrieverConnection retrieverConnection,
+                           final NamedObjectList<MutableTable> tables)
+    throws SQLException
+  {
+    retrieve(Phase.primaryKeys, retrieverConnection, tables);
+  }
+
+  void retrieveTableColumns(final RetrieverConnection retrieverConnection,
+                            final NamedObjectList<MutableTable> tables)
+    throws SQLException
+  {
+    retrieve(Phase.columns, retrieverConnection, tables);
+  }
+
+  /**
+   * Strategies that retrieve metadata for all tables in a single call,
+   * in the order that they are tried. Data dictionary queries are
+   * tried first, since they are provided for databases where they are
+   * faster.
+   */
+  private List<MetadataRetrievalStrategy> allTablesRetrievalStrategies(final Phase phase)
+  {
+    final List<MetadataRetrievalStrategy> retrievalStrategies = new ArrayList<>();
+    if (retrieverConnection.getInformationSchemaViews()
+      .hasQuery(phase.dataDictionaryKey))
+    {
+      retrievalStrategies.add(MetadataRetrievalStrategy.data_dictionary_all);
+    }
+    retrievalStrategies.add(MetadataRetrievalStrategy.metadata_all);
+    return retrievalStrategies;
+  }
+
+  /**
+   * Times per-table metadata retrieval on a sample of tables for each
+   * of the phases that is set to the automatic retrieval strategy, and
+   * records the timings in the catalog crawl information. Phases with
+   * more tables than the sample are retrieved with a strategy that
+   * retrieves all tables at once first.
+   */
+  private RetrieverConnection probe(final NamedObjectList<MutableTable> allTables,
+                                    final List<Phase> phases)
+    throws SQLException
+  {
+    requireNonNull(allTables, "No tables provided");
+
+    final SchemaRetrievalOptions schemaRetrievalOptions = retrieverConnection
+      .getSchemaRetrievalOptions();
+    final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
+
+    final List<Phase> autoPhases = new ArrayList<>();
+    for (final Phase phase: phases)
+    {
+      if (phase.isRetrieved(infoLevel) && phase
+        .retrievalStrategy(schemaRetrievalOptions) == MetadataRetrievalStrategy.auto)
+      {
+        autoPhases.add(phase);
+      }
+    }
+    if (autoPhases.isEmpty())
+    {
+      return retrieverConnection;
+    }
+
+    sampleTables = sampleTables(allTables);
+
+    final SchemaRetrievalOptionsBuilder builder = schemaRetrievalOptionsBuilder(retrieverConnection);
+    for (final Phase phase: autoPhases)
+    {
+      final MetadataRetrievalStrategy retrievalStrategy;
+      final String timings;
+      if (allTables.size() <= sampleTables.size())
+      {
+        retrievalStrategy = MetadataRetrievalStrategy.metadata;
+        timings = String.format("only %d tables, so not probed",
+                                allTables.size());
+      }
+      else
+      {
+        retrievalStrategy = allTablesRetrievalStrategies(phase).get(0);
+        timings = probeMetadata(phase, allTables.size());
+        metadataTimings.put(phase, timings);
+      }
+
+      // Recorded now, so that phases are listed in order, and updated
+      // once the phase is retrieved
+      record(phase, MetadataRetrievalStrategy.metadata, timings);
+      phase.withRetrievalStrategy(builder, retrievalStrategy);
+    }
+
+    retrieverConnection = new RetrieverConnection(retrieverConnection
+      .getConnection(), builder.toOptions());
+    return retrieverConnection;
+  }
+
+  /**
+   * Times per-table metadata retrieval for a phase on the sample
+   * tables, retrieving into a scratch catalog, and scales the time up
+   * to all tables. The number of objects retrieved for the sample is
+   * what other strategies need to match.
+   */
+  private String probeMetadata(final Phase phase, final int tablesCount)
+  {
+    try
+    {
+      final RetrieverConnection probeConnection = retrieverConnection(retrieverConnection,
+                                                                      phase,
+                                                                      MetadataRetrievalStrategy.metadata);
+      final MutableCatalog probeCatalog = probeCatalog(sampleTables);
+
+      final long start = System.nanoTime();
+      phase.retrieve(probeConnection,
+                     probeCatalog,
+                     options,
+                     probeCatalog.getAllTables());
+      final long nanos = System.nanoTime() - start;
+
+      final Map<String, Integer> counts = new HashMap<>();
+      for (final MutableTable probeTable: probeCatalog.getAllTables())
+      {
+        counts.put(probeTable.getFullName(), phase.count(probeTable));
+      }
+      metadataCounts.put(phase, counts);
+
+      // Per-table retrieval scales with the number of tables
+      final long estimatedNanos = nanos * tablesCount / sampleTables.size();
+      return String
+        .format("%s: %d ms for %d tables, estimated %d ms for %d tables",
+                MetadataRetrievalStrategy.metadata,
+                TimeUnit.NANOSECONDS.toMillis(nanos),
+                sampleTables.size(),
+                TimeUnit.NANOSECONDS.toMillis(estimatedNanos),
+                tablesCount);
+    }
+    catch (final Exception e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not probe retrieval of %s using <%s>",
+                                  phase,
+                                  MetadataRetrievalStrategy.metadata),
+                 e);
+      metadataCounts.put(phase, new HashMap<>());
+      return String.format("%s: failed", MetadataRetrievalStrategy.metadata);
+    }
+  }
+
+  /**
+   * Creates a scratch catalog with copies of the sample tables and their
+   * columns, so that probes do not change the catalog that is being
+   * crawled.
+   */
+  private MutableCatalog probeCatalog(final NamedObjectList<MutableTable> sampleTables)
+  {
+    final MutableCatalog probeCatalog = new MutableCatalog("probe");
+    for (final SchemaReference schema: catalog.getAllSchemas())
+    {
+      probeCatalog.addSchema(schema);
+    }
+    for (final MutableColumnDataType columnDataType: catalog
+      .getAllColumnDataTypes())
+    {
+      probeCatalog.addColumnDataType(columnDataType);
+    }
+    for (final MutableTable table: sampleTables)
+    {
+      final MutableTable probeTable;
+      if (table instanceof MutableView)
+      {
+        probeTable = new MutableView(table.getSchema(), table.getName());
+      }
+      else
+      {
+        probeTable = new MutableTable(table.getSchema(), table.getName());
+      }
+      probeTable.setTableType(table.getTableType());
+      for (final Column column: table.getColumns())
+      {
+        probeTable.addColumn(new MutableColumn(probeTable, column.getName()));
+      }
+      probeCatalog.addTable(probeTable);
+    }
+    return probeCatalog;
+  }
+
+  private void record(final Phase phase,
+                      final MetadataRetrievalStrategy retrievalStrategy,
+                      final String timings)
+  {
+    final String retrievalStrategyProbe = String
+      .format("%s (%s)", retrievalStrategy, timings);
+    LOGGER.log(Level.INFO,
+               new StringFormat("Retrieving %s using <%s>",
+                                phase,
+                                retrievalStrategyProbe));
+    catalog.addRetrievalStrategyProbe(phase.name(), retrievalStrategyProbe);
+  }
+
+  /**
+   * Retrieves a phase into the catalog that is being crawled. If the
+   * phase was probed, strategies that retrieve all tables at once are
+   * tried first, and timed. The catalog-wide query is only run once,
+   * since the results of the first strategy that retrieves as many
+   * objects for the sample tables as per-table metadata are kept.
+   * Otherwise, the phase is retrieved again with per-table metadata,
+   * which replaces objects that were already retrieved.
+   */
+  private void retrieve(final Phase phase,
+                        final RetrieverConnection retrieverConnection,
+                        final NamedObjectList<MutableTable> tables)
+    throws SQLException
+  {
+    if (!metadataCounts.containsKey(phase))
+    {
+      phase.retrieve(retrieverConnection, catalog, options, tables);
+      return;
+    }
+
+    // Sample tables may have been filtered out of the catalog since
+    // they were probed, so only the ones that are retrieved are compared
+    final Map<String, Integer> counts = metadataCounts.get(phase);
+    final List<MutableTable> comparedTables = new ArrayList<>();
+    int metadataCount = 0;
+    for (final MutableTable table: sampleTables)
+    {
+      if (tables.contains(table))
+      {
+        comparedTables.add(table);
+        metadataCount = metadataCount
+                        + counts.getOrDefault(table.getFullName(), 0);
+      }
+    }
+
+    final StringBuilder timings = new StringBuilder(metadataTimings
+      .get(phase));
+    for (final MetadataRetrievalStrategy retrievalStrategy: allTablesRetrievalStrategies(phase))
+    {
+      timings.append("; ").append(retrievalStrategy).append(": ");
+
+      final long nanos;
+      try
+      {
+        final RetrieverConnection phaseConnection = retrieverConnection(retrieverConnection,
+                                                                        phase,
+                                                                        retrievalStrategy);
+        final long start = System.nanoTime();
+        phase.retrieve(phaseConnection, catalog, options, tables);
+        nanos = System.nanoTime() - start;
+      }
+      catch (final Exception e)
+      {
+        LOGGER.log(Level.WARNING,
+                   new StringFormat("Could not retrieve %s using <%s>",
+                                    phase,
+                                    retrievalStrategy),
+                   e);
+        timings.append("failed");
+        continue;
+      }
+
+      int count = 0;
+      for (final MutableTable table: comparedTables)
+      {
+        count = count + phase.count(table);
+      }
+      if (count < metadataCount)
+      {
+        timings.append(String.format("retrieved only %d of %d objects",
+                                     count,
+                                     metadataCount));
+        continue;
+      }
+
+      timings.append(String.format("%d ms",
+                                   TimeUnit.NANOSECONDS.toMillis(nanos)));
+      record(phase, retrievalStrategy, timings.toString());
+      return;
+    }
+
+    phase.retrieve(retrieverConnection(retrieverConnection,
+                                       phase,
+                                       MetadataRetrievalStrategy.metadata),
+                   catalog,
+                   options,
+                   tables);
+    record(phase, MetadataRetrievalStrategy.metadata, timings.toString());
+  }
+
+  /**
+   * Creates a connection that uses the provided retrieval strategy for
+   * a phase, and the same options as the provided connection otherwise.
+   */
+  private RetrieverConnection retrieverConnection(final RetrieverConnection retrieverConnection,
+                                                  final Phase phase,
+                                                  final MetadataRetrievalStrategy retrievalStrategy)
+    throws SQLException
+  {
+    final SchemaRetrievalOptionsBuilder builder = schemaRetrievalOptionsBuilder(retrieverConnection);
+    phase.withRetrievalStrategy(builder, retrievalStrategy);
+    return new RetrieverConnection(retrieverConnection.getConnection(),
+                                   builder.toOptions());
+  }
+
+  private NamedObjectList<MutableTable> sampleTables(final NamedObjectList<MutableTable> allTables)
+  {
+    final NamedObjectList<MutableTable> sampleTables = new NamedObjectList<>();
+    for (final MutableTable table: allTables)
+    {
+      if (sampleTables.size() == PROBE_TABLES_COUNT)
+      {
+        break;
+      }
+      sampleTables.add(table);
+    }
+    return sampleTables;
+  }
+
+  /**
+   * Creates a builder from the retrieval options of a connection,
+   * keeping the type map, which is not copied by the builder.
+   */
+  private SchemaRetrievalOptionsBuilder schemaRetrievalOptionsBuilder(final RetrieverConnection retrieverConnection)
+  {
+    final SchemaRetrievalOptions schemaRetrievalOptions = retrieverConnection
+      .getSchemaRetrievalOptions();
+    final TypeMap typeMap = schemaRetrievalOptions.getTypeMap();
+    final Map<String, Class<?>> typeMapCopy = new HashMap<>();
+    for (final String typeName: typeMap.keySet())
+    {
+      typeMapCopy.put(typeName, typeMap.get(typeName));
+    }
+    return SchemaRetrievalOptionsBuilder.builder(schemaRetrievalOptions)
+      .withTypeMap(typeMapCopy);
+  }
+
+}
@@ -0,0 +1,270 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StopWatch;
+import sf.util.StringFormat;
+
+/**
+ * Runs groups of independent retrieval phases. If additional database
+ * connections can be reserved, and the schema retrieval options allow
+ * it, groups are run on worker threads, one on the primary connection
+ * and the others each on a new connection. Otherwise, groups are run
+ * one after another on the primary connection. Groups must not write to
+ * the same parts of the catalog.
+ *
+ * @author Sualeh Fatehi
+ */
+final class RetrievalTaskExecutor
+{
+
+  @FunctionalInterface
+  interface RetrievalTask
+  {
+
+    void retrieve(RetrieverConnection retrieverConnection,
+                  StopWatch stopWatch)
+      throws Exception;
+
+  }
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(RetrievalTaskExecutor.class.getName());
+
+  private final RetrieverConnection retrieverConnection;
+  private final RetrievalConnections retrievalConnections;
+  private final SchemaRetrievalOptions schemaRetrievalOptions;
+  private final Map<String, RetrievalTask> tasks;
+
+  RetrievalTaskExecutor(final RetrieverConnection retrieverConnection,
+                        final RetrievalConnections retrievalConnections)
+  {
+    this.retrieverConnection = requireNonNull(retrieverConnection,
+                                              "No retriever connection provided");
+    this.retrievalConnections = requireNonNull(retrievalConnections,
+                                               "No retrieval connections provided");
+    schemaRetrievalOptions = retrieverConnection.getSchemaRetrievalOptions();
+    tasks = new LinkedHashMap<>();
+  }
+
+  void add(final String taskName, final RetrievalTask task)
+  {
+    requireNonNull(taskName, "No task name provided");
+    requireNonNull(task, "No task provided");
+    tasks.put(taskName, task);
+  }
+
+  /**
+   * Runs all retrieval tasks, and waits for them to complete.
+   *
+   * @param stopWatch
+   *        Stop watch for timing tasks
+   * @throws Exception
+   *         On an exception in any of the tasks, with exceptions from
+   *         other tasks added as suppressed exceptions
+   */
+  void execute(final StopWatch stopWatch)
+    throws Exception
+  {
+    final int parallelism = Math
+      .min(schemaRetrievalOptions.getRetrievalParallelism(), tasks.size());
+    final int additionalConnections;
+    if (retrievalConnections.isAvailable() && parallelism > 1)
+    {
+      additionalConnections = retrievalConnections.reserve(parallelism - 1);
+    }
+    else
+    {
+      additionalConnections = 0;
+    }
+
+    if (additionalConnections == 0)
+    {
+      for (final RetrievalTask task: tasks.values())
+      {
+        task.retrieve(retrieverConnection, stopWatch);
+      }
+      return;
+    }
+
+    try
+    {
+      stopWatch.time("retrieveInParallel", () -> {
+        executeInParallel(additionalConnections);
+        return null;
+      });
+    }
+    finally
+    {
+      retrievalConnections.release(additionalConnections);
+    }
+  }
+
+  private void executeInParallel(final int additionalConnections)
+    throws Exception
+  {
+    LOGGER.log(Level.INFO,
+               new StringFormat("Running %d retrieval tasks, %d at a time",
+                                tasks.size(),
+                                additionalConnections + 1));
+
+    final List<Entry<String, RetrievalTask>> taskEntries = new ArrayList<>(tasks
+      .entrySet());
+    final AtomicInteger nextTask = new AtomicInteger();
+    final List<Throwable> failures = Collections
+      .synchronizedList(new ArrayList<>());
+
+    final AtomicInteger threadCount = new AtomicInteger();
+    final ExecutorService executorService = Executors
+      .newFixedThreadPool(additionalConnections, runnable -> {
+        final Thread thread = new Thread(runnable,
+                                         "schemacrawler-retrieval-"
+                                                   + threadCount
+                                                     .incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    try
+    {
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (int i = 0; i < additionalConnections; i++)
+      {
+        futures.add(executorService.submit(() -> {
+          try (final Connection connection = retrievalConnections
+            .newConnection();)
+          {
+            final RetrieverConnection taskRetrieverConnection = new RetrieverConnection(connection,
+                                                                                        schemaRetrievalOptions);
+            executeTasks(taskRetrieverConnection,
+                         taskEntries,
+                         nextTask,
+                         failures);
+          }
+          return null;
+        }));
+      }
+
+      // The primary connection is idle while waiting, so use it too
+      executeTasks(retrieverConnection, taskEntries, nextTask, failures);
+
+      for (final Future<Void> future: futures)
+      {
+        try
+        {
+          future.get();
+        }
+        catch (final ExecutionException e)
+        {
+          failures.add(e.getCause());
+        }
+      }
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerException("Interrupted while retrieving metadata",
+                                       e);
+    }
+    finally
+    {
+      executorService.shutdownNow();
+    }
+
+    if (!failures.isEmpty())
+    {
+      final Throwable cause = failures.get(0);
+      final Exception exception;
+      if (cause instanceof Exception)
+      {
+        exception = (Exception) cause;
+      }
+      else
+      {
+        exception = new SchemaCrawlerException("Could not retrieve metadata",
+                                               cause);
+      }
+      for (final Throwable otherCause: failures.subList(1, failures.size()))
+      {
+        exception.addSuppressed(otherCause);
+      }
+      throw exception;
+    }
+  }
+
+  /**
+   * Claims and runs tasks on a connection, until there are no more
+   * tasks left. A failed task does not stop other tasks from running.
+   */
+  private void executeTasks(final RetrieverConnection taskRetrieverConnection,
+                            final List<Entry<String, RetrievalTask>> taskEntries,
+                            final AtomicInteger nextTask,
+                            final List<Throwable> failures)
+  {
+    int taskIndex;
+    while ((taskIndex = nextTask.getAndIncrement()) < taskEntries.size())
+    {
+      final String taskName = taskEntries.get(taskIndex).getKey();
+      final RetrievalTask task = taskEntries.get(taskIndex).getValue();
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Retrieving <%s> on thread <%s>",
+                                  taskName,
+                                  Thread.currentThread().getName()));
+      try
+      {
+        final StopWatch stopWatch = new StopWatch(taskName);
+        task.retrieve(taskRetrieverConnection, stopWatch);
+        LOGGER.log(Level.INFO, stopWatch.stringify());
+      }
+      catch (final Exception e)
+      {
+        failures.add(e);
+      }
+    }
+  }
+
+}
@@ -56,6 +56,19 @@ final class RetrieverConnection
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(RetrieverConnection.class.getName());
 
+  /**
+   * Phases with an automatic retrieval strategy that has not been
+   * resolved by probing fall back to metadata retrieval.
+   */
+  private static MetadataRetrievalStrategy resolve(final MetadataRetrievalStrategy retrievalStrategy)
+  {
+    if (retrievalStrategy == MetadataRetrievalStrategy.auto)
+    {
+      return MetadataRetrievalStrategy.metadata;
+    }
+    return retrievalStrategy;
+  }
+
   private final Connection connection;
   private final DatabaseMetaData metaData;
   private final SchemaRetrievalOptions schemaRetrievalOptions;
@@ -88,22 +101,22 @@ final class RetrieverConnection
 
   MetadataRetrievalStrategy getForeignKeyRetrievalStrategy()
   {
-    return schemaRetrievalOptions.getForeignKeyRetrievalStrategy();
+    return resolve(schemaRetrievalOptions.getForeignKeyRetrievalStrategy());
   }
 
   MetadataRetrievalStrategy getFunctionColumnRetrievalStrategy()
   {
-    return schemaRetrievalOptions.getFunctionColumnRetrievalStrategy();
+    return resolve(schemaRetrievalOptions.getFunctionColumnRetrievalStrategy());
   }
 
   MetadataRetrievalStrategy getFunctionRetrievalStrategy()
   {
-    return schemaRetrievalOptions.getFunctionRetrievalStrategy();
+    return resolve(schemaRetrievalOptions.getFunctionRetrievalStrategy());
   }
 
   MetadataRetrievalStrategy getIndexRetrievalStrategy()
   {
-    return schemaRetrievalOptions.getIndexRetrievalStrategy();
+    return resolve(schemaRetrievalOptions.getIndexRetrievalStrategy());
   }
 
   /**
@@ -128,27 +141,32 @@ final class RetrieverConnection
 
   MetadataRetrievalStrategy getPrimaryKeyRetrievalStrategy()
   {
-    return schemaRetrievalOptions.getPrimaryKeyRetrievalStrategy();
+    return resolve(schemaRetrievalOptions.getPrimaryKeyRetrievalStrategy());
   }
 
   MetadataRetrievalStrategy getProcedureColumnRetrievalStrategy()
   {
-    return schemaRetrievalOptions.getProcedureColumnRetrievalStrategy();
+    return resolve(schemaRetrievalOptions.getProcedureColumnRetrievalStrategy());
   }
 
   MetadataRetrievalStrategy getProcedureRetrievalStrategy()
   {
-    return schemaRetrievalOptions.getProcedureRetrievalStrategy();
+    return resolve(schemaRetrievalOptions.getProcedureRetrievalStrategy());
   }
 
   MetadataRetrievalStrategy getTableColumnRetrievalStrategy()
   {
-    return schemaRetrievalOptions.getTableColumnRetrievalStrategy();
+    return resolve(schemaRetrievalOptions.getTableColumnRetrievalStrategy());
   }
 
   MetadataRetrievalStrategy getTableRetrievalStrategy()
   {
-    return schemaRetrievalOptions.getTableRetrievalStrategy();
+    return resolve(schemaRetrievalOptions.getTableRetrievalStrategy());
+  }
+
+  SchemaRetrievalOptions getSchemaRetrievalOptions()
+  {
+    return schemaRetrievalOptions;
   }
 
   TableTypes getTableTypes()
@@ -91,7 +91,8 @@ final class RoutineExtRetriever
       .getQuery(InformationSchemaKey.ROUTINES);
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
-        final MetadataResultSet results = new MetadataResultSet(routineDefinitionsSql,
+        final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                routineDefinitionsSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
     {
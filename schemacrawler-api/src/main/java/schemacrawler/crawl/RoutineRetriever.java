@@ -267,7 +267,8 @@ final class RoutineRetriever
       .getQuery(InformationSchemaKey.FUNCTIONS);
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
-        final MetadataResultSet results = new MetadataResultSet(functionsSql,
+        final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                functionsSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
     {
@@ -295,7 +296,8 @@ final class RoutineRetriever
       final String catalogName = schema.getCatalogName();
       final String schemaName = schema.getName();
 
-      try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+      try (final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                   getMetaData()
         .getFunctions(catalogName, schemaName, "%"));)
       {
         results.setDescription("retrieveFunctionsFromMetadata");
@@ -325,7 +327,8 @@ final class RoutineRetriever
                                                             final InclusionRuleFilter<Function> functionFilter)
     throws SQLException
   {
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+    try (final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                 getMetaData()
       .getFunctions(null, null, "%"));)
     {
       results.setDescription("retrieveFunctionsFromMetadataForAllFunctions");
@@ -364,7 +367,8 @@ final class RoutineRetriever
       .getQuery(InformationSchemaKey.PROCEDURES);
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
-        final MetadataResultSet results = new MetadataResultSet(proceduresSql,
+        final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                proceduresSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
     {
@@ -393,7 +397,8 @@ final class RoutineRetriever
       final String catalogName = schema.getCatalogName();
       final String schemaName = schema.getName();
 
-      try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+      try (final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                   getMetaData()
         .getProcedures(catalogName, schemaName, "%"));)
       {
         results.setDescription("retrieveProceduresFromMetadata");
@@ -413,7 +418,8 @@ final class RoutineRetriever
                                                               final InclusionRuleFilter<Procedure> procedureFilter)
     throws SQLException
   {
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+    try (final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                 getMetaData()
       .getProcedures(null, null, "%"));)
     {
       results.setDescription("retrieveProceduresFromMetadataForAllProcedures");
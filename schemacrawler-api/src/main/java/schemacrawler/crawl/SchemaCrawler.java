@@ -35,8 +35,16 @@ import static schemacrawler.filter.ReducerFactory.*;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
+import schemacrawler.filter.InclusionRuleFilter;
 import schemacrawler.schema.*;
 import schemacrawler.schemacrawler.*;
 import sf.util.SchemaCrawlerLogger;
@@ -55,6 +63,173 @@ public final class SchemaCrawler
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(SchemaCrawler.class.getName());
 
+  private static void crawlChangedTables(final MutableCatalog catalog,
+                                         final RetrieverConnection retrieverConnection,
+                                         final Supplier<Connection> connectionSupplier,
+                                         final SchemaCrawlerOptions options)
+    throws SchemaCrawlerException
+  {
+    final StopWatch stopWatch = new StopWatch("crawlChangedTables");
+
+    LOGGER.log(Level.INFO, "Crawling changed tables");
+
+    try
+    {
+      final TableChangeRetriever changeRetriever = new TableChangeRetriever(retrieverConnection,
+                                                                            catalog,
+                                                                            options);
+      final NamedObjectList<SchemaReference> schemas = catalog
+        .getAllSchemas();
+      final InclusionRuleFilter<Table> tableFilter = new InclusionRuleFilter<>(options
+        .getTableInclusionRule(), false);
+      final Set<String> changedTableNames = new HashSet<>();
+      final Map<List<String>, String> currentChangeTokens = new HashMap<>();
+
+      stopWatch.time("findChangedTables", () -> {
+        currentChangeTokens.putAll(changeRetriever.retrieveChangeTokens());
+        final Map<List<String>, String> changeTokens = new HashMap<>(
+          currentChangeTokens);
+        // Tables that have a different change token, or that no
+        // longer have a change token are crawled again, and removed
+        // if they cannot be found
+        for (final MutableTable table: catalog.getAllTables().values())
+        {
+          final String changeToken = changeTokens
+            .remove(table.toUniqueLookupKey());
+          final String previousChangeToken = table
+            .getAttribute(TableChangeRetriever.CHANGE_TOKEN, null);
+          if (changeToken == null || !changeToken.equals(previousChangeToken))
+          {
+            changedTableNames.add(table.getFullName());
+            catalog.removeTable(table);
+          }
+        }
+        // Tables that remain are new, and are crawled if they are in a
+        // schema that was crawled previously
+        for (final List<String> tableKey: changeTokens.keySet())
+        {
+          final Optional<SchemaReference> optionalSchema = schemas
+            .lookup(tableKey.subList(0, 2));
+          if (!optionalSchema.isPresent())
+          {
+            continue;
+          }
+          final MutableTable table = new MutableTable(optionalSchema.get(),
+                                                      tableKey.get(2));
+          if (tableFilter.test(table))
+          {
+            changedTableNames.add(table.getFullName());
+          }
+        }
+        return null;
+      });
+
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Found %d changed tables",
+                                  changedTableNames.size()));
+      if (changedTableNames.isEmpty())
+      {
+        return;
+      }
+
+      // Crawl changed tables into a separate catalog, that shares
+      // schemas and column data types with the previous catalog
+      final MutableCatalog changedCatalog = new MutableCatalog("changed");
+      for (final SchemaReference schema: schemas)
+      {
+        changedCatalog.addSchema(schema);
+      }
+      for (final MutableColumnDataType columnDataType: catalog
+        .getAllColumnDataTypes())
+      {
+        changedCatalog.addColumnDataType(columnDataType);
+      }
+
+      // Foreign keys are retrieved once the changed tables are back in
+      // the previous catalog, so that they can refer to unchanged tables
+      final SchemaInfoLevel infoLevel = options.getSchemaInfoLevel();
+      final SchemaCrawlerOptions changedTablesOptions = SchemaCrawlerOptionsBuilder
+        .builder().fromOptions(options)
+        .includeTables(tableFullName -> changedTableNames
+          .contains(tableFullName))
+        .withSchemaInfoLevel(SchemaInfoLevelBuilder.builder()
+          .fromOptions(infoLevel).setRetrieveForeignKeys(false))
+        .toOptions();
+      // Change tokens were retrieved when finding changed tables, so
+      // they are not retrieved again
+      crawlTables(changedCatalog,
+                  retrieverConnection,
+                  connectionSupplier,
+                  changedTablesOptions,
+                  false);
+      new TableChangeRetriever(retrieverConnection, changedCatalog, options)
+        .setTableChangeTokens(currentChangeTokens);
+
+      final NamedObjectList<MutableTable> changedTables = changedCatalog
+        .getAllTables();
+      stopWatch.time("mergeChangedTables", () -> {
+        for (final MutableTable table: changedTables)
+        {
+          catalog.addTable(table);
+        }
+        for (final MutableColumnDataType columnDataType: changedCatalog
+          .getAllColumnDataTypes())
+        {
+          catalog.addColumnDataType(columnDataType);
+        }
+        for (final Map.Entry<String, String> retrievalStrategyProbe: changedCatalog
+          .getRetrievalStrategyProbes().entrySet())
+        {
+          catalog.addRetrievalStrategyProbe(retrievalStrategyProbe.getKey(),
+                                            retrievalStrategyProbe
+                                              .getValue());
+        }
+        return null;
+      });
+
+      stopWatch.time("retrieveForeignKeys", () -> {
+        if (infoLevel.isRetrieveForeignKeys()
+            && infoLevel.isRetrieveTableColumns())
+        {
+          final ForeignKeyRetriever fkRetriever = new ForeignKeyRetriever(retrieverConnection,
+                                                                          catalog,
+                                                                          options);
+          fkRetriever.retrieveForeignKeys(changedTables);
+          if (infoLevel.isRetrieveForeignKeyDefinitions())
+          {
+            fkRetriever.retrieveForeignKeyDefinitions(changedTables);
+          }
+        }
+        return null;
+      });
+
+      stopWatch.time("filterAndSortTables", () -> {
+        catalog.reduce(Table.class, getTableReducer(options));
+
+        final TablesGraph tablesGraph = new TablesGraph(catalog
+          .getAllTables());
+        tablesGraph.setTablesSortIndexes();
+
+        return null;
+      });
+
+      LOGGER.log(Level.INFO, stopWatch.stringify());
+    }
+    catch (final SchemaCrawlerSQLException e)
+    {
+      throw new SchemaCrawlerException(e.getMessage(), e.getCause());
+    }
+    catch (final SchemaCrawlerException e)
+    {
+      throw e;
+    }
+    catch (final Exception e)
+    {
+      throw new SchemaCrawlerException("Exception retrieving changed table information",
+                                       e);
+    }
+  }
+
   private static void crawlColumnDataTypes(final MutableCatalog catalog,
                                            final RetrieverConnection retrieverConnection,
                                            final SchemaCrawlerOptions options)
@@ -501,7 +676,9 @@ public final class SchemaCrawler
 
   private static void crawlTables(final MutableCatalog catalog,
                                   final RetrieverConnection retrieverConnection,
-                                  final SchemaCrawlerOptions options)
+                                  final Supplier<Connection> connectionSupplier,
+                                  final SchemaCrawlerOptions options,
+                                  final boolean retrieveTableChangeTokens)
     throws SchemaCrawlerException
   {
 
@@ -523,35 +700,57 @@ public final class SchemaCrawler
       final TableRetriever retriever = new TableRetriever(retrieverConnection,
                                                           catalog,
                                                           options);
-      final TableColumnRetriever columnRetriever = new TableColumnRetriever(
-        retrieverConnection,
-        catalog,
-        options);
-      final IndexRetriever indexRetriever = new IndexRetriever(
-        retrieverConnection,
-        catalog,
-        options);
-      final ForeignKeyRetriever fkRetriever = new ForeignKeyRetriever(
-        retrieverConnection,
-        catalog,
-        options);
-      final TableConstraintRetriever constraintRetriever = new TableConstraintRetriever(
-        retrieverConnection,
-        catalog,
-        options);
-      final TableExtRetriever retrieverExtra = new TableExtRetriever(
-        retrieverConnection,
-        catalog,
-        options);
+
+      // Additional connections are shared by all retrieval phases,
+      // including shards within phases that run in parallel
+      final RetrievalConnections retrievalConnections = new RetrievalConnections(connectionSupplier,
+                                                                                 retrieverConnection
+                                                                                   .getSchemaRetrievalOptions()
+                                                                                   .getRetrievalParallelism());
+      final SchemaShards schemaShards = new SchemaShards(retrieverConnection,
+                                                         retrievalConnections,
+                                                         catalog
+                                                           .getAllSchemas());
 
       stopWatch.time("retrieveTables", () -> {
         LOGGER.log(Level.INFO, "Retrieving table names");
-        final NamedObjectList<SchemaReference> schemas = retriever
-          .getAllSchemas();
-        retriever.retrieveTables(schemas,
-                                 options.getTableNamePattern(),
-                                 options.getTableTypes(),
-                                 options.getTableInclusionRule());
+        if (schemaShards
+          .canShard(retrieverConnection.getTableRetrievalStrategy()))
+        {
+          schemaShards.retrieve("retrieveTables",
+                                (shardConnection, shardSchemas) -> {
+                                  // Retrieve into a separate catalog, and
+                                  // merge tables when done
+                                  final MutableCatalog shardCatalog = new MutableCatalog("shard");
+                                  new TableRetriever(shardConnection,
+                                                     shardCatalog,
+                                                     options)
+                                                       .retrieveTables(shardSchemas,
+                                                                       options
+                                                                         .getTableNamePattern(),
+                                                                       options
+                                                                         .getTableTypes(),
+                                                                       options
+                                                                         .getTableInclusionRule());
+                                  synchronized (catalog)
+                                  {
+                                    for (final MutableTable table: shardCatalog
+                                      .getAllTables())
+                                    {
+                                      catalog.addTable(table);
+                                    }
+                                  }
+                                });
+        }
+        else
+        {
+          final NamedObjectList<SchemaReference> schemas = retriever
+            .getAllSchemas();
+          retriever.retrieveTables(schemas,
+                                   options.getTableNamePattern(),
+                                   options.getTableTypes(),
+                                   options.getTableInclusionRule());
+        }
         return null;
       });
 
@@ -563,23 +762,56 @@ public final class SchemaCrawler
         return;
       }
 
+      // Choose retrieval strategies for phases that are set to choose
+      // automatically, and use them for the rest of the crawl
+      final RetrievalStrategyProbe strategyProbe = new RetrievalStrategyProbe(retrieverConnection,
+                                                                              catalog,
+                                                                              options);
+      final RetrieverConnection columnRetrieverConnection = stopWatch
+        .time("probeColumnRetrievalStrategy",
+              () -> strategyProbe.probeTableColumns(allTables));
+
       stopWatch.time("retrieveColumns", () -> {
         LOGGER.log(Level.INFO, "Retrieving table columns");
         if (infoLevel.isRetrieveTableColumns())
         {
-          columnRetriever
-            .retrieveTableColumns(allTables, options.getColumnInclusionRule());
+          if (schemaShards
+            .canShard(columnRetrieverConnection
+              .getTableColumnRetrievalStrategy()))
+          {
+            schemaShards
+              .retrieve("retrieveColumns", (shardConnection, shardSchemas) -> {
+                new TableColumnRetriever(shardConnection, catalog, options)
+                  .retrieveTableColumns(SchemaShards
+                    .tablesInShard(allTables, shardSchemas),
+                                        options.getColumnInclusionRule());
+              });
+          }
+          else
+          {
+            strategyProbe.retrieveTableColumns(columnRetrieverConnection,
+                                               allTables);
+          }
         }
         return null;
       });
 
+      final RetrieverConnection probedRetrieverConnection = stopWatch
+        .time("probeKeyRetrievalStrategies",
+              () -> strategyProbe.probeTableKeys(allTables));
+      final ForeignKeyRetriever fkRetriever = new ForeignKeyRetriever(
+        probedRetrieverConnection,
+        catalog,
+        options);
+
       stopWatch.time("retrieveForeignKeys", () -> {
         LOGGER.log(Level.INFO, "Retrieving foreign keys");
         if (infoLevel.isRetrieveForeignKeys())
         {
           if (infoLevel.isRetrieveTableColumns())
           {
-            fkRetriever.retrieveForeignKeys(allTables);
+            strategyProbe.retrieveForeignKeys(probedRetrieverConnection,
+                                              allTables);
             if (infoLevel.isRetrieveForeignKeyDefinitions())
             {
               fkRetriever.retrieveForeignKeyDefinitions(allTables);
@@ -606,102 +838,174 @@ public final class SchemaCrawler
         return null;
       });
 
-      stopWatch.time("retrieveIndexes", () -> {
-        LOGGER.log(Level.INFO, "Retrieving primary keys and indexes");
-        if (infoLevel.isRetrieveTableColumns())
-        {
-          if (infoLevel.isRetrieveIndexes())
+      // Indexes, table constraints, and other table information are
+      // independent of each other, and write to different parts of
+      // the catalog, so they can be retrieved at the same time
+      final RetrievalTaskExecutor taskExecutor = new RetrievalTaskExecutor(probedRetrieverConnection,
+                                                                           retrievalConnections);
+
+      taskExecutor.add("retrieveIndexes", (taskConnection, taskStopWatch) -> {
+        final TableExtRetriever indexRetrieverExtra = new TableExtRetriever(taskConnection,
+                                                                            catalog,
+                                                                            options);
+        final SchemaShards indexSchemaShards = new SchemaShards(taskConnection,
+                                                                retrievalConnections,
+                                                                catalog
+                                                                  .getAllSchemas());
+        taskStopWatch.time("retrieveIndexes", () -> {
+          LOGGER.log(Level.INFO, "Retrieving primary keys and indexes");
+          if (infoLevel.isRetrieveTableColumns())
           {
-            indexRetriever.retrieveIndexes(allTables);
+            if (infoLevel.isRetrieveIndexes())
+            {
+              if (indexSchemaShards
+                .canShard(taskConnection.getIndexRetrievalStrategy()))
+              {
+                indexSchemaShards
+                  .retrieve("retrieveIndexes",
+                            (shardConnection, shardSchemas) -> {
+                              new IndexRetriever(shardConnection,
+                                                 catalog,
+                                                 options)
+                                                   .retrieveIndexes(SchemaShards
+                                                     .tablesInShard(allTables,
+                                                                    shardSchemas));
+                            });
+              }
+              else
+              {
+                strategyProbe.retrieveIndexes(taskConnection, allTables);
+              }
+            }
+            // Setting primary keys will use indexes with a similar
+            // name, if available
+            if (indexSchemaShards
+              .canShard(taskConnection.getPrimaryKeyRetrievalStrategy()))
+            {
+              indexSchemaShards
+                .retrieve("retrievePrimaryKeys",
+                          (shardConnection, shardSchemas) -> {
+                            new IndexRetriever(shardConnection,
+                                               catalog,
+                                               options)
+                                                 .retrievePrimaryKeys(SchemaShards
+                                                   .tablesInShard(allTables,
+                                                                  shardSchemas));
+                          });
+            }
+            else
+            {
+              strategyProbe.retrievePrimaryKeys(taskConnection, allTables);
+            }
+            if (infoLevel.isRetrievePrimaryKeyDefinitions())
+            {
+              indexRetrieverExtra.retrievePrimaryKeyDefinitions(allTables);
+            }
           }
-          // Setting primary keys will use indexes with a similar name,
-          // if available
-          indexRetriever.retrievePrimaryKeys(allTables);
-          if (infoLevel.isRetrievePrimaryKeyDefinitions())
+          return null;
+        });
+        taskStopWatch.time("retrieveIndexInformation", () -> {
+          if (infoLevel.isRetrieveIndexInformation())
           {
-            retrieverExtra.retrievePrimaryKeyDefinitions(allTables);
+            indexRetrieverExtra.retrieveIndexInformation();
+            if (infoLevel.isRetrieveIndexColumnInformation())
+            {
+              indexRetrieverExtra.retrieveIndexColumnInformation();
+            }
           }
-        }
-        return null;
+          return null;
+        });
       });
 
-      LOGGER.log(Level.INFO, "Retrieving additional table information");
-      stopWatch.time("retrieveTableConstraintInformation", () -> {
-        if (infoLevel.isRetrieveTableConstraintInformation())
-        {
-          constraintRetriever.retrieveTableConstraintInformation();
-        }
-        return null;
-      });
-      stopWatch.time("isRetrieveTableConstraintDefinitions", () -> {
-        if (infoLevel.isRetrieveTableConstraintDefinitions())
-        {
-          constraintRetriever.retrieveTableConstraintDefinitions();
-        }
-        return null;
-      });
-      stopWatch.time("retrieveTriggerInformation", () -> {
-        if (infoLevel.isRetrieveTriggerInformation())
-        {
-          retrieverExtra.retrieveTriggerInformation();
-        }
-        return null;
-      });
-      stopWatch.time("retrieveViewInformation", () -> {
-        if (infoLevel.isRetrieveViewInformation())
-        {
-          retrieverExtra.retrieveViewInformation();
-        }
-        return null;
-      });
-      stopWatch.time("retrieveTableDefinitions", () -> {
-        if (infoLevel.isRetrieveTableDefinitionsInformation())
-        {
-          retrieverExtra.retrieveTableDefinitions();
-        }
-        return null;
-      });
-      stopWatch.time("retrieveIndexInformation", () -> {
-        if (infoLevel.isRetrieveIndexInformation())
-        {
-          retrieverExtra.retrieveIndexInformation();
-          if (infoLevel.isRetrieveIndexColumnInformation())
-          {
-            retrieverExtra.retrieveIndexColumnInformation();
-          }
-        }
-        return null;
-      });
+      taskExecutor
+        .add("retrieveTableConstraints", (taskConnection, taskStopWatch) -> {
+          final TableConstraintRetriever constraintRetriever = new TableConstraintRetriever(taskConnection,
+                                                                                            catalog,
+                                                                                            options);
+          taskStopWatch.time("retrieveTableConstraintInformation", () -> {
+            if (infoLevel.isRetrieveTableConstraintInformation())
+            {
+              constraintRetriever.retrieveTableConstraintInformation();
+            }
+            return null;
+          });
+          taskStopWatch.time("isRetrieveTableConstraintDefinitions", () -> {
+            if (infoLevel.isRetrieveTableConstraintDefinitions())
+            {
+              constraintRetriever.retrieveTableConstraintDefinitions();
+            }
+            return null;
+          });
+        });
+
+      taskExecutor
+        .add("retrieveTableInformation", (taskConnection, taskStopWatch) -> {
+          final TableExtRetriever retrieverExtra = new TableExtRetriever(taskConnection,
+                                                                         catalog,
+                                                                         options);
+          taskStopWatch.time("retrieveTriggerInformation", () -> {
+            if (infoLevel.isRetrieveTriggerInformation())
+            {
+              retrieverExtra.retrieveTriggerInformation();
+            }
+            return null;
+          });
+          taskStopWatch.time("retrieveViewInformation", () -> {
+            if (infoLevel.isRetrieveViewInformation())
+            {
+              retrieverExtra.retrieveViewInformation();
+            }
+            return null;
+          });
+          taskStopWatch.time("retrieveTableDefinitions", () -> {
+            if (infoLevel.isRetrieveTableDefinitionsInformation())
+            {
+              retrieverExtra.retrieveTableDefinitions();
+            }
+            return null;
+          });
 
-      stopWatch.time("retrieveAdditionalTableAttributes", () -> {
-        if (infoLevel.isRetrieveAdditionalTableAttributes())
-        {
-          retrieverExtra.retrieveAdditionalTableAttributes();
-        }
-        return null;
-      });
-      stopWatch.time("retrieveTablePrivileges", () -> {
-        if (infoLevel.isRetrieveTablePrivileges())
-        {
-          retrieverExtra.retrieveTablePrivileges();
-        }
-        return null;
-      });
+          taskStopWatch.time("retrieveAdditionalTableAttributes", () -> {
+            if (infoLevel.isRetrieveAdditionalTableAttributes())
+            {
+              retrieverExtra.retrieveAdditionalTableAttributes();
+            }
+            return null;
+          });
+          taskStopWatch.time("retrieveTableChangeTokens", () -> {
+            if (retrieveTableChangeTokens)
+            {
+              new TableChangeRetriever(taskConnection, catalog, options)
+                .retrieveTableChangeTokens();
+            }
+            return null;
+          });
+          taskStopWatch.time("retrieveTablePrivileges", () -> {
+            if (infoLevel.isRetrieveTablePrivileges())
+            {
+              retrieverExtra.retrieveTablePrivileges();
+            }
+            return null;
+          });
 
-      stopWatch.time("retrieveAdditionalColumnAttributes", () -> {
-        if (infoLevel.isRetrieveAdditionalColumnAttributes())
-        {
-          retrieverExtra.retrieveAdditionalColumnAttributes();
-        }
-        return null;
-      });
-      stopWatch.time("retrieveTableColumnPrivileges", () -> {
-        if (infoLevel.isRetrieveTableColumnPrivileges())
-        {
-          retrieverExtra.retrieveTableColumnPrivileges();
-        }
-        return null;
-      });
+          taskStopWatch.time("retrieveAdditionalColumnAttributes", () -> {
+            if (infoLevel.isRetrieveAdditionalColumnAttributes())
+            {
+              retrieverExtra.retrieveAdditionalColumnAttributes();
+            }
+            return null;
+          });
+          taskStopWatch.time("retrieveTableColumnPrivileges", () -> {
+            if (infoLevel.isRetrieveTableColumnPrivileges())
+            {
+              retrieverExtra.retrieveTableColumnPrivileges();
+            }
+            return null;
+          });
+        });
+
+      LOGGER.log(Level.INFO, "Retrieving additional table information");
+      taskExecutor.execute(stopWatch);
 
       LOGGER.log(Level.INFO, stopWatch.stringify());
     }
@@ -721,6 +1025,7 @@ public final class SchemaCrawler
   }
 
   private final Connection connection;
+  private final Supplier<Connection> connectionSupplier;
   private final SchemaRetrievalOptions schemaRetrievalOptions;
   private final SchemaCrawlerOptions schemaCrawlerOptions;
 
@@ -734,8 +1039,33 @@ public final class SchemaCrawler
   public SchemaCrawler(final Connection connection,
                        final SchemaRetrievalOptions schemaRetrievalOptions,
                        final SchemaCrawlerOptions schemaCrawlerOptions)
+  {
+    this(connection,
+         null,
+         schemaRetrievalOptions,
+         schemaCrawlerOptions);
+  }
+
+  /**
+   * Constructs a SchemaCrawler object, from a connection, and a source
+   * of additional connections. Additional connections are used to run
+   * independent retrieval phases at the same time, up to the degree of
+   * parallelism in the schema retrieval options, and are closed once
+   * each phase is complete. The primary connection is not closed.
+   *
+   * @param connection             An database connection.
+   * @param connectionSupplier     Source of additional database connections,
+   *                               such as a connection pool, or null
+   * @param schemaRetrievalOptions Database-specific schema retrieval overrides
+   * @param schemaCrawlerOptions   SchemaCrawler options
+   */
+  public SchemaCrawler(final Connection connection,
+                       final Supplier<Connection> connectionSupplier,
+                       final SchemaRetrievalOptions schemaRetrievalOptions,
+                       final SchemaCrawlerOptions schemaCrawlerOptions)
   {
     this.connection = requireNonNull(connection, "No connection specified");
+    this.connectionSupplier = connectionSupplier;
     this.schemaRetrievalOptions = requireNonNull(schemaRetrievalOptions,
                                                  "No database-specific schema retrieval overrides provided");
     this.schemaCrawlerOptions = requireNonNull(schemaCrawlerOptions,
@@ -750,6 +1080,90 @@ public final class SchemaCrawler
    */
   public Catalog crawl()
     throws SchemaCrawlerException
+  {
+    return crawl(schemaRetrievalOptions.isRetrieveTableChangeTokens());
+  }
+
+  /**
+   * Crawls the database incrementally, starting from a catalog that was
+   * obtained from an earlier crawl. The data dictionary is asked which
+   * tables have changed since then, and only changed, new and dropped
+   * tables are crawled again, and patched into the previous catalog.
+   * Other database objects, such as routines and sequences, are left as
+   * they are. If the database does not provide table changes, or the
+   * options need all tables to be crawled, such as when tables are
+   * filtered by grep or by parent and child tables, a full crawl is done
+   * instead.
+   *
+   * @param previousCatalog
+   *        Catalog from an earlier crawl with the same options, which
+   *        is updated in place
+   * @return Database metadata
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public Catalog crawl(final Catalog previousCatalog)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(previousCatalog, "No previous catalog provided");
+
+    Catalog undecoratedCatalog = previousCatalog;
+    while (undecoratedCatalog instanceof BaseCatalogDecorator)
+    {
+      undecoratedCatalog = ((BaseCatalogDecorator) undecoratedCatalog)
+        .getDecoratedCatalog();
+    }
+    if (!(undecoratedCatalog instanceof MutableCatalog)
+        || !canCrawlIncrementally(schemaCrawlerOptions))
+    {
+      LOGGER.log(Level.INFO,
+                 "Cannot crawl tables incrementally, so crawling the full catalog");
+      return crawl(true);
+    }
+
+    final MutableCatalog catalog = (MutableCatalog) undecoratedCatalog;
+    try
+    {
+      final RetrieverConnection retrieverConnection = new RetrieverConnection(
+        connection,
+        schemaRetrievalOptions);
+
+      final TableChangeRetriever changeRetriever = new TableChangeRetriever(retrieverConnection,
+                                                                            catalog,
+                                                                            schemaCrawlerOptions);
+      if (!changeRetriever.canRetrieveTableChanges())
+      {
+        LOGGER.log(Level.INFO,
+                   "Table changes SQL statement was not provided, so crawling the full catalog");
+        return crawl(true);
+      }
+
+      crawlChangedTables(catalog,
+                         retrieverConnection,
+                         connectionSupplier,
+                         schemaCrawlerOptions);
+      catalog.setCrawlInfo();
+      LOGGER.log(Level.INFO, String.format("%n%s", catalog.getCrawlInfo()));
+
+      return catalog;
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerException("Database access exception", e);
+    }
+  }
+
+  private boolean canCrawlIncrementally(final SchemaCrawlerOptions options)
+  {
+    return options.getSchemaInfoLevel().isRetrieveTables()
+           && !options.isGrepColumns() && !options.isGrepDefinitions()
+           && !options.isNoEmptyTables()
+           && options.getChildTableFilterDepth() <= 0
+           && options.getParentTableFilterDepth() <= 0;
+  }
+
+  private Catalog crawl(final boolean retrieveTableChangeTokens)
+    throws SchemaCrawlerException
   {
     final MutableCatalog catalog = new MutableCatalog("catalog");
     try
@@ -763,7 +1177,11 @@ public final class SchemaCrawler
 
       crawlSchemas(catalog, retrieverConnection, schemaCrawlerOptions);
       crawlColumnDataTypes(catalog, retrieverConnection, schemaCrawlerOptions);
-      crawlTables(catalog, retrieverConnection, schemaCrawlerOptions);
+      crawlTables(catalog,
+                  retrieverConnection,
+                  connectionSupplier,
+                  schemaCrawlerOptions,
+                  retrieveTableChangeTokens);
       crawlRoutines(catalog, retrieverConnection, schemaCrawlerOptions);
       crawlSynonyms(catalog, retrieverConnection, schemaCrawlerOptions);
       crawlSequences(catalog, retrieverConnection, schemaCrawlerOptions);
@@ -177,7 +177,8 @@ final class SchemaRetriever
     if (supportsSchemas)
     {
       int numSchemas = 0;
-      try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+      try (final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                   getMetaData()
         .getSchemas());)
       {
         results.setDescription("retrieveAllSchemas");
@@ -248,7 +249,8 @@ final class SchemaRetriever
     final Connection connection = getDatabaseConnection();
 
     try (final Statement statement = connection.createStatement();
-        final MetadataResultSet results = new MetadataResultSet(schemataSql,
+        final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                schemataSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
     {
@@ -0,0 +1,176 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+
+import schemacrawler.schema.SchemaReference;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StopWatch;
+import sf.util.StringFormat;
+
+/**
+ * Splits schemas into shards, so that retrieval phases which make one
+ * metadata call per schema or per table can be run on several worker
+ * threads, each with its own connection. Tables belong to exactly one
+ * schema, so retrievers in different shards never write to the same
+ * table.
+ *
+ * @author Sualeh Fatehi
+ */
+final class SchemaShards
+{
+
+  @FunctionalInterface
+  interface ShardRetrievalTask
+  {
+
+    void retrieve(RetrieverConnection retrieverConnection,
+                  NamedObjectList<SchemaReference> shardSchemas)
+      throws Exception;
+
+  }
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(SchemaShards.class.getName());
+
+  /**
+   * Gets the tables that belong to the schemas in a shard.
+   *
+   * @param allTables
+   *        All tables
+   * @param shardSchemas
+   *        Schemas in a shard
+   * @return Tables in the shard
+   */
+  static NamedObjectList<MutableTable> tablesInShard(final NamedObjectList<MutableTable> allTables,
+                                                      final NamedObjectList<SchemaReference> shardSchemas)
+  {
+    final NamedObjectList<MutableTable> shardTables = new NamedObjectList<>();
+    for (final MutableTable table: allTables)
+    {
+      if (shardSchemas.contains(table.getSchema()))
+      {
+        shardTables.add(table);
+      }
+    }
+    return shardTables;
+  }
+
+  private final RetrieverConnection retrieverConnection;
+  private final RetrievalConnections retrievalConnections;
+  private final NamedObjectList<SchemaReference> schemas;
+
+  SchemaShards(final RetrieverConnection retrieverConnection,
+               final RetrievalConnections retrievalConnections,
+               final NamedObjectList<SchemaReference> schemas)
+  {
+    this.retrieverConnection = retrieverConnection;
+    this.retrievalConnections = retrievalConnections;
+    this.schemas = schemas;
+  }
+
+  /**
+   * Checks whether a retrieval phase that uses the provided strategy
+   * can be split into shards. Only per-schema and per-table metadata
+   * retrieval benefits from sharding, since other strategies retrieve
+   * all objects in a single query.
+   *
+   * @param retrievalStrategy
+   *        Retrieval strategy for the phase
+   * @return Whether to retrieve in shards
+   */
+  boolean canShard(final MetadataRetrievalStrategy retrievalStrategy)
+  {
+    return retrievalConnections.isAvailable()
+           && retrieverConnection.getSchemaRetrievalOptions()
+             .getRetrievalParallelism() > 1
+           && retrievalStrategy == MetadataRetrievalStrategy.metadata
+           && schemas.size() > 1;
+  }
+
+  /**
+   * Runs a retrieval task for each shard of schemas, and waits for all
+   * of them to complete. Shards run one after another on the current
+   * connection if no additional connections can be reserved.
+   *
+   * @param taskName
+   *        Name of the retrieval phase, for logging
+   * @param task
+   *        Retrieval task to run for each shard
+   * @throws Exception
+   *         On an exception in any of the shards
+   */
+  void retrieve(final String taskName, final ShardRetrievalTask task)
+    throws Exception
+  {
+    final List<NamedObjectList<SchemaReference>> shards = shard();
+    LOGGER.log(Level.INFO,
+               new StringFormat("Retrieving <%s> for %d schemas in %d shards",
+                                taskName,
+                                schemas.size(),
+                                shards.size()));
+
+    final RetrievalTaskExecutor taskExecutor = new RetrievalTaskExecutor(retrieverConnection,
+                                                                         retrievalConnections);
+    for (int i = 0; i < shards.size(); i++)
+    {
+      final NamedObjectList<SchemaReference> shardSchemas = shards.get(i);
+      taskExecutor.add(String.format("%s-shard-%d", taskName, i + 1),
+                       (taskConnection, taskStopWatch) -> task
+                         .retrieve(taskConnection, shardSchemas));
+    }
+    taskExecutor.execute(new StopWatch(taskName));
+  }
+
+  /**
+   * Splits schemas into as many shards as the degree of parallelism,
+   * assigning schemas in sort order, one to each shard in turn.
+   */
+  private List<NamedObjectList<SchemaReference>> shard()
+  {
+    final int shardCount = Math.min(retrieverConnection
+      .getSchemaRetrievalOptions().getRetrievalParallelism(), schemas.size());
+    final List<NamedObjectList<SchemaReference>> shards = new ArrayList<>();
+    for (int i = 0; i < shardCount; i++)
+    {
+      shards.add(new NamedObjectList<>());
+    }
+    int i = 0;
+    for (final SchemaReference schema: schemas)
+    {
+      shards.get(i % shardCount).add(schema);
+      i++;
+    }
+    return shards;
+  }
+
+}
@@ -107,7 +107,8 @@ final class SequenceRetriever
     final Connection connection = getDatabaseConnection();
 
     try (final Statement statement = connection.createStatement();
-        final MetadataResultSet results = new MetadataResultSet(sequencesDefinitionSql,
+        final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                sequencesDefinitionSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
     {
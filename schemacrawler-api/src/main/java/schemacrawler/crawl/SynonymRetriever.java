@@ -108,7 +108,8 @@ final class SynonymRetriever
       .getQuery(InformationSchemaKey.EXT_SYNONYMS);
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
-        MetadataResultSet results = new MetadataResultSet(synonymsDefinitionSql,
+        MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                          synonymsDefinitionSql,
                                                           statement,
                                                           getSchemaInclusionRule());)
     {
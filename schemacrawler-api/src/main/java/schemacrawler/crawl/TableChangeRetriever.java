@@ -0,0 +1,185 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Level;
+
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerSQLException;
+import schemacrawler.utility.Query;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * A retriever that uses the data dictionary to find out when tables
+ * were last changed. Each table gets a change token, such as the time
+ * of the last DDL statement, which changes whenever the structure of
+ * the table changes. Change tokens are recorded as a table attribute,
+ * so that a later crawl can compare them, and only retrieve the tables
+ * that have changed.
+ *
+ * @author Sualeh Fatehi
+ */
+final class TableChangeRetriever
+  extends AbstractRetriever
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(TableChangeRetriever.class.getName());
+
+  static final String CHANGE_TOKEN = "CHANGE_TOKEN";
+
+  TableChangeRetriever(final RetrieverConnection retrieverConnection,
+                       final MutableCatalog catalog,
+                       final SchemaCrawlerOptions options)
+    throws SQLException
+  {
+    super(retrieverConnection, catalog, options);
+  }
+
+  /**
+   * Checks whether the data dictionary query for table changes was
+   * provided for this database.
+   *
+   * @return Whether table changes can be retrieved
+   */
+  boolean canRetrieveTableChanges()
+  {
+    final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
+      .getInformationSchemaViews();
+    return informationSchemaViews
+      .hasQuery(InformationSchemaKey.EXT_TABLE_CHANGES);
+  }
+
+  /**
+   * Retrieves table change tokens from the data dictionary, and records
+   * them as an attribute of each table in the catalog.
+   */
+  void retrieveTableChangeTokens()
+  {
+    if (!canRetrieveTableChanges())
+    {
+      LOGGER.log(Level.FINE, "Table changes SQL statement was not provided");
+      return;
+    }
+
+    try
+    {
+      setTableChangeTokens(retrieveChangeTokens());
+    }
+    catch (final Exception e)
+    {
+      LOGGER.log(Level.WARNING, "Could not retrieve table changes", e);
+    }
+  }
+
+  /**
+   * Retrieves the current change token for every table in the data
+   * dictionary, keyed by the table lookup key.
+   *
+   * @return Change tokens for tables
+   * @throws SchemaCrawlerSQLException
+   *         On a SQL exception
+   */
+  Map<List<String>, String> retrieveChangeTokens()
+    throws SchemaCrawlerSQLException
+  {
+    final Map<List<String>, String> changeTokens = new HashMap<>();
+
+    final InformationSchemaViews informationSchemaViews = getRetrieverConnection()
+      .getInformationSchemaViews();
+    final Query tableChangesSql = informationSchemaViews
+      .getQuery(InformationSchemaKey.EXT_TABLE_CHANGES);
+    final Connection connection = getDatabaseConnection();
+    try (final Statement statement = connection.createStatement();
+        final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                tableChangesSql,
+                                                                statement,
+                                                                getSchemaInclusionRule());)
+    {
+      while (results.next())
+      {
+        final String catalogName = normalizeCatalogName(results
+          .getString("TABLE_CATALOG"));
+        final String schemaName = normalizeSchemaName(results
+          .getString("TABLE_SCHEMA"));
+        final String tableName = results.getString("TABLE_NAME");
+        final String changeToken = results.getString(CHANGE_TOKEN);
+        LOGGER.log(Level.FINER,
+                   new StringFormat("Retrieving change token for table <%s.%s.%s>",
+                                    catalogName,
+                                    schemaName,
+                                    tableName));
+
+        changeTokens.put(Arrays.asList(catalogName, schemaName, tableName),
+                         String.valueOf(changeToken));
+      }
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerSQLException("Could not retrieve table changes",
+                                          e);
+    }
+
+    return changeTokens;
+  }
+
+  /**
+   * Records change tokens that were already retrieved from the data
+   * dictionary as an attribute of each table in the catalog, without
+   * querying the data dictionary again.
+   *
+   * @param changeTokens
+   *        Change tokens for tables, keyed by the table lookup key
+   */
+  void setTableChangeTokens(final Map<List<String>, String> changeTokens)
+  {
+    for (final Map.Entry<List<String>, String> changeToken: changeTokens
+      .entrySet())
+    {
+      final Optional<MutableTable> tableOptional = catalog
+        .lookupTable(changeToken.getKey());
+      if (tableOptional.isPresent())
+      {
+        tableOptional.get().setAttribute(CHANGE_TOKEN, changeToken.getValue());
+      }
+    }
+  }
+
+}
@@ -156,7 +156,7 @@ final class TableColumnRetriever
     }
 
     final Optional<MutableTable> optionalTable = allTables
-      .lookup(Arrays.asList(columnCatalogName, schemaName, tableName));
+      .lookup(columnCatalogName, schemaName, tableName);
     if (!optionalTable.isPresent())
     {
       return;
@@ -267,7 +267,8 @@ final class TableColumnRetriever
       .getQuery(InformationSchemaKey.EXT_HIDDEN_TABLE_COLUMNS);
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
-        final MetadataResultSet results = new MetadataResultSet(hiddenColumnsSql,
+        final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                hiddenColumnsSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
     {
@@ -315,7 +316,8 @@ final class TableColumnRetriever
       .getQuery(InformationSchemaKey.TABLE_COLUMNS);
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
-        final MetadataResultSet results = new MetadataResultSet(tableColumnsSql,
+        final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                tableColumnsSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
     {
@@ -335,7 +337,8 @@ final class TableColumnRetriever
     for (final MutableTable table: allTables)
     {
       LOGGER.log(Level.FINE, "Retrieving table columns for " + table);
-      try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+      try (final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                   getMetaData()
         .getColumns(table.getSchema().getCatalogName(),
                     table.getSchema().getName(),
                     table.getName(),
@@ -361,7 +364,8 @@ final class TableColumnRetriever
                                                             final Set<List<String>> hiddenColumns)
     throws SQLException
   {
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+    try (final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                 getMetaData()
       .getColumns(null, null, "%", "%"));)
     {
       while (results.next())
@@ -97,7 +97,8 @@ final class TableConstraintRetriever
 
     // Get check constraint definitions
     try (final Statement statement = connection.createStatement();
-        final MetadataResultSet results = new MetadataResultSet(extTableConstraintInformationSql,
+        final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                extTableConstraintInformationSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
     {
@@ -176,7 +177,8 @@ final class TableConstraintRetriever
     final Query tableConstraintsInformationSql = informationSchemaViews
       .getQuery(InformationSchemaKey.TABLE_CONSTRAINTS);
     try (final Statement statement = connection.createStatement();
-        final MetadataResultSet results = new MetadataResultSet(tableConstraintsInformationSql,
+        final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                tableConstraintsInformationSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
     {
@@ -257,7 +259,8 @@ final class TableConstraintRetriever
       .getQuery(InformationSchemaKey.CONSTRAINT_COLUMN_USAGE);
 
     try (final Statement statement = connection.createStatement();
-        final MetadataResultSet results = new MetadataResultSet(tableConstraintsColumnsInformationSql,
+        final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                tableConstraintsColumnsInformationSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
     {
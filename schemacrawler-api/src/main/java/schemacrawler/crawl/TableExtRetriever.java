@@ -100,7 +100,8 @@ final class TableExtRetriever
 
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
-        final MetadataResultSet results = new MetadataResultSet(columnAttributesSql,
+        final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                columnAttributesSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
     {
@@ -184,7 +185,8 @@ final class TableExtRetriever
 
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
-        final MetadataResultSet results = new MetadataResultSet(tableAttributesSql,
+        final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                tableAttributesSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
     {
@@ -255,7 +257,8 @@ final class TableExtRetriever
       .getQuery(InformationSchemaKey.EXT_INDEX_COLUMNS);
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
-        final MetadataResultSet results = new MetadataResultSet(extIndexColumnsInformationSql,
+        final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                extIndexColumnsInformationSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
     {
@@ -366,7 +369,8 @@ final class TableExtRetriever
       .getQuery(InformationSchemaKey.EXT_INDEXES);
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
-        final MetadataResultSet results = new MetadataResultSet(extIndexesInformationSql,
+        final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                extIndexesInformationSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
     {
@@ -458,7 +462,8 @@ final class TableExtRetriever
       .getQuery(InformationSchemaKey.EXT_PRIMARY_KEYS);
 
     try (final Statement statement = connection.createStatement();
-        final MetadataResultSet results = new MetadataResultSet(extPrimaryKeysSql,
+        final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                extPrimaryKeysSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
     {
@@ -505,7 +510,8 @@ final class TableExtRetriever
   void retrieveTableColumnPrivileges()
     throws SQLException
   {
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+    try (final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                 getMetaData()
       .getColumnPrivileges(null, null, "%", "%"));)
     {
       createPrivileges(results, true);
@@ -547,7 +553,8 @@ final class TableExtRetriever
       .getQuery(InformationSchemaKey.EXT_TABLES);
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
-        final MetadataResultSet results = new MetadataResultSet(tableDefinitionsInformationSql,
+        final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                tableDefinitionsInformationSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
     {
@@ -595,7 +602,8 @@ final class TableExtRetriever
   void retrieveTablePrivileges()
     throws SQLException
   {
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+    try (final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                 getMetaData()
       .getTablePrivileges(null, null, "%"));)
     {
       createPrivileges(results, false);
@@ -634,7 +642,8 @@ final class TableExtRetriever
       .getQuery(InformationSchemaKey.TRIGGERS);
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
-        final MetadataResultSet results = new MetadataResultSet(triggerInformationSql,
+        final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                triggerInformationSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
     {
@@ -732,7 +741,8 @@ final class TableExtRetriever
       .getQuery(InformationSchemaKey.VIEWS);
     final Connection connection = getDatabaseConnection();
     try (final Statement statement = connection.createStatement();
-        final MetadataResultSet results = new MetadataResultSet(viewInformationSql,
+        final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                viewInformationSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
     {
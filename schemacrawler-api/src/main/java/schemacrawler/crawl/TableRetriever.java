@@ -202,7 +202,8 @@ final class TableRetriever
     final Connection connection = getDatabaseConnection();
     final TableTypes supportedTableTypes = new TableTypes(tableTypes);
     try (final Statement statement = connection.createStatement();
-        final MetadataResultSet results = new MetadataResultSet(tablesSql,
+        final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                tablesSql,
                                                                 statement,
                                                                 getSchemaInclusionRule());)
     {
@@ -241,7 +242,8 @@ final class TableRetriever
       final String catalogName = schema.getCatalogName();
       final String schemaName = schema.getName();
 
-      try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+      try (final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                   getMetaData()
         .getTables(catalogName,
                    schemaName,
                    tableNamePattern,
@@ -275,7 +277,8 @@ final class TableRetriever
                                 filteredTableTypes == null? "<<all>>": Arrays
                                   .asList(filteredTableTypes)));
 
-    try (final MetadataResultSet results = new MetadataResultSet(getMetaData()
+    try (final MetadataResultSet results = new MetadataResultSet(getRetrieverConnection(),
+                                                                 getMetaData()
       .getTables(null, null, tableNamePattern, filteredTableTypes));)
     {
       results.setDescription("retrieveTablesFromMetadataForAllTables");
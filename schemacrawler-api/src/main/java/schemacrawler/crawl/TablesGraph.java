@@ -48,10 +48,14 @@ final class TablesGraph
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(TablesGraph.class.getName());
 
+  private final NamedObjectList<MutableTable> tables;
+
   TablesGraph(final NamedObjectList<MutableTable> tables)
   {
     super("catalog");
 
+    this.tables = tables;
+
     if (tables == null)
     {
       return;
@@ -102,6 +106,12 @@ final class TablesGraph
           sortIndex++;
         }
       }
+      if (tables != null)
+      {
+        // Tables are sorted by sort index, so the cached sort order is
+        // no longer valid
+        tables.invalidateSortOrder();
+      }
     }
     catch (final GraphException e)
     {
@@ -30,6 +30,8 @@ package schemacrawler.schema;
 
 import java.io.Serializable;
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.Map;
 
 public interface CrawlInfo
   extends Serializable
@@ -70,6 +72,19 @@ public interface CrawlInfo
    */
   String getOperatingSystemInfo();
 
+  /**
+   * Gets the retrieval strategies that were chosen by probing, for
+   * table retrieval phases that were set to choose a strategy
+   * automatically. Each entry has the chosen strategy, and the time
+   * taken by each strategy that was probed.
+   *
+   * @return Chosen retrieval strategies, keyed by retrieval phase
+   */
+  default Map<String, String> getRetrievalStrategyProbes()
+  {
+    return Collections.emptyMap();
+  }
+
   /**
    * Unique identifier for each SchemaCrawler run.
    *
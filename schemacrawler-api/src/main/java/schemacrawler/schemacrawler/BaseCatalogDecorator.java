@@ -110,6 +110,16 @@ public abstract class BaseCatalogDecorator
     return catalog.getCrawlInfo();
   }
 
+  /**
+   * Gets the catalog that is decorated.
+   *
+   * @return Decorated catalog
+   */
+  public final Catalog getDecoratedCatalog()
+  {
+    return catalog;
+  }
+
   @Override
   public DatabaseInfo getDatabaseInfo()
   {
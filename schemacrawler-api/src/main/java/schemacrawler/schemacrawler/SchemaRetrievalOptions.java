@@ -30,6 +30,8 @@ package schemacrawler.schemacrawler;
 
 import static sf.util.Utility.isBlank;
 
+import java.util.Map;
+
 import schemacrawler.crawl.MetadataRetrievalStrategy;
 import schemacrawler.utility.Identifiers;
 import schemacrawler.utility.TypeMap;
@@ -59,6 +61,11 @@ public final class SchemaRetrievalOptions
   private final MetadataRetrievalStrategy procedureColumnRetrievalStrategy;
   private final MetadataRetrievalStrategy functionRetrievalStrategy;
   private final MetadataRetrievalStrategy functionColumnRetrievalStrategy;
+  private final int retrievalParallelism;
+  private final int fetchSize;
+  private final Map<InformationSchemaKey, Integer> fetchSizes;
+  private final boolean adaptiveFetchSize;
+  private final boolean retrieveTableChangeTokens;
   private final String identifierQuoteString;
   private final InformationSchemaViews informationSchemaViews;
   private final TypeMap typeMap;
@@ -81,6 +88,11 @@ public final class SchemaRetrievalOptions
       .getProcedureColumnRetrievalStrategy();
     functionRetrievalStrategy = bldr.getFunctionRetrievalStrategy();
     functionColumnRetrievalStrategy = bldr.getFunctionColumnRetrievalStrategy();
+    retrievalParallelism = bldr.getRetrievalParallelism();
+    fetchSize = bldr.getFetchSize();
+    fetchSizes = bldr.getFetchSizes();
+    adaptiveFetchSize = bldr.isAdaptiveFetchSize();
+    retrieveTableChangeTokens = bldr.isRetrieveTableChangeTokens();
     identifierQuoteString = bldr.getIdentifierQuoteString();
     informationSchemaViews = bldr.getInformationSchemaViews();
     identifiers = bldr.getIdentifiers();
@@ -92,6 +104,36 @@ public final class SchemaRetrievalOptions
     return dbServerType;
   }
 
+  /**
+   * Number of rows fetched from the database at a time, for metadata
+   * result sets.
+   *
+   * @return Fetch size
+   */
+  public int getFetchSize()
+  {
+    return fetchSize;
+  }
+
+  /**
+   * Number of rows fetched from the database at a time, for the results
+   * of an information schema view query. This is the default fetch
+   * size, unless it is overridden for the query.
+   *
+   * @param key
+   *        Information schema view query
+   * @return Fetch size
+   */
+  public int getFetchSize(final InformationSchemaKey key)
+  {
+    final Integer keyFetchSize = fetchSizes.get(key);
+    if (keyFetchSize == null)
+    {
+      return fetchSize;
+    }
+    return keyFetchSize;
+  }
+
   public MetadataRetrievalStrategy getForeignKeyRetrievalStrategy()
   {
     return fkRetrievalStrategy;
@@ -146,6 +188,19 @@ public final class SchemaRetrievalOptions
     return procedureRetrievalStrategy;
   }
 
+  /**
+   * Maximum number of independent metadata retrieval phases that are
+   * run at the same time, each on a separate database connection. A
+   * value of 1 means that all phases are run one after another on a
+   * single connection.
+   *
+   * @return Degree of parallelism for metadata retrieval
+   */
+  public int getRetrievalParallelism()
+  {
+    return retrievalParallelism;
+  }
+
   public MetadataRetrievalStrategy getTableColumnRetrievalStrategy()
   {
     return tableColumnRetrievalStrategy;
@@ -171,6 +226,28 @@ public final class SchemaRetrievalOptions
     return typeMap != null;
   }
 
+  /**
+   * Whether the fetch size of metadata result sets grows as they keep
+   * returning rows.
+   *
+   * @return Whether fetch size is adaptive
+   */
+  public boolean isAdaptiveFetchSize()
+  {
+    return adaptiveFetchSize;
+  }
+
+  /**
+   * Whether a full crawl records a change token for each table, for use
+   * by a later incremental crawl.
+   *
+   * @return Whether table change tokens are retrieved
+   */
+  public boolean isRetrieveTableChangeTokens()
+  {
+    return retrieveTableChangeTokens;
+  }
+
   public boolean isSupportsCatalogs()
   {
     return supportsCatalogs;
@@ -33,6 +33,7 @@ import static sf.util.Utility.isBlank;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
+import java.util.EnumMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiConsumer;
@@ -65,6 +66,15 @@ public final class SchemaRetrievalOptionsBuilder
   private static final String SC_RETRIEVAL_FUNCTION_COLUMNS = prefix
                                                               + ".functioncolumns";
 
+  private static final String SC_RETRIEVAL_PARALLELISM = "schemacrawler.schema.retrieval.parallelism";
+
+  private static final String SC_RETRIEVAL_FETCH_SIZE = "schemacrawler.schema.retrieval.fetchsize";
+  private static final String SC_RETRIEVAL_ADAPTIVE_FETCH_SIZE = SC_RETRIEVAL_FETCH_SIZE
+                                                                 + ".adaptive";
+  private static final String SC_RETRIEVAL_TABLE_CHANGE_TOKENS = "schemacrawler.schema.retrieval.tablechangetokens";
+
+  private static final int DEFAULT_FETCH_SIZE = 20;
+
   public static SchemaRetrievalOptionsBuilder builder()
   {
     return new SchemaRetrievalOptionsBuilder();
@@ -102,6 +112,11 @@ public final class SchemaRetrievalOptionsBuilder
   private MetadataRetrievalStrategy procedureColumnRetrievalStrategy;
   private MetadataRetrievalStrategy functionRetrievalStrategy;
   private MetadataRetrievalStrategy functionColumnRetrievalStrategy;
+  private int retrievalParallelism;
+  private int fetchSize;
+  private final Map<InformationSchemaKey, Integer> fetchSizes;
+  private boolean adaptiveFetchSize;
+  private boolean retrieveTableChangeTokens;
   private Optional<TypeMap> overridesTypeMap;
 
   private SchemaRetrievalOptionsBuilder()
@@ -123,6 +138,11 @@ public final class SchemaRetrievalOptionsBuilder
     procedureColumnRetrievalStrategy = MetadataRetrievalStrategy.metadata;
     functionRetrievalStrategy = MetadataRetrievalStrategy.metadata;
     functionColumnRetrievalStrategy = MetadataRetrievalStrategy.metadata;
+    retrievalParallelism = 1;
+    fetchSize = DEFAULT_FETCH_SIZE;
+    fetchSizes = new EnumMap<>(InformationSchemaKey.class);
+    adaptiveFetchSize = false;
+    retrieveTableChangeTokens = false;
     overridesTypeMap = Optional.empty();
   }
 
@@ -162,6 +182,27 @@ public final class SchemaRetrievalOptionsBuilder
       .getEnumValue(SC_RETRIEVAL_FUNCTION_COLUMNS,
                     functionColumnRetrievalStrategy);
 
+    withRetrievalParallelism(configProperties
+      .getIntegerValue(SC_RETRIEVAL_PARALLELISM, retrievalParallelism));
+
+    withFetchSize(configProperties.getIntegerValue(SC_RETRIEVAL_FETCH_SIZE,
+                                                   fetchSize));
+    for (final InformationSchemaKey key: InformationSchemaKey.values())
+    {
+      final String fetchSizeProperty = SC_RETRIEVAL_FETCH_SIZE + "."
+                                       + key.name();
+      if (configProperties.hasValue(fetchSizeProperty))
+      {
+        withFetchSize(key,
+                      configProperties.getIntegerValue(fetchSizeProperty, 0));
+      }
+    }
+    adaptiveFetchSize = configProperties
+      .getBooleanValue(SC_RETRIEVAL_ADAPTIVE_FETCH_SIZE, adaptiveFetchSize);
+    retrieveTableChangeTokens = configProperties
+      .getBooleanValue(SC_RETRIEVAL_TABLE_CHANGE_TOKENS,
+                       retrieveTableChangeTokens);
+
     return this;
   }
 
@@ -226,6 +267,18 @@ public final class SchemaRetrievalOptionsBuilder
     functionRetrievalStrategy = options.getFunctionRetrievalStrategy();
     functionColumnRetrievalStrategy = options
       .getFunctionColumnRetrievalStrategy();
+    retrievalParallelism = options.getRetrievalParallelism();
+    fetchSize = options.getFetchSize();
+    fetchSizes.clear();
+    for (final InformationSchemaKey key: InformationSchemaKey.values())
+    {
+      if (options.getFetchSize(key) != fetchSize)
+      {
+        fetchSizes.put(key, options.getFetchSize(key));
+      }
+    }
+    adaptiveFetchSize = options.isAdaptiveFetchSize();
+    retrieveTableChangeTokens = options.isRetrieveTableChangeTokens();
     overridesTypeMap = Optional.empty();
 
     return this;
@@ -236,6 +289,16 @@ public final class SchemaRetrievalOptionsBuilder
     return dbServerType;
   }
 
+  public int getFetchSize()
+  {
+    return fetchSize;
+  }
+
+  public Map<InformationSchemaKey, Integer> getFetchSizes()
+  {
+    return new EnumMap<>(fetchSizes);
+  }
+
   public MetadataRetrievalStrategy getForeignKeyRetrievalStrategy()
   {
     return fkRetrievalStrategy;
@@ -286,6 +349,11 @@ public final class SchemaRetrievalOptionsBuilder
     return procedureRetrievalStrategy;
   }
 
+  public int getRetrievalParallelism()
+  {
+    return retrievalParallelism;
+  }
+
   public MetadataRetrievalStrategy getTableColumnRetrievalStrategy()
   {
     return tableColumnRetrievalStrategy;
@@ -301,6 +369,16 @@ public final class SchemaRetrievalOptionsBuilder
     return overridesTypeMap.orElse(new TypeMap());
   }
 
+  public boolean isAdaptiveFetchSize()
+  {
+    return adaptiveFetchSize;
+  }
+
+  public boolean isRetrieveTableChangeTokens()
+  {
+    return retrieveTableChangeTokens;
+  }
+
   public boolean isSupportsCatalogs()
   {
     return supportsCatalogs;
@@ -323,6 +401,20 @@ public final class SchemaRetrievalOptionsBuilder
     return new SchemaRetrievalOptions(this);
   }
 
+  /**
+   * Grows the fetch size of metadata result sets as they keep returning
+   * rows, so that large result sets need fewer round trips to the
+   * database.
+   *
+   * @param adaptiveFetchSize
+   *        Whether to grow the fetch size
+   */
+  public SchemaRetrievalOptionsBuilder withAdaptiveFetchSize(final boolean adaptiveFetchSize)
+  {
+    this.adaptiveFetchSize = adaptiveFetchSize;
+    return this;
+  }
+
   public SchemaRetrievalOptionsBuilder withDatabaseServerType(final DatabaseServerType dbServerType)
   {
     if (dbServerType == null)
@@ -356,6 +448,54 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  /**
+   * Sets the number of rows fetched from the database at a time, for
+   * metadata result sets.
+   *
+   * @param fetchSize
+   *        Fetch size, values less than 1 use the default of 20
+   */
+  public SchemaRetrievalOptionsBuilder withFetchSize(final int fetchSize)
+  {
+    if (fetchSize < 1)
+    {
+      this.fetchSize = DEFAULT_FETCH_SIZE;
+    }
+    else
+    {
+      this.fetchSize = fetchSize;
+    }
+    return this;
+  }
+
+  /**
+   * Sets the number of rows fetched from the database at a time, for
+   * the results of a particular information schema view query, such as
+   * a bulk query for table columns.
+   *
+   * @param key
+   *        Information schema view query
+   * @param fetchSize
+   *        Fetch size, values less than 1 remove the override
+   */
+  public SchemaRetrievalOptionsBuilder withFetchSize(final InformationSchemaKey key,
+                                                     final int fetchSize)
+  {
+    if (key == null)
+    {
+      return this;
+    }
+    if (fetchSize < 1)
+    {
+      fetchSizes.remove(key);
+    }
+    else
+    {
+      fetchSizes.put(key, fetchSize);
+    }
+    return this;
+  }
+
   public SchemaRetrievalOptionsBuilder withForeignKeyRetrievalStrategy(final MetadataRetrievalStrategy fkRetrievalStrategy)
   {
     if (fkRetrievalStrategy == null)
@@ -509,6 +649,44 @@ public final class SchemaRetrievalOptionsBuilder
     return this;
   }
 
+  /**
+   * Sets the maximum number of independent metadata retrieval phases
+   * that can run at the same time. Parallel retrieval is only used when
+   * SchemaCrawler is provided with a source of additional database
+   * connections.
+   *
+   * @param retrievalParallelism
+   *        Degree of parallelism, values less than 1 are treated as 1
+   */
+  public SchemaRetrievalOptionsBuilder withRetrievalParallelism(final int retrievalParallelism)
+  {
+    if (retrievalParallelism < 1)
+    {
+      this.retrievalParallelism = 1;
+    }
+    else
+    {
+      this.retrievalParallelism = retrievalParallelism;
+    }
+    return this;
+  }
+
+  /**
+   * Records a change token from the data dictionary for each table on
+   * a full crawl, so that the catalog can be used as the starting point
+   * of a later incremental crawl. Incremental crawls always record
+   * change tokens, so this is only needed for the first crawl of a
+   * series.
+   *
+   * @param retrieveTableChangeTokens
+   *        Whether to retrieve table change tokens
+   */
+  public SchemaRetrievalOptionsBuilder withRetrieveTableChangeTokens(final boolean retrieveTableChangeTokens)
+  {
+    this.retrieveTableChangeTokens = retrieveTableChangeTokens;
+    return this;
+  }
+
   /**
    * Overrides the JDBC driver provided information about whether the
    * database supports catalogs.
@@ -131,6 +131,19 @@ public final class QueryUtility
     return executeSqlForScalar(connection, sql);
   }
 
+  public static Object executeForScalar(final Query query,
+                                        final Statement statement,
+                                        final Table table,
+                                        final Identifiers identifiers)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(query, "No query provided");
+    final String sql = getQuery(query, table, true, identifiers);
+    LOGGER.log(Level.FINE,
+               new StringFormat("Executing %s: %n%s", query.getName(), sql));
+    return executeSqlForScalar(statement, sql);
+  }
+
   private static String getColumnsListAsString(final List<Column> columns,
                                                final boolean omitLargeObjectColumns,
                                                final Identifiers identifiers)
@@ -211,8 +211,21 @@ public final class DatabaseUtility
                                            final String sql)
     throws SchemaCrawlerException
   {
-    try (final Statement statement = createStatement(connection);
-        final ResultSet resultSet = executeSql(statement, sql);)
+    try (final Statement statement = createStatement(connection);)
+    {
+      return executeSqlForScalar(statement, sql);
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerException(sql, e);
+    }
+  }
+
+  public static Object executeSqlForScalar(final Statement statement,
+                                           final String sql)
+    throws SchemaCrawlerException
+  {
+    try (final ResultSet resultSet = executeSql(statement, sql);)
     {
       if (resultSet == null)
       {
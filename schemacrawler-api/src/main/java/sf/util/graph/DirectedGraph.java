@@ -28,8 +28,14 @@ http://www.gnu.org/licenses/
 package sf.util.graph;
 
 
+import static java.util.Comparator.comparing;
+
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -40,12 +46,14 @@ public class DirectedGraph<T extends Comparable<? super T>>
   private final String name;
   private final Map<T, Vertex<T>> verticesMap;
   private final Set<DirectedEdge<T>> edges;
+  private final Map<Vertex<T>, Set<DirectedEdge<T>>> outgoingEdges;
 
   public DirectedGraph(final String name)
   {
     this.name = name;
     verticesMap = new HashMap<>();
     edges = new HashSet<>();
+    outgoingEdges = new HashMap<>();
   }
 
   /**
@@ -62,7 +70,16 @@ public class DirectedGraph<T extends Comparable<? super T>>
   {
     if (!from.equals(to))
     {
-      edges.add(new DirectedEdge<>(addVertex(from), addVertex(to)));
+      final Vertex<T> vertexFrom = addVertex(from);
+      final DirectedEdge<T> edge = new DirectedEdge<>(vertexFrom,
+                                                      addVertex(to));
+      if (edges.add(edge))
+      {
+        // Index edges by the vertex they start from, in the order
+        // they were added
+        outgoingEdges.computeIfAbsent(vertexFrom, key -> new LinkedHashSet<>())
+          .add(edge);
+      }
     }
   }
 
@@ -101,19 +118,26 @@ public class DirectedGraph<T extends Comparable<? super T>>
     return name;
   }
 
+  /**
+   * Gets the edges that start from a vertex, in the order that they
+   * were added. The edges are looked up from an index, without scanning
+   * all the edges in the graph.
+   *
+   * @param vertexFrom
+   *        Vertex at the start of the edges
+   * @return Unmodifiable set of outgoing edges
+   */
   public Set<DirectedEdge<T>> getOutgoingEdges(final Vertex<T> vertexFrom)
   {
     Objects.requireNonNull(vertexFrom, "No vertex provided");
 
-    final Set<DirectedEdge<T>> outgoingEdges = new HashSet<>();
-    for (final DirectedEdge<T> edge: edges)
+    final Set<DirectedEdge<T>> outgoingEdgesFrom = outgoingEdges
+      .get(vertexFrom);
+    if (outgoingEdgesFrom == null)
     {
-      if (edge.getFrom().equals(vertexFrom))
-      {
-        outgoingEdges.add(edge);
-      }
+      return Collections.emptySet();
     }
-    return outgoingEdges;
+    return Collections.unmodifiableSet(outgoingEdgesFrom);
   }
 
   @Override
@@ -148,4 +172,17 @@ public class DirectedGraph<T extends Comparable<? super T>>
     return new HashSet<>(verticesMap.values());
   }
 
+  /**
+   * Gets all vertices, sorted by their values, so that graph algorithms
+   * visit vertices in a deterministic order.
+   *
+   * @return Sorted vertices
+   */
+  List<Vertex<T>> sortedVertices()
+  {
+    final List<Vertex<T>> vertices = new ArrayList<>(verticesMap.values());
+    vertices.sort(comparing(Vertex::getValue));
+    return vertices;
+  }
+
 }
@@ -29,6 +29,7 @@ package sf.util.graph;
 
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 
 public class SimpleCycleDetector<T extends Comparable<? super T>>
@@ -90,7 +91,7 @@ public class SimpleCycleDetector<T extends Comparable<? super T>>
 
   private Collection<Vertex<T>> clearTraversalStates()
   {
-    final Collection<Vertex<T>> vertices = graph.vertexSet();
+    final List<Vertex<T>> vertices = graph.sortedVertices();
     for (final Vertex<T> vertex: vertices)
     {
       vertex.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.notStarted);
@@ -102,25 +103,22 @@ public class SimpleCycleDetector<T extends Comparable<? super T>>
   {
     vertex.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.inProgress);
 
-    for (final DirectedEdge<T> edge: graph.edgeSet())
+    for (final DirectedEdge<T> edge: graph.getOutgoingEdges(vertex))
     {
-      if (edge.isFrom(vertex))
+      final Vertex<T> to = edge.getTo();
+      if (to
+        .getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.inProgress)
       {
-        final Vertex<T> to = edge.getTo();
-        if (to
-          .getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.inProgress)
+        to.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.marked);
+        return true;
+      }
+      else if (to
+        .getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.notStarted)
+      {
+        if (visitForCyles(to))
         {
-          to.putAttribute(ATTRIBUTE_TRAVERSAL_STATE, TraversalState.marked);
           return true;
         }
-        else if (to
-          .getAttribute(ATTRIBUTE_TRAVERSAL_STATE) == TraversalState.notStarted)
-        {
-          if (visitForCyles(to))
-          {
-            return true;
-          }
-        }
       }
     }
 
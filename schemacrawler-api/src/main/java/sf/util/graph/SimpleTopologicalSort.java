@@ -28,14 +28,24 @@ http://www.gnu.org/licenses/
 package sf.util.graph;
 
 
-import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.comparing;
 
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Iterator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
+/**
+ * Topological sort of a directed graph, using <a href=
+ * "https://en.wikipedia.org/wiki/Topological_sorting#Kahn's_algorithm">
+ * Kahn's algorithm</a>. Vertices are sorted level by level, and
+ * vertices on the same level are sorted by their values, so the sort
+ * order is deterministic.
+ *
+ * @param <T>
+ *        Any comparable class
+ */
 public class SimpleTopologicalSort<T extends Comparable<? super T>>
 {
 
@@ -49,105 +59,65 @@ public class SimpleTopologicalSort<T extends Comparable<? super T>>
   public List<T> topologicalSort()
     throws GraphException
   {
-    if (containsCycle())
-    {
-      throw new GraphException("Graph contains a cycle, so cannot be topologically sorted");
-    }
-
-    final Collection<Vertex<T>> vertices = graph.vertexSet();
+    final List<Vertex<T>> vertices = graph.sortedVertices();
     final int collectionSize = vertices.size();
 
-    final Collection<DirectedEdge<T>> edges = new ArrayList<>(graph.edgeSet());
-    final List<T> sortedValues = new ArrayList<>(collectionSize);
-
-    while (!vertices.isEmpty())
+    // Count incoming edges for each vertex
+    final Map<Vertex<T>, int[]> inDegrees = new HashMap<>(collectionSize * 2);
+    for (final Vertex<T> vertex: vertices)
     {
-
-      final List<T> nodesAtLevel = new ArrayList<>(collectionSize);
-
-      // Remove unattached nodes
-      for (final Iterator<Vertex<T>> iterator = vertices.iterator(); iterator
-        .hasNext();)
-      {
-        final Vertex<T> vertex = iterator.next();
-        if (isUnattachedNode(vertex, edges))
-        {
-          nodesAtLevel.add(vertex.getValue());
-          iterator.remove();
-        }
-      }
-
-      // Find all nodes at the current level
-      final List<Vertex<T>> startNodes = new ArrayList<>(collectionSize);
-      for (final Vertex<T> vertex: vertices)
-      {
-        if (isStartNode(vertex, edges))
-        {
-          startNodes.add(vertex);
-        }
-      }
-
-      for (final Vertex<T> vertex: startNodes)
+      inDegrees.put(vertex, new int[1]);
+    }
+    for (final Vertex<T> vertex: vertices)
+    {
+      for (final DirectedEdge<T> edge: graph.getOutgoingEdges(vertex))
       {
-        // Save the vertex value
-        nodesAtLevel.add(vertex.getValue());
-        // Remove all out edges
-        dropOutEdges(vertex, edges);
-        // Remove the vertex itself
-        vertices.remove(vertex);
+        inDegrees.get(edge.getTo())[0]++;
       }
-
-      nodesAtLevel.sort(naturalOrder());
-      sortedValues.addAll(nodesAtLevel);
     }
 
-    return sortedValues;
-  }
-
-  private boolean containsCycle()
-  {
-    final SimpleCycleDetector<T> cycleDetector = new SimpleCycleDetector<>(graph);
-    return cycleDetector.containsCycle();
-  }
-
-  private void dropOutEdges(final Vertex<T> vertex,
-                            final Collection<DirectedEdge<T>> edges)
-  {
-    for (final Iterator<DirectedEdge<T>> iterator = edges.iterator(); iterator
-      .hasNext();)
+    // Start nodes are at the first level
+    List<Vertex<T>> nodesAtLevel = new ArrayList<>();
+    for (final Vertex<T> vertex: vertices)
     {
-      final DirectedEdge<T> edge = iterator.next();
-      if (edge.isFrom(vertex))
+      if (inDegrees.get(vertex)[0] == 0)
       {
-        iterator.remove();
+        nodesAtLevel.add(vertex);
       }
     }
-  }
 
-  private boolean isStartNode(final Vertex<T> vertex,
-                              final Collection<DirectedEdge<T>> edges)
-  {
-    for (final DirectedEdge<T> edge: edges)
+    final List<T> sortedValues = new ArrayList<>(collectionSize);
+    while (!nodesAtLevel.isEmpty())
     {
-      if (edge.isTo(vertex))
+      nodesAtLevel.sort(comparing(Vertex::getValue));
+
+      // Drop out edges, and find nodes at the next level, which have
+      // no remaining incoming edges
+      final List<Vertex<T>> nodesAtNextLevel = new ArrayList<>();
+      for (final Vertex<T> vertex: nodesAtLevel)
       {
-        return false;
+        sortedValues.add(vertex.getValue());
+        for (final DirectedEdge<T> edge: graph.getOutgoingEdges(vertex))
+        {
+          final Vertex<T> to = edge.getTo();
+          final int[] inDegree = inDegrees.get(to);
+          inDegree[0]--;
+          if (inDegree[0] == 0)
+          {
+            nodesAtNextLevel.add(to);
+          }
+        }
       }
+      nodesAtLevel = nodesAtNextLevel;
     }
-    return true;
-  }
 
-  private boolean isUnattachedNode(final Vertex<T> vertex,
-                                   final Collection<DirectedEdge<T>> edges)
-  {
-    for (final DirectedEdge<T> edge: edges)
+    // Vertices on a cycle never run out of incoming edges
+    if (sortedValues.size() < collectionSize)
     {
-      if (edge.isTo(vertex) || edge.isFrom(vertex))
-      {
-        return false;
-      }
+      throw new GraphException("Graph contains a cycle, so cannot be topologically sorted");
     }
-    return true;
+
+    return sortedValues;
   }
 
 }
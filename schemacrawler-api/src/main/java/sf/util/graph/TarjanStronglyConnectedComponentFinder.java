@@ -50,6 +50,7 @@ public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super
 
   private static final String ATTRIBUTE_LOWLINK = "lowlink";
   private static final String ATTRIBUTE_INDEX = "index";
+  private static final String ATTRIBUTE_ON_STACK = "onstack";
 
   private final DirectedGraph<T> graph;
   private final Collection<List<T>> stronglyConnectedComponents;
@@ -70,7 +71,7 @@ public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super
    */
   public Collection<List<T>> detectCycles()
   {
-    for (final Vertex<T> vertex: graph.vertexSet())
+    for (final Vertex<T> vertex: graph.sortedVertices())
     {
       if (!vertex.hasAttribute(ATTRIBUTE_INDEX))
       {
@@ -85,6 +86,7 @@ public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super
     vertexFrom.putAttribute(ATTRIBUTE_INDEX, index);
     vertexFrom.putAttribute(ATTRIBUTE_LOWLINK, index);
     stack.push(vertexFrom);
+    vertexFrom.putAttribute(ATTRIBUTE_ON_STACK, true);
 
     for (final DirectedEdge<T> edge: graph.getOutgoingEdges(vertexFrom))
     {
@@ -99,7 +101,7 @@ public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super
                           .min((int) vertexFrom.getAttribute(ATTRIBUTE_LOWLINK),
                                (int) vertexTo.getAttribute(ATTRIBUTE_LOWLINK)));
       }
-      else if (stack.contains(vertexTo))
+      else if ((boolean) vertexTo.getAttribute(ATTRIBUTE_ON_STACK))
       {
         // Successor vertex is on stack, hence in the current SCC
         vertexFrom
@@ -118,6 +120,7 @@ public class TarjanStronglyConnectedComponentFinder<T extends Comparable<? super
       do
       {
         sccVertex = stack.pop();
+        sccVertex.putAttribute(ATTRIBUTE_ON_STACK, false);
         scc.addFirst(sccVertex.getValue());
       } while (!vertexFrom.equals(sccVertex));
       if (scc.size() > 1)
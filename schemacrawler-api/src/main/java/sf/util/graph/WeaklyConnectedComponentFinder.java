@@ -0,0 +1,115 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package sf.util.graph;
+
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Finds the <a href=
+ * "https://en.wikipedia.org/wiki/Connectivity_(graph_theory)#Connected_vertices_and_graphs">
+ * weakly connected components</a> of a directed graph, that is, the
+ * components that are connected when the direction of edges is
+ * ignored.
+ *
+ * @param <T>
+ *        Any comparable class
+ */
+public class WeaklyConnectedComponentFinder<T extends Comparable<? super T>>
+{
+
+  private final DirectedGraph<T> graph;
+
+  public WeaklyConnectedComponentFinder(final DirectedGraph<T> graph)
+  {
+    this.graph = Objects.requireNonNull(graph, "No graph provided");
+  }
+
+  /**
+   * Calculates the sets of weakly connected vertices. Each component
+   * is sorted by vertex value, and components are in the order of
+   * their first vertex, so the result is deterministic. Isolated
+   * vertices are returned as components of a single vertex.
+   *
+   * @return List of weakly connected components (lists of vertex
+   *         values)
+   */
+  public List<List<T>> findComponents()
+  {
+    // Index edges in both directions
+    final Map<Vertex<T>, List<Vertex<T>>> neighbors = new HashMap<>();
+    for (final DirectedEdge<T> edge: graph.edgeSet())
+    {
+      neighbors.computeIfAbsent(edge.getFrom(), key -> new ArrayList<>())
+        .add(edge.getTo());
+      neighbors.computeIfAbsent(edge.getTo(), key -> new ArrayList<>())
+        .add(edge.getFrom());
+    }
+
+    final List<List<T>> components = new ArrayList<>();
+    final Set<Vertex<T>> visited = new HashSet<>();
+    for (final Vertex<T> vertex: graph.sortedVertices())
+    {
+      if (!visited.add(vertex))
+      {
+        continue;
+      }
+
+      final List<T> component = new ArrayList<>();
+      final Deque<Vertex<T>> queue = new ArrayDeque<>();
+      queue.add(vertex);
+      while (!queue.isEmpty())
+      {
+        final Vertex<T> current = queue.remove();
+        component.add(current.getValue());
+        for (final Vertex<T> neighbor: neighbors
+          .getOrDefault(current, Collections.emptyList()))
+        {
+          if (visited.add(neighbor))
+          {
+            queue.add(neighbor);
+          }
+        }
+      }
+      // Sort vertex values within each component
+      Collections.sort(component);
+      components.add(component);
+    }
+    return components;
+  }
+
+}
@@ -0,0 +1,209 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.crawl;
+
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.IncludeAll;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.utility.Query;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class MetadataResultSetTest
+{
+
+  private static final String COLUMNS_SQL = "SELECT * FROM INFORMATION_SCHEMA.COLUMNS";
+
+  private static ResultSet recordFetchSizes(final ResultSet resultSet,
+                                            final List<Integer> fetchSizes)
+  {
+    return (ResultSet) Proxy
+      .newProxyInstance(MetadataResultSetTest.class.getClassLoader(),
+                        new Class<?>[] { ResultSet.class },
+                        (proxy, method, args) -> {
+                          if (method.getName().equals("setFetchSize"))
+                          {
+                            fetchSizes.add((Integer) args[0]);
+                          }
+                          return method.invoke(resultSet, args);
+                        });
+  }
+
+  @Test
+  public void adaptiveFetchSize(final Connection connection)
+    throws Exception
+  {
+    final SchemaRetrievalOptions schemaRetrievalOptions = SchemaRetrievalOptionsBuilder
+      .builder().withFetchSize(2).withAdaptiveFetchSize(true).toOptions();
+    final RetrieverConnection retrieverConnection = new RetrieverConnection(connection,
+                                                                            schemaRetrievalOptions);
+
+    final List<Integer> fetchSizes = new ArrayList<>();
+    try (final Statement statement = connection.createStatement();
+        final ResultSet resultSet = statement.executeQuery(COLUMNS_SQL);
+        final MetadataResultSet results = new MetadataResultSet(retrieverConnection,
+                                                                recordFetchSizes(resultSet,
+                                                                                 fetchSizes));)
+    {
+      int rowCount = 0;
+      while (results.next())
+      {
+        rowCount++;
+      }
+      assertThat(rowCount, greaterThan(100));
+    }
+    assertThat(fetchSizes.subList(0, 4), contains(2, 4, 8, 16));
+    assertThat(fetchSizes.get(fetchSizes.size() - 1), greaterThan(50));
+  }
+
+  @Test
+  public void attributesForUnreadColumns(final Connection connection)
+    throws Exception
+  {
+    final RetrieverConnection retrieverConnection = new RetrieverConnection(connection,
+                                                                            SchemaRetrievalOptionsBuilder
+                                                                              .newSchemaRetrievalOptions());
+
+    try (final Statement statement = connection.createStatement();
+        final ResultSet resultSet = statement
+          .executeQuery("SELECT TABLE_NAME, COLUMN_NAME, ORDINAL_POSITION, IS_NULLABLE FROM INFORMATION_SCHEMA.COLUMNS");
+        final MetadataResultSet results = new MetadataResultSet(retrieverConnection,
+                                                                resultSet);)
+    {
+      assertThat(results.next(), is(true));
+      assertThat(results.getString("NOT_A_COLUMN"), is(nullValue()));
+      assertThat(results.getInt("ORDINAL_POSITION", 0), greaterThan(0));
+      final Map<String, Object> attributes = results.getAttributes();
+      assertThat(attributes.keySet(),
+                 containsInAnyOrder("TABLE_NAME",
+                                    "COLUMN_NAME",
+                                    "IS_NULLABLE"));
+
+      // Columns read in one row are not carried over to the next row
+      assertThat(results.next(), is(true));
+      results.getString("TABLE_NAME");
+      results.getString("COLUMN_NAME");
+      assertThat(results.getAttributes().keySet(),
+                 containsInAnyOrder("ORDINAL_POSITION", "IS_NULLABLE"));
+
+      results.getBoolean("IS_NULLABLE");
+      results.getShort("ORDINAL_POSITION", (short) 0);
+      assertThat(results.getAttributes().isEmpty(), is(true));
+    }
+  }
+
+  @Test
+  public void fetchSizeForInformationSchemaView(final Connection connection)
+    throws Exception
+  {
+    final SchemaRetrievalOptions schemaRetrievalOptions = SchemaRetrievalOptionsBuilder
+      .builder().withFetchSize(InformationSchemaKey.TABLE_COLUMNS, 500)
+      .toOptions();
+    final RetrieverConnection retrieverConnection = new RetrieverConnection(connection,
+                                                                            schemaRetrievalOptions);
+
+    try (final Statement statement = connection.createStatement();
+        final MetadataResultSet results = new MetadataResultSet(retrieverConnection,
+                                                                new Query(InformationSchemaKey.TABLE_COLUMNS
+                                                                  .name(),
+                                                                          COLUMNS_SQL),
+                                                                statement,
+                                                                new IncludeAll());)
+    {
+      assertThat(statement.getFetchSize(), is(500));
+    }
+
+    try (final Statement statement = connection.createStatement();
+        final MetadataResultSet results = new MetadataResultSet(retrieverConnection,
+                                                                new Query(InformationSchemaKey.INDEXES
+                                                                  .name(),
+                                                                          COLUMNS_SQL),
+                                                                statement,
+                                                                new IncludeAll());)
+    {
+      assertThat(statement.getFetchSize(), is(20));
+    }
+  }
+
+  @Test
+  public void fetchSizeOptions()
+  {
+    final SchemaRetrievalOptions defaultOptions = SchemaRetrievalOptionsBuilder
+      .newSchemaRetrievalOptions();
+    assertThat(defaultOptions.getFetchSize(), is(20));
+    assertThat(defaultOptions.getFetchSize(InformationSchemaKey.TABLE_COLUMNS),
+               is(20));
+    assertThat(defaultOptions.isAdaptiveFetchSize(), is(false));
+
+    final Config config = new Config();
+    config.put("schemacrawler.schema.retrieval.fetchsize", "100");
+    config.put("schemacrawler.schema.retrieval.fetchsize.TABLE_COLUMNS",
+               "5000");
+    config.put("schemacrawler.schema.retrieval.fetchsize.adaptive", "true");
+    final SchemaRetrievalOptions configOptions = SchemaRetrievalOptionsBuilder
+      .newSchemaRetrievalOptions(config);
+    assertThat(configOptions.getFetchSize(), is(100));
+    assertThat(configOptions.getFetchSize(InformationSchemaKey.TABLE_COLUMNS),
+               is(5000));
+    assertThat(configOptions.getFetchSize(InformationSchemaKey.INDEXES),
+               is(100));
+    assertThat(configOptions.isAdaptiveFetchSize(), is(true));
+
+    final SchemaRetrievalOptions copiedOptions = SchemaRetrievalOptionsBuilder
+      .builder(configOptions).withFetchSize(-1)
+      .withFetchSize(InformationSchemaKey.INDEXES, 10).toOptions();
+    assertThat(copiedOptions.getFetchSize(), is(20));
+    assertThat(copiedOptions.getFetchSize(InformationSchemaKey.TABLE_COLUMNS),
+               is(5000));
+    assertThat(copiedOptions.getFetchSize(InformationSchemaKey.INDEXES),
+               is(10));
+    assertThat(copiedOptions.isAdaptiveFetchSize(), is(true));
+  }
+
+}
@@ -29,8 +29,18 @@ package schemacrawler.crawl;
 
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.SerializationUtils;
 import org.junit.jupiter.api.Test;
 
 import schemacrawler.schema.Schema;
@@ -72,4 +82,117 @@ public class NamedObjectTest
 
   }
 
+  @Test
+  public void tableLookups()
+  {
+    final MutableCatalog catalog = new MutableCatalog("DATABASE");
+    final Schema schema = catalog.addSchema("CATALOG", "PUBLIC");
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    final MutableTable invoice = new MutableTable(schema, "INVOICE");
+    invoice.setTableType(TABLE);
+    tables.add(invoice);
+
+    assertThat(tables.lookup("CATALOG", "PUBLIC", "INVOICE").get(),
+               is(sameInstance(invoice)));
+    assertThat(tables.lookup(Arrays.asList("CATALOG", "PUBLIC", "INVOICE"))
+      .get(), is(sameInstance(invoice)));
+    assertThat(tables.lookup(schema, "INVOICE").get(),
+               is(sameInstance(invoice)));
+    assertThat(tables.lookup("CATALOG", "PUBLIC", "ITEM").isPresent(),
+               is(false));
+    assertThat(tables.lookup(null).isPresent(), is(false));
+  }
+
+  @Test
+  public void sortedValues()
+  {
+    final MutableCatalog catalog = new MutableCatalog("DATABASE");
+    final Schema schema = catalog.addSchema("CATALOG", "PUBLIC");
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    for (final String tableName: new String[] { "ITEM", "CUSTOMER" })
+    {
+      final MutableTable table = new MutableTable(schema, tableName);
+      table.setTableType(TABLE);
+      tables.add(table);
+    }
+
+    final List<MutableTable> values = tables.values();
+    assertThat(tables.values(), is(sameInstance(values)));
+    assertThat(names(values), contains("CUSTOMER", "ITEM"));
+
+    // Iteration is not affected by changes to the list
+    final Iterator<MutableTable> iterator = tables.iterator();
+    final MutableTable product = new MutableTable(schema, "PRODUCT");
+    product.setTableType(TABLE);
+    tables.add(product);
+    tables.remove(tables.lookup(schema, "CUSTOMER").get());
+    assertThat(iterator.next().getName(), is("CUSTOMER"));
+    assertThat(names(tables.values()), contains("ITEM", "PRODUCT"));
+
+    tables.filter(table -> !table.getName().equals("ITEM"));
+    assertThat(names(tables.values()), contains("PRODUCT"));
+  }
+
+  @Test
+  public void invalidateSortOrder()
+  {
+    final MutableCatalog catalog = new MutableCatalog("DATABASE");
+    final Schema schema = catalog.addSchema("CATALOG", "PUBLIC");
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    for (final String tableName: new String[] { "ITEM", "CUSTOMER" })
+    {
+      final MutableTable table = new MutableTable(schema, tableName);
+      table.setTableType(TABLE);
+      tables.add(table);
+    }
+    assertThat(names(tables.values()), contains("CUSTOMER", "ITEM"));
+
+    tables.lookup(schema, "ITEM").get().setSortIndex(0);
+    tables.lookup(schema, "CUSTOMER").get().setSortIndex(1);
+    assertThat(names(tables.values()), contains("CUSTOMER", "ITEM"));
+
+    tables.invalidateSortOrder();
+    assertThat(names(tables.values()), contains("ITEM", "CUSTOMER"));
+  }
+
+  @Test
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  public void lookupsAfterSerializationWithListKeys()
+    throws Exception
+  {
+    final MutableCatalog catalog = new MutableCatalog("DATABASE");
+    final Schema schema = catalog.addSchema("CATALOG", "PUBLIC");
+    final NamedObjectList<MutableTable> tables = new NamedObjectList<>();
+    final MutableTable invoice = new MutableTable(schema, "INVOICE");
+    invoice.setTableType(TABLE);
+    tables.add(invoice);
+
+    // Key objects by lists of names, the way that older versions did
+    final Field field = NamedObjectList.class.getDeclaredField("objects");
+    field.setAccessible(true);
+    final Map objects = (Map) field.get(tables);
+    objects.clear();
+    objects.put(invoice.toUniqueLookupKey(), invoice);
+
+    final NamedObjectList<MutableTable> clonedTables = SerializationUtils
+      .clone(tables);
+
+    final MutableTable clonedInvoice = clonedTables
+      .lookup("CATALOG", "PUBLIC", "INVOICE").get();
+    assertThat(clonedInvoice.getName(), is("INVOICE"));
+    assertThat(clonedTables.lookup(clonedInvoice.getSchema(), "INVOICE")
+      .get(), is(sameInstance(clonedInvoice)));
+    assertThat(clonedTables.size(), is(1));
+  }
+
+  private List<String> names(final List<MutableTable> tables)
+  {
+    final List<String> names = new ArrayList<>();
+    for (final MutableTable table: tables)
+    {
+      names.add(table.getName());
+    }
+    return names;
+  }
+
 }
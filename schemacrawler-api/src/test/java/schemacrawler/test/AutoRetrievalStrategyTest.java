@@ -0,0 +1,168 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+import static schemacrawler.test.utility.DatabaseTestUtility.loadHsqldbConfig;
+
+import java.sql.Connection;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.crawl.MetadataRetrievalStrategy;
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class AutoRetrievalStrategyTest
+{
+
+  private static Catalog crawl(final Connection connection,
+                               final SchemaCrawlerOptions schemaCrawlerOptions,
+                               final MetadataRetrievalStrategy retrievalStrategy)
+    throws Exception
+  {
+    final SchemaRetrievalOptions schemaRetrievalOptions = SchemaRetrievalOptionsBuilder
+      .builder().fromConfig(loadHsqldbConfig())
+      .withTableRetrievalStrategy(retrievalStrategy)
+      .withTableColumnRetrievalStrategy(retrievalStrategy)
+      .withPrimaryKeyRetrievalStrategy(retrievalStrategy)
+      .withIndexRetrievalStrategy(retrievalStrategy)
+      .withForeignKeyRetrievalStrategy(retrievalStrategy)
+      .withProcedureRetrievalStrategy(retrievalStrategy)
+      .withFunctionRetrievalStrategy(retrievalStrategy).toOptions();
+
+    return new SchemaCrawler(connection,
+                             schemaRetrievalOptions,
+                             schemaCrawlerOptions).crawl();
+  }
+
+  private static String describe(final Catalog catalog)
+  {
+    final StringBuilder buffer = new StringBuilder();
+    for (final Table table: catalog.getTables())
+    {
+      buffer.append(table.getFullName()).append(" ")
+        .append(table.getPrimaryKey()).append(" ")
+        .append(table.getForeignKeys()).append("\n");
+      for (final Column column: table.getColumns())
+      {
+        buffer.append("  ").append(column.getName()).append(" ")
+          .append(column.getColumnDataType()).append(" ")
+          .append(column.isPartOfPrimaryKey()).append("\n");
+      }
+      for (final Index index: table.getIndexes())
+      {
+        buffer.append("  ").append(index.getName()).append(" ")
+          .append(index.getColumns()).append("\n");
+      }
+    }
+    buffer.append(catalog.getRoutines().size());
+    return buffer.toString();
+  }
+
+  private static SchemaCrawlerOptions options()
+  {
+    return SchemaCrawlerOptionsBuilder.builder()
+      .withSchemaInfoLevel(SchemaInfoLevelBuilder.standard()).toOptions();
+  }
+
+  @Test
+  public void autoRetrievalStrategy(final Connection connection)
+    throws Exception
+  {
+    final Catalog metadataCatalog = crawl(connection,
+                                          options(),
+                                          MetadataRetrievalStrategy.metadata);
+    final Catalog autoCatalog = crawl(connection,
+                                      options(),
+                                      MetadataRetrievalStrategy.auto);
+
+    assertThat(metadataCatalog.getTables().isEmpty(), is(false));
+    assertThat(describe(autoCatalog), is(describe(metadataCatalog)));
+
+    assertThat(metadataCatalog.getCrawlInfo().getRetrievalStrategyProbes()
+      .isEmpty(), is(true));
+
+    final Map<String, String> retrievalStrategyProbes = autoCatalog
+      .getCrawlInfo().getRetrievalStrategyProbes();
+    assertThat(retrievalStrategyProbes.keySet(),
+               contains("columns", "primaryKeys", "indexes", "foreignKeys"));
+    for (final String retrievalStrategyProbe: retrievalStrategyProbes
+      .values())
+    {
+      // The catalog-wide strategy is kept if it is complete, and
+      // otherwise the phase is retrieved again with per-table metadata
+      assertThat(retrievalStrategyProbe,
+                 anyOf(startsWith("metadata_all ("), startsWith("metadata (")));
+      assertThat(retrievalStrategyProbe, containsString("metadata: "));
+      assertThat(retrievalStrategyProbe, containsString("metadata_all: "));
+    }
+    assertThat(autoCatalog.getCrawlInfo().toString(),
+               containsString("-- retrieval strategy for columns: "));
+  }
+
+  @Test
+  public void autoRetrievalStrategyForFewTables(final Connection connection)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .builder().fromOptions(options())
+      .includeTables(new RegularExpressionInclusionRule(".*\\.AUTHORS"))
+      .toOptions();
+    final Catalog autoCatalog = crawl(connection,
+                                      schemaCrawlerOptions,
+                                      MetadataRetrievalStrategy.auto);
+
+    assertThat(autoCatalog.getTables().isEmpty(), is(false));
+    for (final String retrievalStrategyProbe: autoCatalog.getCrawlInfo()
+      .getRetrievalStrategyProbes().values())
+    {
+      assertThat(retrievalStrategyProbe, startsWith("metadata (only "));
+    }
+  }
+
+}
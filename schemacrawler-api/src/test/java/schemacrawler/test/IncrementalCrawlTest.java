@@ -0,0 +1,237 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static schemacrawler.test.utility.DatabaseTestUtility.loadHsqldbConfig;
+
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class IncrementalCrawlTest
+{
+
+  private static String describe(final Catalog catalog)
+  {
+    final StringBuilder buffer = new StringBuilder();
+    for (final Table table: catalog.getTables())
+    {
+      buffer.append(table.getFullName()).append(" ")
+        .append(table.getPrimaryKey()).append(" ")
+        .append(table.getAttributes()).append(" ")
+        .append(table.getIndexes()).append(" ")
+        .append(table.getTableConstraints()).append("\n");
+      for (final Column column: table.getColumns())
+      {
+        buffer.append("  ").append(column.getName()).append(" ")
+          .append(column.getColumnDataType()).append(" ")
+          .append(column.getReferencedColumn()).append("\n");
+      }
+      for (final ForeignKey foreignKey: table.getForeignKeys())
+      {
+        buffer.append("  ").append(foreignKey.getName()).append(" ")
+          .append(foreignKey.getColumnReferences()).append("\n");
+      }
+    }
+    return buffer.toString();
+  }
+
+  private static SchemaCrawler schemaCrawler(final Connection connection,
+                                             final boolean withTableChanges,
+                                             final boolean withTableChangeTokens)
+    throws Exception
+  {
+    final Config config = loadHsqldbConfig();
+    if (withTableChanges)
+    {
+      // Use the number of columns as the change token, since HSQLDB
+      // does not keep track of DDL changes
+      config.put("select.METADATA_EXTENSION.EXT_TABLE_CHANGES",
+                 "SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME, "
+                 + "CAST(COUNT(*) AS VARCHAR(10)) AS CHANGE_TOKEN "
+                 + "FROM INFORMATION_SCHEMA.COLUMNS "
+                 + "GROUP BY TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME");
+    }
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+      .toOptions();
+    final SchemaRetrievalOptions schemaRetrievalOptions = SchemaRetrievalOptionsBuilder
+      .builder().fromConfig(config)
+      .withRetrieveTableChangeTokens(withTableChangeTokens).toOptions();
+
+    return new SchemaCrawler(connection,
+                             schemaRetrievalOptions,
+                             schemaCrawlerOptions);
+  }
+
+  private static void execute(final Connection connection, final String sql)
+    throws Exception
+  {
+    try (final Statement statement = connection.createStatement();)
+    {
+      statement.execute(sql);
+    }
+  }
+
+  private static Table lookupTable(final Catalog catalog,
+                                   final String schemaName,
+                                   final String tableName)
+  {
+    final Optional<Schema> schema = catalog
+      .lookupSchema("PUBLIC." + schemaName);
+    if (!schema.isPresent())
+    {
+      return null;
+    }
+    return catalog.lookupTable(schema.get(), tableName).orElse(null);
+  }
+
+  @Test
+  public void incrementalCrawlWithChanges(final Connection connection)
+    throws Exception
+  {
+    final SchemaCrawler schemaCrawler = schemaCrawler(connection, true, true);
+    final Catalog catalog = schemaCrawler.crawl();
+    final Table authors = lookupTable(catalog, "BOOKS", "AUTHORS");
+    final String originalCatalog = describe(catalog);
+
+    try
+    {
+      // New table
+      execute(connection,
+              "CREATE TABLE BOOKS.INCREMENTAL (ID INTEGER PRIMARY KEY, "
+              + "AUTHOR_ID INTEGER, CONSTRAINT FK_INCREMENTAL_AUTHOR "
+              + "FOREIGN KEY (AUTHOR_ID) REFERENCES BOOKS.AUTHORS (ID))");
+      assertThat(schemaCrawler.crawl(catalog), is(sameInstance(catalog)));
+      assertThat(lookupTable(catalog, "BOOKS", "INCREMENTAL"),
+                 is(notNullValue()));
+      assertThat(lookupTable(catalog, "BOOKS", "AUTHORS"),
+                 is(sameInstance(authors)));
+      assertThat(describe(catalog), is(describe(schemaCrawler.crawl())));
+
+      // Changed table
+      execute(connection,
+              "ALTER TABLE BOOKS.INCREMENTAL ADD COLUMN REMARKS VARCHAR(100)");
+      schemaCrawler.crawl(catalog);
+      assertThat(lookupTable(catalog, "BOOKS", "INCREMENTAL").getColumns()
+        .size(), is(3));
+      assertThat(describe(catalog), is(describe(schemaCrawler.crawl())));
+
+      // Dropped table
+      execute(connection, "DROP TABLE BOOKS.INCREMENTAL");
+      schemaCrawler.crawl(catalog);
+      assertThat(lookupTable(catalog, "BOOKS", "INCREMENTAL"),
+                 is(nullValue()));
+      assertThat(describe(catalog), is(originalCatalog));
+    }
+    finally
+    {
+      execute(connection, "DROP TABLE BOOKS.INCREMENTAL IF EXISTS");
+    }
+  }
+
+  @Test
+  public void incrementalCrawlWithoutChanges(final Connection connection)
+    throws Exception
+  {
+    final SchemaCrawler schemaCrawler = schemaCrawler(connection, true, true);
+    final Catalog catalog = schemaCrawler.crawl();
+    final Table authors = lookupTable(catalog, "BOOKS", "AUTHORS");
+    final String originalCatalog = describe(catalog);
+
+    assertThat(authors.getAttribute("CHANGE_TOKEN"), is(notNullValue()));
+    assertThat(schemaCrawler.crawl(catalog), is(sameInstance(catalog)));
+    assertThat(lookupTable(catalog, "BOOKS", "AUTHORS"),
+               is(sameInstance(authors)));
+    assertThat(describe(catalog), is(originalCatalog));
+  }
+
+  @Test
+  public void incrementalCrawlWithoutTableChangeTokens(final Connection connection)
+    throws Exception
+  {
+    final SchemaCrawler schemaCrawler = schemaCrawler(connection, true, false);
+    final Catalog catalog = schemaCrawler.crawl();
+    final Table authors = lookupTable(catalog, "BOOKS", "AUTHORS");
+    final String originalCatalog = describe(catalog);
+
+    // A full crawl does not query change tokens unless asked to
+    assertThat(authors.getAttribute("CHANGE_TOKEN"), is(nullValue()));
+
+    // All tables are crawled again, and get change tokens
+    assertThat(schemaCrawler.crawl(catalog), is(sameInstance(catalog)));
+    final Table crawledAuthors = lookupTable(catalog, "BOOKS", "AUTHORS");
+    assertThat(crawledAuthors, is(not(sameInstance(authors))));
+    assertThat(crawledAuthors.getAttribute("CHANGE_TOKEN"),
+               is(notNullValue()));
+    assertThat(describe(catalog), is(not(originalCatalog)));
+
+    // Change tokens recorded by the incremental crawl are used next time
+    schemaCrawler.crawl(catalog);
+    assertThat(lookupTable(catalog, "BOOKS", "AUTHORS"),
+               is(sameInstance(crawledAuthors)));
+  }
+
+  @Test
+  public void incrementalCrawlWithoutTableChanges(final Connection connection)
+    throws Exception
+  {
+    final SchemaCrawler schemaCrawler = schemaCrawler(connection, false, true);
+    final Catalog catalog = schemaCrawler.crawl();
+
+    final Catalog crawledCatalog = schemaCrawler.crawl(catalog);
+    assertThat(crawledCatalog, is(not(sameInstance(catalog))));
+    assertThat(describe(crawledCatalog), is(describe(catalog)));
+  }
+
+}
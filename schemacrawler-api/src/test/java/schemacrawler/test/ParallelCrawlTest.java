@@ -0,0 +1,233 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.not;
+import static schemacrawler.test.utility.DatabaseTestUtility.loadHsqldbConfig;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class ParallelCrawlTest
+{
+
+  private static String describe(final Catalog catalog)
+  {
+    final StringBuilder buffer = new StringBuilder();
+    for (final Table table: catalog.getTables())
+    {
+      buffer.append(table.getFullName()).append(" ")
+        .append(table.getRemarks()).append(" ")
+        .append(table.getTableType()).append(" ")
+        .append(table.getPrimaryKey()).append(" ")
+        .append(table.getDefinition()).append(" ")
+        .append(table.getAttributes()).append(" ")
+        .append(table.getTriggers().size()).append(" ")
+        .append(table.getPrivileges().size()).append(" ")
+        .append(table.getForeignKeys().size()).append("\n");
+      for (final Column column: table.getColumns())
+      {
+        buffer.append("  ").append(column.getName()).append(" ")
+          .append(column.getColumnDataType()).append(" ")
+          .append(column.isPartOfPrimaryKey()).append(" ")
+          .append(column.getAttributes()).append(" ")
+          .append(column.getPrivileges().size()).append("\n");
+      }
+      for (final Index index: table.getIndexes())
+      {
+        buffer.append("  ").append(index.getName()).append(" ")
+          .append(index.getColumns()).append(" ")
+          .append(index.getDefinition()).append("\n");
+      }
+      for (final TableConstraint constraint: table.getTableConstraints())
+      {
+        buffer.append("  ").append(constraint.getName()).append(" ")
+          .append(constraint.getColumns()).append(" ")
+          .append(constraint.getDefinition()).append("\n");
+      }
+    }
+    return buffer.toString();
+  }
+
+  private static Catalog crawl(final Connection connection,
+                               final Supplier<Connection> connectionSupplier,
+                               final int retrievalParallelism)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+      .toOptions();
+    final SchemaRetrievalOptions schemaRetrievalOptions = SchemaRetrievalOptionsBuilder
+      .builder().fromConfig(loadHsqldbConfig())
+      .withRetrievalParallelism(retrievalParallelism).toOptions();
+
+    return new SchemaCrawler(connection,
+                             connectionSupplier,
+                             schemaRetrievalOptions,
+                             schemaCrawlerOptions).crawl();
+  }
+
+  /**
+   * Supplies connections, and keeps track of the largest number of
+   * them open at the same time.
+   */
+  private static Supplier<Connection> connectionSupplier(final DatabaseConnectionInfo connectionInfo,
+                                                         final AtomicInteger maximumOpenConnections)
+  {
+    final AtomicInteger openConnections = new AtomicInteger();
+    return () -> {
+      try
+      {
+        final Connection connection = DriverManager
+          .getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+        maximumOpenConnections
+          .accumulateAndGet(openConnections.incrementAndGet(), Math::max);
+        return (Connection) Proxy
+          .newProxyInstance(ParallelCrawlTest.class.getClassLoader(),
+                            new Class<?>[] { Connection.class },
+                            (proxy, method, args) -> {
+                              if ("close".equals(method.getName())
+                                  && !connection.isClosed())
+                              {
+                                openConnections.decrementAndGet();
+                              }
+                              try
+                              {
+                                return method.invoke(connection, args);
+                              }
+                              catch (final InvocationTargetException e)
+                              {
+                                throw e.getCause();
+                              }
+                            });
+      }
+      catch (final SQLException e)
+      {
+        throw new SchemaCrawlerRuntimeException(e.getMessage(), e);
+      }
+    };
+  }
+
+  @Test
+  public void parallelCrawl(final Connection connection,
+                            final DatabaseConnectionInfo connectionInfo)
+    throws Exception
+  {
+    final Catalog serialCatalog = crawl(connection, null, 1);
+
+    final AtomicInteger maximumOpenConnections = new AtomicInteger();
+    final Catalog parallelCatalog = crawl(connection,
+                                          connectionSupplier(connectionInfo,
+                                                             maximumOpenConnections),
+                                          3);
+
+    // Together with the primary connection, no more connections are
+    // open than the retrieval parallelism, even for nested shards
+    assertThat(maximumOpenConnections.get(),
+               is(allOf(greaterThan(0), lessThanOrEqualTo(2))));
+    assertThat(connection.isClosed(), is(false));
+    assertThat(describe(serialCatalog), is(not(equalTo(""))));
+    assertThat(describe(parallelCatalog), is(describe(serialCatalog)));
+  }
+
+  @Test
+  public void parallelCrawlWithoutConnectionSupplier(final Connection connection)
+    throws Exception
+  {
+    final Catalog serialCatalog = crawl(connection, null, 1);
+    final Catalog parallelCatalog = crawl(connection, null, 3);
+
+    assertThat(describe(parallelCatalog), is(describe(serialCatalog)));
+  }
+
+  @Test
+  public void shardedCrawl(final Connection connection,
+                           final DatabaseConnectionInfo connectionInfo)
+    throws Exception
+  {
+    final Catalog serialCatalog = crawl(connection, null, 1);
+
+    final AtomicInteger maximumOpenConnections = new AtomicInteger();
+    final Catalog shardedCatalog = crawl(connection,
+                                         connectionSupplier(connectionInfo,
+                                                            maximumOpenConnections),
+                                         16);
+
+    // Shards for schemas, one of them on the primary connection
+    assertThat(maximumOpenConnections.get(),
+               is(allOf(greaterThan(0), lessThanOrEqualTo(15))));
+    assertThat(describe(shardedCatalog), is(describe(serialCatalog)));
+    assertThat(shardedCatalog.getColumnDataTypes().size(),
+               is(serialCatalog.getColumnDataTypes().size()));
+  }
+
+  @Test
+  public void retrievalParallelism()
+  {
+    assertThat(SchemaRetrievalOptionsBuilder.newSchemaRetrievalOptions()
+      .getRetrievalParallelism(), is(1));
+    assertThat(SchemaRetrievalOptionsBuilder.builder()
+      .withRetrievalParallelism(-2).toOptions().getRetrievalParallelism(),
+               is(1));
+    assertThat(SchemaRetrievalOptionsBuilder.builder()
+      .withRetrievalParallelism(4).toOptions().getRetrievalParallelism(),
+               is(4));
+  }
+
+}
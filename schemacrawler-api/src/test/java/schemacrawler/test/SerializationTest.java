@@ -30,7 +30,9 @@ package schemacrawler.test;
 
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.emptyString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
@@ -38,6 +40,7 @@ import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static schemacrawler.test.utility.DatabaseTestUtility.getCatalog;
 
+import java.lang.reflect.Field;
 import java.sql.Connection;
 
 import org.apache.commons.lang3.SerializationUtils;
@@ -45,6 +48,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.CrawlInfo;
 import schemacrawler.schema.Schema;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.test.utility.DatabaseTestUtility;
@@ -89,4 +93,33 @@ public class SerializationTest
                hasSize(10));
   }
 
+  @Test
+  public void catalogSerializationWithoutRetrievalStrategyProbes(final Connection connection)
+    throws Exception
+  {
+    final Catalog catalog = getCatalog(connection,
+                                       DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel);
+
+    // Catalogs saved before retrieval strategy probes were recorded do
+    // not have them
+    final CrawlInfo crawlInfo = catalog.getCrawlInfo();
+    clearField(catalog, "retrievalStrategyProbes");
+    clearField(crawlInfo, "retrievalStrategyProbes");
+
+    final Catalog clonedCatalog = SerializationUtils.clone(catalog);
+
+    final CrawlInfo clonedCrawlInfo = clonedCatalog.getCrawlInfo();
+    assertThat(clonedCrawlInfo.getRetrievalStrategyProbes(),
+               is(anEmptyMap()));
+    assertThat(clonedCrawlInfo.toString(), is(not(emptyString())));
+  }
+
+  private void clearField(final Object object, final String fieldName)
+    throws Exception
+  {
+    final Field field = object.getClass().getDeclaredField(fieldName);
+    field.setAccessible(true);
+    field.set(object, null);
+  }
+
 }
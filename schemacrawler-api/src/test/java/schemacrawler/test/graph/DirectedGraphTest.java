@@ -32,7 +32,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -97,6 +99,38 @@ public class DirectedGraphTest
     }
   }
 
+  @Test
+  public void topologicalSortLargeGraph()
+    throws Exception
+  {
+    // Each of the vertices at one level has edges to two vertices at the
+    // next level, and edges are added in reverse order
+    final int levels = 100;
+    final int width = 200;
+    final DirectedGraph<Integer> graph = new DirectedGraph<>("");
+    for (int level = levels - 2; level >= 0; level--)
+    {
+      for (int i = width - 1; i >= 0; i--)
+      {
+        final int from = level * width + i;
+        graph.addEdge(from, from + width);
+        graph.addEdge(from, (level + 1) * width + (i + 1) % width);
+      }
+    }
+
+    final List<Integer> expected = new ArrayList<>();
+    for (int i = 0; i < levels * width; i++)
+    {
+      expected.add(i);
+    }
+    assertThat(topologicalSort(graph), is(expected));
+    assertThat(containsCycleSimple(graph), is(false));
+
+    graph.addEdge((levels - 1) * width, 0);
+    assertThat(containsCycleSimple(graph), is(true));
+    assertThrows(GraphException.class, () -> topologicalSort(graph));
+  }
+
   @Test
   public void topologicalSortCyclical()
     throws Exception
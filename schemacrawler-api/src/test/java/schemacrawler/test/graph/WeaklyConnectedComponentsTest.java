@@ -0,0 +1,89 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test.graph;
+
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import sf.util.graph.DirectedGraph;
+import sf.util.graph.WeaklyConnectedComponentFinder;
+
+public class WeaklyConnectedComponentsTest
+{
+
+  // A→B←C D→E F
+  @Test
+  public void components()
+  {
+    final DirectedGraph<String> graph = new DirectedGraph<>("");
+    graph.addEdge("C", "B");
+    graph.addEdge("A", "B");
+    graph.addEdge("E", "D");
+    graph.addVertex("F");
+
+    final List<List<String>> components = new WeaklyConnectedComponentFinder<>(graph)
+      .findComponents();
+    assertThat(components,
+               contains(asList("A", "B", "C"), asList("D", "E"), asList("F")));
+  }
+
+  // A→B→C
+  // ↑   ↓
+  // └───D
+  @Test
+  public void cycle()
+  {
+    final DirectedGraph<String> graph = new DirectedGraph<>("");
+    graph.addEdge("A", "B");
+    graph.addEdge("B", "C");
+    graph.addEdge("C", "D");
+    graph.addEdge("D", "A");
+
+    final List<List<String>> components = new WeaklyConnectedComponentFinder<>(graph)
+      .findComponents();
+    assertThat(components, contains(asList("A", "B", "C", "D")));
+  }
+
+  @Test
+  public void noVertices()
+  {
+    final DirectedGraph<String> graph = new DirectedGraph<>("");
+
+    final List<List<String>> components = new WeaklyConnectedComponentFinder<>(graph)
+      .findComponents();
+    assertThat(components, empty());
+  }
+
+}
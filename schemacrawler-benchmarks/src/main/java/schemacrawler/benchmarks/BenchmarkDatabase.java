@@ -0,0 +1,242 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmarks;
+
+
+import static schemacrawler.benchmarks.SyntheticCatalog.schemaName;
+import static schemacrawler.benchmarks.SyntheticCatalog.tableName;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import schemacrawler.testdb.TestSchemaCreator;
+
+/**
+ * Databases for benchmarks. A database is either the SchemaCrawler test
+ * database, or a synthetic database with a given number of tables,
+ * that is crawled for the {@link SyntheticCatalog}.
+ */
+public final class BenchmarkDatabase
+  implements AutoCloseable
+{
+
+  public enum DatabaseType
+  {
+   hsqldb,
+   sqlite;
+  }
+
+  private static final AtomicInteger databaseCount = new AtomicInteger();
+  private static final int BATCH_SIZE = 1000;
+
+  /**
+   * Creates a synthetic database with a given number of tables.
+   *
+   * @param databaseType
+   *        Type of database
+   * @param tablesCount
+   *        Number of tables
+   * @return Synthetic database
+   * @throws Exception
+   *         On an exception creating the database
+   */
+  public static BenchmarkDatabase synthetic(final DatabaseType databaseType,
+                                            final int tablesCount)
+    throws Exception
+  {
+    final BenchmarkDatabase database = new BenchmarkDatabase(databaseType);
+    database.createSyntheticSchema(tablesCount);
+    return database;
+  }
+
+  /**
+   * Creates the SchemaCrawler test database.
+   *
+   * @param databaseType
+   *        Type of database
+   * @return Test database
+   * @throws Exception
+   *         On an exception creating the database
+   */
+  public static BenchmarkDatabase testDatabase(final DatabaseType databaseType)
+    throws Exception
+  {
+    final BenchmarkDatabase database = new BenchmarkDatabase(databaseType);
+    new TestSchemaCreator(database.connection,
+                          String.format("/%s.scripts.txt", databaseType))
+                            .run();
+    database.commit();
+    return database;
+  }
+
+  private final DatabaseType databaseType;
+  private final Path databaseFile;
+  private final Connection connection;
+
+  private BenchmarkDatabase(final DatabaseType databaseType)
+    throws IOException, SQLException
+  {
+    this.databaseType = databaseType;
+    switch (databaseType)
+    {
+      case sqlite:
+        databaseFile = Files.createTempFile("schemacrawler", ".db");
+        connection = DriverManager
+          .getConnection("jdbc:sqlite:" + databaseFile);
+        connection.setAutoCommit(false);
+        break;
+      case hsqldb:
+      default:
+        databaseFile = null;
+        connection = DriverManager
+          .getConnection(String.format("jdbc:hsqldb:mem:benchmark%d",
+                                       databaseCount.incrementAndGet()),
+                         "sa",
+                         "");
+        break;
+    }
+  }
+
+  @Override
+  public void close()
+    throws Exception
+  {
+    if (databaseType == DatabaseType.hsqldb)
+    {
+      try (final Statement statement = connection.createStatement();)
+      {
+        statement.execute("SHUTDOWN");
+      }
+    }
+    connection.close();
+    if (databaseFile != null)
+    {
+      Files.deleteIfExists(databaseFile);
+    }
+  }
+
+  public Connection getConnection()
+  {
+    return connection;
+  }
+
+  public DatabaseType getDatabaseType()
+  {
+    return databaseType;
+  }
+
+  private void commit()
+    throws SQLException
+  {
+    if (!connection.getAutoCommit())
+    {
+      connection.commit();
+    }
+  }
+
+  private void createSyntheticSchema(final int tablesCount)
+    throws SQLException
+  {
+    // SQLite does not support schemas
+    final boolean supportsSchemas = databaseType != DatabaseType.sqlite;
+
+    try (final Statement statement = connection.createStatement();)
+    {
+      if (supportsSchemas)
+      {
+        for (int i = 0; i < SyntheticCatalog.SCHEMAS_COUNT; i++)
+        {
+          statement.execute("CREATE SCHEMA " + schemaName(i));
+        }
+      }
+
+      int batchCount = 0;
+      for (int tableNumber = 1; tableNumber <= tablesCount; tableNumber++)
+      {
+        final String tableName = qualifiedName(supportsSchemas,
+                                               schemaName(tableNumber),
+                                               tableName(tableNumber));
+        final StringBuilder ddl = new StringBuilder(512);
+        ddl.append("CREATE TABLE ").append(tableName)
+          .append(" (ID INTEGER NOT NULL, NAME VARCHAR(100), PARENT_ID INTEGER, CREATED TIMESTAMP, ")
+          .append("CONSTRAINT PK_").append(tableName(tableNumber))
+          .append(" PRIMARY KEY (ID)");
+        if (tableNumber > 1)
+        {
+          ddl.append(", CONSTRAINT FK_").append(tableName(tableNumber))
+            .append("_PARENT FOREIGN KEY (PARENT_ID) REFERENCES ")
+            .append(qualifiedName(supportsSchemas,
+                                  schemaName(tableNumber / 2),
+                                  tableName(tableNumber / 2)))
+            .append(" (ID)");
+        }
+        ddl.append(")");
+        statement.addBatch(ddl.toString());
+
+        final String indexName = qualifiedName(supportsSchemas,
+                                               schemaName(tableNumber),
+                                               "IDX_" + tableName(tableNumber)
+                                                                 + "_NAME");
+        statement.addBatch(String.format("CREATE INDEX %s ON %s (NAME)",
+                                         indexName,
+                                         tableName));
+
+        batchCount++;
+        if (batchCount == BATCH_SIZE)
+        {
+          statement.executeBatch();
+          batchCount = 0;
+        }
+      }
+      statement.executeBatch();
+    }
+    commit();
+  }
+
+  private String qualifiedName(final boolean supportsSchemas,
+                               final String schemaName,
+                               final String name)
+  {
+    if (supportsSchemas)
+    {
+      return schemaName + "." + name;
+    }
+    else
+    {
+      return name;
+    }
+  }
+
+}
@@ -0,0 +1,113 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmarks;
+
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+
+/**
+ * Looks up and iterates over tables in a synthetic catalog, the way
+ * that formatters and linters do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CatalogLookupBenchmark
+{
+
+  @Param({ "1000", "10000", "100000" })
+  public int tablesCount;
+
+  private Catalog catalog;
+  private Schema[] schemas;
+  private String[] tableNames;
+  private int next;
+
+  @Benchmark
+  public void iterate(final Blackhole blackhole)
+  {
+    for (final Table table: catalog.getTables())
+    {
+      blackhole.consume(table);
+    }
+  }
+
+  @Benchmark
+  public Optional<Table> lookupTable()
+  {
+    final int index = nextIndex();
+    return catalog.lookupTable(schemas[index], tableNames[index]);
+  }
+
+  @Setup(Level.Trial)
+  public void setup()
+    throws Exception
+  {
+    catalog = SyntheticCatalog.generate(tablesCount);
+
+    schemas = new Schema[tablesCount];
+    tableNames = new String[tablesCount];
+    int i = 0;
+    for (final Table table: catalog.getTables())
+    {
+      schemas[i] = table.getSchema();
+      tableNames[i] = table.getName();
+      i++;
+    }
+  }
+
+  private int nextIndex()
+  {
+    next = (next + 1) % tablesCount;
+    return next;
+  }
+
+}
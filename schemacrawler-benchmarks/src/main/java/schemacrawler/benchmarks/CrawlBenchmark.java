@@ -0,0 +1,150 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmarks;
+
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.benchmarks.BenchmarkDatabase.DatabaseType;
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevel;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.utility.SchemaCrawlerUtility;
+
+/**
+ * Crawls a synthetic database, for each phase of the crawl. Each phase
+ * retrieves everything that the previous phase did, so the time for a
+ * phase is the difference from the previous one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CrawlBenchmark
+{
+
+  public enum Phase
+  {
+   tables,
+   columns,
+   keys,
+   standard;
+  }
+
+  static SchemaInfoLevel schemaInfoLevel(final Phase phase)
+  {
+    if (phase == Phase.standard)
+    {
+      return SchemaInfoLevelBuilder.standard();
+    }
+
+    final SchemaInfoLevelBuilder schemaInfoLevelBuilder = SchemaInfoLevelBuilder
+      .builder().withTag(phase.name()).setRetrieveDatabaseInfo(true)
+      .setRetrieveTables(true);
+    if (phase == Phase.columns || phase == Phase.keys)
+    {
+      schemaInfoLevelBuilder.setRetrieveColumnDataTypes(true)
+        .setRetrieveTableColumns(true);
+    }
+    if (phase == Phase.keys)
+    {
+      schemaInfoLevelBuilder.setRetrieveIndexes(true)
+        .setRetrieveForeignKeys(true);
+    }
+    return schemaInfoLevelBuilder.toOptions();
+  }
+
+  @Param({ "1000", "10000", "100000" })
+  public int tablesCount;
+
+  @Param({ "hsqldb", "sqlite" })
+  public DatabaseType databaseType;
+
+  @Param({ "tables", "columns", "keys", "standard" })
+  public Phase phase;
+
+  private BenchmarkDatabase database;
+  private SchemaRetrievalOptions schemaRetrievalOptions;
+  private SchemaCrawlerOptions schemaCrawlerOptions;
+
+  @Benchmark
+  public Catalog crawl()
+    throws Exception
+  {
+    final SchemaCrawler schemaCrawler = new SchemaCrawler(database
+      .getConnection(), schemaRetrievalOptions, schemaCrawlerOptions);
+    return schemaCrawler.crawl();
+  }
+
+  @Setup(Level.Trial)
+  public void setup()
+    throws Exception
+  {
+    database = BenchmarkDatabase.synthetic(databaseType, tablesCount);
+    schemaRetrievalOptions = SchemaCrawlerUtility
+      .matchSchemaRetrievalOptions(database.getConnection());
+    final SchemaCrawlerOptionsBuilder schemaCrawlerOptionsBuilder = SchemaCrawlerOptionsBuilder
+      .builder().withSchemaInfoLevel(schemaInfoLevel(phase));
+    if (databaseType == DatabaseType.hsqldb)
+    {
+      schemaCrawlerOptionsBuilder
+        .includeSchemas(new RegularExpressionExclusionRule(".*\\.(INFORMATION_SCHEMA|SYSTEM_LOBS)"));
+    }
+    schemaCrawlerOptions = schemaCrawlerOptionsBuilder.toOptions();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown()
+    throws Exception
+  {
+    database.close();
+  }
+
+}
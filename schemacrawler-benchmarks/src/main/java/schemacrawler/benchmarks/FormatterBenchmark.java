@@ -0,0 +1,138 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmarks;
+
+
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptionsBuilder;
+import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+import schemacrawler.tools.options.OutputOptionsBuilder;
+
+/**
+ * Formats a synthetic catalog as text, JSON, and as a Graphviz DOT
+ * file. The output is counted, and then discarded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FormatterBenchmark
+{
+
+  private static final class CountingWriter
+    extends Writer
+  {
+
+    private long count;
+
+    @Override
+    public void close()
+    {
+      // No-op
+    }
+
+    @Override
+    public void flush()
+    {
+      // No-op
+    }
+
+    @Override
+    public void write(final char[] cbuf, final int off, final int len)
+    {
+      count = count + len;
+    }
+
+    long getCount()
+    {
+      return count;
+    }
+
+  }
+
+  @Param({ "1000", "10000", "100000" })
+  public int tablesCount;
+
+  /**
+   * Output formats that are handled by the
+   * <code>SchemaTextFormatter</code>, <code>SchemaJsonFormatter</code>
+   * and <code>SchemaDotFormatter</code>.
+   */
+  @Param({ "text", "json", "scdot" })
+  public String outputFormat;
+
+  private Catalog catalog;
+
+  @Benchmark
+  public long format()
+    throws Exception
+  {
+    final CountingWriter writer = new CountingWriter();
+
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable("schema");
+    executable.setSchemaCrawlerOptions(SchemaCrawlerOptionsBuilder
+      .newSchemaCrawlerOptions());
+    executable.setSchemaRetrievalOptions(SchemaRetrievalOptionsBuilder
+      .newSchemaRetrievalOptions());
+    executable.setOutputOptions(OutputOptionsBuilder.builder()
+      .withOutputFormatValue(outputFormat).withOutputWriter(writer)
+      .toOptions());
+    executable.setCatalog(catalog);
+    executable.execute();
+
+    return writer.getCount();
+  }
+
+  @Setup(Level.Trial)
+  public void setup()
+    throws Exception
+  {
+    catalog = SyntheticCatalog.generate(tablesCount);
+  }
+
+}
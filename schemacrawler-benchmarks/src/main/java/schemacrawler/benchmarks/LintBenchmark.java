@@ -0,0 +1,103 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmarks;
+
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.benchmarks.BenchmarkDatabase.DatabaseType;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.tools.lint.LintCollector;
+import schemacrawler.tools.lint.LinterConfigs;
+import schemacrawler.tools.lint.Linters;
+
+/**
+ * Runs all linters on a synthetic catalog. Linters that query the
+ * database run against a synthetic database with the same tables.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class LintBenchmark
+{
+
+  @Param({ "1000", "10000", "100000" })
+  public int tablesCount;
+
+  @Param({ "1", "4" })
+  public int parallelism;
+
+  private BenchmarkDatabase database;
+  private Catalog catalog;
+
+  @Benchmark
+  public LintCollector lint()
+    throws Exception
+  {
+    final Linters linters = new Linters(new LinterConfigs(new Config()),
+                                        true);
+    linters.setParallelism(parallelism);
+    linters.lint(catalog, database.getConnection());
+    return linters.getCollector();
+  }
+
+  @Setup(Level.Trial)
+  public void setup()
+    throws Exception
+  {
+    database = BenchmarkDatabase.synthetic(DatabaseType.hsqldb, tablesCount);
+    catalog = SyntheticCatalog.crawl(database);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown()
+    throws Exception
+  {
+    database.close();
+  }
+
+}
@@ -0,0 +1,134 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmarks;
+
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.tools.integration.serialization.CompactSerializedCatalog;
+import schemacrawler.tools.integration.serialization.JavaSerializedCatalog;
+import schemacrawler.tools.integration.serialization.SerializationFormat;
+
+/**
+ * Serializes a synthetic catalog, and reads it back.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SerializationBenchmark
+{
+
+  @Param({ "1000", "10000", "100000" })
+  public int tablesCount;
+
+  @Param({ "java", "compact" })
+  public SerializationFormat format;
+
+  private Catalog catalog;
+  private byte[] serializedCatalog;
+
+  @Benchmark
+  public Catalog load()
+    throws Exception
+  {
+    return deserialize(serializedCatalog);
+  }
+
+  @Benchmark
+  public Catalog roundTrip()
+    throws Exception
+  {
+    return deserialize(serialize());
+  }
+
+  @Benchmark
+  public byte[] save()
+    throws Exception
+  {
+    return serialize();
+  }
+
+  @Setup(Level.Trial)
+  public void setup()
+    throws Exception
+  {
+    catalog = SyntheticCatalog.generate(tablesCount);
+    serializedCatalog = serialize();
+  }
+
+  private Catalog deserialize(final byte[] bytes)
+    throws Exception
+  {
+    switch (format)
+    {
+      case compact:
+        return new CompactSerializedCatalog(new ByteArrayInputStream(bytes));
+      case java:
+      default:
+        return new JavaSerializedCatalog(new ByteArrayInputStream(bytes));
+    }
+  }
+
+  private byte[] serialize()
+    throws Exception
+  {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    switch (format)
+    {
+      case compact:
+        new CompactSerializedCatalog(catalog).save(out);
+        break;
+      case java:
+      default:
+        new JavaSerializedCatalog(catalog).save(out);
+        break;
+    }
+    return out.toByteArray();
+  }
+
+}
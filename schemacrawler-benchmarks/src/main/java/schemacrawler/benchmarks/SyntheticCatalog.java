@@ -0,0 +1,135 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmarks;
+
+
+import java.sql.Connection;
+
+import schemacrawler.benchmarks.BenchmarkDatabase.DatabaseType;
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.utility.SchemaCrawlerUtility;
+
+/**
+ * Catalog of a synthetic database, with a given number of tables.
+ * Tables are spread over a few schemas, and each table has a primary
+ * key, an index, and a foreign key to a parent table. The catalog is
+ * crawled once, with the standard schema info level, so that
+ * benchmarks can use it without a database.
+ */
+public final class SyntheticCatalog
+{
+
+  public static final int SCHEMAS_COUNT = 10;
+
+  /**
+   * Crawls a synthetic database with the standard schema info level.
+   *
+   * @param database
+   *        Synthetic database
+   * @return Crawled catalog
+   * @throws Exception
+   *         On an exception crawling the database
+   */
+  public static Catalog crawl(final BenchmarkDatabase database)
+    throws Exception
+  {
+    final SchemaCrawlerOptionsBuilder schemaCrawlerOptionsBuilder = SchemaCrawlerOptionsBuilder
+      .builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.standard());
+    if (database.getDatabaseType() == DatabaseType.hsqldb)
+    {
+      schemaCrawlerOptionsBuilder
+        .includeSchemas(new RegularExpressionExclusionRule(".*\\.(INFORMATION_SCHEMA|SYSTEM_LOBS)"));
+    }
+
+    final Connection connection = database.getConnection();
+    final SchemaCrawler schemaCrawler = new SchemaCrawler(connection,
+                                                          SchemaCrawlerUtility
+                                                            .matchSchemaRetrievalOptions(connection),
+                                                          schemaCrawlerOptionsBuilder
+                                                            .toOptions());
+    return schemaCrawler.crawl();
+  }
+
+  /**
+   * Generates a catalog with tables in schemas named like
+   * <code>SCHEMA0</code>, and tables named like <code>T000001</code>.
+   * Each table other than the first has a foreign key to the table at
+   * half its number, so the tables form a tree. The catalog is crawled
+   * from an in-memory database, which is discarded.
+   *
+   * @param tablesCount
+   *        Number of tables to generate
+   * @return Generated catalog
+   * @throws Exception
+   *         On an exception creating or crawling the database
+   */
+  public static Catalog generate(final int tablesCount)
+    throws Exception
+  {
+    try (final BenchmarkDatabase database = BenchmarkDatabase
+      .synthetic(DatabaseType.hsqldb, tablesCount);)
+    {
+      return crawl(database);
+    }
+  }
+
+  /**
+   * Gets the name of the schema of a generated table.
+   *
+   * @param tableNumber
+   *        Number of the table, starting from 1
+   * @return Schema name
+   */
+  public static String schemaName(final int tableNumber)
+  {
+    return "SCHEMA" + tableNumber % SCHEMAS_COUNT;
+  }
+
+  /**
+   * Gets the name of a generated table.
+   *
+   * @param tableNumber
+   *        Number of the table, starting from 1
+   * @return Table name
+   */
+  public static String tableName(final int tableNumber)
+  {
+    return String.format("T%06d", tableNumber);
+  }
+
+  private SyntheticCatalog()
+  {
+    // Prevent instantiation
+  }
+
+}
@@ -0,0 +1,115 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.benchmarks;
+
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import schemacrawler.benchmarks.BenchmarkDatabase.DatabaseType;
+import schemacrawler.crawl.SchemaCrawler;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.InfoLevel;
+import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaRetrievalOptions;
+import schemacrawler.utility.SchemaCrawlerUtility;
+
+/**
+ * Crawls the SchemaCrawler test database, which has a small number of
+ * tables, but has all kinds of database objects.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TestDatabaseCrawlBenchmark
+{
+
+  @Param({ "hsqldb", "sqlite" })
+  public DatabaseType databaseType;
+
+  @Param({ "standard", "maximum" })
+  public InfoLevel infoLevel;
+
+  private BenchmarkDatabase database;
+  private SchemaRetrievalOptions schemaRetrievalOptions;
+  private SchemaCrawlerOptions schemaCrawlerOptions;
+
+  @Benchmark
+  public Catalog crawl()
+    throws Exception
+  {
+    final SchemaCrawler schemaCrawler = new SchemaCrawler(database
+      .getConnection(), schemaRetrievalOptions, schemaCrawlerOptions);
+    return schemaCrawler.crawl();
+  }
+
+  @Setup(Level.Trial)
+  public void setup()
+    throws Exception
+  {
+    database = BenchmarkDatabase.testDatabase(databaseType);
+    schemaRetrievalOptions = SchemaCrawlerUtility
+      .matchSchemaRetrievalOptions(database.getConnection());
+    final SchemaCrawlerOptionsBuilder schemaCrawlerOptionsBuilder = SchemaCrawlerOptionsBuilder
+      .builder().withSchemaInfoLevel(infoLevel.toSchemaInfoLevel())
+      .includeAllRoutines().includeAllSequences().includeAllSynonyms();
+    if (databaseType == DatabaseType.hsqldb)
+    {
+      schemaCrawlerOptionsBuilder
+        .includeSchemas(new RegularExpressionExclusionRule(".*\\.(INFORMATION_SCHEMA|SYSTEM_LOBS)"));
+    }
+    schemaCrawlerOptions = schemaCrawlerOptionsBuilder.toOptions();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown()
+    throws Exception
+  {
+    database.close();
+  }
+
+}
@@ -0,0 +1,7 @@
+SELECT
+  TABLE_CATALOG,
+  TABLE_SCHEMA,
+  TABLE_NAME,
+  CARDINALITY AS ROW_COUNT
+FROM 
+  INFORMATION_SCHEMA.SYSTEM_TABLESTATS
@@ -44,10 +44,13 @@ import java.io.Writer;
 import java.nio.file.Path;
 import java.util.regex.Pattern;
 
+import schemacrawler.schemacrawler.Config;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.executable.BaseSchemaCrawlerCommand;
 import schemacrawler.tools.executable.CommandChain;
+import schemacrawler.tools.integration.graph.GraphOptionsBuilder;
 import schemacrawler.tools.integration.graph.GraphOutputFormat;
+import schemacrawler.tools.integration.graph.GraphPartitioning;
 import schemacrawler.tools.integration.graph.GraphvizJavaExecutorUtility;
 import schemacrawler.tools.integration.graph.GraphvizUtility;
 import schemacrawler.tools.options.TextOutputFormat;
@@ -56,6 +59,8 @@ public class EmbeddedGraphRenderer
   extends BaseSchemaCrawlerCommand
 {
 
+  private static final String RENDER_CONCURRENTLY = "schemacrawler.embedded_graph.concurrent";
+
   private static Pattern svgInsertionPoint = Pattern
     .compile("<h2.*Tables.*h2>");
   private static Pattern svgStart = Pattern.compile("<svg.*");
@@ -96,6 +101,17 @@ public class EmbeddedGraphRenderer
 
     // Execute chain, after setting all options from the current command
     final CommandChain chain = new CommandChain(this);
+    // Rendering the HTML and SVG at the same time needs a copy of the
+    // catalog, which can take more time and memory than it saves for
+    // large catalogs, so it has to be asked for
+    chain.setConcurrent(additionalConfiguration
+      .getBooleanValue(RENDER_CONCURRENTLY));
+    // A single diagram is embedded, so the graph is never partitioned
+    final Config chainConfig = new Config(additionalConfiguration);
+    chainConfig.putAll(GraphOptionsBuilder.builder()
+      .fromConfig(additionalConfiguration)
+      .withGraphPartitioning(GraphPartitioning.none).toConfig());
+    chain.setAdditionalConfiguration(chainConfig);
     chain.addNext(command, TextOutputFormat.html, baseHtmlFile);
     chain.addNext(command, GraphOutputFormat.svg, baseSvgFile);
     chain.execute();
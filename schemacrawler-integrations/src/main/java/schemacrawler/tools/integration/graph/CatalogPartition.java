@@ -0,0 +1,103 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.graph;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.BaseCatalogDecorator;
+
+/**
+ * A part of a catalog, with only some of the tables, for rendering as
+ * a separate diagram.
+ */
+final class CatalogPartition
+  extends BaseCatalogDecorator
+{
+
+  private static final long serialVersionUID = 6290174562314861502L;
+
+  private final String partitionName;
+  private final Set<Table> tables;
+
+  CatalogPartition(final Catalog catalog,
+                   final String partitionName,
+                   final Collection<Table> tables)
+  {
+    super(catalog);
+    this.partitionName = requireNonNull(partitionName,
+                                        "No partition name provided");
+    this.tables = new LinkedHashSet<>(requireNonNull(tables,
+                                                     "No tables provided"));
+  }
+
+  public String getPartitionName()
+  {
+    return partitionName;
+  }
+
+  @Override
+  public Collection<Table> getTables()
+  {
+    return Collections.unmodifiableSet(tables);
+  }
+
+  @Override
+  public Collection<Table> getTables(final Schema schema)
+  {
+    final Collection<Table> schemaTables = new ArrayList<>();
+    for (final Table table: tables)
+    {
+      if (table.getSchema().equals(schema))
+      {
+        schemaTables.add(table);
+      }
+    }
+    return schemaTables;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Optional<T> lookupAttribute(final String name)
+  {
+    return catalog.lookupAttribute(name);
+  }
+
+}
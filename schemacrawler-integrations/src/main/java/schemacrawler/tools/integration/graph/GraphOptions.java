@@ -41,6 +41,8 @@ public class GraphOptions
   private final Map<String, String> graphvizAttributes;
   private final boolean isShowForeignKeyCardinality;
   private final boolean isShowPrimaryKeyCardinality;
+  private final GraphPartitioning graphPartitioning;
+  private final int maximumPartitionSize;
 
   protected GraphOptions(final GraphOptionsBuilder graphOptionsBuilder)
   {
@@ -50,6 +52,13 @@ public class GraphOptions
     graphvizAttributes = graphOptionsBuilder.graphvizAttributes;
     isShowForeignKeyCardinality = graphOptionsBuilder.isShowForeignKeyCardinality;
     isShowPrimaryKeyCardinality = graphOptionsBuilder.isShowPrimaryKeyCardinality;
+    graphPartitioning = graphOptionsBuilder.graphPartitioning;
+    maximumPartitionSize = graphOptionsBuilder.maximumPartitionSize;
+  }
+
+  public GraphPartitioning getGraphPartitioning()
+  {
+    return graphPartitioning;
   }
 
   public Map<String, String> getGraphvizAttributes()
@@ -62,6 +71,17 @@ public class GraphOptions
     return graphvizOpts;
   }
 
+  /**
+   * Largest number of tables in a part of a split diagram, or 0 if
+   * parts are not split by size.
+   *
+   * @return Largest number of tables in a part of the diagram
+   */
+  public int getMaximumPartitionSize()
+  {
+    return maximumPartitionSize;
+  }
+
   public boolean isShowForeignKeyCardinality()
   {
     return isShowForeignKeyCardinality;
@@ -56,6 +56,10 @@ public final class GraphOptionsBuilder
                                                                    + "show.foreignkey.cardinality";
   private static final String GRAPH_GRAPHVIZ_OPTS = SCHEMACRAWLER_GRAPH_PREFIX
                                                     + "graphviz_opts";
+  private static final String GRAPH_PARTITION = SCHEMACRAWLER_GRAPH_PREFIX
+                                                + "partition";
+  private static final String GRAPH_PARTITION_MAX_TABLES = GRAPH_PARTITION
+                                                           + ".max_tables";
   private static final String SC_GRAPHVIZ_OPTS = "SC_GRAPHVIZ_OPTS";
   private static final String GRAPH_GRAPHVIZ_ATTRIBUTES = SCHEMACRAWLER_GRAPH_PREFIX
                                                           + "graphviz";
@@ -106,6 +110,8 @@ public final class GraphOptionsBuilder
   protected Map<String, String> graphvizAttributes;
   protected boolean isShowForeignKeyCardinality;
   protected boolean isShowPrimaryKeyCardinality;
+  protected GraphPartitioning graphPartitioning;
+  protected int maximumPartitionSize;
 
   private GraphOptionsBuilder()
   {
@@ -114,6 +120,8 @@ public final class GraphOptionsBuilder
     graphvizAttributes = makeDefaultGraphvizAttributes();
     isShowForeignKeyCardinality = true;
     isShowPrimaryKeyCardinality = true;
+    graphPartitioning = GraphPartitioning.none;
+    maximumPartitionSize = 200;
   }
 
   @Override
@@ -129,6 +137,10 @@ public final class GraphOptionsBuilder
       .getBooleanValue(GRAPH_SHOW_PRIMARY_KEY_CARDINALITY, true);
     isShowForeignKeyCardinality = config
       .getBooleanValue(GRAPH_SHOW_FOREIGN_KEY_CARDINALITY, true);
+    graphPartitioning = config.getEnumValue(GRAPH_PARTITION,
+                                            GraphPartitioning.none);
+    withMaximumPartitionSize(config
+      .getIntegerValue(GRAPH_PARTITION_MAX_TABLES, maximumPartitionSize));
 
     graphvizOpts = listGraphvizOpts(readGraphvizOpts(config));
 
@@ -152,6 +164,8 @@ public final class GraphOptionsBuilder
 
     isShowPrimaryKeyCardinality = options.isShowPrimaryKeyCardinality();
     isShowForeignKeyCardinality = options.isShowForeignKeyCardinality();
+    graphPartitioning = options.getGraphPartitioning();
+    maximumPartitionSize = options.getMaximumPartitionSize();
 
     graphvizOpts = options.getGraphvizOpts();
     graphvizAttributes = options.getGraphvizAttributes();
@@ -190,6 +204,9 @@ public final class GraphOptionsBuilder
                            isShowPrimaryKeyCardinality);
     config.setBooleanValue(GRAPH_SHOW_FOREIGN_KEY_CARDINALITY,
                            isShowForeignKeyCardinality);
+    config.setEnumValue(GRAPH_PARTITION, graphPartitioning);
+    config.setStringValue(GRAPH_PARTITION_MAX_TABLES,
+                          String.valueOf(maximumPartitionSize));
 
     config.setStringValue(GRAPH_GRAPHVIZ_OPTS, join(graphvizOpts, " "));
 
@@ -204,6 +221,27 @@ public final class GraphOptionsBuilder
     return new GraphOptions(this);
   }
 
+  /**
+   * Splits the diagram into separate parts, each rendered by its own
+   * Graphviz process.
+   *
+   * @param graphPartitioning
+   *        How to split the diagram, or null to render a single diagram
+   * @return Builder
+   */
+  public GraphOptionsBuilder withGraphPartitioning(final GraphPartitioning graphPartitioning)
+  {
+    if (graphPartitioning == null)
+    {
+      this.graphPartitioning = GraphPartitioning.none;
+    }
+    else
+    {
+      this.graphPartitioning = graphPartitioning;
+    }
+    return this;
+  }
+
   public GraphOptionsBuilder withGraphvizAttributes(final Map<String, String> graphvizAttributes)
   {
     if (graphvizAttributes == null)
@@ -230,6 +268,21 @@ public final class GraphOptionsBuilder
     return this;
   }
 
+  /**
+   * Largest number of tables in a part of a split diagram. Larger parts
+   * are split again. Values less than 1 mean that parts are not split
+   * by size.
+   *
+   * @param maximumPartitionSize
+   *        Largest number of tables in a part of the diagram
+   * @return Builder
+   */
+  public GraphOptionsBuilder withMaximumPartitionSize(final int maximumPartitionSize)
+  {
+    this.maximumPartitionSize = Math.max(maximumPartitionSize, 0);
+    return this;
+  }
+
   private void graphvizAttributesToConfig(final Map<String, String> graphvizAttributes,
                                           final Config config)
   {
@@ -0,0 +1,53 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.graph;
+
+
+/**
+ * How a large catalog is split into separate diagrams, each rendered
+ * by its own Graphviz process.
+ */
+public enum GraphPartitioning
+{
+
+ /**
+  * Render the whole catalog as a single diagram.
+  */
+ none,
+ /**
+  * Render one diagram for each schema.
+  */
+ schema,
+ /**
+  * Render one diagram for each group of tables connected by foreign
+  * keys. Tables without any foreign keys are rendered together in a
+  * single diagram.
+  */
+ component;
+
+}
@@ -29,20 +29,46 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.integration.graph;
 
 
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.newBufferedWriter;
 import static java.util.Objects.requireNonNull;
+import static schemacrawler.tools.text.utility.html.Entities.escapeForXMLAttribute;
+import static schemacrawler.tools.text.utility.html.Entities.escapeForXMLElement;
 import static sf.util.IOUtility.createTempFilePath;
 import static sf.util.IOUtility.readResourceFully;
+import static sf.util.Utility.isBlank;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 import java.util.UUID;
-
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+
+import schemacrawler.schema.BaseForeignKey;
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
 import schemacrawler.tools.analysis.associations.CatalogWithAssociations;
+import schemacrawler.tools.analysis.associations.WeakAssociationsUtility;
 import schemacrawler.tools.analysis.counts.CatalogWithCounts;
+import schemacrawler.tools.analysis.counts.CountsOptionsBuilder;
 import schemacrawler.tools.executable.BaseSchemaCrawlerCommand;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.options.OutputOptionsBuilder;
@@ -51,6 +77,10 @@ import schemacrawler.tools.text.schema.SchemaTextDetailType;
 import schemacrawler.tools.traversal.SchemaTraversalHandler;
 import schemacrawler.tools.traversal.SchemaTraverser;
 import schemacrawler.utility.NamedObjectSort;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+import sf.util.graph.DirectedGraph;
+import sf.util.graph.WeaklyConnectedComponentFinder;
 
 /**
  * Main executor for the graphing integration.
@@ -59,6 +89,9 @@ public final class GraphRenderer
   extends BaseSchemaCrawlerCommand
 {
 
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(GraphRenderer.class.getName());
+
   private GraphOptions graphOptions;
   private GraphOutputFormat graphOutputFormat;
 
@@ -112,7 +145,11 @@ public final class GraphRenderer
     {
       aCatalog = new CatalogWithCounts(aCatalog,
                                        connection,
-                                       schemaCrawlerOptions);
+                                       connectionSupplier,
+                                       informationSchemaViews,
+                                       schemaCrawlerOptions,
+                                       CountsOptionsBuilder
+                                         .newCountsOptions(additionalConfiguration));
     }
 
     // Set the format, in case we are using the default
@@ -120,6 +157,18 @@ public final class GraphRenderer
       .withOutputFormat(graphOutputFormat)
       .withOutputFormatValue(graphOutputFormat.getFormat()).toOptions();
 
+    if (graphOptions.getGraphPartitioning() != GraphPartitioning.none)
+    {
+      // The output file is the index page, so it cannot be made up
+      final Path indexFile = outputOptions.getOutputFile()
+        .orElseThrow(() -> new SchemaCrawlerException("No output file provided for the index page of the partitioned diagram"))
+        .normalize().toAbsolutePath();
+      renderPartitions(aCatalog, indexFile);
+      return;
+    }
+
+    final Path outputFile = getOutputFile();
+
     // Create dot file
     final Path dotFile = createTempFilePath("schemacrawler.", "dot");
     final OutputOptions dotFileOutputOptions;
@@ -133,22 +182,9 @@ public final class GraphRenderer
         .newOutputOptions(GraphOutputFormat.dot, dotFile);
     }
 
-    final SchemaTraversalHandler formatter = getSchemaTraversalHandler(
-      dotFileOutputOptions);
-
-    final SchemaTraverser traverser = new SchemaTraverser();
-    traverser.setCatalog(aCatalog);
-    traverser.setHandler(formatter);
-    traverser.setTablesComparator(NamedObjectSort
-                                    .getNamedObjectSort(graphOptions
-                                                          .isAlphabeticalSortForTables()));
-    traverser.setRoutinesComparator(NamedObjectSort
-                                      .getNamedObjectSort(graphOptions
-                                                            .isAlphabeticalSortForRoutines()));
-
-    traverser.traverse();
+    traverse(aCatalog, getSchemaTraversalHandler(dotFileOutputOptions, null));
 
-    final GraphExecutor graphExecutor = getGraphExecutor(dotFile);
+    final GraphExecutor graphExecutor = getGraphExecutor(dotFile, outputFile);
     graphExecutor.call();
   }
 
@@ -172,21 +208,133 @@ public final class GraphRenderer
     return false;
   }
 
-  private GraphExecutor getGraphExecutor(final Path dotFile)
-    throws SchemaCrawlerException
+  /**
+   * Adds a part of the catalog, split into smaller parts if it has more
+   * tables than allowed.
+   */
+  private void addPartitions(final List<CatalogPartition> partitions,
+                             final Catalog aCatalog,
+                             final String partitionName,
+                             final List<Table> tables)
   {
-    // Set the format, in case we are using the default
-    outputOptions = OutputOptionsBuilder.builder(outputOptions)
-      .withOutputFormat(graphOutputFormat)
-      .withOutputFormatValue(graphOutputFormat.getFormat()).toOptions();
+    final int maximumPartitionSize = graphOptions.getMaximumPartitionSize();
+    if (maximumPartitionSize < 1 || tables.size() <= maximumPartitionSize)
+    {
+      partitions.add(new CatalogPartition(aCatalog, partitionName, tables));
+      return;
+    }
 
-    final Path outputFile = outputOptions.getOutputFile().orElseGet(() -> Paths
-      .get(".",
-           String.format("schemacrawler-%s.%s",
-                         UUID.randomUUID(),
-                         outputOptions.getOutputFormatValue()))).normalize()
-      .toAbsolutePath();
+    final int partCount = (tables.size() + maximumPartitionSize - 1)
+                          / maximumPartitionSize;
+    for (int i = 0; i < partCount; i++)
+    {
+      final List<Table> partTables = tables
+        .subList(i * maximumPartitionSize,
+                 Math.min((i + 1) * maximumPartitionSize, tables.size()));
+      partitions.add(new CatalogPartition(aCatalog,
+                                          String.format("%s (part %d of %d)",
+                                                        partitionName,
+                                                        i + 1,
+                                                        partCount),
+                                          partTables));
+    }
+  }
 
+  private void addRelationshipEdges(final DirectedGraph<Table> tablesGraph,
+                                    final Set<Table> tables,
+                                    final Collection<? extends BaseForeignKey<?>> foreignKeys)
+  {
+    for (final BaseForeignKey<? extends ColumnReference> foreignKey: foreignKeys)
+    {
+      for (final ColumnReference columnRef: foreignKey)
+      {
+        final Table foreignKeyTable = columnRef.getForeignKeyColumn()
+          .getParent();
+        final Table primaryKeyTable = columnRef.getPrimaryKeyColumn()
+          .getParent();
+        if (tables.contains(foreignKeyTable)
+            && tables.contains(primaryKeyTable))
+        {
+          tablesGraph.addEdge(foreignKeyTable, primaryKeyTable);
+        }
+      }
+    }
+  }
+
+  private void executeGraphExecutors(final List<GraphExecutor> graphExecutors)
+    throws Exception
+  {
+    // Only separate Graphviz processes are run at the same time, since
+    // the Java library for Graphviz shares a script engine
+    final int parallelism = Math.min(graphOptions.getParallelism(),
+                                     graphExecutors.size());
+    boolean isGraphvizProcess = true;
+    for (final GraphExecutor graphExecutor: graphExecutors)
+    {
+      isGraphvizProcess = isGraphvizProcess
+                          && graphExecutor instanceof GraphProcessExecutor;
+    }
+    if (parallelism <= 1 || !isGraphvizProcess)
+    {
+      for (final GraphExecutor graphExecutor: graphExecutors)
+      {
+        graphExecutor.call();
+      }
+      return;
+    }
+
+    LOGGER.log(Level.INFO,
+               new StringFormat("Rendering %d diagrams, %d at a time",
+                                graphExecutors.size(),
+                                parallelism));
+
+    final AtomicInteger threadCount = new AtomicInteger();
+    final ExecutorService executorService = Executors
+      .newFixedThreadPool(parallelism, runnable -> {
+        final Thread thread = new Thread(runnable,
+                                         "schemacrawler-graph-"
+                                                   + threadCount
+                                                     .incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    try
+    {
+      final List<Future<Boolean>> results = new ArrayList<>();
+      for (final GraphExecutor graphExecutor: graphExecutors)
+      {
+        results.add(executorService.submit(graphExecutor));
+      }
+      for (final Future<Boolean> result: results)
+      {
+        result.get();
+      }
+    }
+    catch (final ExecutionException e)
+    {
+      final Throwable cause = e.getCause();
+      if (cause instanceof Exception)
+      {
+        throw (Exception) cause;
+      }
+      throw new SchemaCrawlerException("Could not render diagram", cause);
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerException("Interrupted while rendering diagrams",
+                                       e);
+    }
+    finally
+    {
+      executorService.shutdownNow();
+    }
+  }
+
+  private GraphExecutor getGraphExecutor(final Path dotFile,
+                                         final Path outputFile)
+    throws SchemaCrawlerException
+  {
     GraphExecutor graphExecutor;
     if (graphOutputFormat != GraphOutputFormat.scdot)
     {
@@ -238,7 +386,18 @@ public final class GraphRenderer
     return schemaTextDetailType;
   }
 
-  private SchemaTraversalHandler getSchemaTraversalHandler(final OutputOptions outputOptions)
+  private Path getOutputFile()
+  {
+    return outputOptions.getOutputFile().orElseGet(() -> Paths
+      .get(".",
+           String.format("schemacrawler-%s.%s",
+                         UUID.randomUUID(),
+                         outputOptions.getOutputFormatValue()))).normalize()
+      .toAbsolutePath();
+  }
+
+  private SchemaTraversalHandler getSchemaTraversalHandler(final OutputOptions outputOptions,
+                                                           final CatalogPartition partition)
     throws SchemaCrawlerException
   {
     final SchemaTraversalHandler formatter;
@@ -248,11 +407,24 @@ public final class GraphRenderer
     formatter = new SchemaDotFormatter(schemaTextDetailType,
                                        graphOptions,
                                        outputOptions,
-                                       identifierQuoteString);
+                                       identifierQuoteString,
+                                       partition == null? null: new HashSet<>(partition
+                                         .getTables()));
 
     return formatter;
   }
 
+  private Map<Schema, List<Table>> groupBySchema(final Collection<Table> tables)
+  {
+    final Map<Schema, List<Table>> schemaTables = new LinkedHashMap<>();
+    for (final Table table: tables)
+    {
+      schemaTables.computeIfAbsent(table.getSchema(), key -> new ArrayList<>())
+        .add(table);
+    }
+    return schemaTables;
+  }
+
   private void loadGraphOptions()
   {
     if (graphOptions == null)
@@ -264,4 +436,199 @@ public final class GraphRenderer
       .fromFormat(outputOptions.getOutputFormatValue());
   }
 
+  /**
+   * Splits the catalog into parts, by schema, or by groups of tables
+   * connected by relationships. Groups of connected tables that are too
+   * large are split by schema instead, and then any part that is still
+   * too large is split by size.
+   */
+  private List<CatalogPartition> partitionCatalog(final Catalog aCatalog)
+  {
+    final List<CatalogPartition> partitions = new ArrayList<>();
+    if (graphOptions.getGraphPartitioning() == GraphPartitioning.schema)
+    {
+      for (final Entry<Schema, List<Table>> schemaTablesEntry: groupBySchema(aCatalog
+        .getTables()).entrySet())
+      {
+        final String schemaName = schemaTablesEntry.getKey().getFullName();
+        addPartitions(partitions,
+                      aCatalog,
+                      isBlank(schemaName)? "Tables": schemaName,
+                      schemaTablesEntry.getValue());
+      }
+    }
+    else
+    {
+      // Find groups of tables connected by relationships, ignoring the
+      // direction of the relationships
+      final Set<Table> tables = new HashSet<>(aCatalog.getTables());
+      final DirectedGraph<Table> tablesGraph = new DirectedGraph<>("");
+      for (final Table table: tables)
+      {
+        tablesGraph.addVertex(table);
+        addRelationshipEdges(tablesGraph, tables, table.getForeignKeys());
+        if (graphOptions.isShowWeakAssociations())
+        {
+          addRelationshipEdges(tablesGraph,
+                               tables,
+                               WeakAssociationsUtility
+                                 .getWeakAssociations(table));
+        }
+      }
+
+      final int maximumPartitionSize = graphOptions.getMaximumPartitionSize();
+      final List<Table> unrelatedTables = new ArrayList<>();
+      for (final List<Table> component: new WeaklyConnectedComponentFinder<>(tablesGraph)
+        .findComponents())
+      {
+        if (component.size() == 1)
+        {
+          unrelatedTables.add(component.get(0));
+        }
+        else if (maximumPartitionSize < 1
+                 || component.size() <= maximumPartitionSize)
+        {
+          partitions.add(new CatalogPartition(aCatalog,
+                                              String
+                                                .format("%s, and related tables",
+                                                        component.get(0)
+                                                          .getFullName()),
+                                              component));
+        }
+        else
+        {
+          for (final List<Table> schemaComponent: groupBySchema(component)
+            .values())
+          {
+            addPartitions(partitions,
+                          aCatalog,
+                          String.format("%s, and related tables",
+                                        schemaComponent.get(0).getFullName()),
+                          schemaComponent);
+          }
+        }
+      }
+      if (!unrelatedTables.isEmpty())
+      {
+        addPartitions(partitions,
+                      aCatalog,
+                      "Tables without relationships",
+                      unrelatedTables);
+      }
+    }
+    return partitions;
+  }
+
+  /**
+   * Renders each part of the catalog as a separate diagram, in files
+   * next to the index file, and writes an HTML index page that links
+   * to all the diagrams to the index file.
+   */
+  private void renderPartitions(final Catalog aCatalog,
+                                final Path indexFile)
+    throws Exception
+  {
+    final List<CatalogPartition> partitions = partitionCatalog(aCatalog);
+
+    final String indexFileName = indexFile.getFileName().toString();
+    final int extensionIndex = indexFileName.lastIndexOf('.');
+    final String baseName = extensionIndex > 0? indexFileName
+      .substring(0, extensionIndex): indexFileName;
+
+    // Write dot files one at a time, and then render them
+    final List<Path> partitionFiles = new ArrayList<>();
+    final List<GraphExecutor> graphExecutors = new ArrayList<>();
+    for (int i = 0; i < partitions.size(); i++)
+    {
+      final CatalogPartition partition = partitions.get(i);
+      final Path partitionFile = indexFile
+        .resolveSibling(String.format("%s-%03d.%s",
+                                      baseName,
+                                      i + 1,
+                                      graphOutputFormat.getFormat()));
+
+      final Path dotFile;
+      if (graphOutputFormat == GraphOutputFormat.scdot)
+      {
+        dotFile = partitionFile;
+      }
+      else
+      {
+        dotFile = createTempFilePath("schemacrawler.", "dot");
+      }
+      final OutputOptions dotFileOutputOptions = OutputOptionsBuilder
+        .builder(OutputOptionsBuilder.newOutputOptions(GraphOutputFormat.dot,
+                                                       dotFile))
+        .title(partition.getPartitionName()).toOptions();
+
+      traverse(partition,
+               getSchemaTraversalHandler(dotFileOutputOptions, partition));
+
+      graphExecutors.add(getGraphExecutor(dotFile, partitionFile));
+      partitionFiles.add(partitionFile);
+    }
+
+    executeGraphExecutors(graphExecutors);
+
+    writePartitionsIndex(partitions, partitionFiles, indexFile);
+    LOGGER.log(Level.INFO,
+               new StringFormat("Wrote index of %d diagrams to <%s>",
+                                partitions.size(),
+                                indexFile));
+  }
+
+  private void traverse(final Catalog aCatalog,
+                        final SchemaTraversalHandler formatter)
+    throws SchemaCrawlerException
+  {
+    final SchemaTraverser traverser = new SchemaTraverser();
+    traverser.setCatalog(aCatalog);
+    traverser.setHandler(formatter);
+    traverser.setTablesComparator(NamedObjectSort
+                                    .getNamedObjectSort(graphOptions
+                                                          .isAlphabeticalSortForTables()));
+    traverser.setRoutinesComparator(NamedObjectSort
+                                      .getNamedObjectSort(graphOptions
+                                                            .isAlphabeticalSortForRoutines()));
+
+    traverser.traverse();
+  }
+
+  private void writePartitionsIndex(final List<CatalogPartition> partitions,
+                                    final List<Path> partitionFiles,
+                                    final Path indexFile)
+    throws IOException
+  {
+    final String title = outputOptions.getTitle();
+    final String indexTitle = isBlank(title)? "SchemaCrawler Diagrams": title;
+    try (final BufferedWriter writer = newBufferedWriter(indexFile, UTF_8);)
+    {
+      writer.write(String.format("<!DOCTYPE html>%n"));
+      writer.write(String.format("<html lang=\"en\">%n"));
+      writer.write(String.format("<head>%n"));
+      writer.write(String.format("  <meta charset=\"utf-8\"/>%n"));
+      writer.write(String.format("  <title>%s</title>%n",
+                                 escapeForXMLElement(indexTitle)));
+      writer.write(String.format("</head>%n"));
+      writer.write(String.format("<body>%n"));
+      writer.write(String.format("<h1>%s</h1>%n",
+                                 escapeForXMLElement(indexTitle)));
+      writer.write(String.format("<ul>%n"));
+      for (int i = 0; i < partitions.size(); i++)
+      {
+        final CatalogPartition partition = partitions.get(i);
+        final String partitionFileName = partitionFiles.get(i).getFileName()
+          .toString();
+        writer.write(String
+          .format("  <li><a href=\"%s\">%s</a> (%d tables)</li>%n",
+                  escapeForXMLAttribute(partitionFileName),
+                  escapeForXMLElement(partition.getPartitionName()),
+                  partition.getTables().size()));
+      }
+      writer.write(String.format("</ul>%n"));
+      writer.write(String.format("</body>%n"));
+      writer.write(String.format("</html>%n"));
+    }
+  }
+
 }
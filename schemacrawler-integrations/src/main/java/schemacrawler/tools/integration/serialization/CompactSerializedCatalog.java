@@ -0,0 +1,284 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.integration.serialization;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import schemacrawler.crawl.CompactCatalogReader;
+import schemacrawler.crawl.CompactCatalogWriter;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.BaseCatalogDecorator;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+
+/**
+ * Decorates a database to allow for serialization to and from a
+ * compact binary snapshot. A snapshot starts with a header, which has a
+ * magic number, the version of the snapshot layout as a varint, and the
+ * compression of the body. The body is the catalog, written field by
+ * field, with a table of strings so that each distinct string is
+ * written once, and with varints for counts and for references between
+ * catalog objects. Only attribute values that are not simple values,
+ * such as lints, use Java serialization. Snapshots are always read and
+ * written through buffers.
+ */
+public final class CompactSerializedCatalog
+  extends BaseCatalogDecorator
+  implements SerializableCatalog
+{
+
+  private static final long serialVersionUID = -3542307683125453317L;
+
+  private static final byte[] MAGIC = { 'S', 'C', 'C', 'S' };
+  // Version of the header and body layout, not of the catalog classes
+  private static final int FORMAT_VERSION = 2;
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * Checks if the stream starts with a compact catalog snapshot. The
+   * stream is reset to where it was, so that the snapshot can be read
+   * from it.
+   *
+   * @param in
+   *        Input stream, which supports mark and reset
+   * @return Whether the stream has a compact catalog snapshot
+   * @throws IOException
+   *         On an exception reading the stream
+   */
+  public static boolean isCompactSnapshot(final InputStream in)
+    throws IOException
+  {
+    requireNonNull(in, "No input stream provided");
+    if (!in.markSupported())
+    {
+      throw new IOException("Input stream does not support mark and reset");
+    }
+
+    final byte[] magic = new byte[MAGIC.length];
+    in.mark(magic.length);
+    try
+    {
+      int read = 0;
+      while (read < magic.length)
+      {
+        final int count = in.read(magic, read, magic.length - read);
+        if (count < 0)
+        {
+          return false;
+        }
+        read = read + count;
+      }
+      return Arrays.equals(magic, MAGIC);
+    }
+    finally
+    {
+      in.reset();
+    }
+  }
+
+  private static Catalog readCatalog(final InputStream in)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(in, "No input stream provided");
+    try
+    {
+      final InputStream bufferedIn = new BufferedInputStream(in, BUFFER_SIZE);
+      for (final byte magicByte: MAGIC)
+      {
+        if (bufferedIn.read() != magicByte)
+        {
+          throw new SchemaCrawlerException("Not a compact catalog snapshot");
+        }
+      }
+      final int formatVersion = readVarint(bufferedIn);
+      if (formatVersion != FORMAT_VERSION)
+      {
+        throw new SchemaCrawlerException(String
+          .format("Cannot read catalog snapshot version %d, only version %d is supported",
+                  formatVersion,
+                  FORMAT_VERSION));
+      }
+      final SnapshotCompression compression = readCompression(bufferedIn);
+
+      final InputStream bodyIn;
+      switch (compression)
+      {
+        case deflate:
+          bodyIn = new BufferedInputStream(new InflaterInputStream(bufferedIn),
+                                           BUFFER_SIZE);
+          break;
+        case none:
+        default:
+          bodyIn = bufferedIn;
+          break;
+      }
+
+      try (final InputStream closeableBodyIn = bodyIn;)
+      {
+        return new CompactCatalogReader(closeableBodyIn).read();
+      }
+    }
+    catch (final IOException e)
+    {
+      throw new SchemaCrawlerException("Cannot deserialize catalog", e);
+    }
+  }
+
+  private static SnapshotCompression readCompression(final InputStream in)
+    throws IOException, SchemaCrawlerException
+  {
+    final int ordinal = readVarint(in);
+    final SnapshotCompression[] compressions = SnapshotCompression.values();
+    if (ordinal >= compressions.length)
+    {
+      throw new SchemaCrawlerException(String
+        .format("Unknown catalog snapshot compression, %d", ordinal));
+    }
+    return compressions[ordinal];
+  }
+
+  private static int readVarint(final InputStream in)
+    throws IOException
+  {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift = shift + 7)
+    {
+      final int b = in.read();
+      if (b < 0)
+      {
+        throw new EOFException("Unexpected end of catalog snapshot");
+      }
+      value = value | (b & 0x7F) << shift;
+      if ((b & 0x80) == 0)
+      {
+        return value;
+      }
+    }
+    throw new IOException("Malformed varint in catalog snapshot");
+  }
+
+  private static void writeVarint(final OutputStream out, final int value)
+    throws IOException
+  {
+    int remaining = value;
+    while ((remaining & ~0x7F) != 0)
+    {
+      out.write(remaining & 0x7F | 0x80);
+      remaining = remaining >>> 7;
+    }
+    out.write(remaining);
+  }
+
+  private final SnapshotCompression compression;
+
+  public CompactSerializedCatalog(final Catalog catalog)
+  {
+    this(catalog, SnapshotCompression.deflate);
+  }
+
+  public CompactSerializedCatalog(final Catalog catalog,
+                                  final SnapshotCompression compression)
+  {
+    super(catalog);
+    this.compression = requireNonNull(compression,
+                                      "No snapshot compression provided");
+  }
+
+  public CompactSerializedCatalog(final InputStream in)
+    throws SchemaCrawlerException
+  {
+    this(readCatalog(in));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public final <T> Optional<T> lookupAttribute(final String name)
+  {
+    return Optional.ofNullable(getAttribute(name));
+  }
+
+  /**
+   * Serializes the database to the output stream, as a compact binary
+   * snapshot.
+   *
+   * @param out
+   *        Output stream to save to
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  @Override
+  public void save(final OutputStream out)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(out, "No output stream provided");
+    try
+    {
+      final OutputStream bufferedOut = new BufferedOutputStream(out,
+                                                                BUFFER_SIZE);
+      bufferedOut.write(MAGIC);
+      writeVarint(bufferedOut, FORMAT_VERSION);
+      writeVarint(bufferedOut, compression.ordinal());
+
+      final OutputStream bodyOut;
+      switch (compression)
+      {
+        case deflate:
+          bodyOut = new BufferedOutputStream(new DeflaterOutputStream(bufferedOut),
+                                             BUFFER_SIZE);
+          break;
+        case none:
+        default:
+          bodyOut = bufferedOut;
+          break;
+      }
+
+      try (final OutputStream closeableBodyOut = bodyOut;)
+      {
+        new CompactCatalogWriter(closeableBodyOut).write(catalog);
+      }
+    }
+    catch (final IOException e)
+    {
+      throw new SchemaCrawlerException("Could not serialize catalog", e);
+    }
+  }
+
+}
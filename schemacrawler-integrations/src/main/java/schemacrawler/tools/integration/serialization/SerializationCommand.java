@@ -49,6 +49,9 @@ public final class SerializationCommand
 
   static final String COMMAND = "serialize";
 
+  private static final String SERIALIZATION_FORMAT = "schemacrawler.serialization.format";
+  private static final String SNAPSHOT_COMPRESSION = "schemacrawler.serialization.compression";
+
   public SerializationCommand()
   {
     this(COMMAND);
@@ -82,7 +85,22 @@ public final class SerializationCommand
              String.format("schemacrawler-%s.%s", UUID.randomUUID(), "data")))
       .normalize().toAbsolutePath();
 
-    final SerializableCatalog serializableCatalog = new JavaSerializedCatalog(catalog);
+    final SerializationFormat serializationFormat = additionalConfiguration
+      .getEnumValue(SERIALIZATION_FORMAT, SerializationFormat.java);
+    final SerializableCatalog serializableCatalog;
+    switch (serializationFormat)
+    {
+      case compact:
+        final SnapshotCompression compression = additionalConfiguration
+          .getEnumValue(SNAPSHOT_COMPRESSION, SnapshotCompression.deflate);
+        serializableCatalog = new CompactSerializedCatalog(catalog,
+                                                           compression);
+        break;
+      case java:
+      default:
+        serializableCatalog = new JavaSerializedCatalog(catalog);
+        break;
+    }
     try (final OutputStream out = newOutputStream(outputFile);)
     {
       serializableCatalog.save(out);
@@ -74,6 +74,7 @@ public final class SchemaDotFormatter
 
   private final boolean isVerbose;
   private final boolean isBrief;
+  private final Collection<Table> partitionTables;
 
   /**
    * Text formatting of schema.
@@ -94,6 +95,38 @@ public final class SchemaDotFormatter
                             final OutputOptions outputOptions,
                             final String identifierQuoteString)
     throws SchemaCrawlerException
+  {
+    this(schemaTextDetailType,
+         options,
+         outputOptions,
+         identifierQuoteString,
+         null);
+  }
+
+  /**
+   * Text formatting of one part of a schema diagram. Relationships to
+   * tables outside the part are shown as links to stub nodes for the
+   * referenced columns.
+   *
+   * @param schemaTextDetailType
+   *        Types for text formatting of schema
+   * @param options
+   *        Options for text formatting of schema
+   * @param outputOptions
+   *        Options for text formatting of schema
+   * @param identifierQuoteString
+   *        Quote character for database objects
+   * @param partitionTables
+   *        Tables in this part of the diagram, or null for all tables
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public SchemaDotFormatter(final SchemaTextDetailType schemaTextDetailType,
+                            final GraphOptions options,
+                            final OutputOptions outputOptions,
+                            final String identifierQuoteString,
+                            final Collection<Table> partitionTables)
+    throws SchemaCrawlerException
   {
     super(options,
           schemaTextDetailType == SchemaTextDetailType.details,
@@ -101,6 +134,7 @@ public final class SchemaDotFormatter
           identifierQuoteString);
     isVerbose = schemaTextDetailType == SchemaTextDetailType.details;
     isBrief = schemaTextDetailType == SchemaTextDetailType.brief;
+    this.partitionTables = partitionTables;
   }
 
   @Override
@@ -316,6 +350,7 @@ public final class SchemaDotFormatter
   private String printColumnReference(final String fkName,
                                       final ColumnReference columnRef,
                                       final ForeignKeyCardinality fkCardinality,
+                                      final boolean isPkColumnFiltered,
                                       final boolean isFkColumnFiltered)
   {
     final boolean isForeignKey = columnRef instanceof ForeignKeyColumnReference;
@@ -323,7 +358,8 @@ public final class SchemaDotFormatter
     final Column primaryKeyColumn = columnRef.getPrimaryKeyColumn();
     final Column foreignKeyColumn = columnRef.getForeignKeyColumn();
 
-    final String[] pkPortIds = getPortIds(primaryKeyColumn, false);
+    final String[] pkPortIds = getPortIds(primaryKeyColumn,
+                                          isPkColumnFiltered);
     final String[] fkPortIds = getPortIds(foreignKeyColumn, isFkColumnFiltered);
 
     final GraphOptions graphOptions = options;
@@ -378,6 +414,11 @@ public final class SchemaDotFormatter
 
   }
 
+  private boolean isInPartition(final Table table)
+  {
+    return partitionTables == null || partitionTables.contains(table);
+  }
+
   private void printForeignKeys(final Table table)
   {
     printForeignKeys(table, table.getForeignKeys());
@@ -399,16 +440,33 @@ public final class SchemaDotFormatter
         {
           continue;
         }
-        final boolean isFkColumnFiltered = referencedTable
-          .getAttribute("schemacrawler.table.filtered_out", false);
-        if (table.equals(columnRef.getPrimaryKeyColumn().getParent()))
+        final Table primaryKeyTable = columnRef.getPrimaryKeyColumn()
+          .getParent();
+        final boolean isFkColumnFiltered = !isInPartition(referencedTable)
+                                           || referencedTable
+                                             .getAttribute("schemacrawler.table.filtered_out",
+                                                           false);
+        if (table.equals(primaryKeyTable))
         {
           formattingHelper.append(printColumnReference(identifiers
             .quoteName(foreignKey.getName()),
                                                        columnRef,
                                                        fkCardinality,
+                                                       false,
                                                        isFkColumnFiltered));
         }
+        else if (table.equals(referencedTable)
+                 && !isInPartition(primaryKeyTable))
+        {
+          // The referenced table is in another part of the diagram, so
+          // print the relationship from this side, to a stub node
+          formattingHelper.append(printColumnReference(identifiers
+            .quoteName(foreignKey.getName()),
+                                                       columnRef,
+                                                       fkCardinality,
+                                                       true,
+                                                       false));
+        }
       }
     }
   }
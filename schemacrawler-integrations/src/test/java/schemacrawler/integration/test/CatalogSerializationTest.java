@@ -29,31 +29,49 @@ http://www.gnu.org/licenses/
 package schemacrawler.integration.test;
 
 
+import static java.util.Collections.singletonMap;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static schemacrawler.utility.SchemaCrawlerUtility.getCatalog;
 
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Schema;
+import schemacrawler.schema.SchemaReference;
+import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.test.utility.DatabaseTestUtility;
 import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
 import schemacrawler.test.utility.TestLoggingExtension;
+import schemacrawler.tools.integration.serialization.CompactSerializedCatalog;
+import schemacrawler.tools.integration.serialization.JavaSerializedCatalog;
+import schemacrawler.tools.integration.serialization.SnapshotCompression;
 import sf.util.IOUtility;
 
 @ExtendWith(TestLoggingExtension.class)
@@ -61,6 +79,110 @@ import sf.util.IOUtility;
 public class CatalogSerializationTest
 {
 
+  @Test
+  public void catalogSerializationWithCompactSnapshot(final Connection connection)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+
+    final Catalog catalog = getCatalog(connection, schemaCrawlerOptions);
+    assertThat("Could not obtain catalog", catalog, notNullValue());
+
+    final ByteArrayOutputStream javaOut = new ByteArrayOutputStream();
+    new JavaSerializedCatalog(catalog).save(javaOut);
+
+    for (final SnapshotCompression compression: SnapshotCompression.values())
+    {
+      final ByteArrayOutputStream compactOut = new ByteArrayOutputStream();
+      new CompactSerializedCatalog(catalog, compression).save(compactOut);
+      assertThat("Compact snapshot is not smaller than Java serialization",
+                 compactOut.size(),
+                 lessThan(javaOut.size()));
+
+      final InputStream in = new BufferedInputStream(new ByteArrayInputStream(compactOut
+        .toByteArray()));
+      assertThat(CompactSerializedCatalog.isCompactSnapshot(in), is(true));
+      final Catalog catalogDeserialized = new CompactSerializedCatalog(in);
+
+      final Schema schemaDeserialized = catalogDeserialized
+        .lookupSchema("PUBLIC.BOOKS").orElse(null);
+      assertThat("Could not obtain schema",
+                 schemaDeserialized,
+                 notNullValue());
+      assertThat("Unexpected number of tables in the schema",
+                 catalogDeserialized.getTables(schemaDeserialized),
+                 hasSize(10));
+      assertThat(catalogDeserialized.getTables().toString(),
+                 is(catalog.getTables().toString()));
+      assertThat(catalogDeserialized.lookupAttribute("no_such_attribute")
+        .isPresent(), is(false));
+    }
+
+    assertThat(CompactSerializedCatalog
+      .isCompactSnapshot(new BufferedInputStream(new ByteArrayInputStream(javaOut
+        .toByteArray()))), is(false));
+  }
+
+  @Test
+  public void catalogSerializationWithCompactSnapshotAttributes(final Connection connection)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = DatabaseTestUtility.schemaCrawlerOptionsWithMaximumSchemaInfoLevel;
+
+    final Catalog catalog = getCatalog(connection, schemaCrawlerOptions);
+    assertThat("Could not obtain catalog", catalog, notNullValue());
+
+    final Table authors = catalog
+      .lookupTable(new SchemaReference("PUBLIC", "BOOKS"), "AUTHORS")
+      .orElse(null);
+    final Table books = catalog
+      .lookupTable(new SchemaReference("PUBLIC", "BOOKS"), "BOOKS")
+      .orElse(null);
+    assertThat("Could not obtain tables", authors, notNullValue());
+    assertThat("Could not obtain tables", books, notNullValue());
+
+    authors.setAttribute("row_count", 10L);
+    authors.setAttribute("related", new ArrayList<>(Arrays.asList("one", books)));
+    authors.setAttribute("lookup", new TreeMap<>(singletonMap("books", books)));
+    catalog.setAttribute("ratio", 0.5d);
+
+    final ByteArrayOutputStream compactOut = new ByteArrayOutputStream();
+    new CompactSerializedCatalog(catalog).save(compactOut);
+    final Catalog catalogDeserialized = new CompactSerializedCatalog(new ByteArrayInputStream(compactOut
+      .toByteArray()));
+
+    final Table authorsDeserialized = catalogDeserialized
+      .lookupTable(new SchemaReference("PUBLIC", "BOOKS"), "AUTHORS")
+      .orElse(null);
+    final Table booksDeserialized = catalogDeserialized
+      .lookupTable(new SchemaReference("PUBLIC", "BOOKS"), "BOOKS")
+      .orElse(null);
+    assertThat(authorsDeserialized.getAttribute("row_count"), is(10L));
+    final List<Object> related = authorsDeserialized.getAttribute("related");
+    assertThat(related, hasSize(2));
+    assertThat(related.get(0), is("one"));
+    assertThat(related.get(1), is(sameInstance(booksDeserialized)));
+    final Map<String, Table> lookup = authorsDeserialized
+      .getAttribute("lookup");
+    assertThat(lookup.get("books"), is(sameInstance(booksDeserialized)));
+    assertThat(catalogDeserialized.getAttribute("ratio"), is(0.5d));
+
+    assertThat(catalogDeserialized.getCrawlInfo().toString(),
+               is(catalog.getCrawlInfo().toString()));
+    for (final Table table: catalog.getTables())
+    {
+      final Table tableDeserialized = catalogDeserialized
+        .lookupTable(table.getSchema(), table.getName()).orElse(null);
+      assertThat(tableDeserialized, notNullValue());
+      assertThat(tableDeserialized.getColumns().toString(),
+                 is(table.getColumns().toString()));
+      assertThat(tableDeserialized.getForeignKeys().toString(),
+                 is(table.getForeignKeys().toString()));
+      assertThat(tableDeserialized.getIndexes().toString(),
+                 is(table.getIndexes().toString()));
+    }
+  }
+
   @Test
   public void catalogSerializationWithJava(final Connection connection)
     throws Exception
@@ -0,0 +1,213 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.integration.test;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.test.utility.TestLoggingExtension;
+import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+import schemacrawler.tools.integration.graph.GraphOptionsBuilder;
+import schemacrawler.tools.integration.graph.GraphOutputFormat;
+import schemacrawler.tools.integration.graph.GraphPartitioning;
+import schemacrawler.tools.options.OutputOptionsBuilder;
+import schemacrawler.tools.text.schema.SchemaTextDetailType;
+
+@ExtendWith(TestLoggingExtension.class)
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class GraphPartitionTest
+{
+
+  private static final Pattern LINK = Pattern
+    .compile("<a href=\"([^\"]+)\">([^<]+)</a> \\((\\d+) tables\\)");
+
+  @Test
+  public void partitionByComponent(final Connection connection)
+    throws Exception
+  {
+    final GraphOptionsBuilder graphOptionsBuilder = GraphOptionsBuilder
+      .builder().withGraphPartitioning(GraphPartitioning.component);
+
+    final List<String> partitions = executablePartitionedGraph(connection,
+                                                               graphOptionsBuilder);
+
+    assertThat(partitions.size(), is(4));
+    assertThat(partitions.get(0), containsString("PUBLIC.BOOKS.AUTHORS"));
+    assertThat(partitions.get(0), containsString("PUBLIC.BOOKS.BOOKS"));
+    assertThat(partitions.get(2), containsString("PUBLIC.\"PUBLISHER SALES\".SALES"));
+    assertThat(partitions.get(3), containsString("PUBLIC.BOOKS.COUPONS"));
+  }
+
+  @Test
+  public void partitionByComponentWithMaximumSize(final Connection connection)
+    throws Exception
+  {
+    final List<Integer> tableCounts = new ArrayList<>();
+    final List<String> partitions = executablePartitionedGraph(connection,
+                                                               GraphOptionsBuilder
+                                                                 .builder()
+                                                                 .withGraphPartitioning(GraphPartitioning.component)
+                                                                 .withMaximumPartitionSize(2),
+                                                               tableCounts);
+
+    final List<Integer> unlimitedTableCounts = new ArrayList<>();
+    executablePartitionedGraph(connection,
+                               GraphOptionsBuilder.builder()
+                                 .withGraphPartitioning(GraphPartitioning.component)
+                                 .withMaximumPartitionSize(0),
+                               unlimitedTableCounts);
+
+    assertThat(partitions.size(), is(greaterThan(4)));
+    assertThat(tableCounts, everyItem(is(lessThanOrEqualTo(2))));
+    assertThat(sum(tableCounts), is(sum(unlimitedTableCounts)));
+  }
+
+  @Test
+  public void partitionToConsole(final Connection connection)
+    throws Exception
+  {
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable(SchemaTextDetailType.schema
+      .name());
+    executable.setAdditionalConfiguration(GraphOptionsBuilder.builder()
+      .withGraphPartitioning(GraphPartitioning.schema).noInfo().toConfig());
+    executable.setOutputOptions(OutputOptionsBuilder.builder()
+      .withOutputFormat(GraphOutputFormat.scdot).withConsoleOutput()
+      .toOptions());
+    executable.setConnection(connection);
+
+    assertThrows(SchemaCrawlerException.class, () -> executable.execute());
+  }
+
+  @Test
+  public void partitionBySchema(final Connection connection)
+    throws Exception
+  {
+    final GraphOptionsBuilder graphOptionsBuilder = GraphOptionsBuilder
+      .builder().withGraphPartitioning(GraphPartitioning.schema)
+      .weakAssociations();
+
+    final List<String> partitions = executablePartitionedGraph(connection,
+                                                               graphOptionsBuilder);
+
+    assertThat(partitions.size(), is(2));
+    // Weak associations between schemas link to stub nodes
+    assertThat(partitions.get(0),
+               containsString("[label=<PUBLIC.\"PUBLISHER SALES\".SALES.BOOKID>]"));
+    assertThat(partitions.get(1),
+               containsString("[label=<PUBLIC.BOOKS.BOOKS.ID>]"));
+  }
+
+  private List<String> executablePartitionedGraph(final Connection connection,
+                                                  final GraphOptionsBuilder graphOptionsBuilder)
+    throws Exception
+  {
+    return executablePartitionedGraph(connection,
+                                      graphOptionsBuilder,
+                                      new ArrayList<>());
+  }
+
+  private List<String> executablePartitionedGraph(final Connection connection,
+                                                  final GraphOptionsBuilder graphOptionsBuilder,
+                                                  final List<Integer> tableCounts)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .builder()
+      .includeSchemas(new RegularExpressionExclusionRule(".*\\.SYSTEM_LOBS|.*\\.FOR_LINT"))
+      .toOptions();
+
+    final Path directory = Files.createTempDirectory("schemacrawler.graph.");
+    // The index page is written to the output file
+    final Path outputFile = directory.resolve("diagram.html");
+
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable(SchemaTextDetailType.schema
+      .name());
+    executable.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    executable.setAdditionalConfiguration(graphOptionsBuilder.withParallelism(2)
+      .noInfo().toConfig());
+    executable.setOutputOptions(OutputOptionsBuilder
+      .newOutputOptions(GraphOutputFormat.scdot, outputFile));
+    executable.setConnection(connection);
+    executable.execute();
+
+    assertThat(Files.exists(outputFile), is(true));
+    final String index = new String(Files.readAllBytes(outputFile), UTF_8);
+
+    // Check that every linked diagram was written
+    final List<String> partitions = new ArrayList<>();
+    final Matcher matcher = LINK.matcher(index);
+    while (matcher.find())
+    {
+      final String partitionFileName = matcher.group(1);
+      assertThat(partitionFileName,
+                 is(String.format("diagram-%03d.scdot",
+                                  partitions.size() + 1)));
+      final String partition = new String(Files.readAllBytes(directory
+        .resolve(partitionFileName)), UTF_8);
+      assertThat(partition, startsWith("digraph"));
+      partitions.add(partition);
+      tableCounts.add(Integer.valueOf(matcher.group(3)));
+    }
+    return partitions;
+  }
+
+  private int sum(final List<Integer> values)
+  {
+    int sum = 0;
+    for (final int value: values)
+    {
+      sum += value;
+    }
+    return sum;
+  }
+
+}
@@ -29,9 +29,7 @@ http://www.gnu.org/licenses/
 package schemacrawler.integration.test;
 
 
-import static java.nio.file.Files.copy;
 import static java.nio.file.Files.createDirectories;
-import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static schemacrawler.test.utility.ExecutableTestUtility.executableExecution;
 import static schemacrawler.test.utility.ExecutableTestUtility.hasSameContentAndTypeAs;
@@ -64,6 +62,7 @@ import schemacrawler.tools.executable.SchemaCrawlerExecutable;
 import schemacrawler.tools.integration.graph.GraphOptions;
 import schemacrawler.tools.integration.graph.GraphOptionsBuilder;
 import schemacrawler.tools.integration.graph.GraphOutputFormat;
+import schemacrawler.tools.options.OutputOptionsBuilder;
 import schemacrawler.tools.text.schema.SchemaTextDetailType;
 
 @ExtendWith(TestLoggingExtension.class)
@@ -410,12 +409,11 @@ public class GraphRendererOptionsTest
 
     // Generate diagram, so that we have something to look at, even if
     // the DOT file comparison fails
-    final Path testDiagramFile = executableExecution(connection,
-                                                     executable,
-                                                     GraphOutputFormat.png);
-    copy(testDiagramFile,
-         directory.resolve(testMethodName + ".png"),
-         REPLACE_EXISTING);
+    executable.setOutputOptions(OutputOptionsBuilder
+      .newOutputOptions(GraphOutputFormat.png,
+                        directory.resolve(testMethodName + ".png")));
+    executable.setConnection(connection);
+    executable.execute();
 
     // Check DOT file
     final String referenceFileName = testMethodName;
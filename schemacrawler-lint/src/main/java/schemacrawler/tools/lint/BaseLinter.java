@@ -143,6 +143,22 @@ public abstract class BaseLinter
     return table != null && tableInclusionRule.test(table.getFullName());
   }
 
+  /**
+   * Whether tables can be linted independently of each other, in any
+   * order, and on any thread. Linters that keep state across tables,
+   * add catalog lints while linting tables, add lints when they end, or
+   * use the database connection need to return false, which is the
+   * default. Tables are only spread across threads, lints are only
+   * cached, and lints are only handled as soon as a table is linted,
+   * for linters that return true. Can be overridden.
+   *
+   * @return Whether tables can be linted independently
+   */
+  protected boolean isTableIndependent()
+  {
+    return false;
+  }
+
   protected abstract void lint(Table table, Connection connection)
     throws SchemaCrawlerException;
 
@@ -178,26 +194,81 @@ public abstract class BaseLinter
   final void lint(final Catalog catalog, final Connection connection)
     throws SchemaCrawlerException
   {
-    this.catalog = requireNonNull(catalog, "No catalog provided");
-
-    start(connection);
+    startLint(catalog, connection);
     for (final Table table: catalog.getTables())
     {
-      if (tableInclusionRule.test(table.getFullName())
-          && tableTypesFilter.test(table))
+      if (includesTable(table, table.getFullName()))
       {
         lint(table, connection);
       }
-      else
-      {
-        LOGGER.log(Level.FINE,
-                   new StringFormat("Excluding table %s for lint %s",
-                                    table,
-                                    getLinterId()));
-      }
     }
+    endLint(connection);
+  }
+
+  /**
+   * Adds lints for a table from the lint cache, instead of linting the
+   * table again.
+   *
+   * @param table
+   *        Table that was linted before
+   * @param cachedLints
+   *        Lints for the table from the lint cache
+   */
+  final void addCachedLints(final Table table,
+                            final List<LintCache.CachedLint> cachedLints)
+  {
+    for (final LintCache.CachedLint cachedLint: cachedLints)
+    {
+      addTableLint(table,
+                   cachedLint.getMessage(),
+                   cachedLint.getValue(table));
+    }
+  }
+
+  final void endLint(final Connection connection)
+    throws SchemaCrawlerException
+  {
     end(connection);
-    this.catalog = null;
+    catalog = null;
+  }
+
+  /**
+   * Checks if a table is to be linted by this linter.
+   *
+   * @param table
+   *        Table to check
+   * @param tableFullName
+   *        Full name of the table, which is worked out once for all
+   *        linters
+   * @return Whether the table is to be linted
+   */
+  final boolean includesTable(final Table table, final String tableFullName)
+  {
+    if (tableInclusionRule.test(tableFullName) && tableTypesFilter.test(table))
+    {
+      return true;
+    }
+    else
+    {
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Excluding table %s for lint %s",
+                                  table,
+                                  getLinterId()));
+      return false;
+    }
+  }
+
+  final void lintTable(final Table table, final Connection connection)
+    throws SchemaCrawlerException
+  {
+    lint(table, connection);
+  }
+
+  final void startLint(final Catalog catalog, final Connection connection)
+    throws SchemaCrawlerException
+  {
+    this.catalog = requireNonNull(catalog, "No catalog provided");
+    start(connection);
   }
 
   private final void setColumnInclusionRule(final InclusionRule columnInclusionRule)
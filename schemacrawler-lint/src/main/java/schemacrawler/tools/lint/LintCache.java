@@ -0,0 +1,675 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.lint;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import schemacrawler.Version;
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ColumnDataType;
+import schemacrawler.schema.ColumnReference;
+import schemacrawler.schema.DatabaseInfo;
+import schemacrawler.schema.ForeignKey;
+import schemacrawler.schema.Index;
+import schemacrawler.schema.IndexColumn;
+import schemacrawler.schema.NamedObject;
+import schemacrawler.schema.Table;
+import schemacrawler.schema.TableConstraint;
+import schemacrawler.schemacrawler.InclusionRule;
+import schemacrawler.schemacrawler.InclusionRuleWithRegularExpression;
+import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Keeps lints from a previous lint run in a local file, so that lints
+ * for tables that have not changed can be reused, rather than linting
+ * the tables again. Lints are looked up by a fingerprint of the table
+ * structure, and a fingerprint of the linter configuration. Only
+ * linters that lint tables independently of each other use the cache.
+ * The cache is discarded if it was written by a different version of
+ * SchemaCrawler, or for a different database product or version.
+ *
+ * @author Sualeh Fatehi
+ */
+final class LintCache
+{
+
+  /**
+   * Message and value of a lint, which is all that is needed to add
+   * the lint again from the same linter. Columns, indexes and foreign
+   * keys in lint values are kept by name, and looked up again in the
+   * table when the lint is reused, so that the cache does not hold on
+   * to schema objects from a previous lint run.
+   */
+  static final class CachedLint
+    implements Serializable
+  {
+
+    private static final long serialVersionUID = -1487201532437581903L;
+
+    private final String message;
+    private final Serializable value;
+    private final ArrayList<TableObjectReference> references;
+    private final boolean isReferenceList;
+    private final String valueAsString;
+
+    CachedLint(final Lint<?> lint)
+    {
+      message = lint.getMessage();
+      valueAsString = lint.getValueAsString();
+
+      final Serializable lintValue = lint.getValue();
+      isReferenceList = lintValue instanceof Collection;
+      if (lintValue instanceof NamedObject)
+      {
+        references = references(Collections.singletonList(lintValue));
+      }
+      else if (isReferenceList)
+      {
+        references = references((Collection<?>) lintValue);
+      }
+      else
+      {
+        references = null;
+      }
+
+      if (references != null)
+      {
+        value = null;
+      }
+      else if (hasNamedObjects(lintValue))
+      {
+        // Schema objects that cannot be looked up again are kept as text
+        value = valueAsString;
+      }
+      else
+      {
+        value = lintValue;
+      }
+    }
+
+    String getMessage()
+    {
+      return message;
+    }
+
+    /**
+     * Gets the lint value, with columns, indexes and foreign keys looked
+     * up in the table that is linted.
+     *
+     * @param table
+     *        Table that is linted
+     * @return Lint value
+     */
+    Serializable getValue(final Table table)
+    {
+      if (references == null)
+      {
+        return value;
+      }
+
+      final ArrayList<NamedObject> namedObjects = new ArrayList<>(references
+        .size());
+      for (final TableObjectReference reference: references)
+      {
+        final NamedObject namedObject = reference.lookup(table);
+        if (namedObject == null)
+        {
+          return valueAsString;
+        }
+        namedObjects.add(namedObject);
+      }
+      return isReferenceList? namedObjects: namedObjects.get(0);
+    }
+
+  }
+
+  /**
+   * Column, index or foreign key of a table, by name.
+   */
+  private static final class TableObjectReference
+    implements Serializable
+  {
+
+    private static final long serialVersionUID = 4310947716025394381L;
+
+    private final Class<? extends NamedObject> type;
+    private final String name;
+
+    TableObjectReference(final Class<? extends NamedObject> type,
+                         final String name)
+    {
+      this.type = type;
+      this.name = name;
+    }
+
+    NamedObject lookup(final Table table)
+    {
+      if (type == Column.class)
+      {
+        return table.lookupColumn(name).orElse(null);
+      }
+
+      // Foreign keys and the primary key cannot be looked up by name
+      // alone, so they are matched by name
+      final List<NamedObject> namedObjects = new ArrayList<>();
+      if (type == ForeignKey.class)
+      {
+        namedObjects.addAll(table.getForeignKeys());
+      }
+      else
+      {
+        if (table.hasPrimaryKey())
+        {
+          namedObjects.add(table.getPrimaryKey());
+        }
+        namedObjects.addAll(table.getIndexes());
+      }
+      for (final NamedObject namedObject: namedObjects)
+      {
+        if (name.equals(namedObject.getName()))
+        {
+          return namedObject;
+        }
+      }
+      return null;
+    }
+
+  }
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(LintCache.class.getName());
+
+  private static final int CACHE_VERSION = 2;
+
+  /**
+   * Loads lints from the cache file. An empty cache is returned if the
+   * cache file does not exist, cannot be read, or is for a different
+   * database.
+   *
+   * @param cacheFile
+   *        Lint cache file
+   * @param catalog
+   *        Catalog that is to be linted
+   * @return Lint cache
+   */
+  static LintCache load(final Path cacheFile, final Catalog catalog)
+  {
+    requireNonNull(cacheFile, "No lint cache file provided");
+    requireNonNull(catalog, "No catalog provided");
+
+    final String cacheKey = cacheKey(catalog);
+    final LintCache lintCache = new LintCache(cacheFile, cacheKey);
+    if (!Files.isRegularFile(cacheFile))
+    {
+      LOGGER.log(Level.INFO,
+                 new StringFormat("No lint cache found at <%s>", cacheFile));
+      return lintCache;
+    }
+
+    try (final ObjectInputStream in = new ObjectInputStream(new BufferedInputStream(new InflaterInputStream(Files
+      .newInputStream(cacheFile)), 65536));)
+    {
+      final int cacheVersion = in.readInt();
+      final String savedCacheKey = in.readUTF();
+      if (cacheVersion != CACHE_VERSION || !cacheKey.equals(savedCacheKey))
+      {
+        LOGGER.log(Level.INFO,
+                   new StringFormat("Discarding lint cache at <%s>, since it is for a different database or version",
+                                    cacheFile));
+        return lintCache;
+      }
+
+      @SuppressWarnings("unchecked")
+      final Map<String, Map<String, List<CachedLint>>> cachedLints = (Map<String, Map<String, List<CachedLint>>>) in
+        .readObject();
+      lintCache.cachedLints.putAll(cachedLints);
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Loaded cached lints for %d tables from <%s>",
+                                  cachedLints.size(),
+                                  cacheFile));
+    }
+    catch (final IOException | ClassNotFoundException | ClassCastException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not read lint cache from <%s>",
+                                  cacheFile),
+                 e);
+    }
+    return lintCache;
+  }
+
+  /**
+   * Works out a fingerprint of the structure of a table, which changes
+   * if anything that linters look at changes - columns and their data
+   * types, the primary key, indexes, foreign keys, table constraints,
+   * and remarks.
+   *
+   * @param table
+   *        Table to fingerprint
+   * @return Table fingerprint
+   */
+  static String fingerprint(final Table table)
+  {
+    requireNonNull(table, "No table provided");
+
+    final StringBuilder buffer = new StringBuilder(4096);
+    append(buffer, table.getFullName());
+    append(buffer, table.getTableType());
+    append(buffer, table.getRemarks());
+
+    for (final Column column: table.getColumns())
+    {
+      appendColumn(buffer, column);
+      append(buffer, column.getOrdinalPosition());
+      append(buffer, column.isNullable());
+      append(buffer, column.isAutoIncremented());
+      append(buffer, column.isGenerated());
+      append(buffer, column.isHidden());
+      append(buffer, column.getDefaultValue());
+      append(buffer, column.getRemarks());
+      append(buffer, column.isPartOfPrimaryKey());
+      append(buffer, column.isPartOfForeignKey());
+      append(buffer, column.isPartOfIndex());
+      append(buffer, column.isPartOfUniqueIndex());
+      final Column referencedColumn = column.getReferencedColumn();
+      append(buffer,
+             referencedColumn == null? null: referencedColumn.getFullName());
+    }
+
+    if (table.hasPrimaryKey())
+    {
+      appendIndex(buffer, table.getPrimaryKey());
+    }
+    for (final Index index: table.getIndexes())
+    {
+      appendIndex(buffer, index);
+    }
+
+    for (final ForeignKey foreignKey: table.getForeignKeys())
+    {
+      append(buffer, foreignKey.getName());
+      append(buffer, foreignKey.getUpdateRule());
+      append(buffer, foreignKey.getDeleteRule());
+      for (final ColumnReference columnReference: foreignKey
+        .getColumnReferences())
+      {
+        // Data types of referenced columns in other tables are included,
+        // for linters that compare them
+        appendColumn(buffer, columnReference.getForeignKeyColumn());
+        appendColumn(buffer, columnReference.getPrimaryKeyColumn());
+      }
+    }
+
+    for (final TableConstraint tableConstraint: table.getTableConstraints())
+    {
+      append(buffer, tableConstraint.getName());
+      append(buffer, tableConstraint.getConstraintType());
+      append(buffer, tableConstraint.getDefinition());
+    }
+
+    return digest(buffer.toString());
+  }
+
+  /**
+   * Works out a fingerprint of a linter configuration, which changes if
+   * any setting that can change the lints changes.
+   *
+   * @param linterId
+   *        Linter id
+   * @param linterConfig
+   *        Linter configuration, or null if the linter runs with its
+   *        default settings
+   * @return Linter configuration fingerprint
+   */
+  static String fingerprint(final String linterId,
+                            final LinterConfig linterConfig)
+  {
+    final StringBuilder buffer = new StringBuilder(1024);
+    append(buffer, linterId);
+    if (linterConfig != null)
+    {
+      appendRule(buffer, linterConfig.getTableInclusionRule());
+      appendRule(buffer, linterConfig.getColumnInclusionRule());
+      for (final Map.Entry<String, String> property: new TreeMap<>(linterConfig
+        .getConfig()).entrySet())
+      {
+        append(buffer, property.getKey());
+        append(buffer, property.getValue());
+      }
+    }
+    return digest(buffer.toString());
+  }
+
+  private static boolean hasNamedObjects(final Object value)
+  {
+    if (value instanceof NamedObject)
+    {
+      return true;
+    }
+    if (value instanceof Object[])
+    {
+      return hasNamedObjects(Arrays.asList((Object[]) value));
+    }
+    if (value instanceof Iterable)
+    {
+      for (final Object valuePart: (Iterable<?>) value)
+      {
+        if (valuePart instanceof NamedObject)
+        {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Makes references to columns, indexes and foreign keys.
+   *
+   * @return References, or null if any of the values cannot be looked
+   *         up again
+   */
+  private static ArrayList<TableObjectReference> references(final Collection<?> values)
+  {
+    final ArrayList<TableObjectReference> references = new ArrayList<>(values
+      .size());
+    for (final Object value: values)
+    {
+      final TableObjectReference reference;
+      if (value instanceof Column)
+      {
+        reference = new TableObjectReference(Column.class,
+                                              ((Column) value).getName());
+      }
+      else if (value instanceof ForeignKey)
+      {
+        reference = new TableObjectReference(ForeignKey.class,
+                                              ((ForeignKey) value).getName());
+      }
+      else if (value instanceof Index)
+      {
+        reference = new TableObjectReference(Index.class,
+                                              ((Index) value).getName());
+      }
+      else
+      {
+        return null;
+      }
+      references.add(reference);
+    }
+    return references;
+  }
+
+  private static void append(final StringBuilder buffer, final Object value)
+  {
+    // Length prefix keeps values apart, even if they contain separators
+    final String text = String.valueOf(value);
+    buffer.append(text.length()).append(':').append(text);
+  }
+
+  private static void appendColumn(final StringBuilder buffer,
+                                   final Column column)
+  {
+    if (column == null)
+    {
+      append(buffer, null);
+      return;
+    }
+
+    append(buffer, column.getFullName());
+    final ColumnDataType columnDataType = column.getColumnDataType();
+    if (columnDataType != null)
+    {
+      append(buffer, columnDataType.getFullName());
+      append(buffer, columnDataType.getJavaSqlType().getName());
+    }
+    append(buffer, column.getSize());
+    append(buffer, column.getDecimalDigits());
+  }
+
+  private static void appendIndex(final StringBuilder buffer,
+                                  final Index index)
+  {
+    append(buffer, index.getName());
+    append(buffer, index.isUnique());
+    append(buffer, index.getIndexType());
+    for (final IndexColumn indexColumn: index.getColumns())
+    {
+      append(buffer, indexColumn.getName());
+      append(buffer, indexColumn.getSortSequence());
+    }
+  }
+
+  private static void appendRule(final StringBuilder buffer,
+                                 final InclusionRule rule)
+  {
+    if (rule instanceof InclusionRuleWithRegularExpression)
+    {
+      final InclusionRuleWithRegularExpression regularExpressionRule = (InclusionRuleWithRegularExpression) rule;
+      append(buffer, regularExpressionRule.getInclusionPattern().pattern());
+      append(buffer, regularExpressionRule.getExclusionPattern().pattern());
+    }
+    else
+    {
+      append(buffer, rule);
+    }
+  }
+
+  private static String cacheKey(final Catalog catalog)
+  {
+    final StringBuilder buffer = new StringBuilder(256);
+    append(buffer, Version.getVersion());
+    final DatabaseInfo databaseInfo = catalog.getDatabaseInfo();
+    if (databaseInfo != null)
+    {
+      append(buffer, databaseInfo.getProductName());
+      append(buffer, databaseInfo.getProductVersion());
+    }
+    return buffer.toString();
+  }
+
+  private static String digest(final String text)
+  {
+    try
+    {
+      final byte[] digest = MessageDigest.getInstance("SHA-256")
+        .digest(text.getBytes(UTF_8));
+      final StringBuilder hex = new StringBuilder(digest.length * 2);
+      for (final byte b: digest)
+      {
+        hex.append(String.format("%02x", b));
+      }
+      return hex.toString();
+    }
+    catch (final NoSuchAlgorithmException e)
+    {
+      // Every Java platform is required to support SHA-256
+      throw new SchemaCrawlerRuntimeException(e.getMessage(), e);
+    }
+  }
+
+  private final Path cacheFile;
+  private final String cacheKey;
+  private final Map<String, Map<String, List<CachedLint>>> cachedLints;
+  private final Map<String, Map<String, List<CachedLint>>> lints;
+  private final AtomicInteger reuseCount;
+
+  private LintCache(final Path cacheFile, final String cacheKey)
+  {
+    this.cacheFile = cacheFile;
+    this.cacheKey = cacheKey;
+    cachedLints = new HashMap<>();
+    lints = new HashMap<>();
+    reuseCount = new AtomicInteger();
+  }
+
+  /**
+   * Number of times that cached lints were reused.
+   *
+   * @return Number of times that cached lints were reused
+   */
+  int getReuseCount()
+  {
+    return reuseCount.get();
+  }
+
+  /**
+   * Looks up cached lints for a table, from a linter.
+   *
+   * @param tableFingerprint
+   *        Table fingerprint
+   * @param linterFingerprint
+   *        Linter configuration fingerprint
+   * @return Cached lints, which may be empty, or null if the table was
+   *         not linted by the linter before
+   */
+  List<CachedLint> lookup(final String tableFingerprint,
+                          final String linterFingerprint)
+  {
+    final Map<String, List<CachedLint>> tableLints = cachedLints
+      .get(tableFingerprint);
+    if (tableLints == null)
+    {
+      return null;
+    }
+    final List<CachedLint> linterLints = tableLints.get(linterFingerprint);
+    if (linterLints != null)
+    {
+      reuseCount.incrementAndGet();
+    }
+    return linterLints;
+  }
+
+  /**
+   * Keeps lints for a table, from a linter, to be saved to the cache.
+   *
+   * @param tableFingerprint
+   *        Table fingerprint
+   * @param linterFingerprint
+   *        Linter configuration fingerprint
+   * @param tableLints
+   *        Lints from the linter for the table
+   */
+  void put(final String tableFingerprint,
+           final String linterFingerprint,
+           final Collection<Lint<?>> tableLints)
+  {
+    final List<CachedLint> linterLints;
+    if (tableLints.isEmpty())
+    {
+      linterLints = Collections.emptyList();
+    }
+    else
+    {
+      linterLints = new ArrayList<>(tableLints.size());
+      for (final Lint<?> lint: tableLints)
+      {
+        linterLints.add(new CachedLint(lint));
+      }
+    }
+    lints.computeIfAbsent(tableFingerprint, key -> new HashMap<>())
+      .put(linterFingerprint, linterLints);
+  }
+
+  /**
+   * Saves lints to the cache file, replacing the previous cache. Only
+   * lints for tables in this lint run are kept. Lints are written to a
+   * temporary file first, so that the previous cache is not lost if the
+   * lints cannot be written.
+   */
+  void save()
+  {
+    try
+    {
+      final Path parent = cacheFile.toAbsolutePath().getParent();
+      if (parent != null)
+      {
+        Files.createDirectories(parent);
+      }
+      final Path tempFile = Files
+        .createTempFile(parent, "schemacrawler", ".lintcache");
+      try
+      {
+        try (final ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(new DeflaterOutputStream(Files
+          .newOutputStream(tempFile)), 65536));)
+        {
+          out.writeInt(CACHE_VERSION);
+          out.writeUTF(cacheKey);
+          out.writeObject(lints);
+        }
+        Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+      }
+      finally
+      {
+        Files.deleteIfExists(tempFile);
+      }
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Saved lints for %d tables to lint cache <%s>, after reusing cached lints %d times",
+                                  lints.size(),
+                                  cacheFile,
+                                  reuseCount.get()));
+    }
+    catch (final IOException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not save lint cache to <%s>",
+                                  cacheFile),
+                 e);
+    }
+  }
+
+}
@@ -33,18 +33,35 @@ import static java.util.Comparator.naturalOrder;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import schemacrawler.schema.AttributedObject;
 import schemacrawler.schema.NamedObject;
 
+/**
+ * Collects lints. Lints are kept once, with the object that they are
+ * for, and counted by severity, so that lint reports can be written
+ * object by object, without a second list of all lints.
+ *
+ * @author Sualeh Fatehi
+ */
 public final class LintCollector
   implements Iterable<Lint<? extends Serializable>>
 {
 
   private static final String LINT_KEY = "schemacrawler.lint";
 
+  /**
+   * Gets lints for an object, in sorted order.
+   *
+   * @param namedObject
+   *        Object to get lints for
+   * @return Copy of the lints for the object
+   */
   public static Collection<Lint<?>> getLint(final AttributedObject namedObject)
   {
     if (namedObject == null)
@@ -52,44 +69,108 @@ public final class LintCollector
       return null;
     }
 
-    final List<Lint<? extends Serializable>> lints = new ArrayList<>(namedObject
-      .getAttribute(LINT_KEY, new ArrayList<>()));
+    final List<Lint<?>> objectLints = namedObject.getAttribute(LINT_KEY, null);
+    if (objectLints == null)
+    {
+      return Collections.emptyList();
+    }
+    return sortedCopy(objectLints);
+  }
+
+  /**
+   * Lints for an object are always read and added while holding the
+   * lock on the list of lints for that object.
+   */
+  private static List<Lint<?>> sortedCopy(final List<Lint<?>> objectLints)
+  {
+    final List<Lint<?>> lints;
+    synchronized (objectLints)
+    {
+      lints = new ArrayList<>(objectLints);
+    }
     lints.sort(naturalOrder());
     return lints;
   }
 
-  private final List<Lint<? extends Serializable>> lints;
+  private final Set<AttributedObject> lintedObjects;
+  private final int[] severityCounts;
+  private int lintCount;
 
   public LintCollector()
   {
-    lints = new ArrayList<>();
+    lintedObjects = Collections.newSetFromMap(new IdentityHashMap<>());
+    severityCounts = new int[LintSeverity.values().length];
   }
 
-  public <N extends NamedObject & AttributedObject> void addLint(final N namedObject,
+  public synchronized <N extends NamedObject & AttributedObject> void addLint(final N namedObject,
                                                                  final Lint<?> lint)
   {
     if (namedObject != null && lint != null
         && namedObject.getFullName().equals(lint.getObjectName()))
     {
-      lints.add(lint);
+      final List<Lint<?>> objectLints;
+      if (lintedObjects.add(namedObject))
+      {
+        objectLints = new ArrayList<>();
+        namedObject.setAttribute(LINT_KEY, objectLints);
+      }
+      else
+      {
+        objectLints = namedObject.getAttribute(LINT_KEY);
+      }
+      synchronized (objectLints)
+      {
+        objectLints.add(lint);
+      }
+
+      severityCounts[lint.getSeverity().ordinal()]++;
+      lintCount++;
+    }
+  }
 
-      final Collection<Lint<?>> columnLints = namedObject
-        .getAttribute(LINT_KEY, new ArrayList<Lint<?>>());
-      columnLints.add(lint);
-      namedObject.setAttribute(LINT_KEY, columnLints);
+  /**
+   * Number of lints collected with a given severity.
+   *
+   * @param severity
+   *        Lint severity
+   * @return Number of lints with the severity
+   */
+  public synchronized int getLintCount(final LintSeverity severity)
+  {
+    if (severity == null)
+    {
+      return 0;
     }
+    return severityCounts[severity.ordinal()];
   }
 
+  /**
+   * Iterates over all lints, in sorted order.
+   */
   @Override
-  public Iterator<Lint<? extends Serializable>> iterator()
+  public synchronized Iterator<Lint<? extends Serializable>> iterator()
   {
+    final List<Lint<? extends Serializable>> lints = new ArrayList<>(lintCount);
+    for (final AttributedObject lintedObject: lintedObjects)
+    {
+      final List<Lint<?>> objectLints = lintedObject.getAttribute(LINT_KEY);
+      synchronized (objectLints)
+      {
+        lints.addAll(objectLints);
+      }
+    }
     lints.sort(naturalOrder());
     return lints.iterator();
   }
 
-  public int size()
+  /**
+   * Number of lints collected.
+   *
+   * @return Number of lints
+   */
+  public synchronized int size()
   {
-    return lints.size();
+    return lintCount;
   }
 
 }
@@ -32,6 +32,8 @@ import static sf.util.IOUtility.readResourceFully;
 
 import java.io.Serializable;
 import java.sql.Connection;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 import schemacrawler.schema.AttributedObject;
@@ -58,17 +60,21 @@ public abstract class Linter
   private LintCollector collector;
   private LintSeverity severity;
   private int threshold;
-  private int lintCount;
+  private final AtomicInteger lintCount;
+  private Supplier<Connection> connectionSupplier;
+  private int parallelism;
+  private String linterFingerprint;
 
   protected Linter()
   {
     severity = LintSeverity.medium; // default value
     threshold = Integer.MAX_VALUE; // default value
+    lintCount = new AtomicInteger();
   }
 
   public final boolean exceedsThreshold()
   {
-    return lintCount > threshold;
+    return lintCount.get() > threshold;
   }
 
   /**
@@ -102,7 +108,7 @@ public abstract class Linter
    */
   public final int getLintCount()
   {
-    return lintCount;
+    return lintCount.get();
   }
 
   /**
@@ -169,7 +175,7 @@ public abstract class Linter
                                       message,
                                       value);
       collector.addLint(namedObject, lint);
-      lintCount = lintCount + 1;
+      lintCount.incrementAndGet();
     }
   }
 
@@ -185,6 +191,31 @@ public abstract class Linter
 
   }
 
+  /**
+   * Supplies additional database connections, for linters that run
+   * queries against many tables, and can spread them across
+   * connections. May be null, if no additional connections are
+   * available. Connections obtained from the supplier need to be
+   * closed by the linter.
+   *
+   * @return Supplier of additional database connections, or null
+   */
+  protected final Supplier<Connection> getConnectionSupplier()
+  {
+    return connectionSupplier;
+  }
+
+  /**
+   * Number of queries that linters may run at the same time, on
+   * additional database connections.
+   *
+   * @return Number of queries that may be run at the same time
+   */
+  protected final int getParallelism()
+  {
+    return parallelism;
+  }
+
   /**
    * Set the severity of the lints created by this linter.
    *
@@ -204,20 +235,46 @@ public abstract class Linter
   {
     if (linterConfig != null)
     {
+      linterFingerprint = LintCache.fingerprint(getLinterId(), linterConfig);
       setSeverity(linterConfig.getSeverity());
       setThreshold(linterConfig.getThreshold());
       configure(linterConfig.getConfig());
     }
   }
 
+  /**
+   * Fingerprint of the linter configuration, which identifies lints
+   * from this linter in the lint cache.
+   *
+   * @return Linter configuration fingerprint
+   */
+  final String getLinterFingerprint()
+  {
+    if (linterFingerprint == null)
+    {
+      linterFingerprint = LintCache.fingerprint(getLinterId(), null);
+    }
+    return linterFingerprint;
+  }
+
   abstract void lint(Catalog catalog, Connection connection)
     throws SchemaCrawlerException;
 
+  final void setConnectionSupplier(final Supplier<Connection> connectionSupplier)
+  {
+    this.connectionSupplier = connectionSupplier;
+  }
+
   final void setLintCollector(final LintCollector lintCollector)
   {
     collector = lintCollector;
   }
 
+  final void setParallelism(final int parallelism)
+  {
+    this.parallelism = Math.max(parallelism, 1);
+  }
+
   private void setThreshold(final int threshold)
   {
     this.threshold = threshold;
@@ -30,11 +30,19 @@ package schemacrawler.tools.lint;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.Path;
 import java.sql.Connection;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import sf.util.SchemaCrawlerLogger;
 import sf.util.StringFormat;
@@ -49,6 +57,10 @@ public final class Linters
   private final List<Linter> linters;
   private final LintCollector collector;
   private final LinterRegistry registry;
+  private int parallelism;
+  private Supplier<Connection> connectionSupplier;
+  private Path lintCacheFile;
+  private int lintCacheReuseCount;
 
   public Linters(final LinterConfigs linterConfigs, final boolean runAllLinters)
     throws SchemaCrawlerException
@@ -58,6 +70,7 @@ public final class Linters
     linters = new ArrayList<>();
     collector = new LintCollector();
     registry = new LinterRegistry();
+    parallelism = 1;
 
     final Set<String> registeredLinters = registry.allRegisteredLinters();
 
@@ -122,6 +135,48 @@ public final class Linters
     return collector;
   }
 
+  /**
+   * Supplies additional database connections, which linters that run
+   * queries against tables may use to run queries at the same time.
+   *
+   * @return Supplier of additional database connections, or null
+   */
+  public Supplier<Connection> getConnectionSupplier()
+  {
+    return connectionSupplier;
+  }
+
+  /**
+   * Lint cache file, which keeps lints from previous lint runs.
+   *
+   * @return Lint cache file, or null if lints are not cached
+   */
+  public Path getLintCacheFile()
+  {
+    return lintCacheFile;
+  }
+
+  /**
+   * Number of times that lints for a table were reused from the lint
+   * cache, instead of linting the table again, in the last lint run.
+   *
+   * @return Number of times that cached lints were reused
+   */
+  public int getLintCacheReuseCount()
+  {
+    return lintCacheReuseCount;
+  }
+
+  /**
+   * Number of tables that are linted at the same time.
+   *
+   * @return Number of tables that are linted at the same time
+   */
+  public int getParallelism()
+  {
+    return parallelism;
+  }
+
   public String getLintSummary()
   {
     final class LinterComparator
@@ -191,16 +246,230 @@ public final class Linters
     return linters.iterator();
   }
 
+  /**
+   * Lints the catalog with all linters. Table linters that do not lint
+   * tables independently of each other share a first pass over the
+   * tables of the catalog, and linters that do share a second pass, so
+   * each table is named once, and then handed to every linter in the
+   * pass that includes it. Linters that can lint tables independently
+   * of each other may have tables spread across threads, and reuse
+   * lints from the lint cache for tables that have not changed.
+   *
+   * @param catalog
+   *        Catalog to lint
+   * @param connection
+   *        Database connection, which may be used by linters
+   * @throws SchemaCrawlerException
+   *         On an exception from any of the linters
+   */
   public void lint(final Catalog catalog, final Connection connection)
     throws SchemaCrawlerException
   {
+    requireNonNull(catalog, "No catalog provided");
+    lint(catalog, connection, new ArrayList<>(catalog.getTables()), null);
+  }
+
+  /**
+   * Lints tables of the catalog with all linters, and hands lints to a
+   * handler while linting. The catalog is handled first, and then the
+   * tables, in the order given. Linters that do not lint tables
+   * independently of each other, such as linters that look across
+   * tables, or that query tables when they end, lint all tables first.
+   * Then the catalog is handled, and each table is handled as soon as
+   * it has been linted by the remaining linters, so lints can be
+   * written out while the rest of the catalog is linted.
+   *
+   * @param catalog
+   *        Catalog to lint
+   * @param connection
+   *        Database connection, which may be used by linters
+   * @param tables
+   *        Tables to lint, in the order that they are handled
+   * @param lintHandler
+   *        Handler for lints, or null
+   * @throws SchemaCrawlerException
+   *         On an exception from any of the linters, or the handler
+   */
+  public void lint(final Catalog catalog,
+                   final Connection connection,
+                   final List<Table> tables,
+                   final LintHandler lintHandler)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(catalog, "No catalog provided");
+    requireNonNull(tables, "No tables provided");
+
+    lintCacheReuseCount = 0;
+    final List<BaseLinter> dependentLinters = new ArrayList<>();
+    final List<BaseLinter> independentLinters = new ArrayList<>();
     for (final Linter linter : linters)
     {
       LOGGER.log(Level.FINE,
                  new StringFormat("Linting with <%s>",
                                   linter.getLinterInstanceId()));
-      linter.lint(catalog, connection);
+      linter.setConnectionSupplier(connectionSupplier);
+      linter.setParallelism(parallelism);
+      if (!(linter instanceof BaseLinter))
+      {
+        linter.lint(catalog, connection);
+        continue;
+      }
+
+      final BaseLinter tableLinter = (BaseLinter) linter;
+      if (tableLinter.isTableIndependent())
+      {
+        independentLinters.add(tableLinter);
+      }
+      else
+      {
+        dependentLinters.add(tableLinter);
+      }
     }
+    if (dependentLinters.isEmpty() && independentLinters.isEmpty())
+    {
+      handleLints(catalog, tables, lintHandler);
+      return;
+    }
+
+    final List<String> tableFullNames = new ArrayList<>(tables.size());
+    for (final Table table : tables)
+    {
+      tableFullNames.add(table.getFullName());
+    }
+
+    final LintCache lintCache;
+    final List<String> tableFingerprints;
+    if (lintCacheFile != null)
+    {
+      lintCache = LintCache.load(lintCacheFile, catalog);
+      tableFingerprints = new ArrayList<>(tables.size());
+      for (final Table table : tables)
+      {
+        tableFingerprints.add(LintCache.fingerprint(table));
+      }
+    }
+    else
+    {
+      lintCache = null;
+      tableFingerprints = null;
+    }
+
+    // Linters that do not lint tables independently may add table or
+    // catalog lints when they end, so they lint all tables first
+    if (!dependentLinters.isEmpty())
+    {
+      for (final BaseLinter linter : dependentLinters)
+      {
+        linter.startLint(catalog, connection);
+      }
+      for (int i = 0; i < tables.size(); i++)
+      {
+        lintTable(tables.get(i),
+                  tableFullNames.get(i),
+                  null,
+                  dependentLinters,
+                  connection,
+                  null);
+      }
+      for (final BaseLinter linter : dependentLinters)
+      {
+        linter.endLint(connection);
+      }
+    }
+
+    // Lints for the catalog are now complete, and lints for a table are
+    // complete as soon as it is linted by the remaining linters
+    if (lintHandler != null)
+    {
+      lintHandler.handle(catalog);
+    }
+
+    for (final BaseLinter linter : independentLinters)
+    {
+      linter.startLint(catalog, connection);
+    }
+    if (parallelism > 1 && !independentLinters.isEmpty())
+    {
+      lintTablesConcurrently(tables,
+                             tableFullNames,
+                             tableFingerprints,
+                             independentLinters,
+                             connection,
+                             lintCache,
+                             lintHandler);
+    }
+    else
+    {
+      for (int i = 0; i < tables.size(); i++)
+      {
+        lintTable(tables.get(i),
+                  tableFullNames.get(i),
+                  tableFingerprints == null? null: tableFingerprints.get(i),
+                  independentLinters,
+                  connection,
+                  lintCache);
+        if (lintHandler != null)
+        {
+          lintHandler.handle(tables.get(i));
+        }
+      }
+    }
+    for (final BaseLinter linter : independentLinters)
+    {
+      linter.endLint(connection);
+    }
+
+    if (lintCache != null)
+    {
+      saveLintCache(lintCache,
+                    tables,
+                    tableFullNames,
+                    tableFingerprints,
+                    independentLinters);
+      lintCacheReuseCount = lintCache.getReuseCount();
+    }
+  }
+
+  /**
+   * Lint cache file, which keeps lints from previous lint runs. Tables
+   * that have not changed since the previous lint run are not linted
+   * again, by linters that lint tables independently of each other.
+   * Instead, lints are reused from the cache. The lint cache is updated
+   * after every lint run.
+   *
+   * @param lintCacheFile
+   *        Lint cache file, or null if lints are not to be cached
+   */
+  public void setLintCacheFile(final Path lintCacheFile)
+  {
+    this.lintCacheFile = lintCacheFile;
+  }
+
+  /**
+   * Supplies additional database connections, which linters that run
+   * queries against tables may use to run queries at the same time.
+   * Connections from the supplier are closed after use.
+   *
+   * @param connectionSupplier
+   *        Supplier of additional database connections, or null
+   */
+  public void setConnectionSupplier(final Supplier<Connection> connectionSupplier)
+  {
+    this.connectionSupplier = connectionSupplier;
+  }
+
+  /**
+   * Number of tables that are linted at the same time, by linters that
+   * can lint tables independently of each other, and number of queries
+   * that are run at the same time by linters that query tables. Values
+   * less than 1 are treated as 1.
+   *
+   * @param parallelism
+   *        Number of tables that are linted at the same time
+   */
+  public void setParallelism(final int parallelism)
+  {
+    this.parallelism = Math.max(parallelism, 1);
   }
 
   /**
@@ -219,6 +488,212 @@ public final class Linters
     return linters.toString();
   }
 
+  private void handleLints(final Catalog catalog,
+                           final List<Table> tables,
+                           final LintHandler lintHandler)
+    throws SchemaCrawlerException
+  {
+    if (lintHandler == null)
+    {
+      return;
+    }
+
+    lintHandler.handle(catalog);
+    for (final Table table : tables)
+    {
+      lintHandler.handle(table);
+    }
+  }
+
+  private void lintTable(final Table table,
+                         final String tableFullName,
+                         final String tableFingerprint,
+                         final List<BaseLinter> tableLinters,
+                         final Connection connection,
+                         final LintCache lintCache)
+    throws SchemaCrawlerException
+  {
+    for (final BaseLinter linter : tableLinters)
+    {
+      if (!linter.includesTable(table, tableFullName))
+      {
+        continue;
+      }
+
+      if (lintCache != null && linter.isTableIndependent())
+      {
+        final List<LintCache.CachedLint> cachedLints = lintCache
+          .lookup(tableFingerprint, linter.getLinterFingerprint());
+        if (cachedLints != null)
+        {
+          linter.addCachedLints(table, cachedLints);
+          continue;
+        }
+      }
+      linter.lintTable(table, connection);
+    }
+  }
+
+  /**
+   * Spreads tables across threads. Each table is linted by all linters
+   * on the same thread, so lints for a table are always added in the
+   * same order. If a lint handler is provided, linted tables are
+   * handled in the order of the tables, one at a time.
+   */
+  private void lintTablesConcurrently(final List<Table> tables,
+                                      final List<String> tableFullNames,
+                                      final List<String> tableFingerprints,
+                                      final List<BaseLinter> tableLinters,
+                                      final Connection connection,
+                                      final LintCache lintCache,
+                                      final LintHandler lintHandler)
+    throws SchemaCrawlerException
+  {
+    final int threads = Math.min(parallelism, Math.max(tables.size(), 1));
+    LOGGER.log(Level.INFO,
+               new StringFormat("Linting %d tables with %d linters, %d at a time",
+                                tables.size(),
+                                tableLinters.size(),
+                                threads));
+
+    final AtomicInteger nextTable = new AtomicInteger();
+    final boolean[] lintedTables = new boolean[tables.size()];
+    final AtomicInteger nextHandledTable = new AtomicInteger();
+    final AtomicInteger threadCount = new AtomicInteger();
+    final ExecutorService executorService = Executors
+      .newFixedThreadPool(threads, runnable -> {
+        final Thread thread = new Thread(runnable,
+                                         "schemacrawler-lint-"
+                                                   + threadCount
+                                                     .incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    try
+    {
+      final List<Future<Void>> results = new ArrayList<>();
+      for (int i = 0; i < threads; i++)
+      {
+        results.add(executorService.submit(() -> {
+          try
+          {
+            int index;
+            while ((index = nextTable.getAndIncrement()) < tables.size())
+            {
+              lintTable(tables.get(index),
+                        tableFullNames.get(index),
+                        tableFingerprints == null? null: tableFingerprints
+                          .get(index),
+                        tableLinters,
+                        connection,
+                        lintCache);
+              if (lintHandler != null)
+              {
+                synchronized (lintedTables)
+                {
+                  lintedTables[index] = true;
+                  while (nextHandledTable.get() < tables.size()
+                         && lintedTables[nextHandledTable.get()])
+                  {
+                    lintHandler
+                      .handle(tables.get(nextHandledTable.getAndIncrement()));
+                  }
+                }
+              }
+            }
+            return null;
+          }
+          catch (final Exception e)
+          {
+            // Stop other threads from picking up more tables
+            nextTable.set(tables.size());
+            throw e;
+          }
+        }));
+      }
+
+      for (final Future<Void> result : results)
+      {
+        result.get();
+      }
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerException("Interrupted while linting", e);
+    }
+    catch (final ExecutionException e)
+    {
+      final Throwable cause = e.getCause();
+      if (cause instanceof SchemaCrawlerException)
+      {
+        throw (SchemaCrawlerException) cause;
+      }
+      else if (cause instanceof RuntimeException)
+      {
+        throw (RuntimeException) cause;
+      }
+      else
+      {
+        throw new SchemaCrawlerException("Could not lint tables", cause);
+      }
+    }
+    finally
+    {
+      executorService.shutdownNow();
+    }
+  }
+
+  /**
+   * Saves lints for all tables to the lint cache, from linters that
+   * lint tables independently of each other, including lints that were
+   * reused from the cache. Tables that a linter linted without finding
+   * any lints are also saved, so that they are not linted again.
+   */
+  private void saveLintCache(final LintCache lintCache,
+                             final List<Table> tables,
+                             final List<String> tableFullNames,
+                             final List<String> tableFingerprints,
+                             final List<BaseLinter> tableLinters)
+  {
+    final List<BaseLinter> cachedLinters = new ArrayList<>();
+    for (final BaseLinter linter : tableLinters)
+    {
+      if (linter.isTableIndependent())
+      {
+        cachedLinters.add(linter);
+      }
+    }
+    if (cachedLinters.isEmpty())
+    {
+      return;
+    }
+
+    for (int i = 0; i < tables.size(); i++)
+    {
+      final Table table = tables.get(i);
+      final Map<String, List<Lint<?>>> lintsByLinter = new HashMap<>();
+      for (final Lint<?> lint : LintCollector.getLint(table))
+      {
+        lintsByLinter
+          .computeIfAbsent(lint.getLinterInstanceId(), key -> new ArrayList<>())
+          .add(lint);
+      }
+
+      for (final BaseLinter linter : cachedLinters)
+      {
+        if (linter.includesTable(table, tableFullNames.get(i)))
+        {
+          lintCache.put(tableFingerprints.get(i),
+                        linter.getLinterFingerprint(),
+                        lintsByLinter.getOrDefault(linter.getLinterInstanceId(),
+                                                   Collections.emptyList()));
+        }
+      }
+    }
+    lintCache.save();
+  }
+
   private Linter newLinter(final String linterId)
   {
     final Linter linter = registry.newLinter(linterId);
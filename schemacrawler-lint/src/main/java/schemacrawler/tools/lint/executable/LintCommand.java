@@ -30,7 +30,9 @@ package schemacrawler.tools.lint.executable;
 
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.tools.lint.LintUtility.readLinterConfigs;
+import static sf.util.Utility.isBlank;
 
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -39,7 +41,6 @@ import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.executable.BaseSchemaCrawlerCommand;
 import schemacrawler.tools.lint.LintDispatch;
-import schemacrawler.tools.lint.LintedCatalog;
 import schemacrawler.tools.lint.LinterConfigs;
 import schemacrawler.tools.lint.Linters;
 import schemacrawler.tools.options.TextOutputFormat;
@@ -75,12 +76,14 @@ public class LintCommand
                                                           additionalConfiguration);
     final Linters linters = new Linters(linterConfigs,
                                         lintOptions.isRunAllLinters());
+    linters.setParallelism(lintOptions.getParallelism());
+    linters.setConnectionSupplier(connectionSupplier);
+    if (!isBlank(lintOptions.getLintCache()))
+    {
+      linters.setLintCacheFile(Paths.get(lintOptions.getLintCache()));
+    }
 
-    final LintedCatalog lintedCatalog = new LintedCatalog(catalog,
-                                                          connection,
-                                                          linters);
-
-    generateReport(lintedCatalog);
+    lint(linters);
 
     dispatch(linters);
   }
@@ -121,7 +124,11 @@ public class LintCommand
     lintDispatch.dispatch();
   }
 
-  private void generateReport(final LintedCatalog catalog)
+  /**
+   * Lints the catalog, and writes lints for each table as soon as the
+   * table has been linted.
+   */
+  private void lint(final Linters linters)
     throws SchemaCrawlerException
   {
     final LintTraversalHandler formatter = getSchemaTraversalHandler();
@@ -135,17 +142,12 @@ public class LintCommand
     formatter.handleInfoEnd();
 
     formatter.handleStart();
-    formatter.handle(catalog);
 
-    final List<? extends Table> tablesList = new ArrayList<>(catalog
-                                                               .getTables());
+    final List<Table> tablesList = new ArrayList<>(catalog.getTables());
     Collections.sort(tablesList,
                      NamedObjectSort.getNamedObjectSort(lintOptions
                                                           .isAlphabeticalSortForTables()));
-    for (final Table table : tablesList)
-    {
-      formatter.handle(table);
-    }
+    linters.lint(catalog, connection, tablesList, formatter);
 
     formatter.handleEnd();
 
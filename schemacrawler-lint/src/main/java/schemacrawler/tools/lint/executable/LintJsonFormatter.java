@@ -31,11 +31,11 @@ package schemacrawler.tools.lint.executable;
 import java.util.Collection;
 import java.util.logging.Level;
 
+import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.lint.Lint;
 import schemacrawler.tools.lint.LintCollector;
-import schemacrawler.tools.lint.LintedCatalog;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.text.base.BaseJsonFormatter;
 import schemacrawler.tools.text.utility.org.json.JSONArray;
@@ -57,7 +57,7 @@ final class LintJsonFormatter
   }
 
   @Override
-  public void handle(final LintedCatalog catalog)
+  public void handle(final Catalog catalog)
     throws SchemaCrawlerException
   {
     final Collection<Lint<?>> lints = LintCollector.getLint(catalog);
@@ -66,10 +66,10 @@ final class LintJsonFormatter
       final JSONObject jsonDatabase = new JSONObject();
       try
       {
-        jsonRoot.accumulate("database_lints", jsonDatabase);
-
         final JSONArray jsonLints = handleLints(lints);
         jsonDatabase.put("lints", jsonLints);
+
+        jsonWriter.accumulate("database_lints", jsonDatabase);
       }
       catch (final JSONException e)
       {
@@ -90,14 +90,14 @@ final class LintJsonFormatter
       final JSONObject jsonTable = new JSONObject();
       try
       {
-        jsonRoot.accumulate("table_lints", jsonTable);
-
         jsonTable.put("name", table.getName());
         jsonTable.put("fullName", table.getFullName());
         jsonTable.put("type", table.getTableType());
 
         final JSONArray jsonLints = handleLints(lints);
         jsonTable.put("lints", jsonLints);
+
+        jsonWriter.accumulate("table_lints", jsonTable);
       }
       catch (final JSONException e)
       {
@@ -38,6 +38,8 @@ public class LintOptions
   private final String linterConfigs;
   private final LintDispatch lintDispatch;
   private final boolean runAllLinters;
+  private final int parallelism;
+  private final String lintCache;
 
   public LintOptions(final LintOptionsBuilder builder)
   {
@@ -45,6 +47,8 @@ public class LintOptions
     linterConfigs = builder.linterConfigs;
     lintDispatch = builder.lintDispatch;
     runAllLinters = builder.runAllLinters;
+    parallelism = builder.parallelism;
+    lintCache = builder.lintCache;
   }
 
   /**
@@ -57,6 +61,28 @@ public class LintOptions
     return runAllLinters;
   }
 
+  /**
+   * Gets the number of tables to lint at the same time.
+   *
+   * @return Number of tables to lint at the same time.
+   */
+  public int getParallelism()
+  {
+    return parallelism;
+  }
+
+  /**
+   * Gets the path to the lint cache file, which keeps lints from
+   * previous lint runs.
+   *
+   * @return Path to the lint cache file, or blank if lints are not
+   *         cached
+   */
+  public String getLintCache()
+  {
+    return lintCache;
+  }
+
   /**
    * Gets the path to the linter configs file.
    *
@@ -52,6 +52,13 @@ public final class LintOptionsBuilder
   private static final String RUN_ALL_LINTERS =
     SCHEMACRAWLER_LINT_PREFIX + CLI_RUN_ALL_LINTERS;
 
+  private static final String CLI_LINT_CACHE = "lintcache";
+  private static final String LINT_CACHE =
+    SCHEMACRAWLER_LINT_PREFIX + CLI_LINT_CACHE;
+
+  private static final String PARALLELISM =
+    SCHEMACRAWLER_LINT_PREFIX + "parallelism";
+
   public static LintOptionsBuilder builder()
   {
     return new LintOptionsBuilder();
@@ -75,12 +82,16 @@ public final class LintOptionsBuilder
   protected String linterConfigs;
   protected LintDispatch lintDispatch;
   protected boolean runAllLinters;
+  protected int parallelism;
+  protected String lintCache;
 
   private LintOptionsBuilder()
   {
     linterConfigs = "";
     lintDispatch = LintDispatch.none;
     runAllLinters = true;
+    parallelism = 1;
+    lintCache = "";
   }
 
   @Override
@@ -133,6 +144,21 @@ public final class LintOptionsBuilder
     }
     runAllLinters = config.getBooleanValue(runAllLintersKey, true);
 
+    withParallelism(config.getIntegerValue(PARALLELISM, parallelism));
+
+    final String lintCacheKey;
+    if (config.containsKey(CLI_LINT_CACHE))
+    {
+      // Honor command-line option first
+      lintCacheKey = CLI_LINT_CACHE;
+    }
+    else
+    {
+      // Otherwise, take option from SchemaCrawler configuration file
+      lintCacheKey = LINT_CACHE;
+    }
+    withLintCache(config.getStringValue(lintCacheKey, ""));
+
     return this;
   }
 
@@ -148,6 +174,8 @@ public final class LintOptionsBuilder
     linterConfigs = options.getLinterConfigs();
     lintDispatch = options.getLintDispatch();
     runAllLinters = options.isRunAllLinters();
+    parallelism = options.getParallelism();
+    lintCache = options.getLintCache();
 
     return this;
   }
@@ -159,6 +187,8 @@ public final class LintOptionsBuilder
     config.setStringValue(LINTER_CONFIGS, linterConfigs);
     config.setEnumValue(LINT_DISPATCH, lintDispatch);
     config.setBooleanValue(RUN_ALL_LINTERS, runAllLinters);
+    config.setStringValue(PARALLELISM, String.valueOf(parallelism));
+    config.setStringValue(LINT_CACHE, lintCache);
     return config;
   }
 
@@ -184,6 +214,24 @@ public final class LintOptionsBuilder
     return this;
   }
 
+  /**
+   * With the name of a lint cache file, which keeps lints from previous
+   * lint runs, so that tables that have not changed are not linted
+   * again.
+   */
+  public LintOptionsBuilder withLintCache(final String lintCache)
+  {
+    if (isBlank(lintCache))
+    {
+      this.lintCache = "";
+    }
+    else
+    {
+      this.lintCache = lintCache;
+    }
+    return this;
+  }
+
   /**
    * With a lint dispatch strategy.
    */
@@ -200,6 +248,24 @@ public final class LintOptionsBuilder
     return this;
   }
 
+  /**
+   * With the number of tables to lint at the same time, for linters
+   * that lint tables independently of each other. Values less than 1
+   * are treated as 1.
+   */
+  public LintOptionsBuilder withParallelism(final int parallelism)
+  {
+    if (parallelism < 1)
+    {
+      this.parallelism = 1;
+    }
+    else
+    {
+      this.parallelism = parallelism;
+    }
+    return this;
+  }
+
   /**
    * With value for running all linters.
    */
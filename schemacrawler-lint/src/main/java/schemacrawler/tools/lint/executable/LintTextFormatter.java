@@ -28,23 +28,18 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.lint.executable;
 
 
-import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
 
+import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.lint.Lint;
 import schemacrawler.tools.lint.LintCollector;
 import schemacrawler.tools.lint.LintSeverity;
-import schemacrawler.tools.lint.LintedCatalog;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.text.base.BaseTabularFormatter;
 import schemacrawler.tools.text.utility.TextFormattingHelper.DocumentHeaderType;
 import sf.util.Color;
-import sf.util.Multimap;
 
 final class LintTextFormatter
   extends BaseTabularFormatter<LintOptions>
@@ -60,7 +55,7 @@ final class LintTextFormatter
   }
 
   @Override
-  public void handle(final LintedCatalog catalog)
+  public void handle(final Catalog catalog)
     throws SchemaCrawlerException
   {
     final Collection<Lint<?>> lints = LintCollector.getLint(catalog);
@@ -115,42 +110,38 @@ final class LintTextFormatter
     formattingHelper.writeHeader(DocumentHeaderType.subTitle, "Lints");
   }
 
+  /**
+   * Writes lints for an object, grouped by severity. Lints for an
+   * object are sorted by severity, highest first, so they are written
+   * out as they are read, without grouping them in memory first.
+   */
   private void printLints(final Collection<Lint<?>> lints)
   {
     formattingHelper.writeEmptyRow();
 
-    final Multimap<LintSeverity, Lint<?>> multiMap = new Multimap<>();
+    LintSeverity currentSeverity = null;
     for (final Lint<?> lint: lints)
     {
-      multiMap.add(lint.getSeverity(), lint);
-    }
-    final List<LintSeverity> severities = Arrays.asList(LintSeverity.values());
-    Collections.reverse(severities);
-    for (final LintSeverity severity: severities)
-    {
-      if (!multiMap.containsKey(severity))
+      final LintSeverity severity = lint.getSeverity();
+      if (severity != currentSeverity)
       {
-        continue;
+        formattingHelper.writeNameRow("", String.format("[lint, %s]", severity));
+        currentSeverity = severity;
       }
 
-      formattingHelper.writeNameRow("", String.format("[lint, %s]", severity));
-      final List<Lint<?>> lintsById = new ArrayList<>(multiMap.get(severity));
-      for (final Lint<?> lint: lintsById)
+      final Object lintValue = lint.getValue();
+      if (lintValue instanceof Boolean)
       {
-        final Object lintValue = lint.getValue();
-        if (lintValue instanceof Boolean)
+        if ((Boolean) lintValue)
         {
-          if ((Boolean) lintValue)
-          {
-            formattingHelper.writeRow("", lint.getMessage(), "");
-          }
-        }
-        else
-        {
-          formattingHelper
-            .writeRow("", lint.getMessage(), lint.getValueAsString());
+          formattingHelper.writeRow("", lint.getMessage(), "");
         }
       }
+      else
+      {
+        formattingHelper
+          .writeRow("", lint.getMessage(), lint.getValueAsString());
+      }
     }
   }
 }
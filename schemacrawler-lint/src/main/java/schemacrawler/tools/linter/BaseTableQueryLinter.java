@@ -0,0 +1,356 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.linter;
+
+
+import static java.util.Objects.requireNonNull;
+import static sf.util.DatabaseUtility.createStatement;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.utility.Identifiers;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Lints tables by running queries against them. Tables are collected
+ * while the catalog is linted, and queried at the end, in batches.
+ * Batches are queried on additional connections, if a connection
+ * supplier is available, and each query can be given a time limit, so
+ * that one slow table does not hold up the lint run. If a batch fails,
+ * its tables are queried again, one at a time. Lints are added
+ * in the order of the tables in the catalog.
+ *
+ * @param <R>
+ *        Query result for a table
+ * @author Sualeh Fatehi
+ */
+abstract class BaseTableQueryLinter<R>
+  extends BaseLinter
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(BaseTableQueryLinter.class.getName());
+
+  private final List<Table> tables;
+  private Identifiers identifiers;
+  private int queryTimeoutSeconds;
+
+  BaseTableQueryLinter()
+  {
+    tables = new ArrayList<>();
+  }
+
+  /**
+   * Reads the query time limit, in seconds, from the "query-timeout"
+   * property. Subclasses that override this need to call it.
+   */
+  @Override
+  protected void configure(final Config config)
+  {
+    requireNonNull(config, "No configuration provided");
+
+    queryTimeoutSeconds = Math.max(config.getIntegerValue("query-timeout",
+                                                          0),
+                                   0);
+  }
+
+  @Override
+  protected void end(final Connection connection)
+    throws SchemaCrawlerException
+  {
+    try
+    {
+      if (!tables.isEmpty())
+      {
+        final Map<Table, R> results = queryTables(connection);
+        for (final Table table: tables)
+        {
+          final R result = results.get(table);
+          if (result != null)
+          {
+            addTableLints(table, result);
+          }
+        }
+      }
+    }
+    finally
+    {
+      tables.clear();
+      identifiers = null;
+    }
+
+    super.end(connection);
+  }
+
+  @Override
+  protected final void lint(final Table table, final Connection connection)
+  {
+    requireNonNull(table, "No table provided");
+    requireNonNull(identifiers, "Not initialized");
+
+    tables.add(table);
+  }
+
+  @Override
+  protected void start(final Connection connection)
+    throws SchemaCrawlerException
+  {
+    super.start(connection);
+
+    requireNonNull(connection, "No connection provided");
+    // Identifiers are looked up once, rather than for each table
+    try
+    {
+      identifiers = Identifiers.identifiers().withConnection(connection)
+        .build();
+    }
+    catch (final SQLException e)
+    {
+      throw new SchemaCrawlerException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Adds lints for a table, from the result of the query.
+   *
+   * @param table
+   *        Table that was queried
+   * @param result
+   *        Query result for the table, which is never null
+   */
+  abstract void addTableLints(Table table, R result);
+
+  /**
+   * Number of tables that are queried with a single query. Can be
+   * overridden.
+   *
+   * @return Number of tables to query at once
+   */
+  int getBatchSize()
+  {
+    return 1;
+  }
+
+  /**
+   * Queries a batch of tables, and puts non-null results for the tables
+   * into the results.
+   *
+   * @param batch
+   *        Tables to query
+   * @param statement
+   *        Statement to run queries with
+   * @param identifiers
+   *        Database identifiers, for quoting table names
+   * @param results
+   *        Query results for tables
+   * @throws SQLException
+   *         On an exception querying the tables
+   */
+  abstract void query(List<Table> batch,
+                      Statement statement,
+                      Identifiers identifiers,
+                      Map<Table, R> results)
+    throws SQLException;
+
+  private boolean isParallel(final List<List<Table>> batches)
+  {
+    return getConnectionSupplier() != null && getParallelism() > 1
+           && batches.size() > 1;
+  }
+
+  private boolean queryBatch(final List<Table> batch,
+                             final Statement statement,
+                             final Map<Table, R> results)
+  {
+    try
+    {
+      query(batch, statement, identifiers, results);
+      return true;
+    }
+    catch (final SQLTimeoutException e)
+    {
+      LOGGER.log(Level.INFO,
+                 new StringFormat("Timed out querying tables %s for lint %s",
+                                  batch,
+                                  getLinterId()),
+                 e);
+      return false;
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not query tables %s for lint %s",
+                                  batch,
+                                  getLinterId()),
+                 e);
+      return false;
+    }
+  }
+
+  private void queryBatches(final Connection queryConnection,
+                            final List<List<Table>> batches,
+                            final AtomicInteger nextBatch,
+                            final Map<Table, R> results)
+  {
+    try (final Statement statement = createStatement(queryConnection);)
+    {
+      if (queryTimeoutSeconds > 0)
+      {
+        statement.setQueryTimeout(queryTimeoutSeconds);
+      }
+
+      int index;
+      while ((index = nextBatch.getAndIncrement()) < batches.size())
+      {
+        final List<Table> batch = batches.get(index);
+        if (!queryBatch(batch, statement, results) && batch.size() > 1)
+        {
+          // Query the tables in the failed batch one at a time, so that
+          // one bad table does not lose lints for the other tables
+          for (final Table table: batch)
+          {
+            queryBatch(Collections.singletonList(table), statement, results);
+          }
+        }
+      }
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not query tables for lint %s",
+                                  getLinterId()),
+                 e);
+    }
+  }
+
+  private Map<Table, R> queryTables(final Connection connection)
+  {
+    final int batchSize = Math.max(getBatchSize(), 1);
+    final List<List<Table>> batches = new ArrayList<>();
+    for (int i = 0; i < tables.size(); i = i + batchSize)
+    {
+      batches.add(tables.subList(i, Math.min(i + batchSize, tables.size())));
+    }
+
+    final Map<Table, R> results = new ConcurrentHashMap<>();
+    final AtomicInteger nextBatch = new AtomicInteger();
+    if (!isParallel(batches))
+    {
+      queryBatches(connection, batches, nextBatch, results);
+      return results;
+    }
+
+    final Supplier<Connection> connectionSupplier = getConnectionSupplier();
+    final int parallelism = Math.min(getParallelism(), batches.size());
+    LOGGER.log(Level.INFO,
+               new StringFormat("Querying %d tables for lint %s, %d at a time",
+                                tables.size(),
+                                getLinterId(),
+                                parallelism));
+
+    final AtomicInteger threadCount = new AtomicInteger();
+    final ExecutorService executorService = Executors
+      .newFixedThreadPool(parallelism, runnable -> {
+        final Thread thread = new Thread(runnable,
+                                         "schemacrawler-lint-query-"
+                                                   + threadCount
+                                                     .incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    try
+    {
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (int i = 0; i < parallelism; i++)
+      {
+        futures.add(executorService.submit(() -> {
+          try (final Connection workerConnection = connectionSupplier.get();)
+          {
+            queryBatches(workerConnection, batches, nextBatch, results);
+          }
+          return null;
+        }));
+      }
+      for (final Future<Void> future: futures)
+      {
+        try
+        {
+          future.get();
+        }
+        catch (final ExecutionException e)
+        {
+          // Other connections continue to query the remaining batches
+          LOGGER.log(Level.WARNING,
+                     new StringFormat("Could not query tables for lint %s on an additional connection",
+                                      getLinterId()),
+                     e.getCause());
+        }
+      }
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      LOGGER.log(Level.WARNING, "Interrupted while querying tables", e);
+    }
+    finally
+    {
+      executorService.shutdownNow();
+    }
+
+    if (nextBatch.get() < batches.size()
+        && !Thread.currentThread().isInterrupted())
+    {
+      // None of the additional connections could query the remaining
+      // batches
+      queryBatches(connection, batches, nextBatch, results);
+    }
+
+    return results;
+  }
+
+}
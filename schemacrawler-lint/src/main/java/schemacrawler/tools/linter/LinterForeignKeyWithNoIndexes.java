@@ -59,6 +59,12 @@ public class LinterForeignKeyWithNoIndexes
     return "foreign key with no index";
   }
 
+  @Override
+  protected boolean isTableIndependent()
+  {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
@@ -55,6 +55,12 @@ public class LinterNullIntendedColumns
     return "column where NULL may be intended";
   }
 
+  @Override
+  protected boolean isTableIndependent()
+  {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
@@ -63,6 +63,12 @@ public class LinterRedundantIndexes
     return "redundant index";
   }
 
+  @Override
+  protected boolean isTableIndependent()
+  {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
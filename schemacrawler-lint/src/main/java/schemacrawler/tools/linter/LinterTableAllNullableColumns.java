@@ -48,6 +48,12 @@ public class LinterTableAllNullableColumns
     return "no non-nullable data columns";
   }
 
+  @Override
+  protected boolean isTableIndependent()
+  {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
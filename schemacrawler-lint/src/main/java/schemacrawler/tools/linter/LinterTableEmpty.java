@@ -28,34 +28,37 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.linter;
 
 
-import static java.util.Objects.requireNonNull;
-import static schemacrawler.utility.QueryUtility.executeForLong;
+import static sf.util.DatabaseUtility.executeSql;
 
-import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 
 import schemacrawler.filter.TableTypesFilter;
 import schemacrawler.schema.Table;
-import schemacrawler.schemacrawler.SchemaCrawlerException;
-import schemacrawler.tools.lint.BaseLinter;
+import schemacrawler.schemacrawler.Config;
 import schemacrawler.tools.lint.LintSeverity;
 import schemacrawler.utility.Identifiers;
-import schemacrawler.utility.Query;
 import sf.util.SchemaCrawlerLogger;
 import sf.util.StringFormat;
 
 public class LinterTableEmpty
-  extends BaseLinter
+  extends BaseTableQueryLinter<Long>
 {
 
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(LinterTableEmpty.class.getName());
 
+  private int batchSize;
+
   public LinterTableEmpty()
   {
     setSeverity(LintSeverity.low);
     setTableTypesFilter(new TableTypesFilter("TABLE"));
+    batchSize = 1;
   }
 
   @Override
@@ -65,27 +68,71 @@ public class LinterTableEmpty
   }
 
   @Override
-  protected void lint(final Table table, final Connection connection)
+  protected void configure(final Config config)
+  {
+    super.configure(config);
+
+    batchSize = Math.max(config.getIntegerValue("batch-size", 1), 1);
+  }
+
+  @Override
+  void addTableLints(final Table table, final Long count)
+  {
+    if (count == 0)
+    {
+      addTableLint(table, getSummary());
+    }
+  }
+
+  @Override
+  int getBatchSize()
   {
-    requireNonNull(table, "No table provided");
-    requireNonNull(connection, "No connection provided");
+    return batchSize;
+  }
 
-    final Query query = new Query("Count", "SELECT COUNT(*) FROM ${table}");
-    try
+  /**
+   * Counts rows for a batch of tables, with a single query, which
+   * combines the row counts for each table with UNION ALL.
+   */
+  @Override
+  void query(final List<Table> batch,
+             final Statement statement,
+             final Identifiers identifiers,
+             final Map<Table, Long> counts)
+    throws SQLException
+  {
+    final StringBuilder sql = new StringBuilder(1024);
+    for (int i = 0; i < batch.size(); i++)
     {
-      final Identifiers identifiers = Identifiers.identifiers()
-        .withConnection(connection).build();
-      final long count = executeForLong(query, connection, table, identifiers);
-      if (count == 0)
+      if (i > 0)
       {
-        addTableLint(table, getSummary());
+        sql.append(System.lineSeparator()).append("UNION ALL")
+          .append(System.lineSeparator());
       }
+      sql.append("SELECT ").append(i).append(" AS TABLE_INDEX, ")
+        .append("COUNT(*) AS ROW_COUNT FROM ")
+        .append(identifiers.quoteFullName(batch.get(i)));
     }
-    catch (final SQLException | SchemaCrawlerException e)
+
+    LOGGER.log(Level.FINE,
+               new StringFormat("Executing count: %n%s", sql));
+    try (final ResultSet results = executeSql(statement,
+                                                      sql.toString(),
+                                                      true);)
     {
-      LOGGER.log(Level.WARNING,
-                 new StringFormat("Could not get count for table, ", table),
-                 e);
+      if (results == null)
+      {
+        return;
+      }
+      while (results.next())
+      {
+        final int index = results.getInt(1);
+        final long count = results.getLong(2);
+        if (index >= 0 && index < batch.size())
+        {
+          counts.put(batch.get(index), count);
+        }
+      }
     }
   }
 
@@ -32,21 +32,22 @@ import static java.util.Objects.requireNonNull;
 import static schemacrawler.utility.QueryUtility.executeForScalar;
 import static sf.util.Utility.isBlank;
 
-import java.sql.Connection;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
 import java.util.logging.Level;
 
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.Config;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
-import schemacrawler.tools.lint.BaseLinter;
 import schemacrawler.utility.Identifiers;
 import schemacrawler.utility.Query;
 import sf.util.SchemaCrawlerLogger;
 import sf.util.StringFormat;
 
 public class LinterTableSql
-  extends BaseLinter
+  extends BaseTableQueryLinter<Object>
 {
 
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
@@ -65,6 +66,7 @@ public class LinterTableSql
   protected void configure(final Config config)
   {
     requireNonNull(config, "No configuration provided");
+    super.configure(config);
 
     message = config.getStringValue("message", null);
     if (isBlank(message))
@@ -80,35 +82,44 @@ public class LinterTableSql
   }
 
   @Override
-  protected void lint(final Table table, final Connection connection)
+  void addTableLints(final Table table, final Object queryResult)
+  {
+    addTableLint(table, getSummary() + " " + queryResult);
+  }
+
+  @Override
+  void query(final List<Table> batch,
+             final Statement statement,
+             final Identifiers identifiers,
+             final Map<Table, Object> queryResults)
+    throws SQLException
   {
     if (isBlank(sql))
     {
       return;
     }
 
-    requireNonNull(table, "No table provided");
-    requireNonNull(connection, "No connection provided");
-
     final Query query = new Query(message, sql);
-    try
+    for (final Table table: batch)
     {
-      final Identifiers identifiers = Identifiers.identifiers()
-        .withConnection(connection).build();
-      final Object queryResult = executeForScalar(query,
-                                                  connection,
-                                                  table,
-                                                  identifiers);
-      if (queryResult != null)
+      try
       {
-        addTableLint(table, getSummary() + " " + queryResult);
+        final Object queryResult = executeForScalar(query,
+                                                    statement,
+                                                    table,
+                                                    identifiers);
+        if (queryResult != null)
+        {
+          queryResults.put(table, queryResult);
+        }
+      }
+      catch (final SchemaCrawlerException e)
+      {
+        LOGGER.log(Level.WARNING,
+                   new StringFormat("Could not get result for table <%s>",
+                                    table),
+                   e);
       }
-    }
-    catch (final SQLException | SchemaCrawlerException e)
-    {
-      LOGGER.log(Level.WARNING,
-                 new StringFormat("Could not get count for table, ", table),
-                 e);
     }
   }
 
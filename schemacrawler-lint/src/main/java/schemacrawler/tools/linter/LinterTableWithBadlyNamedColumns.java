@@ -56,6 +56,12 @@ public class LinterTableWithBadlyNamedColumns
     return "badly named column";
   }
 
+  @Override
+  protected boolean isTableIndependent()
+  {
+    return true;
+  }
+
   @Override
   protected void configure(final Config config)
   {
@@ -91,6 +91,12 @@ public class LinterTableWithIncrementingColumns
     return "incrementing columns";
   }
 
+  @Override
+  protected boolean isTableIndependent()
+  {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
@@ -54,6 +54,12 @@ public class LinterTableWithNoPrimaryKey
     return "no primary key";
   }
 
+  @Override
+  protected boolean isTableIndependent()
+  {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
@@ -59,6 +59,12 @@ public class LinterTableWithNoRemarks
     return "should have remarks";
   }
 
+  @Override
+  protected boolean isTableIndependent()
+  {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
@@ -54,6 +54,12 @@ public class LinterTableWithNoSurrogatePrimaryKey
     return "primary key may not be a surrogate";
   }
 
+  @Override
+  protected boolean isTableIndependent()
+  {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
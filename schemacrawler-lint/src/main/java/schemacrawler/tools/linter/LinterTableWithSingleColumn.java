@@ -47,6 +47,12 @@ public class LinterTableWithSingleColumn
     return "single column";
   }
 
+  @Override
+  protected boolean isTableIndependent()
+  {
+    return true;
+  }
+
   @Override
   protected void lint(final Table table, final Connection connection)
   {
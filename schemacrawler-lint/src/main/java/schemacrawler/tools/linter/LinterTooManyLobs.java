@@ -60,6 +60,12 @@ public class LinterTooManyLobs
     return "too many binary objects";
   }
 
+  @Override
+  protected boolean isTableIndependent()
+  {
+    return true;
+  }
+
   @Override
   protected void configure(final Config config)
   {
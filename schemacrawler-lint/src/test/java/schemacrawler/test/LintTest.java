@@ -34,17 +34,35 @@ import static org.hamcrest.Matchers.*;
 import static schemacrawler.test.utility.FileHasContent.*;
 import static schemacrawler.utility.SchemaCrawlerUtility.getCatalog;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Column;
+import schemacrawler.schema.ForeignKey;
 import schemacrawler.schema.Schema;
+import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.*;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
 import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
 import schemacrawler.test.utility.TestWriter;
 import schemacrawler.tools.lint.*;
+import sf.util.IOUtility;
 
 @ExtendWith(TestDatabaseConnectionParameterResolver.class)
 public class LintTest
@@ -56,56 +74,101 @@ public class LintTest
   public void lints(final Connection connection)
     throws Exception
   {
-    final SchemaCrawlerOptionsBuilder schemaCrawlerOptionsBuilder = SchemaCrawlerOptionsBuilder
+    // Lints are the same whether tables are linted on one thread, or
+    // spread across threads
+    for (final int parallelism : new int[] { 1, 4 })
+    {
+      lints(connection, parallelism);
+    }
+  }
+
+  @Test
+  public void cachedLints(final Connection connection)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
       .builder().tableTypes(Arrays.asList("TABLE", "VIEW", "GLOBAL TEMPORARY"))
-      .includeSchemas(new RegularExpressionInclusionRule(".*FOR_LINT"));
-    final SchemaCrawlerOptions schemaCrawlerOptions = schemaCrawlerOptionsBuilder
+      .includeSchemas(new RegularExpressionInclusionRule(".*FOR_LINT"))
       .toOptions();
 
-    final Catalog catalog = getCatalog(connection, schemaCrawlerOptions);
-    assertThat(catalog, notNullValue());
-    assertThat(catalog.getSchemas().size(), is(1));
-    final Schema schema = catalog.lookupSchema("PUBLIC.FOR_LINT").orElse(null);
-    assertThat("FOR_LINT schema not found", schema, notNullValue());
-    assertThat("FOR_LINT tables not found",
-               catalog.getTables(schema),
-               hasSize(7));
+    final Path lintCacheFile = IOUtility.createTempFilePath("lintcache", "dat");
 
-    final LinterConfigs linterConfigs = new LinterConfigs(new Config());
-    final LinterConfig linterConfig = new LinterConfig(
-      "schemacrawler.tools.linter.LinterTableWithBadlyNamedColumns");
-    linterConfig.setThreshold(0);
-    linterConfig.put("bad-column-names", ".*\\.COUNTRY");
-    linterConfigs.add(linterConfig);
+    // First lint run fills the lint cache, and the second lint run, on a
+    // newly crawled catalog, reuses lints from the lint cache
+    for (int i = 0; i < 2; i++)
+    {
+      final Catalog catalog = getCatalog(connection, schemaCrawlerOptions);
+      assertThat(catalog, notNullValue());
 
-    final Linters linters = new Linters(linterConfigs, true);
+      final LinterConfigs linterConfigs = new LinterConfigs(new Config());
+      final LinterConfig linterConfig = new LinterConfig(
+        "schemacrawler.tools.linter.LinterTableWithBadlyNamedColumns");
+      linterConfig.setThreshold(0);
+      linterConfig.put("bad-column-names", ".*\\.COUNTRY");
+      linterConfigs.add(linterConfig);
 
-    final LintedCatalog lintedDatabase = new LintedCatalog(catalog,
-                                                           connection,
-                                                           linters);
-    final LintCollector lintCollector = lintedDatabase.getCollector();
-    assertThat(lintCollector.size(), is(51));
+      final Linters linters = new Linters(linterConfigs, true);
+      linters.setLintCacheFile(lintCacheFile);
 
-    final TestWriter testout1 = new TestWriter();
-    try (final TestWriter out = testout1)
-    {
-      for (final Lint<?> lint : lintCollector)
+      final LintedCatalog lintedDatabase = new LintedCatalog(catalog,
+                                                             connection,
+                                                             linters);
+      assertThat(Files.exists(lintCacheFile), is(true));
+      if (i == 0)
       {
-        out.println(lint);
+        assertThat(linters.getLintCacheReuseCount(), is(0));
+      }
+      else
+      {
+        assertThat(linters.getLintCacheReuseCount(), is(greaterThan(0)));
       }
-    }
-    assertThat(outputOf(testout1),
-               hasSameContentAs(classpathResource(
-                 LINTS_OUTPUT + "schemacrawler.lints.txt")));
 
-    final TestWriter testout2 = new TestWriter();
-    try (final TestWriter out = testout2)
-    {
-      out.println(linters.getLintSummary());
+      // Schema objects in lint values are from the catalog that was
+      // linted, even if the lints were reused from the lint cache
+      int schemaObjectValueCount = 0;
+      for (final Table table : catalog.getTables())
+      {
+        for (final Lint<?> lint : LintCollector.getLint(table))
+        {
+          final Object value = lint.getValue();
+          if (value instanceof Column)
+          {
+            assertThat(value,
+                       is(sameInstance(table
+                         .lookupColumn(((Column) value).getName()).get())));
+            schemaObjectValueCount++;
+          }
+          else if (value instanceof ForeignKey)
+          {
+            assertThat(table.getForeignKeys(),
+                       hasItem(sameInstance((ForeignKey) value)));
+            schemaObjectValueCount++;
+          }
+        }
+      }
+      assertThat(schemaObjectValueCount, is(greaterThan(0)));
+
+      final TestWriter testout1 = new TestWriter();
+      try (final TestWriter out = testout1)
+      {
+        for (final Lint<?> lint : lintedDatabase.getCollector())
+        {
+          out.println(lint);
+        }
+      }
+      assertThat(outputOf(testout1),
+                 hasSameContentAs(classpathResource(
+                   LINTS_OUTPUT + "schemacrawler.lints.txt")));
+
+      final TestWriter testout2 = new TestWriter();
+      try (final TestWriter out = testout2)
+      {
+        out.println(linters.getLintSummary());
+      }
+      assertThat(outputOf(testout2),
+                 hasSameContentAs(classpathResource(
+                   LINTS_OUTPUT + "schemacrawler.lints.summary.txt")));
     }
-    assertThat(outputOf(testout2),
-               hasSameContentAs(classpathResource(
-                 LINTS_OUTPUT + "schemacrawler.lints.summary.txt")));
   }
 
   @Test
@@ -150,6 +213,171 @@ public class LintTest
                  LINTS_OUTPUT + "schemacrawler.lints.excluded_columns.txt")));
   }
 
+  @Test
+  public void queryLintsOnAdditionalConnections(final Connection connection,
+                                                final DatabaseConnectionInfo connectionInfo)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .builder().toOptions();
+    final Catalog catalog = getCatalog(connection, schemaCrawlerOptions);
+    assertThat(catalog, notNullValue());
+
+    final List<String> serialLints = queryLints(catalog,
+                                                connection,
+                                                null,
+                                                1,
+                                                new LinterConfig(
+                                                  "schemacrawler.tools.linter.LinterTableEmpty"));
+    assertThat(serialLints, not(empty()));
+
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final Supplier<Connection> connectionSupplier = () -> {
+      try
+      {
+        connectionCount.incrementAndGet();
+        return DriverManager
+          .getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+      }
+      catch (final SQLException e)
+      {
+        throw new SchemaCrawlerRuntimeException(e.getMessage(), e);
+      }
+    };
+    final LinterConfig linterConfig = new LinterConfig(
+      "schemacrawler.tools.linter.LinterTableEmpty");
+    linterConfig.put("batch-size", "3");
+    linterConfig.put("query-timeout", "10");
+    final List<String> parallelLints = queryLints(catalog,
+                                                  connection,
+                                                  connectionSupplier,
+                                                  4,
+                                                  linterConfig);
+
+    assertThat(parallelLints, is(serialLints));
+    assertThat(connectionCount.get(), is(greaterThan(0)));
+  }
+
+  @Test
+  public void queryLintsWithFailedConnections(final Connection connection)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .builder().toOptions();
+    final Catalog catalog = getCatalog(connection, schemaCrawlerOptions);
+
+    final List<String> serialLints = queryLints(catalog,
+                                                connection,
+                                                null,
+                                                1,
+                                                new LinterConfig(
+                                                  "schemacrawler.tools.linter.LinterTableEmpty"));
+    assertThat(serialLints, not(empty()));
+
+    // None of the additional connections can be opened, so all batches
+    // are queried on the main connection
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final Supplier<Connection> connectionSupplier = () -> {
+      connectionCount.incrementAndGet();
+      throw new SchemaCrawlerRuntimeException("Cannot open connection");
+    };
+    final LinterConfig linterConfig = new LinterConfig(
+      "schemacrawler.tools.linter.LinterTableEmpty");
+    linterConfig.put("batch-size", "3");
+    final List<String> parallelLints = queryLints(catalog,
+                                                  connection,
+                                                  connectionSupplier,
+                                                  4,
+                                                  linterConfig);
+
+    assertThat(connectionCount.get(), is(4));
+    assertThat(parallelLints, is(serialLints));
+  }
+
+  @Test
+  public void queryLintsAfterFailedBatch(final Connection connection)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .builder().toOptions();
+    final Catalog catalog;
+    try (final Statement statement = connection.createStatement();)
+    {
+      statement
+        .execute("CREATE TABLE FOR_LINT.DROPPED_FOR_LINT (ID INTEGER)");
+      try
+      {
+        catalog = getCatalog(connection, schemaCrawlerOptions);
+      }
+      finally
+      {
+        // The table is in the catalog, but cannot be queried
+        statement.execute("DROP TABLE FOR_LINT.DROPPED_FOR_LINT");
+      }
+    }
+    assertThat(catalog.lookupTable(catalog.lookupSchema("PUBLIC.FOR_LINT")
+      .get(), "DROPPED_FOR_LINT").isPresent(), is(true));
+
+    final List<String> serialLints = queryLints(catalog,
+                                                connection,
+                                                null,
+                                                1,
+                                                new LinterConfig(
+                                                  "schemacrawler.tools.linter.LinterTableEmpty"));
+    assertThat(serialLints, not(empty()));
+
+    // All tables are in one batch, which fails, and is queried again one
+    // table at a time
+    final LinterConfig linterConfig = new LinterConfig(
+      "schemacrawler.tools.linter.LinterTableEmpty");
+    linterConfig.put("batch-size", "1000");
+    final List<String> batchLints = queryLints(catalog,
+                                               connection,
+                                               null,
+                                               1,
+                                               linterConfig);
+
+    assertThat(batchLints, is(serialLints));
+  }
+
+  @Test
+  public void streamLints(final Connection connection)
+    throws Exception
+  {
+    for (final int parallelism : new int[] { 1, 4 })
+    {
+      // With the default linters, some linters look across tables, or
+      // add table lints when they end, but lints from the other linters
+      // are still handled as soon as a table is linted, which is only
+      // predictable when tables are linted one at a time
+      final Linters allLinters = new Linters(new LinterConfigs(new Config()),
+                                             true);
+      final List<Integer> allLintCounts = streamLints(connection,
+                                                      allLinters,
+                                                      parallelism);
+      if (parallelism == 1)
+      {
+        assertThat(allLintCounts.get(0),
+                   is(lessThan(allLinters.getCollector().size())));
+      }
+
+      final LinterConfigs linterConfigs = new LinterConfigs(new Config());
+      final LinterConfig linterConfig = new LinterConfig(
+        "schemacrawler.tools.linter.LinterTableWithBadlyNamedColumns");
+      linterConfig.put("bad-column-names", ".*");
+      linterConfigs.add(linterConfig);
+      final Linters tableLinters = new Linters(linterConfigs, false);
+      final List<Integer> tableLintCounts = streamLints(connection,
+                                                        tableLinters,
+                                                        parallelism);
+      if (parallelism == 1)
+      {
+        assertThat(tableLintCounts.get(0),
+                   is(lessThan(tableLinters.getCollector().size())));
+      }
+    }
+  }
+
   @Test
   public void runNoLinters(final Connection connection)
     throws Exception
@@ -182,4 +410,167 @@ public class LintTest
                is(0));
   }
 
+  private List<Integer> streamLints(final Connection connection,
+                                    final Linters linters,
+                                    final int parallelism)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .builder().tableTypes(Arrays.asList("TABLE", "VIEW", "GLOBAL TEMPORARY"))
+      .includeSchemas(new RegularExpressionInclusionRule(".*FOR_LINT"))
+      .toOptions();
+    final Catalog catalog = getCatalog(connection, schemaCrawlerOptions);
+    assertThat(catalog, notNullValue());
+    final List<Table> tables = new ArrayList<>(catalog.getTables());
+    Collections.reverse(tables);
+
+    linters.setParallelism(parallelism);
+    final LintCollector lintCollector = linters.getCollector();
+    final List<String> handled = new ArrayList<>();
+    final List<Integer> lintCounts = new ArrayList<>();
+    final Map<Table, Collection<Lint<?>>> streamedLints = new HashMap<>();
+    linters.lint(catalog, connection, tables, new LintHandler()
+    {
+
+      @Override
+      public void handle(final Catalog catalog)
+      {
+        handled.add(catalog.getFullName());
+      }
+
+      @Override
+      public void handle(final Table table)
+      {
+        handled.add(table.getFullName());
+        lintCounts.add(lintCollector.size());
+        streamedLints.put(table, LintCollector.getLint(table));
+      }
+    });
+
+    final List<String> expectedHandled = new ArrayList<>();
+    expectedHandled.add(catalog.getFullName());
+    for (final Table table : tables)
+    {
+      expectedHandled.add(table.getFullName());
+    }
+    assertThat(handled, is(expectedHandled));
+
+    // Lints are kept with the catalog, and counted, after they are
+    // handled
+    int lintCount = LintCollector.getLint(catalog).size();
+    for (final Table table : tables)
+    {
+      final Collection<Lint<?>> lints = LintCollector.getLint(table);
+      assertThat(streamedLints.get(table), is(lints));
+      lintCount += lints.size();
+    }
+    assertThat(lintCount, is(greaterThan(0)));
+    assertThat(lintCollector.size(), is(lintCount));
+
+    int iteratedCount = 0;
+    for (final Lint<?> lint : lintCollector)
+    {
+      assertThat(lint, notNullValue());
+      iteratedCount++;
+    }
+    assertThat(iteratedCount, is(lintCount));
+
+    int severityCount = 0;
+    for (final LintSeverity severity : LintSeverity.values())
+    {
+      severityCount += lintCollector.getLintCount(severity);
+    }
+    assertThat(severityCount, is(lintCount));
+
+    // Lints are copied, so changes do not affect the collected lints
+    final Table table = tables.get(0);
+    final int tableLintCount = LintCollector.getLint(table).size();
+    LintCollector.getLint(table).clear();
+    assertThat(LintCollector.getLint(table).size(), is(tableLintCount));
+
+    return lintCounts;
+  }
+
+  private List<String> queryLints(final Catalog catalog,
+                                  final Connection connection,
+                                  final Supplier<Connection> connectionSupplier,
+                                  final int parallelism,
+                                  final LinterConfig linterConfig)
+    throws Exception
+  {
+    final LinterConfigs linterConfigs = new LinterConfigs(new Config());
+    linterConfigs.add(linterConfig);
+
+    final Linters linters = new Linters(linterConfigs, false);
+    linters.setParallelism(parallelism);
+    linters.setConnectionSupplier(connectionSupplier);
+
+    final LintedCatalog lintedDatabase = new LintedCatalog(catalog,
+                                                           connection,
+                                                           linters);
+    final List<String> lints = new ArrayList<>();
+    for (final Lint<?> lint : lintedDatabase.getCollector())
+    {
+      lints.add(lint.toString());
+    }
+    return lints;
+  }
+
+  private void lints(final Connection connection, final int parallelism)
+    throws Exception
+  {
+    final SchemaCrawlerOptionsBuilder schemaCrawlerOptionsBuilder = SchemaCrawlerOptionsBuilder
+      .builder().tableTypes(Arrays.asList("TABLE", "VIEW", "GLOBAL TEMPORARY"))
+      .includeSchemas(new RegularExpressionInclusionRule(".*FOR_LINT"));
+    final SchemaCrawlerOptions schemaCrawlerOptions = schemaCrawlerOptionsBuilder
+      .toOptions();
+
+    final Catalog catalog = getCatalog(connection, schemaCrawlerOptions);
+    assertThat(catalog, notNullValue());
+    assertThat(catalog.getSchemas().size(), is(1));
+    final Schema schema = catalog.lookupSchema("PUBLIC.FOR_LINT").orElse(null);
+    assertThat("FOR_LINT schema not found", schema, notNullValue());
+    assertThat("FOR_LINT tables not found",
+               catalog.getTables(schema),
+               hasSize(7));
+
+    final LinterConfigs linterConfigs = new LinterConfigs(new Config());
+    final LinterConfig linterConfig = new LinterConfig(
+      "schemacrawler.tools.linter.LinterTableWithBadlyNamedColumns");
+    linterConfig.setThreshold(0);
+    linterConfig.put("bad-column-names", ".*\\.COUNTRY");
+    linterConfigs.add(linterConfig);
+
+    final Linters linters = new Linters(linterConfigs, true);
+    linters.setParallelism(parallelism);
+    assertThat(linters.getParallelism(), is(parallelism));
+
+    final LintedCatalog lintedDatabase = new LintedCatalog(catalog,
+                                                           connection,
+                                                           linters);
+    final LintCollector lintCollector = lintedDatabase.getCollector();
+    assertThat(lintCollector.size(), is(51));
+
+    final TestWriter testout1 = new TestWriter();
+    try (final TestWriter out = testout1)
+    {
+      for (final Lint<?> lint : lintCollector)
+      {
+        out.println(lint);
+      }
+    }
+    assertThat(outputOf(testout1),
+               hasSameContentAs(classpathResource(
+                 LINTS_OUTPUT + "schemacrawler.lints.txt")));
+
+    final TestWriter testout2 = new TestWriter();
+    try (final TestWriter out = testout2)
+    {
+      out.println(linters.getLintSummary());
+    }
+    assertThat(outputOf(testout2),
+               hasSameContentAs(classpathResource(
+                 LINTS_OUTPUT + "schemacrawler.lints.summary.txt")));
+  }
+
 }
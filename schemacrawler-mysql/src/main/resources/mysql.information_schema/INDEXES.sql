@@ -0,0 +1,23 @@
+SELECT
+  TABLE_SCHEMA AS TABLE_CAT,
+  NULL AS TABLE_SCHEM,
+  TABLE_NAME,
+  NON_UNIQUE,
+  INDEX_SCHEMA AS INDEX_QUALIFIER,
+  INDEX_NAME,
+  CASE INDEX_TYPE WHEN 'HASH' THEN 2 ELSE 3 END AS TYPE,
+  SEQ_IN_INDEX AS ORDINAL_POSITION,
+  COLUMN_NAME,
+  COLLATION AS ASC_OR_DESC,
+  LEAST(COALESCE(CARDINALITY, 0), 2147483647) AS CARDINALITY,
+  0 AS PAGES,
+  NULL AS FILTER_CONDITION
+FROM
+  INFORMATION_SCHEMA.STATISTICS
+ORDER BY
+  TABLE_CAT,
+  TABLE_NAME,
+  INDEX_NAME,
+  NON_UNIQUE,
+  TYPE,
+  ORDINAL_POSITION
@@ -0,0 +1,16 @@
+SELECT
+  TABLE_SCHEMA AS TABLE_CAT,
+  NULL AS TABLE_SCHEM,
+  TABLE_NAME,
+  COLUMN_NAME,
+  SEQ_IN_INDEX AS KEY_SEQ,
+  INDEX_NAME AS PK_NAME
+FROM
+  INFORMATION_SCHEMA.STATISTICS
+WHERE
+  INDEX_NAME = 'PRIMARY'
+ORDER BY
+  TABLE_CAT,
+  TABLE_NAME,
+  PK_NAME,
+  KEY_SEQ
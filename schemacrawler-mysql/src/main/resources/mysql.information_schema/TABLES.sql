@@ -0,0 +1,17 @@
+SELECT
+  TABLE_SCHEMA AS TABLE_CAT,
+  NULL AS TABLE_SCHEM,
+  TABLE_NAME,
+  CASE
+    WHEN TABLE_TYPE = 'BASE TABLE' 
+      AND TABLE_SCHEMA IN ('mysql', 'performance_schema') THEN 'SYSTEM TABLE'
+    WHEN TABLE_TYPE = 'BASE TABLE' THEN 'TABLE'
+    WHEN TABLE_TYPE = 'TEMPORARY' THEN 'LOCAL TEMPORARY'
+    ELSE TABLE_TYPE
+  END AS TABLE_TYPE,
+  TABLE_COMMENT AS REMARKS
+FROM
+  INFORMATION_SCHEMA.TABLES
+ORDER BY
+  TABLE_CAT,
+  TABLE_NAME
@@ -0,0 +1,76 @@
+SELECT
+  TABLE_SCHEMA AS TABLE_CAT,
+  NULL AS TABLE_SCHEM,
+  TABLE_NAME,
+  COLUMN_NAME,
+  CASE UPPER(DATA_TYPE)
+    WHEN 'BIT' THEN -7
+    WHEN 'TINYINT' THEN -6
+    WHEN 'BOOL' THEN -7
+    WHEN 'BOOLEAN' THEN -7
+    WHEN 'SMALLINT' THEN 5
+    WHEN 'MEDIUMINT' THEN 4
+    WHEN 'INT' THEN 4
+    WHEN 'INTEGER' THEN 4
+    WHEN 'BIGINT' THEN -5
+    WHEN 'FLOAT' THEN 7
+    WHEN 'DOUBLE' THEN 8
+    WHEN 'REAL' THEN 8
+    WHEN 'DECIMAL' THEN 3
+    WHEN 'NUMERIC' THEN 3
+    WHEN 'DATE' THEN 91
+    WHEN 'YEAR' THEN 91
+    WHEN 'TIME' THEN 92
+    WHEN 'DATETIME' THEN 93
+    WHEN 'TIMESTAMP' THEN 93
+    WHEN 'CHAR' THEN 1
+    WHEN 'ENUM' THEN 1
+    WHEN 'SET' THEN 1
+    WHEN 'VARCHAR' THEN 12
+    WHEN 'TINYTEXT' THEN 12
+    WHEN 'TEXT' THEN -1
+    WHEN 'MEDIUMTEXT' THEN -1
+    WHEN 'LONGTEXT' THEN -1
+    WHEN 'JSON' THEN -1
+    WHEN 'BINARY' THEN -2
+    WHEN 'VARBINARY' THEN -3
+    WHEN 'TINYBLOB' THEN -3
+    WHEN 'BLOB' THEN -4
+    WHEN 'MEDIUMBLOB' THEN -4
+    WHEN 'LONGBLOB' THEN -4
+    WHEN 'GEOMETRY' THEN -2
+    ELSE 1111
+  END AS DATA_TYPE,
+  CASE 
+    WHEN COLUMN_TYPE LIKE '%unsigned%' THEN CONCAT(UPPER(DATA_TYPE), ' UNSIGNED')
+    ELSE UPPER(DATA_TYPE)
+  END AS TYPE_NAME,
+  LEAST(
+    COALESCE(CHARACTER_MAXIMUM_LENGTH, NUMERIC_PRECISION, DATETIME_PRECISION, 0), 
+    2147483647) 
+    AS COLUMN_SIZE,
+  65535 AS BUFFER_LENGTH,
+  NUMERIC_SCALE AS DECIMAL_DIGITS,
+  10 AS NUM_PREC_RADIX,
+  CASE IS_NULLABLE WHEN 'YES' THEN 1 ELSE 0 END AS NULLABLE,
+  COLUMN_COMMENT AS REMARKS,
+  COLUMN_DEFAULT AS COLUMN_DEF,
+  0 AS SQL_DATA_TYPE,
+  0 AS SQL_DATETIME_SUB,
+  LEAST(COALESCE(CHARACTER_OCTET_LENGTH, 0), 2147483647) AS CHAR_OCTET_LENGTH,
+  ORDINAL_POSITION,
+  IS_NULLABLE,
+  NULL AS SCOPE_CATALOG,
+  NULL AS SCOPE_SCHEMA,
+  NULL AS SCOPE_TABLE,
+  NULL AS SOURCE_DATA_TYPE,
+  CASE WHEN EXTRA LIKE '%auto_increment%' THEN 'YES' ELSE 'NO' END 
+    AS IS_AUTOINCREMENT,
+  CASE WHEN EXTRA LIKE '%GENERATED%' THEN 'YES' ELSE 'NO' END 
+    AS IS_GENERATEDCOLUMN
+FROM
+  INFORMATION_SCHEMA.COLUMNS
+ORDER BY
+  TABLE_CAT,
+  TABLE_NAME,
+  ORDINAL_POSITION
@@ -51,7 +51,7 @@ public class BundledDistributionTest
       .lookupDatabaseConnector("mysql");
     assertThat(databaseSystemIdentifier
                  .getSchemaRetrievalOptionsBuilder(connection).toOptions()
-                 .getInformationSchemaViews().size(), is(7));
+                 .getInformationSchemaViews().size(), is(12));
   }
 
   @Test
@@ -1,7 +1,9 @@
 package schemacrawler.tools.offline;
 
 
+import java.io.BufferedInputStream;
 import java.io.FileInputStream;
+import java.io.InputStream;
 import java.nio.file.Path;
 import java.sql.Connection;
 import java.util.logging.Level;
@@ -9,7 +11,9 @@ import java.util.logging.Level;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.*;
 import schemacrawler.tools.catalogloader.CatalogLoader;
+import schemacrawler.tools.integration.serialization.CompactSerializedCatalog;
 import schemacrawler.tools.integration.serialization.JavaSerializedCatalog;
+import schemacrawler.tools.integration.serialization.SerializableCatalog;
 import schemacrawler.tools.offline.jdbc.OfflineConnection;
 import sf.util.SchemaCrawlerLogger;
 
@@ -93,10 +97,19 @@ public final class OfflineCatalogLoader
     }
 
     final Path offlineDatabasePath = dbConnection.getOfflineDatabasePath();
-    final FileInputStream inputFileStream = new FileInputStream(
-      offlineDatabasePath.toFile());
-    final JavaSerializedCatalog catalog = new JavaSerializedCatalog(
-      inputFileStream);
+    final InputStream inputFileStream = new BufferedInputStream(new FileInputStream(
+      offlineDatabasePath.toFile()));
+    // Offline snapshots can be compact snapshots, or plain Java
+    // serialized catalogs from older versions
+    final SerializableCatalog catalog;
+    if (CompactSerializedCatalog.isCompactSnapshot(inputFileStream))
+    {
+      catalog = new CompactSerializedCatalog(inputFileStream);
+    }
+    else
+    {
+      catalog = new JavaSerializedCatalog(inputFileStream);
+    }
     return catalog;
   }
 
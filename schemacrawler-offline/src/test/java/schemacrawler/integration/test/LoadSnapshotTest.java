@@ -53,15 +53,34 @@ import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.test.utility.DatabaseTestUtility;
 import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.tools.integration.serialization.CompactSerializedCatalog;
 import schemacrawler.tools.integration.serialization.JavaSerializedCatalog;
+import schemacrawler.tools.offline.OfflineCatalogLoader;
+import schemacrawler.tools.offline.jdbc.OfflineConnection;
 import sf.util.IOUtility;
 
 @ExtendWith(TestDatabaseConnectionParameterResolver.class)
 public class LoadSnapshotTest
 {
 
+  private Path compactCatalogFile;
   private Path serializedCatalogFile;
 
+  @Test
+  public void loadCompactSnapshot()
+    throws Exception
+  {
+    final OfflineCatalogLoader catalogLoader = new OfflineCatalogLoader();
+    catalogLoader.setConnection(new OfflineConnection(compactCatalogFile));
+    final Catalog catalog = catalogLoader.loadCatalog();
+
+    final Schema schema = catalog.lookupSchema("PUBLIC.BOOKS").orElse(null);
+    assertThat("Could not obtain schema", schema, notNullValue());
+    assertThat("Unexpected number of tables in the schema",
+               catalog.getTables(schema),
+               hasSize(10));
+  }
+
   @Test
   public void loadSnapshot()
     throws Exception
@@ -107,6 +126,17 @@ public class LoadSnapshotTest
                size(serializedCatalogFile),
                greaterThan(0L));
 
+    compactCatalogFile = IOUtility.createTempFilePath("schemacrawler", "sccs");
+    try (
+        final FileOutputStream out = new FileOutputStream(compactCatalogFile
+          .toFile());)
+    {
+      new CompactSerializedCatalog(catalog).save(out);
+    }
+    assertThat("Database was not serialized",
+               size(compactCatalogFile),
+               greaterThan(0L));
+
   }
 
 }
@@ -0,0 +1,38 @@
+SELECT /*+ PARALLEL(AUTO) */
+  NULL AS TABLE_CATALOG,
+  OBJECTS.OWNER AS TABLE_SCHEMA,
+  OBJECTS.OBJECT_NAME AS TABLE_NAME,
+  TO_CHAR(OBJECTS.LAST_DDL_TIME, 'YYYYMMDDHH24MISS')
+    || '/' ||
+    (SELECT 
+       TO_CHAR(MAX(INDEX_OBJECTS.LAST_DDL_TIME), 'YYYYMMDDHH24MISS')
+       || '/' || COUNT(*)
+     FROM
+       ${catalogscope}_INDEXES INDEXES
+       INNER JOIN ${catalogscope}_OBJECTS INDEX_OBJECTS
+         ON INDEXES.OWNER = INDEX_OBJECTS.OWNER
+           AND INDEXES.INDEX_NAME = INDEX_OBJECTS.OBJECT_NAME
+           AND INDEX_OBJECTS.OBJECT_TYPE = 'INDEX'
+     WHERE
+       INDEXES.TABLE_OWNER = OBJECTS.OWNER
+       AND INDEXES.TABLE_NAME = OBJECTS.OBJECT_NAME)
+    AS CHANGE_TOKEN
+FROM
+  ${catalogscope}_OBJECTS OBJECTS
+WHERE
+  OBJECTS.OBJECT_TYPE IN ('TABLE', 'VIEW', 'MATERIALIZED VIEW')
+  AND OBJECTS.OWNER NOT IN 
+    ('ANONYMOUS', 'APEX_PUBLIC_USER', 'APPQOSSYS', 'BI', 'CTXSYS', 'DBSNMP', 'DIP', 
+    'EXFSYS', 'FLOWS_30000', 'FLOWS_FILES', 'GSMADMIN_INTERNAL', 'IX', 'LBACSYS', 
+    'MDDATA', 'MDSYS', 'MGMT_VIEW', 'OE', 'OLAPSYS', 'ORACLE_OCM', 
+    'ORDPLUGINS', 'ORDSYS', 'OUTLN', 'OWBSYS', 'PM', 'SCOTT', 'SH', 
+    'SI_INFORMTN_SCHEMA', 'SPATIAL_CSW_ADMIN_USR', 'SPATIAL_WFS_ADMIN_USR', 
+    'SYS', 'SYSMAN', 'SYSTEM', 'TSMSYS', 'WKPROXY', 'WKSYS', 'WK_TEST', 
+    'WMSYS', 'XDB', 'XS$NULL', 'RDSADMIN')  
+  AND NOT REGEXP_LIKE(OBJECTS.OWNER, '^APEX_[0-9]{6}$')
+  AND NOT REGEXP_LIKE(OBJECTS.OWNER, '^FLOWS_[0-9]{5}$')
+  AND REGEXP_LIKE(OBJECTS.OWNER, '${schemas}')
+  AND OBJECTS.OBJECT_NAME NOT LIKE 'BIN$%'
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
@@ -52,7 +52,7 @@ public class BundledDistributionTest
       .lookupDatabaseConnector("oracle");
     assertThat(databaseSystemIdentifier
       .getSchemaRetrievalOptionsBuilder(connection).toOptions()
-      .getInformationSchemaViews().size(), is(25));
+      .getInformationSchemaViews().size(), is(27));
   }
 
   @Test
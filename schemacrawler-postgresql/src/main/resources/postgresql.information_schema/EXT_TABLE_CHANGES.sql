@@ -0,0 +1,24 @@
+SELECT
+  NULL AS TABLE_CATALOG,
+  PG_NAMESPACE.NSPNAME AS TABLE_SCHEMA,
+  PG_CLASS.RELNAME AS TABLE_NAME,
+  PG_CLASS.XMIN::TEXT || '/' || PG_CLASS.RELFILENODE::TEXT || '/' ||
+    COALESCE(
+      (SELECT
+         STRING_AGG(PG_INDEX.INDEXRELID::TEXT, ',' ORDER BY PG_INDEX.INDEXRELID)
+       FROM
+         PG_INDEX
+       WHERE
+         PG_INDEX.INDRELID = PG_CLASS.OID), '')
+    AS CHANGE_TOKEN
+FROM
+  PG_CLASS
+  INNER JOIN PG_NAMESPACE
+    ON PG_CLASS.RELNAMESPACE = PG_NAMESPACE.OID
+WHERE
+  PG_CLASS.RELKIND IN ('r', 'v', 'm', 'f', 'p')
+  AND PG_NAMESPACE.NSPNAME NOT IN ('pg_catalog', 'information_schema')
+  AND PG_NAMESPACE.NSPNAME NOT LIKE 'pg_toast%'
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
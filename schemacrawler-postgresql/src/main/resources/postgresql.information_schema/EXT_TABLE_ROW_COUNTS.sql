@@ -0,0 +1,17 @@
+SELECT
+  NULL AS TABLE_CATALOG,
+  PG_NAMESPACE.NSPNAME AS TABLE_SCHEMA,
+  PG_CLASS.RELNAME AS TABLE_NAME,
+  CAST(PG_CLASS.RELTUPLES AS BIGINT) AS ROW_COUNT
+FROM
+  PG_CLASS
+  INNER JOIN PG_NAMESPACE
+    ON PG_CLASS.RELNAMESPACE = PG_NAMESPACE.OID
+WHERE
+  PG_CLASS.RELKIND IN ('r', 'm', 'p')
+  AND PG_CLASS.RELTUPLES >= 0
+  AND PG_NAMESPACE.NSPNAME NOT IN ('pg_catalog', 'information_schema')
+  AND PG_NAMESPACE.NSPNAME NOT LIKE 'pg_toast%'
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
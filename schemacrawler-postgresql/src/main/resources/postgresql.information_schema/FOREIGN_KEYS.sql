@@ -0,0 +1,59 @@
+SELECT
+  NULL AS PKTABLE_CAT,
+  PK_NAMESPACE.NSPNAME AS PKTABLE_SCHEM,
+  PK_CLASS.RELNAME AS PKTABLE_NAME,
+  PK_ATTRIBUTE.ATTNAME AS PKCOLUMN_NAME,
+  NULL AS FKTABLE_CAT,
+  FK_NAMESPACE.NSPNAME AS FKTABLE_SCHEM,
+  FK_CLASS.RELNAME AS FKTABLE_NAME,
+  FK_ATTRIBUTE.ATTNAME AS FKCOLUMN_NAME,
+  FK_KEYS.ORDINAL AS KEY_SEQ,
+  CASE PG_CONSTRAINT.CONFUPDTYPE
+    WHEN 'c' THEN 0
+    WHEN 'n' THEN 2
+    WHEN 'd' THEN 4
+    WHEN 'r' THEN 1
+    WHEN 'a' THEN 3
+    ELSE NULL
+  END AS UPDATE_RULE,
+  CASE PG_CONSTRAINT.CONFDELTYPE
+    WHEN 'c' THEN 0
+    WHEN 'n' THEN 2
+    WHEN 'd' THEN 4
+    WHEN 'r' THEN 1
+    WHEN 'a' THEN 3
+    ELSE NULL
+  END AS DELETE_RULE,
+  PG_CONSTRAINT.CONNAME AS FK_NAME,
+  PK_INDEX_CLASS.RELNAME AS PK_NAME,
+  CASE 
+    WHEN PG_CONSTRAINT.CONDEFERRABLE AND PG_CONSTRAINT.CONDEFERRED THEN 5
+    WHEN PG_CONSTRAINT.CONDEFERRABLE THEN 6
+    ELSE 7
+  END AS DEFERRABILITY
+FROM
+  PG_CONSTRAINT
+  INNER JOIN PG_CLASS FK_CLASS
+    ON PG_CONSTRAINT.CONRELID = FK_CLASS.OID
+  INNER JOIN PG_NAMESPACE FK_NAMESPACE
+    ON FK_CLASS.RELNAMESPACE = FK_NAMESPACE.OID
+  INNER JOIN PG_CLASS PK_CLASS
+    ON PG_CONSTRAINT.CONFRELID = PK_CLASS.OID
+  INNER JOIN PG_NAMESPACE PK_NAMESPACE
+    ON PK_CLASS.RELNAMESPACE = PK_NAMESPACE.OID
+  LEFT OUTER JOIN PG_CLASS PK_INDEX_CLASS
+    ON PG_CONSTRAINT.CONINDID = PK_INDEX_CLASS.OID
+  CROSS JOIN LATERAL GENERATE_SERIES(1, ARRAY_LENGTH(PG_CONSTRAINT.CONKEY, 1)) 
+    AS FK_KEYS(ORDINAL)
+  INNER JOIN PG_ATTRIBUTE FK_ATTRIBUTE
+    ON FK_ATTRIBUTE.ATTRELID = PG_CONSTRAINT.CONRELID
+      AND FK_ATTRIBUTE.ATTNUM = PG_CONSTRAINT.CONKEY[FK_KEYS.ORDINAL]
+  INNER JOIN PG_ATTRIBUTE PK_ATTRIBUTE
+    ON PK_ATTRIBUTE.ATTRELID = PG_CONSTRAINT.CONFRELID
+      AND PK_ATTRIBUTE.ATTNUM = PG_CONSTRAINT.CONFKEY[FK_KEYS.ORDINAL]
+WHERE
+  PG_CONSTRAINT.CONTYPE = 'f'
+ORDER BY
+  PKTABLE_SCHEM,
+  PKTABLE_NAME,
+  KEY_SEQ
@@ -0,0 +1,47 @@
+SELECT
+  NULL AS TABLE_CAT,
+  PG_NAMESPACE.NSPNAME AS TABLE_SCHEM,
+  TABLE_CLASS.RELNAME AS TABLE_NAME,
+  NOT PG_INDEX.INDISUNIQUE AS NON_UNIQUE,
+  NULL AS INDEX_QUALIFIER,
+  INDEX_CLASS.RELNAME AS INDEX_NAME,
+  CASE 
+    WHEN PG_INDEX.INDISCLUSTERED THEN 1
+    WHEN PG_AM.AMNAME = 'hash' THEN 2
+    ELSE 3
+  END AS TYPE,
+  INDEX_KEYS.ORDINAL AS ORDINAL_POSITION,
+  TRIM(BOTH '"' FROM PG_GET_INDEXDEF(INDEX_CLASS.OID, INDEX_KEYS.ORDINAL, FALSE)) 
+    AS COLUMN_NAME,
+  CASE 
+    WHEN PG_AM.AMNAME = 'btree' THEN
+      CASE PG_INDEX.INDOPTION[INDEX_KEYS.ORDINAL - 1] & 1 
+        WHEN 1 THEN 'D' 
+        ELSE 'A' 
+      END
+    ELSE NULL
+  END AS ASC_OR_DESC,
+  CAST(INDEX_CLASS.RELTUPLES AS BIGINT) AS CARDINALITY,
+  INDEX_CLASS.RELPAGES AS PAGES,
+  PG_GET_EXPR(PG_INDEX.INDPRED, PG_INDEX.INDRELID) AS FILTER_CONDITION
+FROM
+  PG_INDEX
+  INNER JOIN PG_CLASS TABLE_CLASS
+    ON PG_INDEX.INDRELID = TABLE_CLASS.OID
+  INNER JOIN PG_NAMESPACE
+    ON TABLE_CLASS.RELNAMESPACE = PG_NAMESPACE.OID
+  INNER JOIN PG_CLASS INDEX_CLASS
+    ON PG_INDEX.INDEXRELID = INDEX_CLASS.OID
+  INNER JOIN PG_AM
+    ON INDEX_CLASS.RELAM = PG_AM.OID
+  CROSS JOIN LATERAL GENERATE_SERIES(1, PG_INDEX.INDNATTS) AS INDEX_KEYS(ORDINAL)
+WHERE
+  PG_NAMESPACE.NSPNAME NOT LIKE 'pg_toast%'
+  AND PG_NAMESPACE.NSPNAME NOT LIKE 'pg_temp%'
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  INDEX_NAME,
+  NON_UNIQUE,
+  TYPE,
+  ORDINAL_POSITION
@@ -0,0 +1,28 @@
+SELECT
+  NULL AS TABLE_CAT,
+  PG_NAMESPACE.NSPNAME AS TABLE_SCHEM,
+  TABLE_CLASS.RELNAME AS TABLE_NAME,
+  PG_ATTRIBUTE.ATTNAME AS COLUMN_NAME,
+  INDEX_KEYS.ORDINAL AS KEY_SEQ,
+  INDEX_CLASS.RELNAME AS PK_NAME
+FROM
+  PG_INDEX
+  INNER JOIN PG_CLASS TABLE_CLASS
+    ON PG_INDEX.INDRELID = TABLE_CLASS.OID
+  INNER JOIN PG_NAMESPACE
+    ON TABLE_CLASS.RELNAMESPACE = PG_NAMESPACE.OID
+  INNER JOIN PG_CLASS INDEX_CLASS
+    ON PG_INDEX.INDEXRELID = INDEX_CLASS.OID
+  CROSS JOIN LATERAL GENERATE_SERIES(1, PG_INDEX.INDNATTS) AS INDEX_KEYS(ORDINAL)
+  INNER JOIN PG_ATTRIBUTE
+    ON PG_ATTRIBUTE.ATTRELID = TABLE_CLASS.OID
+      AND PG_ATTRIBUTE.ATTNUM = PG_INDEX.INDKEY[INDEX_KEYS.ORDINAL - 1]
+WHERE
+  PG_INDEX.INDISPRIMARY
+  AND PG_NAMESPACE.NSPNAME NOT LIKE 'pg_toast%'
+  AND PG_NAMESPACE.NSPNAME NOT LIKE 'pg_temp%'
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  PK_NAME,
+  KEY_SEQ
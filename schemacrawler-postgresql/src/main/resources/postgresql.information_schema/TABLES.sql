@@ -0,0 +1,36 @@
+SELECT
+  NULL AS TABLE_CAT,
+  PG_NAMESPACE.NSPNAME AS TABLE_SCHEM,
+  PG_CLASS.RELNAME AS TABLE_NAME,
+  CASE
+    WHEN PG_NAMESPACE.NSPNAME IN ('pg_catalog', 'information_schema')
+      THEN 
+        CASE PG_CLASS.RELKIND 
+          WHEN 'v' THEN 'SYSTEM VIEW' 
+          ELSE 'SYSTEM TABLE' 
+        END
+    ELSE
+      CASE PG_CLASS.RELKIND
+        WHEN 'r' THEN 'TABLE'
+        WHEN 'p' THEN 'TABLE'
+        WHEN 'v' THEN 'VIEW'
+        WHEN 'm' THEN 'MATERIALIZED VIEW'
+        WHEN 'f' THEN 'FOREIGN TABLE'
+      END
+  END AS TABLE_TYPE,
+  PG_DESCRIPTION.DESCRIPTION AS REMARKS
+FROM
+  PG_CLASS
+  INNER JOIN PG_NAMESPACE
+    ON PG_CLASS.RELNAMESPACE = PG_NAMESPACE.OID
+  LEFT OUTER JOIN PG_DESCRIPTION
+    ON PG_DESCRIPTION.OBJOID = PG_CLASS.OID
+      AND PG_DESCRIPTION.CLASSOID = 'pg_class'::REGCLASS
+      AND PG_DESCRIPTION.OBJSUBID = 0
+WHERE
+  PG_CLASS.RELKIND IN ('r', 'p', 'v', 'm', 'f')
+  AND PG_NAMESPACE.NSPNAME NOT LIKE 'pg_toast%'
+  AND PG_NAMESPACE.NSPNAME NOT LIKE 'pg_temp%'
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME
@@ -0,0 +1,134 @@
+SELECT
+  NULL AS TABLE_CAT,
+  PG_NAMESPACE.NSPNAME AS TABLE_SCHEM,
+  PG_CLASS.RELNAME AS TABLE_NAME,
+  PG_ATTRIBUTE.ATTNAME AS COLUMN_NAME,
+  CASE 
+    WHEN PG_TYPE.TYPCATEGORY = 'A' THEN 2003
+    ELSE
+      CASE COALESCE(BASE_TYPE.TYPNAME, PG_TYPE.TYPNAME)
+        WHEN 'bool' THEN -7
+        WHEN 'bit' THEN -7
+        WHEN 'int2' THEN 5
+        WHEN 'int4' THEN 4
+        WHEN 'int8' THEN -5
+        WHEN 'oid' THEN -5
+        WHEN 'numeric' THEN 2
+        WHEN 'float4' THEN 7
+        WHEN 'float8' THEN 8
+        WHEN 'money' THEN 8
+        WHEN 'bpchar' THEN 1
+        WHEN 'char' THEN 1
+        WHEN 'varchar' THEN 12
+        WHEN 'text' THEN 12
+        WHEN 'name' THEN 12
+        WHEN 'bytea' THEN -2
+        WHEN 'date' THEN 91
+        WHEN 'time' THEN 92
+        WHEN 'timetz' THEN 92
+        WHEN 'timestamp' THEN 93
+        WHEN 'timestamptz' THEN 93
+        WHEN 'xml' THEN 2009
+        ELSE 1111
+      END
+  END AS DATA_TYPE,
+  CASE
+    WHEN PG_TYPE.TYPNAME IN ('int4', 'int8', 'int2')
+      AND PG_GET_EXPR(PG_ATTRDEF.ADBIN, PG_ATTRDEF.ADRELID) LIKE 'nextval(%'
+      THEN
+        CASE PG_TYPE.TYPNAME
+          WHEN 'int4' THEN 'serial'
+          WHEN 'int8' THEN 'bigserial'
+          ELSE 'smallserial'
+        END
+    ELSE PG_TYPE.TYPNAME
+  END AS TYPE_NAME,
+  CASE COALESCE(BASE_TYPE.TYPNAME, PG_TYPE.TYPNAME)
+    WHEN 'bpchar' THEN 
+      CASE WHEN PG_ATTRIBUTE.ATTTYPMOD > 4 THEN PG_ATTRIBUTE.ATTTYPMOD - 4 ELSE 2147483647 END
+    WHEN 'varchar' THEN 
+      CASE WHEN PG_ATTRIBUTE.ATTTYPMOD > 4 THEN PG_ATTRIBUTE.ATTTYPMOD - 4 ELSE 2147483647 END
+    WHEN 'numeric' THEN 
+      CASE WHEN PG_ATTRIBUTE.ATTTYPMOD > 4 THEN ((PG_ATTRIBUTE.ATTTYPMOD - 4) >> 16) & 65535 ELSE 1000 END
+    WHEN 'bit' THEN PG_ATTRIBUTE.ATTTYPMOD
+    WHEN 'bool' THEN 1
+    WHEN 'int2' THEN 5
+    WHEN 'int4' THEN 10
+    WHEN 'int8' THEN 19
+    WHEN 'oid' THEN 10
+    WHEN 'float4' THEN 8
+    WHEN 'float8' THEN 17
+    WHEN 'date' THEN 13
+    WHEN 'time' THEN 15
+    WHEN 'timetz' THEN 21
+    WHEN 'timestamp' THEN 29
+    WHEN 'timestamptz' THEN 35
+    WHEN 'name' THEN 63
+    ELSE 2147483647
+  END AS COLUMN_SIZE,
+  NULL AS BUFFER_LENGTH,
+  CASE COALESCE(BASE_TYPE.TYPNAME, PG_TYPE.TYPNAME)
+    WHEN 'numeric' THEN 
+      CASE WHEN PG_ATTRIBUTE.ATTTYPMOD > 4 THEN (PG_ATTRIBUTE.ATTTYPMOD - 4) & 65535 ELSE 0 END
+    WHEN 'float4' THEN 8
+    WHEN 'float8' THEN 17
+    WHEN 'time' THEN 6
+    WHEN 'timetz' THEN 6
+    WHEN 'timestamp' THEN 6
+    WHEN 'timestamptz' THEN 6
+    ELSE 0
+  END AS DECIMAL_DIGITS,
+  10 AS NUM_PREC_RADIX,
+  CASE 
+    WHEN PG_ATTRIBUTE.ATTNOTNULL OR (PG_TYPE.TYPTYPE = 'd' AND PG_TYPE.TYPNOTNULL) THEN 0 
+    ELSE 1 
+  END AS NULLABLE,
+  PG_DESCRIPTION.DESCRIPTION AS REMARKS,
+  PG_GET_EXPR(PG_ATTRDEF.ADBIN, PG_ATTRDEF.ADRELID) AS COLUMN_DEF,
+  NULL AS SQL_DATA_TYPE,
+  NULL AS SQL_DATETIME_SUB,
+  CASE WHEN PG_ATTRIBUTE.ATTTYPMOD > 4 THEN PG_ATTRIBUTE.ATTTYPMOD - 4 ELSE NULL END 
+    AS CHAR_OCTET_LENGTH,
+  ROW_NUMBER() OVER (PARTITION BY PG_CLASS.OID ORDER BY PG_ATTRIBUTE.ATTNUM) 
+    AS ORDINAL_POSITION,
+  CASE 
+    WHEN PG_ATTRIBUTE.ATTNOTNULL OR (PG_TYPE.TYPTYPE = 'd' AND PG_TYPE.TYPNOTNULL) THEN 'NO' 
+    ELSE 'YES' 
+  END AS IS_NULLABLE,
+  NULL AS SCOPE_CATALOG,
+  NULL AS SCOPE_SCHEMA,
+  NULL AS SCOPE_TABLE,
+  NULL AS SOURCE_DATA_TYPE,
+  CASE 
+    WHEN PG_GET_EXPR(PG_ATTRDEF.ADBIN, PG_ATTRDEF.ADRELID) LIKE 'nextval(%' THEN 'YES' 
+    ELSE 'NO' 
+  END AS IS_AUTOINCREMENT,
+  'NO' AS IS_GENERATEDCOLUMN
+FROM
+  PG_ATTRIBUTE
+  INNER JOIN PG_CLASS
+    ON PG_ATTRIBUTE.ATTRELID = PG_CLASS.OID
+  INNER JOIN PG_NAMESPACE
+    ON PG_CLASS.RELNAMESPACE = PG_NAMESPACE.OID
+  INNER JOIN PG_TYPE
+    ON PG_ATTRIBUTE.ATTTYPID = PG_TYPE.OID
+  LEFT OUTER JOIN PG_TYPE BASE_TYPE
+    ON PG_TYPE.TYPTYPE = 'd' 
+      AND PG_TYPE.TYPBASETYPE = BASE_TYPE.OID
+  LEFT OUTER JOIN PG_ATTRDEF
+    ON PG_ATTRIBUTE.ATTRELID = PG_ATTRDEF.ADRELID
+      AND PG_ATTRIBUTE.ATTNUM = PG_ATTRDEF.ADNUM
+  LEFT OUTER JOIN PG_DESCRIPTION
+    ON PG_DESCRIPTION.OBJOID = PG_CLASS.OID
+      AND PG_DESCRIPTION.CLASSOID = 'pg_class'::REGCLASS
+      AND PG_DESCRIPTION.OBJSUBID = PG_ATTRIBUTE.ATTNUM
+WHERE
+  PG_ATTRIBUTE.ATTNUM > 0
+  AND NOT PG_ATTRIBUTE.ATTISDROPPED
+  AND PG_CLASS.RELKIND IN ('r', 'p', 'v', 'm', 'f')
+  AND PG_NAMESPACE.NSPNAME NOT LIKE 'pg_toast%'
+  AND PG_NAMESPACE.NSPNAME NOT LIKE 'pg_temp%'
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  ORDINAL_POSITION
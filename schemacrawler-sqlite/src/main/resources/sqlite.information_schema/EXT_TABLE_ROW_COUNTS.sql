@@ -0,0 +1,11 @@
+SELECT
+  NULL AS TABLE_CATALOG,
+  NULL AS TABLE_SCHEMA,
+  tbl AS TABLE_NAME,
+  MAX(CAST(stat AS INTEGER)) AS ROW_COUNT
+FROM
+  sqlite_stat1
+GROUP BY
+  tbl
+ORDER BY
+  tbl
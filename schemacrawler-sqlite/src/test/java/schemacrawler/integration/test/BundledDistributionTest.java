@@ -51,7 +51,7 @@ public class BundledDistributionTest
         .lookupDatabaseConnector("sqlite");
     assertThat(databaseSystemIdentifier
                    .getSchemaRetrievalOptionsBuilder(connection).toOptions()
-                   .getInformationSchemaViews().size(), is(3));
+                   .getInformationSchemaViews().size(), is(4));
   }
 
   @Test
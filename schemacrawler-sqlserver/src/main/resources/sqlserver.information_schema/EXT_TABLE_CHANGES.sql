@@ -0,0 +1,20 @@
+SELECT
+  DB_NAME() AS TABLE_CATALOG,
+  SCHEMA_NAME(OBJECTS.SCHEMA_ID) AS TABLE_SCHEMA,
+  OBJECTS.NAME AS TABLE_NAME,
+  CONVERT(VARCHAR(30), OBJECTS.MODIFY_DATE, 126) + '/' +
+    CONVERT(VARCHAR(10),
+      (SELECT
+         COUNT(*)
+       FROM
+         SYS.INDEXES INDEXES
+       WHERE
+         INDEXES.OBJECT_ID = OBJECTS.OBJECT_ID))
+    AS CHANGE_TOKEN
+FROM
+  SYS.OBJECTS OBJECTS
+WHERE
+  OBJECTS.TYPE IN ('U', 'V')
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
@@ -0,0 +1,18 @@
+SELECT
+  DB_NAME() AS TABLE_CATALOG,
+  SCHEMA_NAME(OBJECTS.SCHEMA_ID) AS TABLE_SCHEMA,
+  OBJECTS.NAME AS TABLE_NAME,
+  SUM(PARTITIONS.ROWS) AS ROW_COUNT
+FROM
+  SYS.OBJECTS OBJECTS
+  INNER JOIN SYS.PARTITIONS PARTITIONS
+    ON OBJECTS.OBJECT_ID = PARTITIONS.OBJECT_ID
+WHERE
+  OBJECTS.TYPE = 'U'
+  AND PARTITIONS.INDEX_ID IN (0, 1)
+GROUP BY
+  OBJECTS.SCHEMA_ID,
+  OBJECTS.NAME
+ORDER BY
+  TABLE_SCHEMA,
+  TABLE_NAME
@@ -0,0 +1,35 @@
+SELECT
+  DB_NAME() AS TABLE_CAT,
+  SCHEMA_NAME(OBJECTS.SCHEMA_ID) AS TABLE_SCHEM,
+  OBJECTS.NAME AS TABLE_NAME,
+  CASE INDEXES.IS_UNIQUE WHEN 1 THEN 0 ELSE 1 END AS NON_UNIQUE,
+  OBJECTS.NAME AS INDEX_QUALIFIER,
+  INDEXES.NAME AS INDEX_NAME,
+  CASE INDEXES.TYPE WHEN 1 THEN 1 ELSE 3 END AS TYPE,
+  INDEX_COLUMNS.KEY_ORDINAL AS ORDINAL_POSITION,
+  COLUMNS.NAME AS COLUMN_NAME,
+  CASE INDEX_COLUMNS.IS_DESCENDING_KEY WHEN 1 THEN 'D' ELSE 'A' END AS ASC_OR_DESC,
+  NULL AS CARDINALITY,
+  NULL AS PAGES,
+  INDEXES.FILTER_DEFINITION AS FILTER_CONDITION
+FROM
+  SYS.INDEXES INDEXES
+  INNER JOIN SYS.OBJECTS OBJECTS
+    ON INDEXES.OBJECT_ID = OBJECTS.OBJECT_ID
+  INNER JOIN SYS.INDEX_COLUMNS INDEX_COLUMNS
+    ON INDEXES.OBJECT_ID = INDEX_COLUMNS.OBJECT_ID
+      AND INDEXES.INDEX_ID = INDEX_COLUMNS.INDEX_ID
+  INNER JOIN SYS.COLUMNS COLUMNS
+    ON INDEX_COLUMNS.OBJECT_ID = COLUMNS.OBJECT_ID
+      AND INDEX_COLUMNS.COLUMN_ID = COLUMNS.COLUMN_ID
+WHERE
+  OBJECTS.TYPE IN ('U', 'V')
+  AND INDEXES.TYPE > 0
+  AND INDEX_COLUMNS.KEY_ORDINAL > 0
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  INDEX_NAME,
+  NON_UNIQUE,
+  TYPE,
+  ORDINAL_POSITION
@@ -0,0 +1,24 @@
+SELECT
+  DB_NAME() AS TABLE_CAT,
+  SCHEMA_NAME(OBJECTS.SCHEMA_ID) AS TABLE_SCHEM,
+  OBJECTS.NAME AS TABLE_NAME,
+  COLUMNS.NAME AS COLUMN_NAME,
+  INDEX_COLUMNS.KEY_ORDINAL AS KEY_SEQ,
+  KEY_CONSTRAINTS.NAME AS PK_NAME
+FROM
+  SYS.KEY_CONSTRAINTS KEY_CONSTRAINTS
+  INNER JOIN SYS.OBJECTS OBJECTS
+    ON KEY_CONSTRAINTS.PARENT_OBJECT_ID = OBJECTS.OBJECT_ID
+  INNER JOIN SYS.INDEX_COLUMNS INDEX_COLUMNS
+    ON KEY_CONSTRAINTS.PARENT_OBJECT_ID = INDEX_COLUMNS.OBJECT_ID
+      AND KEY_CONSTRAINTS.UNIQUE_INDEX_ID = INDEX_COLUMNS.INDEX_ID
+  INNER JOIN SYS.COLUMNS COLUMNS
+    ON INDEX_COLUMNS.OBJECT_ID = COLUMNS.OBJECT_ID
+      AND INDEX_COLUMNS.COLUMN_ID = COLUMNS.COLUMN_ID
+WHERE
+  KEY_CONSTRAINTS.TYPE = 'PK'
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  PK_NAME,
+  KEY_SEQ
@@ -0,0 +1,22 @@
+SELECT
+  DB_NAME() AS TABLE_CAT,
+  SCHEMA_NAME(OBJECTS.SCHEMA_ID) AS TABLE_SCHEM,
+  OBJECTS.NAME AS TABLE_NAME,
+  CASE 
+    WHEN OBJECTS.TYPE = 'V' THEN 'VIEW' 
+    WHEN OBJECTS.IS_MS_SHIPPED = 1 THEN 'SYSTEM TABLE' 
+    ELSE 'TABLE' 
+  END AS TABLE_TYPE,
+  CAST(EXTENDED_PROPERTIES.VALUE AS NVARCHAR(4000)) AS REMARKS
+FROM
+  SYS.OBJECTS OBJECTS
+  LEFT OUTER JOIN SYS.EXTENDED_PROPERTIES EXTENDED_PROPERTIES
+    ON EXTENDED_PROPERTIES.CLASS = 1
+      AND EXTENDED_PROPERTIES.MAJOR_ID = OBJECTS.OBJECT_ID
+      AND EXTENDED_PROPERTIES.MINOR_ID = 0
+      AND EXTENDED_PROPERTIES.NAME = 'MS_Description'
+WHERE
+  OBJECTS.TYPE IN ('U', 'V')
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME
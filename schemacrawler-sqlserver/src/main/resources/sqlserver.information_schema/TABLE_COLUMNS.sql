@@ -0,0 +1,85 @@
+SELECT
+  DB_NAME() AS TABLE_CAT,
+  SCHEMA_NAME(OBJECTS.SCHEMA_ID) AS TABLE_SCHEM,
+  OBJECTS.NAME AS TABLE_NAME,
+  COLUMNS.NAME AS COLUMN_NAME,
+  CASE TYPES.NAME
+    WHEN 'bit' THEN -7
+    WHEN 'tinyint' THEN -6
+    WHEN 'smallint' THEN 5
+    WHEN 'int' THEN 4
+    WHEN 'bigint' THEN -5
+    WHEN 'decimal' THEN 3
+    WHEN 'numeric' THEN 2
+    WHEN 'money' THEN 3
+    WHEN 'smallmoney' THEN 3
+    WHEN 'float' THEN 8
+    WHEN 'real' THEN 7
+    WHEN 'date' THEN 91
+    WHEN 'time' THEN 92
+    WHEN 'datetime' THEN 93
+    WHEN 'datetime2' THEN 93
+    WHEN 'smalldatetime' THEN 93
+    WHEN 'datetimeoffset' THEN -155
+    WHEN 'char' THEN 1
+    WHEN 'varchar' THEN 12
+    WHEN 'text' THEN -1
+    WHEN 'nchar' THEN -15
+    WHEN 'nvarchar' THEN -9
+    WHEN 'ntext' THEN -16
+    WHEN 'xml' THEN -16
+    WHEN 'binary' THEN -2
+    WHEN 'varbinary' THEN -3
+    WHEN 'image' THEN -4
+    WHEN 'timestamp' THEN -2
+    WHEN 'uniqueidentifier' THEN 1
+    WHEN 'sql_variant' THEN -150
+    ELSE 1111
+  END AS DATA_TYPE,
+  CASE 
+    WHEN COLUMNS.IS_IDENTITY = 1 THEN TYPES.NAME + ' identity' 
+    ELSE TYPES.NAME 
+  END AS TYPE_NAME,
+  CASE 
+    WHEN TYPES.NAME IN ('nchar', 'nvarchar') THEN
+      CASE WHEN COLUMNS.MAX_LENGTH = -1 THEN 1073741823 ELSE COLUMNS.MAX_LENGTH / 2 END
+    WHEN TYPES.NAME IN ('char', 'varchar', 'binary', 'varbinary') THEN
+      CASE WHEN COLUMNS.MAX_LENGTH = -1 THEN 2147483647 ELSE COLUMNS.MAX_LENGTH END
+    WHEN COLUMNS.PRECISION > 0 THEN COLUMNS.PRECISION
+    ELSE COLUMNS.MAX_LENGTH
+  END AS COLUMN_SIZE,
+  COLUMNS.MAX_LENGTH AS BUFFER_LENGTH,
+  COLUMNS.SCALE AS DECIMAL_DIGITS,
+  10 AS NUM_PREC_RADIX,
+  CASE COLUMNS.IS_NULLABLE WHEN 1 THEN 1 ELSE 0 END AS NULLABLE,
+  CAST(EXTENDED_PROPERTIES.VALUE AS NVARCHAR(4000)) AS REMARKS,
+  OBJECT_DEFINITION(COLUMNS.DEFAULT_OBJECT_ID) AS COLUMN_DEF,
+  NULL AS SQL_DATA_TYPE,
+  NULL AS SQL_DATETIME_SUB,
+  COLUMNS.MAX_LENGTH AS CHAR_OCTET_LENGTH,
+  ROW_NUMBER() OVER (PARTITION BY COLUMNS.OBJECT_ID ORDER BY COLUMNS.COLUMN_ID) 
+    AS ORDINAL_POSITION,
+  CASE COLUMNS.IS_NULLABLE WHEN 1 THEN 'YES' ELSE 'NO' END AS IS_NULLABLE,
+  NULL AS SCOPE_CATALOG,
+  NULL AS SCOPE_SCHEMA,
+  NULL AS SCOPE_TABLE,
+  NULL AS SOURCE_DATA_TYPE,
+  CASE COLUMNS.IS_IDENTITY WHEN 1 THEN 'YES' ELSE 'NO' END AS IS_AUTOINCREMENT,
+  CASE COLUMNS.IS_COMPUTED WHEN 1 THEN 'YES' ELSE 'NO' END AS IS_GENERATEDCOLUMN
+FROM
+  SYS.COLUMNS COLUMNS
+  INNER JOIN SYS.OBJECTS OBJECTS
+    ON COLUMNS.OBJECT_ID = OBJECTS.OBJECT_ID
+  INNER JOIN SYS.TYPES TYPES
+    ON COLUMNS.USER_TYPE_ID = TYPES.USER_TYPE_ID
+  LEFT OUTER JOIN SYS.EXTENDED_PROPERTIES EXTENDED_PROPERTIES
+    ON EXTENDED_PROPERTIES.CLASS = 1
+      AND EXTENDED_PROPERTIES.MAJOR_ID = COLUMNS.OBJECT_ID
+      AND EXTENDED_PROPERTIES.MINOR_ID = COLUMNS.COLUMN_ID
+      AND EXTENDED_PROPERTIES.NAME = 'MS_Description'
+WHERE
+  OBJECTS.TYPE IN ('U', 'V')
+ORDER BY
+  TABLE_SCHEM,
+  TABLE_NAME,
+  ORDINAL_POSITION
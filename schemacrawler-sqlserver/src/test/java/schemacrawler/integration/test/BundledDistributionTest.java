@@ -52,7 +52,7 @@ public class BundledDistributionTest
       .lookupDatabaseConnector("sqlserver");
     assertThat(databaseSystemIdentifier
       .getSchemaRetrievalOptionsBuilder(connection).toOptions()
-      .getInformationSchemaViews().size(), is(9));
+      .getInformationSchemaViews().size(), is(16));
   }
 
   @Test
@@ -30,7 +30,9 @@ package schemacrawler.tools.analysis.associations;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import schemacrawler.schema.Column;
 import schemacrawler.schema.Table;
@@ -48,9 +50,12 @@ final class ColumnMatchKeysMap
     columnsForMatchKey = new Multimap<>();
     matchKeysForColumn = new Multimap<>();
 
+    // Column names repeat across tables, so match keys are worked out
+    // once per name, and shared
+    final Map<String, String> matchKeysForName = new HashMap<>();
     for (final Table table: tables)
     {
-      mapColumnNameMatches(table);
+      mapColumnNameMatches(table, matchKeysForName);
     }
   }
 
@@ -80,21 +85,29 @@ final class ColumnMatchKeysMap
     return columnsForMatchKey.toString();
   }
 
-  private void mapColumnNameMatches(final Table table)
+  private String matchKey(final String columnName)
+  {
+    String matchColumnName = columnName.toLowerCase();
+    if (matchColumnName.endsWith("_id"))
+    {
+      matchColumnName = matchColumnName
+        .substring(0, matchColumnName.length() - 3);
+    }
+    if (matchColumnName.endsWith("id") && !matchColumnName.equals("id"))
+    {
+      matchColumnName = matchColumnName
+        .substring(0, matchColumnName.length() - 2);
+    }
+    return matchColumnName;
+  }
+
+  private void mapColumnNameMatches(final Table table,
+                                    final Map<String, String> matchKeysForName)
   {
     for (final Column column: table.getColumns())
     {
-      String matchColumnName = column.getName().toLowerCase();
-      if (matchColumnName.endsWith("_id"))
-      {
-        matchColumnName = matchColumnName
-          .substring(0, matchColumnName.length() - 3);
-      }
-      if (matchColumnName.endsWith("id") && !matchColumnName.equals("id"))
-      {
-        matchColumnName = matchColumnName
-          .substring(0, matchColumnName.length() - 2);
-      }
+      final String matchColumnName = matchKeysForName
+        .computeIfAbsent(column.getName(), this::matchKey);
       if (!matchColumnName.equals("id"))
       {
         columnsForMatchKey.add(matchColumnName, column);
@@ -56,17 +56,10 @@ final class ForeignKeys
       return false;
     }
 
-    // We have to loop through the collection, since we want to use the
-    // equals from the WeakAssociation
-    for (final ColumnReference foreignKey: foreignKeys)
-    {
-      final boolean equals = columnMap.equals(foreignKey);
-      if (equals)
-      {
-        return true;
-      }
-    }
-    return false;
+    // Weak associations and foreign key column references share equals
+    // and hash code, from the base column reference, so a hash lookup
+    // finds the same matches as comparing every foreign key
+    return foreignKeys.contains(columnMap);
   }
 
   @Override
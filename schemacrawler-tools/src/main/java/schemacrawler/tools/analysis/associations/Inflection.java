@@ -187,12 +187,10 @@ public class Inflection
     uncountable.add(word);
   }
 
-  private final String pattern;
+  private final Pattern pattern;
 
   private final String replacement;
 
-  private final boolean ignoreCase;
-
   public Inflection(final String pattern)
   {
     this(pattern, null, true);
@@ -207,9 +205,13 @@ public class Inflection
                     final String replacement,
                     final boolean ignoreCase)
   {
-    this.pattern = pattern;
+    int flags = 0;
+    if (ignoreCase)
+    {
+      flags = flags | Pattern.CASE_INSENSITIVE;
+    }
+    this.pattern = Pattern.compile(pattern, flags);
     this.replacement = replacement;
-    this.ignoreCase = ignoreCase;
   }
 
   /**
@@ -221,12 +223,7 @@ public class Inflection
    */
   public boolean match(final String word)
   {
-    int flags = 0;
-    if (ignoreCase)
-    {
-      flags = flags | Pattern.CASE_INSENSITIVE;
-    }
-    return Pattern.compile(pattern, flags).matcher(word).find();
+    return pattern.matcher(word).find();
   }
 
   /**
@@ -238,12 +235,6 @@ public class Inflection
    */
   public String replace(final String word)
   {
-    int flags = 0;
-    if (ignoreCase)
-    {
-      flags = flags | Pattern.CASE_INSENSITIVE;
-    }
-    return Pattern.compile(pattern, flags).matcher(word)
-      .replaceAll(replacement);
+    return pattern.matcher(word).replaceAll(replacement);
   }
 }
@@ -34,8 +34,11 @@ import static sf.util.Utility.isBlank;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.logging.Level;
@@ -45,7 +48,6 @@ import sf.util.Multimap;
 import sf.util.ObjectToString;
 import sf.util.SchemaCrawlerLogger;
 import sf.util.StringFormat;
-import sf.util.Utility;
 
 final class TableMatchKeys
 {
@@ -53,126 +55,132 @@ final class TableMatchKeys
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(TableMatchKeys.class.getName());
 
-  private final List<Table> tables;
-
-  private final Multimap<Table, String> tableKeys;
-
-  TableMatchKeys(final List<Table> tables)
-  {
-    this.tables = requireNonNull(tables, "No tables provided");
-    tableKeys = new Multimap<>();
-
-    analyzeTables();
-  }
-
-  public List<String> get(final Table table)
-  {
-    return tableKeys.get(table);
-  }
-
-  @Override
-  public String toString()
-  {
-    return tableKeys.toString();
-  }
-
-  private void analyzeTables()
+  /**
+   * Counts pairs of tables by the prefix that their names have in
+   * common, for prefixes that end with "_". Rather than comparing every
+   * pair of table names, each name is counted against every prefix of
+   * it that ends with "_", and against that prefix followed by one more
+   * character. Pairs of names that share a prefix, but not a longer one,
+   * have exactly that prefix in common. Prefixes are counted in lower
+   * case, so "ORDER_" and "Order_" are counted together as "order_".
+   *
+   * @param tableNames
+   *        Table names
+   * @return Number of pairs of tables for each common prefix
+   */
+  static Map<String, Integer> countCommonPrefixes(final List<String> tableNames)
   {
-    if (tables.isEmpty())
+    final Map<String, Integer> namesWithPrefix = new HashMap<>();
+    final Map<String, Integer> namesWithLongerPrefix = new HashMap<>();
+    final Map<String, Integer> namesEqualToPrefix = new HashMap<>();
+    for (final String name: tableNames)
     {
-      return;
+      for (int i = name.indexOf('_'); i >= 0; i = name.indexOf('_', i + 1))
+      {
+        final String prefix = name.substring(0, i + 1);
+        namesWithPrefix.merge(prefix, 1, Integer::sum);
+        if (name.length() > prefix.length())
+        {
+          namesWithLongerPrefix.merge(name.substring(0, i + 2),
+                                      1,
+                                      Integer::sum);
+        }
+        else
+        {
+          namesEqualToPrefix.merge(prefix, 1, Integer::sum);
+        }
+      }
     }
 
-    final Collection<String> prefixes = findTableNamePrefixes(tables);
-    mapTableNameMatches(tables, prefixes);
-    if (LOGGER.isLoggable(Level.FINE))
+    final Map<String, Long> pairsWithLongerPrefix = new HashMap<>();
+    for (final Map.Entry<String, Integer> entry: namesWithLongerPrefix
+      .entrySet())
     {
-      LOGGER.log(Level.FINE, new StringFormat("Table prefixes=%s", prefixes));
-      LOGGER.log(Level.FINE,
-                 new StringFormat("Table matches map: %s",
-                                  ObjectToString.toString(tableKeys)));
+      final String longerPrefix = entry.getKey();
+      pairsWithLongerPrefix
+        .merge(longerPrefix.substring(0, longerPrefix.length() - 1),
+               pairs(entry.getValue()),
+               Long::sum);
     }
 
+    final Map<String, Integer> commonPrefixes = new HashMap<>();
+    for (final Map.Entry<String, Integer> entry: namesWithPrefix.entrySet())
+    {
+      final String prefix = entry.getKey();
+      // Tables with the same name have no common prefix
+      final long pairCount = pairs(entry.getValue())
+                             - pairsWithLongerPrefix.getOrDefault(prefix, 0L)
+                             - pairs(namesEqualToPrefix.getOrDefault(prefix,
+                                                                     0));
+      if (pairCount > 0)
+      {
+        // Names are compared with their case, but prefixes are lower
+        // case, just as Utility.commonPrefix returns them, so that they
+        // match the lower case table names that they are removed from
+        commonPrefixes.merge(prefix.toLowerCase(),
+                             (int) pairCount,
+                             Integer::sum);
+      }
+    }
+    return commonPrefixes;
   }
 
   /**
    * Finds table prefixes. A prefix ends with "_".
    *
-   * @param tables
-   *        Tables
+   * @param tableNames
+   *        Table names
    * @return Table name prefixes
    */
-  private Collection<String> findTableNamePrefixes(final List<Table> tables)
+  static Collection<String> findTableNamePrefixes(final List<String> tableNames)
   {
     final SortedMap<String, Integer> prefixesMap = new TreeMap<>();
-    for (int i = 0; i < tables.size(); i++)
+    for (final Map.Entry<String, Integer> commonPrefixEntry: countCommonPrefixes(tableNames)
+      .entrySet())
     {
-      for (int j = i + 1; j < tables.size(); j++)
+      final String commonPrefix = commonPrefixEntry.getKey();
+      final int pairCount = commonPrefixEntry.getValue();
+
+      final List<String> splitCommonPrefixes = new ArrayList<>();
+      final String[] splitPrefix = commonPrefix.split("_");
+      if (splitPrefix != null && splitPrefix.length > 0)
       {
-        final String table1 = tables.get(i).getName();
-        final String table2 = tables.get(j).getName();
-        final String commonPrefix = Utility.commonPrefix(table1, table2);
-        if (!isBlank(commonPrefix) && commonPrefix.endsWith("_"))
+        for (int k = 0; k < splitPrefix.length; k++)
         {
-          final List<String> splitCommonPrefixes = new ArrayList<>();
-          final String[] splitPrefix = commonPrefix.split("_");
-          if (splitPrefix != null && splitPrefix.length > 0)
+          final StringBuilder buffer = new StringBuilder(1024);
+          for (int l = 0; l < k; l++)
           {
-            for (int k = 0; k < splitPrefix.length; k++)
-            {
-              final StringBuilder buffer = new StringBuilder(1024);
-              for (int l = 0; l < k; l++)
-              {
-                buffer.append(splitPrefix[l]).append("_");
-              }
-              if (buffer.length() > 0)
-              {
-                splitCommonPrefixes.add(buffer.toString());
-              }
-            }
+            buffer.append(splitPrefix[l]).append("_");
           }
-          splitCommonPrefixes.add(commonPrefix);
-
-          for (final String splitCommonPrefix: splitCommonPrefixes)
+          if (buffer.length() > 0)
           {
-            final int prevCount;
-            if (prefixesMap.containsKey(splitCommonPrefix))
-            {
-              prevCount = prefixesMap.get(splitCommonPrefix);
-            }
-            else
-            {
-              prevCount = 0;
-            }
-            prefixesMap.put(splitCommonPrefix, prevCount + 1);
+            splitCommonPrefixes.add(buffer.toString());
           }
         }
       }
-    }
+      splitCommonPrefixes.add(commonPrefix);
 
-    // Make sure we have the smallest prefixes
-    final List<String> keySet = new ArrayList<>(prefixesMap.keySet());
-    keySet.sort((key1, key2) -> {
-      int comparison = 0;
-      comparison = key2.length() - key1.length();
-      if (comparison == 0)
+      for (final String splitCommonPrefix: splitCommonPrefixes)
       {
-        comparison = key2.compareTo(key1);
+        prefixesMap.merge(splitCommonPrefix, pairCount, Integer::sum);
       }
-      return comparison;
-    });
-    for (int i = 0; i < keySet.size(); i++)
-    {
-      for (int j = i + 1; j < keySet.size(); j++)
+    }
+
+    // Make sure we have the smallest prefixes, by removing prefixes
+    // that start with a shorter prefix; all prefixes end with "_"
+    final Set<String> allPrefixes = new HashSet<>(prefixesMap.keySet());
+    prefixesMap.keySet().removeIf(prefix -> {
+      for (int i = prefix.indexOf('_'); i >= 0
+                                        && i < prefix.length() - 1; i = prefix
+                                          .indexOf('_', i + 1))
       {
-        final String longPrefix = keySet.get(i);
-        if (longPrefix.startsWith(keySet.get(j)))
+        if (allPrefixes.contains(prefix.substring(0, i + 1)))
         {
-          prefixesMap.remove(longPrefix);
-          break;
+          return true;
         }
       }
-    }
+      return false;
+    });
 
     // Sort prefixes by the number of tables using them, in descending
     // order
@@ -198,18 +206,75 @@ final class TableMatchKeys
     return prefixes;
   }
 
+  private static long pairs(final int count)
+  {
+    return (long) count * (count - 1) / 2;
+  }
+
+  private final List<Table> tables;
+
+  private final Multimap<Table, String> tableKeys;
+
+  TableMatchKeys(final List<Table> tables)
+  {
+    this.tables = requireNonNull(tables, "No tables provided");
+    tableKeys = new Multimap<>();
+
+    analyzeTables();
+  }
+
+  public List<String> get(final Table table)
+  {
+    return tableKeys.get(table);
+  }
+
+  @Override
+  public String toString()
+  {
+    return tableKeys.toString();
+  }
+
+  private void analyzeTables()
+  {
+    if (tables.isEmpty())
+    {
+      return;
+    }
+
+    final List<String> tableNames = new ArrayList<>(tables.size());
+    for (final Table table: tables)
+    {
+      tableNames.add(table.getName());
+    }
+    final Collection<String> prefixes = findTableNamePrefixes(tableNames);
+    mapTableNameMatches(tables, prefixes);
+    if (LOGGER.isLoggable(Level.FINE))
+    {
+      LOGGER.log(Level.FINE, new StringFormat("Table prefixes=%s", prefixes));
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Table matches map: %s",
+                                  ObjectToString.toString(tableKeys)));
+    }
+
+  }
+
   private void mapTableNameMatches(final List<Table> tables,
                                    final Collection<String> prefixes)
   {
+    // Names repeat once prefixes are removed, so each name is
+    // singularized only once for this analysis
+    final Map<String, String> singularNames = new HashMap<>();
     for (final Table table: tables)
     {
+      final String tableName = table.getName().toLowerCase();
       for (final String prefix: prefixes)
       {
-        String matchTableName = table.getName().toLowerCase();
+        String matchTableName = tableName;
         if (matchTableName.startsWith(prefix))
         {
           matchTableName = matchTableName.substring(prefix.length());
-          matchTableName = Inflection.singularize(matchTableName);
+          matchTableName = singularNames
+            .computeIfAbsent(matchTableName, Inflection::singularize);
           if (!isBlank(matchTableName))
           {
             tableKeys.add(table, matchTableName);
@@ -31,6 +31,7 @@ package schemacrawler.tools.analysis.associations;
 import static java.util.Objects.requireNonNull;
 import static schemacrawler.tools.analysis.associations.WeakAssociationsUtility.addWeakAssociationToTable;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
@@ -38,6 +39,8 @@ import java.util.List;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.logging.Level;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import schemacrawler.schema.Column;
 import schemacrawler.schema.Table;
@@ -52,11 +55,18 @@ final class WeakAssociationsAnalyzer
     .getLogger(WeakAssociationsAnalyzer.class.getName());
 
   private final List<Table> tables;
+  private final boolean parallel;
   private final Collection<WeakAssociationForeignKey> weakAssociations;
 
   WeakAssociationsAnalyzer(final List<Table> tables)
+  {
+    this(tables, true);
+  }
+
+  WeakAssociationsAnalyzer(final List<Table> tables, final boolean parallel)
   {
     this.tables = requireNonNull(tables, "No tables provided");
+    this.parallel = parallel;
     weakAssociations = new TreeSet<>();
   }
 
@@ -103,55 +113,92 @@ final class WeakAssociationsAnalyzer
       LOGGER.log(Level.FINER,
                  new StringFormat("Column match keys <%s>", tableMatchKeys));
     }
+    // Candidate keys are read from the catalog up front, so that tables
+    // can be analyzed in parallel without reading catalog collections
+    // from more than one thread
+    final List<TableCandidateKeys> tablesCandidateKeys = new ArrayList<>();
     for (final Table table: tables)
     {
       final TableCandidateKeys tableCandidateKeys = new TableCandidateKeys(table);
       LOGGER
         .log(Level.FINER,
              new StringFormat("Table candidate keys <%s>", tableCandidateKeys));
-      for (final Column pkColumn: tableCandidateKeys)
+      tablesCandidateKeys.add(tableCandidateKeys);
+    }
+
+    // Tables are analyzed in parallel, and weak associations are added in
+    // table order, so the results do not depend on thread scheduling
+    IntStream tableIndexes = IntStream.range(0, tables.size());
+    if (parallel)
+    {
+      tableIndexes = tableIndexes.parallel();
+    }
+    final List<List<WeakAssociation>> tablesWeakAssociations = tableIndexes
+      .mapToObj(i -> findWeakAssociations(tables.get(i),
+                                          tablesCandidateKeys.get(i),
+                                          foreignKeys,
+                                          columnMatchKeysMap,
+                                          tableMatchKeys))
+      .collect(Collectors.toList());
+    for (final List<WeakAssociation> tableWeakAssociations: tablesWeakAssociations)
+    {
+      for (final WeakAssociation weakAssociation: tableWeakAssociations)
       {
-        final Set<String> fkColumnMatchKeys = new HashSet<>();
-        // Look for all columns matching this table match key
-        if (pkColumn.isPartOfPrimaryKey())
-        {
-          fkColumnMatchKeys.addAll(tableMatchKeys.get(table));
-        }
-        // Look for all columns matching this column match key
-        if (columnMatchKeysMap.containsKey(pkColumn))
+        LOGGER.log(Level.FINE,
+                   new StringFormat("Found weak association <%s>",
+                                    weakAssociation));
+        addWeakAssociation(weakAssociation);
+      }
+    }
+  }
+
+  private List<WeakAssociation> findWeakAssociations(final Table table,
+                                                     final TableCandidateKeys tableCandidateKeys,
+                                                     final ForeignKeys foreignKeys,
+                                                     final ColumnMatchKeysMap columnMatchKeysMap,
+                                                     final TableMatchKeys tableMatchKeys)
+  {
+    final List<WeakAssociation> tableWeakAssociations = new ArrayList<>();
+    for (final Column pkColumn: tableCandidateKeys)
+    {
+      final Set<String> fkColumnMatchKeys = new HashSet<>();
+      // Look for all columns matching this table match key
+      if (pkColumn.isPartOfPrimaryKey())
+      {
+        fkColumnMatchKeys.addAll(tableMatchKeys.get(table));
+      }
+      // Look for all columns matching this column match key
+      if (columnMatchKeysMap.containsKey(pkColumn))
+      {
+        fkColumnMatchKeys.addAll(columnMatchKeysMap.get(pkColumn));
+      }
+
+      final Set<Column> fkColumns = new HashSet<>();
+      for (final String fkColumnMatchKey: fkColumnMatchKeys)
+      {
+        if (columnMatchKeysMap.containsKey(fkColumnMatchKey))
         {
-          fkColumnMatchKeys.addAll(columnMatchKeysMap.get(pkColumn));
+          fkColumns.addAll(columnMatchKeysMap.get(fkColumnMatchKey));
         }
+      }
 
-        final Set<Column> fkColumns = new HashSet<>();
-        for (final String fkColumnMatchKey: fkColumnMatchKeys)
+      for (final Column fkColumn: fkColumns)
+      {
+        if (pkColumn.equals(fkColumn))
         {
-          if (columnMatchKeysMap.containsKey(fkColumnMatchKey))
-          {
-            fkColumns.addAll(columnMatchKeysMap.get(fkColumnMatchKey));
-          }
+          continue;
         }
 
-        for (final Column fkColumn: fkColumns)
+        final WeakAssociation weakAssociation = new WeakAssociation(pkColumn,
+                                                                    fkColumn);
+        if (weakAssociation.isValid()
+            && !foreignKeys.contains(weakAssociation))
         {
-          if (pkColumn.equals(fkColumn))
-          {
-            continue;
-          }
-
-          final WeakAssociation weakAssociation = new WeakAssociation(pkColumn,
-                                                                      fkColumn);
-          if (weakAssociation.isValid()
-              && !foreignKeys.contains(weakAssociation))
-          {
-            LOGGER.log(Level.FINE,
-                       new StringFormat("Found weak association <%s>",
-                                        weakAssociation));
-            addWeakAssociation(weakAssociation);
-          }
+          tableWeakAssociations.add(weakAssociation);
         }
       }
     }
+    return tableWeakAssociations;
   }
 
 }
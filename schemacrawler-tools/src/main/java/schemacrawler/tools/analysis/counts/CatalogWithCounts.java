@@ -30,7 +30,6 @@ package schemacrawler.tools.analysis.counts;
 
 import static schemacrawler.filter.ReducerFactory.getTableReducer;
 import static schemacrawler.tools.analysis.counts.CountsUtility.addRowCountToTable;
-import static schemacrawler.utility.QueryUtility.executeForLong;
 import static sf.util.DatabaseUtility.checkConnection;
 
 import java.sql.Connection;
@@ -39,17 +38,18 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.BaseCatalogDecorator;
+import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
-import schemacrawler.tools.text.operation.Operation;
 import schemacrawler.utility.Identifiers;
-import schemacrawler.utility.Query;
 import sf.util.SchemaCrawlerLogger;
 import sf.util.StringFormat;
 
@@ -68,6 +68,45 @@ public final class CatalogWithCounts
                            final Connection connection,
                            final SchemaCrawlerOptions options)
     throws SchemaCrawlerException
+  {
+    this(catalog,
+         connection,
+         null,
+         null,
+         options,
+         CountsOptionsBuilder.newCountsOptions());
+  }
+
+  /**
+   * Obtains row counts for all tables in the catalog. Rows are counted
+   * with a query against each table, unless row counts are estimated,
+   * in which case they are read from optimizer statistics. Tables that
+   * have no statistics, and tables whose count timed out, fall back to
+   * the other method where one is available.
+   *
+   * @param catalog
+   *        Catalog to decorate
+   * @param connection
+   *        Live connection to the database
+   * @param connectionSupplier
+   *        Source of additional connections, for counting tables in
+   *        parallel, or null
+   * @param informationSchemaViews
+   *        Information schema views, for estimated row counts, or null
+   * @param options
+   *        SchemaCrawler options
+   * @param countsOptions
+   *        Options for obtaining row counts
+   * @throws SchemaCrawlerException
+   *         On an exception
+   */
+  public CatalogWithCounts(final Catalog catalog,
+                           final Connection connection,
+                           final Supplier<Connection> connectionSupplier,
+                           final InformationSchemaViews informationSchemaViews,
+                           final SchemaCrawlerOptions options,
+                           final CountsOptions countsOptions)
+    throws SchemaCrawlerException
   {
     super(catalog);
 
@@ -92,28 +131,59 @@ public final class CatalogWithCounts
       return;
     }
 
-    final Query query = Operation.count.getQuery();
+    final TableRowCounter rowCounter = new TableRowCounter(connection,
+                                                           connectionSupplier,
+                                                           informationSchemaViews,
+                                                           options,
+                                                           countsOptions,
+                                                           identifiers);
+
     final List<Table> allTables = new ArrayList<>(catalog.getTables());
-    for (final Table table: allTables)
+    final List<Table> tablesToCount;
+    if (countsOptions.getRowCountMethod() == RowCountMethod.estimate)
     {
-      try
+      addRowCounts(rowCounter.estimateRows(allTables),
+                   RowCountMethod.estimate);
+      tablesToCount = new ArrayList<>();
+      for (final Table table: allTables)
       {
-        final long count = executeForLong(query,
-                                          connection,
-                                          table,
-                                          identifiers);
-        counts.put(table, count);
-        addRowCountToTable(table, count);
+        if (!counts.containsKey(table))
+        {
+          tablesToCount.add(table);
+        }
       }
-      catch (final SchemaCrawlerException e)
+    }
+    else
+    {
+      tablesToCount = allTables;
+    }
+
+    if (!tablesToCount.isEmpty())
+    {
+      addRowCounts(rowCounter.countRows(tablesToCount), RowCountMethod.exact);
+    }
+
+    // Fall back to estimates for tables that could not be counted
+    if (countsOptions.getRowCountMethod() == RowCountMethod.exact
+        && counts.size() < allTables.size() && rowCounter.canEstimate())
+    {
+      final List<Table> uncountedTables = new ArrayList<>();
+      for (final Table table: allTables)
       {
-        LOGGER.log(Level.WARNING,
-                   new StringFormat("Could not get count for table <%s>",
-                                    table),
-                   e);
+        if (!counts.containsKey(table))
+        {
+          uncountedTables.add(table);
+        }
       }
+      addRowCounts(rowCounter.estimateRows(uncountedTables),
+                   RowCountMethod.estimate);
     }
 
+    LOGGER.log(Level.INFO,
+               new StringFormat("Obtained row counts for %d of %d tables",
+                                counts.size(),
+                                allTables.size()));
+
     reduce(Table.class, getTableReducer(new TableCountFilter(options)));
   }
 
@@ -131,4 +201,16 @@ public final class CatalogWithCounts
     return Optional.of(getAttribute(name));
   }
 
+  private void addRowCounts(final Map<Table, Long> rowCounts,
+                            final RowCountMethod rowCountMethod)
+  {
+    for (final Entry<Table, Long> rowCount: rowCounts.entrySet())
+    {
+      final Table table = rowCount.getKey();
+      final long count = rowCount.getValue();
+      counts.put(table, count);
+      addRowCountToTable(table, count, rowCountMethod);
+    }
+  }
+
 }
@@ -0,0 +1,97 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.analysis.counts;
+
+
+import static java.util.Objects.requireNonNull;
+
+import schemacrawler.schemacrawler.Options;
+import sf.util.ObjectToString;
+
+/**
+ * Options for obtaining table row counts.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class CountsOptions
+  implements Options
+{
+
+  private final RowCountMethod rowCountMethod;
+  private final int parallelism;
+  private final int timeoutSeconds;
+
+  CountsOptions(final RowCountMethod rowCountMethod,
+                final int parallelism,
+                final int timeoutSeconds)
+  {
+    this.rowCountMethod = requireNonNull(rowCountMethod,
+                                         "No row count method provided");
+    this.parallelism = parallelism;
+    this.timeoutSeconds = timeoutSeconds;
+  }
+
+  /**
+   * Number of tables that are counted at the same time, each on a
+   * connection of its own, when additional connections are available.
+   *
+   * @return Number of tables to count at the same time
+   */
+  public int getParallelism()
+  {
+    return parallelism;
+  }
+
+  /**
+   * How row counts are obtained.
+   *
+   * @return Row count method
+   */
+  public RowCountMethod getRowCountMethod()
+  {
+    return rowCountMethod;
+  }
+
+  /**
+   * Time limit for counting the rows of a single table, in seconds. A
+   * value of zero means that there is no limit.
+   *
+   * @return Time limit for counting rows of a table, in seconds
+   */
+  public int getTimeoutSeconds()
+  {
+    return timeoutSeconds;
+  }
+
+  @Override
+  public String toString()
+  {
+    return ObjectToString.toString(this);
+  }
+
+}
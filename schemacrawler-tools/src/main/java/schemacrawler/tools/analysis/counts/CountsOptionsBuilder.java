@@ -0,0 +1,163 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.analysis.counts;
+
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.OptionsBuilder;
+
+public final class CountsOptionsBuilder
+  implements OptionsBuilder<CountsOptionsBuilder, CountsOptions>
+{
+
+  private static final String SC_COUNTS_PREFIX = "schemacrawler.counts.";
+
+  private static final String ROW_COUNT_METHOD = SC_COUNTS_PREFIX + "method";
+  private static final String PARALLELISM = SC_COUNTS_PREFIX + "parallelism";
+  private static final String TIMEOUT_SECONDS = SC_COUNTS_PREFIX + "timeout";
+
+  public static CountsOptionsBuilder builder()
+  {
+    return new CountsOptionsBuilder();
+  }
+
+  public static CountsOptionsBuilder builder(final CountsOptions options)
+  {
+    return new CountsOptionsBuilder().fromOptions(options);
+  }
+
+  public static CountsOptions newCountsOptions()
+  {
+    return new CountsOptionsBuilder().toOptions();
+  }
+
+  public static CountsOptions newCountsOptions(final Config config)
+  {
+    return new CountsOptionsBuilder().fromConfig(config).toOptions();
+  }
+
+  private RowCountMethod rowCountMethod;
+  private int parallelism;
+  private int timeoutSeconds;
+
+  private CountsOptionsBuilder()
+  {
+    rowCountMethod = RowCountMethod.exact;
+    parallelism = 1;
+    timeoutSeconds = 0;
+  }
+
+  @Override
+  public CountsOptionsBuilder fromConfig(final Config config)
+  {
+    if (config == null)
+    {
+      return this;
+    }
+
+    withRowCountMethod(config.getEnumValue(ROW_COUNT_METHOD, rowCountMethod));
+    withParallelism(config.getIntegerValue(PARALLELISM, parallelism));
+    withTimeoutSeconds(config.getIntegerValue(TIMEOUT_SECONDS,
+                                              timeoutSeconds));
+
+    return this;
+  }
+
+  @Override
+  public CountsOptionsBuilder fromOptions(final CountsOptions options)
+  {
+    if (options == null)
+    {
+      return this;
+    }
+
+    rowCountMethod = options.getRowCountMethod();
+    parallelism = options.getParallelism();
+    timeoutSeconds = options.getTimeoutSeconds();
+
+    return this;
+  }
+
+  @Override
+  public Config toConfig()
+  {
+    final Config config = new Config();
+    config.setEnumValue(ROW_COUNT_METHOD, rowCountMethod);
+    config.setStringValue(PARALLELISM, String.valueOf(parallelism));
+    config.setStringValue(TIMEOUT_SECONDS, String.valueOf(timeoutSeconds));
+    return config;
+  }
+
+  @Override
+  public CountsOptions toOptions()
+  {
+    return new CountsOptions(rowCountMethod, parallelism, timeoutSeconds);
+  }
+
+  /**
+   * Sets the number of tables that are counted at the same time. Values
+   * less than 1 are treated as 1.
+   *
+   * @param parallelism
+   *        Number of tables to count at the same time
+   * @return Builder
+   */
+  public CountsOptionsBuilder withParallelism(final int parallelism)
+  {
+    this.parallelism = Math.max(1, parallelism);
+    return this;
+  }
+
+  public CountsOptionsBuilder withRowCountMethod(final RowCountMethod rowCountMethod)
+  {
+    if (rowCountMethod == null)
+    {
+      this.rowCountMethod = RowCountMethod.exact;
+    }
+    else
+    {
+      this.rowCountMethod = rowCountMethod;
+    }
+    return this;
+  }
+
+  /**
+   * Sets the time limit for counting the rows of a single table. Zero
+   * or negative values mean that there is no limit.
+   *
+   * @param timeoutSeconds
+   *        Time limit, in seconds
+   * @return Builder
+   */
+  public CountsOptionsBuilder withTimeoutSeconds(final int timeoutSeconds)
+  {
+    this.timeoutSeconds = Math.max(0, timeoutSeconds);
+    return this;
+  }
+
+}
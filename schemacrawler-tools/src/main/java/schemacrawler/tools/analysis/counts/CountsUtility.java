@@ -39,6 +39,7 @@ public final class CountsUtility
 
   private static final int UNKNOWN_TABLE_ROW_COUNT = -1;
   private static final String TABLE_ROW_COUNT_KEY = "schemacrawler.table.count";
+  private static final String TABLE_ROW_COUNT_METHOD_KEY = "schemacrawler.table.count.method";
 
   public static final long getRowCount(final Table table)
   {
@@ -52,6 +53,23 @@ public final class CountsUtility
     return tableCount;
   }
 
+  /**
+   * How the row count of the table was obtained.
+   *
+   * @param table
+   *        Table
+   * @return Row count method, or null if the table has no row count
+   */
+  public static final RowCountMethod getRowCountMethod(final Table table)
+  {
+    if (!hasRowCount(table))
+    {
+      return null;
+    }
+    return table.getAttribute(TABLE_ROW_COUNT_METHOD_KEY,
+                              RowCountMethod.exact);
+  }
+
   /**
    * Message format for the counts.
    *
@@ -75,7 +93,13 @@ public final class CountsUtility
 
   public static final String getRowCountMessage(final Table table)
   {
-    return getRowCountMessage(getRowCount(table));
+    final long rowCount = getRowCount(table);
+    if (rowCount > 0
+        && getRowCountMethod(table) == RowCountMethod.estimate)
+    {
+      return String.format("about %,d rows", rowCount);
+    }
+    return getRowCountMessage(rowCount);
   }
 
   public static final boolean hasRowCount(final Table table)
@@ -83,17 +107,21 @@ public final class CountsUtility
     return table != null && table.hasAttribute(TABLE_ROW_COUNT_KEY);
   }
 
-  static void addRowCountToTable(final Table table, final long rowCount)
+  static void addRowCountToTable(final Table table,
+                                 final long rowCount,
+                                 final RowCountMethod rowCountMethod)
   {
     if (table != null)
     {
       if (rowCount >= 0)
       {
         table.setAttribute(TABLE_ROW_COUNT_KEY, rowCount);
+        table.setAttribute(TABLE_ROW_COUNT_METHOD_KEY, rowCountMethod);
       }
       else
       {
         table.removeAttribute(TABLE_ROW_COUNT_KEY);
+        table.removeAttribute(TABLE_ROW_COUNT_METHOD_KEY);
       }
     }
   }
@@ -0,0 +1,366 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.analysis.counts;
+
+
+import static java.util.Objects.requireNonNull;
+import static schemacrawler.utility.QueryUtility.executeAgainstSchema;
+import static schemacrawler.utility.QueryUtility.executeAgainstTable;
+import static sf.util.DatabaseUtility.createStatement;
+import static sf.util.Utility.isBlank;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.tools.text.operation.Operation;
+import schemacrawler.utility.Identifiers;
+import schemacrawler.utility.Query;
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Obtains table row counts, either by counting rows, or from optimizer
+ * statistics in the data dictionary. Rows are counted on additional
+ * connections, if a connection supplier is available, and each count
+ * can be given a time limit.
+ *
+ * @author Sualeh Fatehi
+ */
+final class TableRowCounter
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(TableRowCounter.class.getName());
+
+  private static String normalize(final String name)
+  {
+    return isBlank(name)? null: name;
+  }
+
+  private final Connection connection;
+  private final Supplier<Connection> connectionSupplier;
+  private final InformationSchemaViews informationSchemaViews;
+  private final SchemaCrawlerOptions options;
+  private final CountsOptions countsOptions;
+  private final Identifiers identifiers;
+
+  TableRowCounter(final Connection connection,
+                  final Supplier<Connection> connectionSupplier,
+                  final InformationSchemaViews informationSchemaViews,
+                  final SchemaCrawlerOptions options,
+                  final CountsOptions countsOptions,
+                  final Identifiers identifiers)
+  {
+    this.connection = requireNonNull(connection, "No connection provided");
+    this.connectionSupplier = connectionSupplier;
+    this.informationSchemaViews = informationSchemaViews;
+    this.options = requireNonNull(options, "No options provided");
+    this.countsOptions = requireNonNull(countsOptions,
+                                        "No counts options provided");
+    this.identifiers = requireNonNull(identifiers,
+                                      "No identifiers provided");
+  }
+
+  /**
+   * Checks whether the data dictionary query for estimated row counts
+   * was provided for this database.
+   *
+   * @return Whether row counts can be estimated
+   */
+  boolean canEstimate()
+  {
+    return informationSchemaViews != null && informationSchemaViews
+      .hasQuery(InformationSchemaKey.EXT_TABLE_ROW_COUNTS);
+  }
+
+  /**
+   * Counts rows in each table. Tables whose rows could not be counted,
+   * for example because the count took too long, are not in the
+   * returned counts, and are logged. If an additional connection
+   * fails, the remaining tables are counted by the other connections.
+   *
+   * @param tables
+   *        Tables to count
+   * @return Row counts for tables
+   */
+  Map<Table, Long> countRows(final List<Table> tables)
+  {
+    final Map<Table, Long> counts = new ConcurrentHashMap<>();
+    final AtomicInteger nextTable = new AtomicInteger();
+    if (!isParallel(tables))
+    {
+      countRows(connection, tables, nextTable, counts);
+      logUncountedTables(tables, counts);
+      return counts;
+    }
+
+    final int parallelism = Math.min(countsOptions.getParallelism(),
+                                     tables.size());
+    LOGGER.log(Level.INFO,
+               new StringFormat("Counting rows for %d tables, %d at a time",
+                                tables.size(),
+                                parallelism));
+
+    final AtomicInteger threadCount = new AtomicInteger();
+    final ExecutorService executorService = Executors
+      .newFixedThreadPool(parallelism, runnable -> {
+        final Thread thread = new Thread(runnable,
+                                         "schemacrawler-counts-"
+                                                   + threadCount
+                                                     .incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    try
+    {
+      final List<Future<Void>> futures = new ArrayList<>();
+      for (int i = 0; i < parallelism; i++)
+      {
+        futures.add(executorService.submit(() -> {
+          try (final Connection workerConnection = connectionSupplier.get();)
+          {
+            countRows(workerConnection, tables, nextTable, counts);
+          }
+          return null;
+        }));
+      }
+      for (final Future<Void> future: futures)
+      {
+        try
+        {
+          future.get();
+        }
+        catch (final ExecutionException e)
+        {
+          // Other connections continue to count the remaining tables
+          LOGGER.log(Level.WARNING,
+                     "Could not count rows on an additional connection",
+                     e.getCause());
+        }
+      }
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      LOGGER.log(Level.WARNING, "Interrupted while counting rows", e);
+    }
+    finally
+    {
+      executorService.shutdownNow();
+    }
+
+    if (nextTable.get() < tables.size()
+        && !Thread.currentThread().isInterrupted())
+    {
+      // None of the additional connections could count the remaining
+      // tables
+      countRows(connection, tables, nextTable, counts);
+    }
+
+    logUncountedTables(tables, counts);
+    return counts;
+  }
+
+  /**
+   * Reads estimated row counts from the data dictionary. Tables that
+   * have no statistics are not in the returned counts.
+   *
+   * @param tables
+   *        Tables to estimate row counts for
+   * @return Estimated row counts for tables
+   */
+  Map<Table, Long> estimateRows(final Collection<Table> tables)
+  {
+    final Map<Table, Long> estimates = new HashMap<>();
+    if (!canEstimate())
+    {
+      LOGGER.log(Level.FINE,
+                 "Estimated row counts SQL statement was not provided");
+      return estimates;
+    }
+
+    // Match tables by catalog, schema and name, and fall back to
+    // matching by name alone, for databases such as SQLite, where the
+    // data dictionary does not know about schemas
+    final Map<List<String>, Table> tablesByKey = new HashMap<>();
+    final Map<String, Table> tablesByName = new HashMap<>();
+    for (final Table table: tables)
+    {
+      tablesByKey.put(Arrays.asList(normalize(table.getSchema()
+        .getCatalogName()), normalize(table.getSchema().getName()), table
+          .getName()), table);
+      if (tablesByName.containsKey(table.getName()))
+      {
+        tablesByName.put(table.getName(), null);
+      }
+      else
+      {
+        tablesByName.put(table.getName(), table);
+      }
+    }
+
+    final Query rowCountsSql = informationSchemaViews
+      .getQuery(InformationSchemaKey.EXT_TABLE_ROW_COUNTS);
+    try (final Statement statement = createStatement(connection);
+        final ResultSet results = executeAgainstSchema(rowCountsSql,
+                                                       statement,
+                                                       options
+                                                         .getSchemaInclusionRule());)
+    {
+      while (results.next())
+      {
+        final String catalogName = normalize(results
+          .getString("TABLE_CATALOG"));
+        final String schemaName = normalize(results.getString("TABLE_SCHEMA"));
+        final String tableName = results.getString("TABLE_NAME");
+        final long rowCount = results.getLong("ROW_COUNT");
+        if (results.wasNull())
+        {
+          continue;
+        }
+
+        Table table = tablesByKey
+          .get(Arrays.asList(catalogName, schemaName, tableName));
+        if (table == null)
+        {
+          table = tablesByName.get(tableName);
+        }
+        if (table != null)
+        {
+          estimates.put(table, rowCount);
+        }
+      }
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not retrieve estimated row counts", e);
+    }
+
+    return estimates;
+  }
+
+  private void countRows(final Connection countConnection,
+                         final List<Table> tables,
+                         final AtomicInteger nextTable,
+                         final Map<Table, Long> counts)
+  {
+    final Query query = Operation.count.getQuery();
+    try (final Statement statement = createStatement(countConnection);)
+    {
+      if (countsOptions.getTimeoutSeconds() > 0)
+      {
+        statement.setQueryTimeout(countsOptions.getTimeoutSeconds());
+      }
+
+      int index;
+      while ((index = nextTable.getAndIncrement()) < tables.size())
+      {
+        final Table table = tables.get(index);
+        try (final ResultSet results = executeAgainstTable(query,
+                                                           statement,
+                                                           table,
+                                                           true,
+                                                           identifiers);)
+        {
+          if (results.next())
+          {
+            counts.put(table, results.getLong(1));
+          }
+        }
+        catch (final SQLTimeoutException e)
+        {
+          LOGGER.log(Level.INFO,
+                     new StringFormat("Timed out counting rows for table <%s>",
+                                      table),
+                     e);
+        }
+        catch (final SQLException | RuntimeException e)
+        {
+          LOGGER.log(Level.WARNING,
+                     new StringFormat("Could not get count for table <%s>",
+                                      table),
+                     e);
+        }
+      }
+    }
+    catch (final SQLException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not count rows", e);
+    }
+  }
+
+  private void logUncountedTables(final List<Table> tables,
+                                  final Map<Table, Long> counts)
+  {
+    if (counts.size() == tables.size())
+    {
+      return;
+    }
+
+    final List<String> uncountedTables = new ArrayList<>();
+    for (final Table table: tables)
+    {
+      if (!counts.containsKey(table))
+      {
+        uncountedTables.add(table.getFullName());
+      }
+    }
+    LOGGER.log(Level.WARNING,
+               new StringFormat("Could not count rows for %d tables, %s",
+                                uncountedTables.size(),
+                                uncountedTables));
+  }
+
+  private boolean isParallel(final List<Table> tables)
+  {
+    return connectionSupplier != null && countsOptions.getParallelism() > 1
+           && tables.size() > 1;
+  }
+
+}
@@ -28,13 +28,29 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.executable;
 
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 
+import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.options.OutputOptions;
 import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
 
 /**
  * Allows chaining multiple scCommands with the same configuration. The
@@ -85,7 +101,9 @@ abstract class BaseCommandChain
       scCommand.setAdditionalConfiguration(additionalConfiguration);
       scCommand.setCatalog(catalog);
       scCommand.setConnection(connection);
+      scCommand.setConnectionSupplier(connectionSupplier);
       scCommand.setIdentifiers(identifiers);
+      scCommand.setInformationSchemaViews(informationSchemaViews);
 
       scCommands.add(scCommand);
 
@@ -128,6 +146,115 @@ abstract class BaseCommandChain
     }
   }
 
+  /**
+   * Executes all commands in the chain at the same time, if they write
+   * to different output files, and do not use the database connection.
+   * Otherwise, commands are executed one after another. Each command
+   * gets its own copy of the catalog, made before any command starts,
+   * so that the catalog of the chain is only ever read, and no command
+   * sees attributes that another command adds to its catalog. Every
+   * command runs to completion, and failures are reported together,
+   * with the first failure thrown, and the others suppressed.
+   *
+   * @throws Exception
+   *         On an exception from any of the commands
+   */
+  protected final void executeChainConcurrently()
+    throws Exception
+  {
+    if (scCommands.isEmpty())
+    {
+      LOGGER.log(Level.INFO, "No commands to execute");
+      return;
+    }
+
+    if (!canExecuteConcurrently())
+    {
+      executeChain();
+      return;
+    }
+
+    final List<Catalog> catalogs = copyCatalog(scCommands.size());
+    if (catalogs.isEmpty())
+    {
+      executeChain();
+      return;
+    }
+    for (int i = 0; i < scCommands.size(); i++)
+    {
+      scCommands.get(i).setCatalog(catalogs.get(i));
+    }
+
+    LOGGER.log(Level.INFO,
+               new StringFormat("Executing %d commands concurrently",
+                                scCommands.size()));
+
+    final List<Exception> failures = new ArrayList<>();
+    final AtomicInteger threadCount = new AtomicInteger();
+    final ExecutorService executorService = Executors
+      .newFixedThreadPool(scCommands.size(), runnable -> {
+        final Thread thread = new Thread(runnable,
+                                         "schemacrawler-chain-"
+                                                   + threadCount
+                                                     .incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    try
+    {
+      final List<Future<Void>> results = new ArrayList<>();
+      for (final SchemaCrawlerCommand scCommand: scCommands)
+      {
+        results.add(executorService.submit(() -> {
+          scCommand.execute();
+          return null;
+        }));
+      }
+
+      for (final Future<Void> result: results)
+      {
+        try
+        {
+          result.get();
+        }
+        catch (final ExecutionException e)
+        {
+          final Throwable cause = e.getCause();
+          if (cause instanceof Exception)
+          {
+            failures.add((Exception) cause);
+          }
+          else
+          {
+            failures
+              .add(new SchemaCrawlerException("Could not execute command",
+                                              cause));
+          }
+        }
+      }
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerException("Interrupted while executing commands",
+                                       e);
+    }
+    finally
+    {
+      executorService.shutdownNow();
+    }
+
+    if (!failures.isEmpty())
+    {
+      final Exception failure = failures.get(0);
+      for (final Exception otherFailure: failures.subList(1, failures.size()))
+      {
+        failure.addSuppressed(otherFailure);
+      }
+      throw failure;
+    }
+  }
+
   protected final void initializeChain()
     throws Exception
   {
@@ -143,4 +270,75 @@ abstract class BaseCommandChain
     }
   }
 
+  private boolean canExecuteConcurrently()
+  {
+    if (scCommands.size() < 2)
+    {
+      return false;
+    }
+
+    final Set<Path> outputFiles = new HashSet<>();
+    for (final SchemaCrawlerCommand scCommand: scCommands)
+    {
+      if (scCommand.usesConnection())
+      {
+        LOGGER.log(Level.INFO,
+                   new StringFormat("Executing commands one after another, since <%s> uses the database connection",
+                                    scCommand.getCommand()));
+        return false;
+      }
+
+      final Optional<Path> outputFile = scCommand.getOutputOptions()
+        .getOutputFile();
+      if (!outputFile.isPresent()
+          || !outputFiles.add(outputFile.get().normalize().toAbsolutePath()))
+      {
+        LOGGER.log(Level.INFO,
+                   new StringFormat("Executing commands one after another, since <%s> does not write to a separate output file",
+                                    scCommand.getCommand()));
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Copies the catalog by serializing it once, and reading it back for
+   * every command except the first, which uses the catalog itself.
+   *
+   * @return Catalogs for each command, or an empty list if the catalog
+   *         cannot be copied
+   */
+  private List<Catalog> copyCatalog(final int count)
+  {
+    final List<Catalog> catalogs = new ArrayList<>();
+    try
+    {
+      final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+      try (final ObjectOutputStream out = new ObjectOutputStream(buffer);)
+      {
+        out.writeObject(catalog);
+      }
+      final byte[] bytes = buffer.toByteArray();
+
+      catalogs.add(catalog);
+      for (int i = 1; i < count; i++)
+      {
+        try (
+            final ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes));)
+        {
+          catalogs.add((Catalog) in.readObject());
+        }
+      }
+      return catalogs;
+    }
+    catch (final IOException | ClassNotFoundException e)
+    {
+      LOGGER.log(Level.INFO,
+                 "Executing commands one after another, since the catalog cannot be copied",
+                 e);
+      return new ArrayList<>();
+    }
+  }
+
 }
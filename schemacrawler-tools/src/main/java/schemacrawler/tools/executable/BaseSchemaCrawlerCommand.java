@@ -33,9 +33,11 @@ import static java.util.Objects.requireNonNull;
 import static sf.util.Utility.isBlank;
 
 import java.sql.Connection;
+import java.util.function.Supplier;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
 import schemacrawler.tools.options.OutputOptions;
@@ -58,7 +60,9 @@ public abstract class BaseSchemaCrawlerCommand
   protected OutputOptions outputOptions;
   protected Config additionalConfiguration;
   protected Identifiers identifiers;
+  protected InformationSchemaViews informationSchemaViews;
   protected Connection connection;
+  protected Supplier<Connection> connectionSupplier;
   protected Catalog catalog;
 
   protected BaseSchemaCrawlerCommand(final String command)
@@ -111,12 +115,24 @@ public abstract class BaseSchemaCrawlerCommand
     return connection;
   }
 
+  @Override
+  public Supplier<Connection> getConnectionSupplier()
+  {
+    return connectionSupplier;
+  }
+
   @Override
   public Identifiers getIdentifiers()
   {
     return identifiers;
   }
 
+  @Override
+  public InformationSchemaViews getInformationSchemaViews()
+  {
+    return informationSchemaViews;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -161,12 +177,24 @@ public abstract class BaseSchemaCrawlerCommand
     this.connection = connection;
   }
 
+  @Override
+  public void setConnectionSupplier(final Supplier<Connection> connectionSupplier)
+  {
+    this.connectionSupplier = connectionSupplier;
+  }
+
   @Override
   public void setIdentifiers(final Identifiers identifiers)
   {
     this.identifiers = identifiers;
   }
 
+  @Override
+  public void setInformationSchemaViews(final InformationSchemaViews informationSchemaViews)
+  {
+    this.informationSchemaViews = informationSchemaViews;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -48,6 +48,8 @@ public final class CommandChain
 
   private static final String COMMAND = "chain";
 
+  private boolean isConcurrent;
+
   /**
    * Copy configuration settings from another command.
    *
@@ -68,7 +70,9 @@ public final class CommandChain
 
     setCatalog(scCommand.getCatalog());
     setConnection(scCommand.getConnection());
+    setConnectionSupplier(scCommand.getConnectionSupplier());
     setIdentifiers(scCommand.getIdentifiers());
+    setInformationSchemaViews(scCommand.getInformationSchemaViews());
   }
 
   public final SchemaCrawlerCommand addNext(final String command,
@@ -110,7 +114,39 @@ public final class CommandChain
 
     initializeChain();
     checkAvailibilityChain();
-    executeChain();
+    if (isConcurrent)
+    {
+      executeChainConcurrently();
+    }
+    else
+    {
+      executeChain();
+    }
+  }
+
+  /**
+   * Whether commands in the chain are executed at the same time.
+   *
+   * @return Whether commands are executed concurrently
+   */
+  public boolean isConcurrent()
+  {
+    return isConcurrent;
+  }
+
+  /**
+   * Executes commands in the chain at the same time, if they all write
+   * to different output files, and none of them uses the database
+   * connection. Otherwise, commands are executed one after another.
+   * Each command gets its own copy of the catalog, which is made by
+   * serializing the catalog, so this is off by default.
+   *
+   * @param isConcurrent
+   *        Whether to execute commands concurrently
+   */
+  public void setConcurrent(final boolean isConcurrent)
+  {
+    this.isConcurrent = isConcurrent;
   }
 
   @Override
@@ -30,9 +30,11 @@ package schemacrawler.tools.executable;
 
 
 import java.sql.Connection;
+import java.util.function.Supplier;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.InformationSchemaViews;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.utility.Identifiers;
@@ -73,8 +75,31 @@ public interface SchemaCrawlerCommand
 
   Connection getConnection();
 
+  /**
+   * Source of additional database connections, for commands that can
+   * do work on more than one connection at a time.
+   *
+   * @return Source of additional connections, or null if none is
+   *         available
+   */
+  default Supplier<Connection> getConnectionSupplier()
+  {
+    return null;
+  }
+
   Identifiers getIdentifiers();
 
+  /**
+   * Information schema views for the database, for commands that run
+   * additional metadata queries, such as for estimated row counts.
+   *
+   * @return Information schema views, or null if none are available
+   */
+  default InformationSchemaViews getInformationSchemaViews()
+  {
+    return null;
+  }
+
   OutputOptions getOutputOptions();
 
   SchemaCrawlerOptions getSchemaCrawlerOptions();
@@ -94,8 +119,32 @@ public interface SchemaCrawlerCommand
 
   void setConnection(Connection connection);
 
+  /**
+   * Provides a source of additional database connections, such as a
+   * connection pool. Connections obtained from the source are closed by
+   * the command once it is done with them.
+   *
+   * @param connectionSupplier
+   *        Source of additional connections, or null
+   */
+  default void setConnectionSupplier(final Supplier<Connection> connectionSupplier)
+  {
+    // Most commands only use the primary connection
+  }
+
   void setIdentifiers(Identifiers identifiers);
 
+  /**
+   * Provides information schema views for the database.
+   *
+   * @param informationSchemaViews
+   *        Information schema views, or null
+   */
+  default void setInformationSchemaViews(final InformationSchemaViews informationSchemaViews)
+  {
+    // Most commands do not run additional metadata queries
+  }
+
   void setOutputOptions(OutputOptions outputOptions);
 
   void setSchemaCrawlerOptions(SchemaCrawlerOptions schemaCrawlerOptions);
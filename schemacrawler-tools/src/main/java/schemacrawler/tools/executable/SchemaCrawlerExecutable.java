@@ -34,6 +34,7 @@ import static sf.util.Utility.isBlank;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.function.Supplier;
 import java.util.logging.Level;
 
 import schemacrawler.schema.*;
@@ -67,6 +68,7 @@ public final class SchemaCrawlerExecutable
   private Config additionalConfiguration;
   private Catalog catalog;
   private Connection connection;
+  private Supplier<Connection> connectionSupplier;
   private OutputOptions outputOptions;
   private SchemaCrawlerOptions schemaCrawlerOptions;
   private SchemaRetrievalOptions schemaRetrievalOptions;
@@ -160,6 +162,7 @@ public final class SchemaCrawlerExecutable
 
     scCommand.setCatalog(catalog);
     scCommand.setConnection(connection);
+    scCommand.setConnectionSupplier(connectionSupplier);
 
     scCommand.execute();
   }
@@ -193,6 +196,19 @@ public final class SchemaCrawlerExecutable
     this.connection = requireNonNull(connection, "No connection provided");
   }
 
+  /**
+   * Provides a source of additional database connections, such as a
+   * connection pool, for commands that can do work on more than one
+   * connection at a time.
+   *
+   * @param connectionSupplier
+   *        Source of additional connections, or null
+   */
+  public void setConnectionSupplier(final Supplier<Connection> connectionSupplier)
+  {
+    this.connectionSupplier = connectionSupplier;
+  }
+
   public void setSchemaRetrievalOptions(final SchemaRetrievalOptions schemaRetrievalOptions)
   {
     this.schemaRetrievalOptions = schemaRetrievalOptions;
@@ -236,6 +252,8 @@ public final class SchemaCrawlerExecutable
     scCommand.setOutputOptions(outputOptions);
     scCommand.setAdditionalConfiguration(additionalConfiguration);
     scCommand.setIdentifiers(schemaRetrievalOptions.getIdentifiers());
+    scCommand
+      .setInformationSchemaViews(schemaRetrievalOptions.getInformationSchemaViews());
 
     return scCommand;
   }
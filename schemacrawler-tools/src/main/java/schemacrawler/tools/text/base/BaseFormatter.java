@@ -45,6 +45,8 @@ import schemacrawler.schema.IndexColumn;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.options.TextOutputFormat;
+import schemacrawler.tools.text.utility.BufferingFormattingHelper;
+import schemacrawler.tools.text.utility.BufferingFormattingHelper.Formatting;
 import schemacrawler.tools.text.utility.DatabaseObjectColorMap;
 import schemacrawler.tools.text.utility.HtmlFormattingHelper;
 import schemacrawler.tools.text.utility.JsonFormattingHelper;
@@ -101,14 +103,18 @@ public abstract class BaseFormatter<O extends BaseTextOptions>
     switch (outputFormat)
     {
       case html:
-        formattingHelper = new HtmlFormattingHelper(out, outputFormat);
+        formattingHelper = new BufferingFormattingHelper(out,
+                                                         bufferOut -> new HtmlFormattingHelper(bufferOut,
+                                                                                               outputFormat));
         break;
       case json:
         formattingHelper = new JsonFormattingHelper(out, outputFormat);
         break;
       case text:
       default:
-        formattingHelper = new PlainTextFormattingHelper(out, outputFormat);
+        formattingHelper = new BufferingFormattingHelper(out,
+                                                         bufferOut -> new PlainTextFormattingHelper(bufferOut,
+                                                                                                    outputFormat));
         break;
     }
   }
@@ -121,6 +127,29 @@ public abstract class BaseFormatter<O extends BaseTextOptions>
     out.close();
   }
 
+  /**
+   * Formats output into a string, rather than the output. Only
+   * formatting on the current thread is redirected, so independent
+   * sections of output can be formatted on several threads at the same
+   * time, and then written to the output in order.
+   *
+   * @param formatting
+   *        Formatting to buffer
+   * @return Formatted output
+   * @throws SchemaCrawlerException
+   *         On an exception from the formatting, or if output cannot be
+   *         buffered for this output format
+   */
+  protected String buffer(final Formatting formatting)
+    throws SchemaCrawlerException
+  {
+    if (!(formattingHelper instanceof BufferingFormattingHelper))
+    {
+      throw new SchemaCrawlerException("Cannot buffer output for this output format");
+    }
+    return ((BufferingFormattingHelper) formattingHelper).buffer(formatting);
+  }
+
   protected String columnNullable(final String columnTypeName,
                                   final boolean isNullable)
   {
@@ -40,6 +40,7 @@ import schemacrawler.tools.text.utility.JsonFormattingHelper;
 import schemacrawler.tools.text.utility.org.json.JSONArray;
 import schemacrawler.tools.text.utility.org.json.JSONException;
 import schemacrawler.tools.text.utility.org.json.JSONObject;
+import schemacrawler.tools.text.utility.org.json.JSONStreamWriter;
 import sf.util.SchemaCrawlerLogger;
 import sf.util.StringFormat;
 
@@ -55,7 +56,7 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
   protected static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(BaseJsonFormatter.class.getName());
 
-  protected final JSONObject jsonRoot;
+  protected final JSONStreamWriter jsonWriter;
 
   protected BaseJsonFormatter(final O options,
                               final boolean printVerboseDatabaseInfo,
@@ -67,7 +68,8 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
           printVerboseDatabaseInfo,
           outputOptions,
           identifierQuoteString);
-    jsonRoot = new JSONObject();
+    jsonWriter = ((JsonFormattingHelper) formattingHelper)
+      .newJsonStreamWriter();
   }
 
   @Override
@@ -78,13 +80,29 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
     {
       formattingHelper.append("[").println();
     }
+
+    try
+    {
+      jsonWriter.beginObject();
+    }
+    catch (final JSONException e)
+    {
+      throw new SchemaCrawlerException("Could not write database", e);
+    }
   }
 
   @Override
   public void end()
     throws SchemaCrawlerException
   {
-    ((JsonFormattingHelper) formattingHelper).write(jsonRoot);
+    try
+    {
+      jsonWriter.endObject();
+    }
+    catch (final JSONException e)
+    {
+      throw new SchemaCrawlerException("Could not write database", e);
+    }
 
     if (options.isNoFooter())
     {
@@ -110,13 +128,14 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
     try
     {
       final JSONObject jsonSchemaCrawlerHeaderInfo = new JSONObject();
-      jsonRoot.put("schemaCrawlerHeaderInfo", jsonSchemaCrawlerHeaderInfo);
 
       jsonSchemaCrawlerHeaderInfo
         .put("crawlTimestamp", formatTimestamp(crawlInfo.getCrawlTimestamp()));
       jsonSchemaCrawlerHeaderInfo.put("runId", crawlInfo.getRunId());
 
       jsonSchemaCrawlerHeaderInfo.put("title", outputOptions.getTitle());
+
+      jsonWriter.put("schemaCrawlerHeaderInfo", jsonSchemaCrawlerHeaderInfo);
     }
     catch (final JSONException e)
     {
@@ -139,7 +158,6 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
     try
     {
       final JSONObject jsonDbInfo = new JSONObject();
-      jsonRoot.put("databaseInfo", jsonDbInfo);
 
       jsonDbInfo.put("databaseProductName", dbInfo.getProductName());
       jsonDbInfo.put("databaseProductVersion", dbInfo.getProductVersion());
@@ -176,6 +194,8 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
           jsonDbProperty.put("value", property.getValue());
         }
       }
+
+      jsonWriter.put("databaseInfo", jsonDbInfo);
     }
     catch (final JSONException e)
     {
@@ -199,7 +219,6 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
     try
     {
       final JSONObject jsonDriverInfo = new JSONObject();
-      jsonRoot.put("jdbcDriverInfo", jsonDriverInfo);
 
       jsonDriverInfo.put("driverName", driverInfo.getProductName());
       jsonDriverInfo.put("driverVersion", driverInfo.getProductVersion());
@@ -219,6 +238,8 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
           jsonJdbcDriverProperties.put(printJdbcDriverProperty(driverProperty));
         }
       }
+
+      jsonWriter.put("jdbcDriverInfo", jsonDriverInfo);
     }
     catch (final JSONException e)
     {
@@ -242,12 +263,13 @@ public abstract class BaseJsonFormatter<O extends BaseTextOptions>
     try
     {
       final JSONObject jsonSchemaCrawlerInfo = new JSONObject();
-      jsonRoot.put("schemaCrawlerInfo", jsonSchemaCrawlerInfo);
 
       jsonSchemaCrawlerInfo
         .put("productName", schemaCrawlerInfo.getProductName());
       jsonSchemaCrawlerInfo
         .put("productVersion", schemaCrawlerInfo.getProductVersion());
+
+      jsonWriter.put("schemaCrawlerInfo", jsonSchemaCrawlerInfo);
     }
     catch (final JSONException e)
     {
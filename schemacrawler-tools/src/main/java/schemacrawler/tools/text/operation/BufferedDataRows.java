@@ -0,0 +1,247 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.operation;
+
+
+import static java.nio.file.Files.deleteIfExists;
+import static java.nio.file.Files.newInputStream;
+import static java.nio.file.Files.newOutputStream;
+import static java.util.Objects.requireNonNull;
+import static sf.util.IOUtility.createTempFilePath;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.logging.Level;
+
+import sf.util.SchemaCrawlerLogger;
+import sf.util.StringFormat;
+
+/**
+ * Rows of data that have been read in full, so that they can be
+ * formatted after the result set they were read from is closed. Rows
+ * are held in memory, up to a limit, and the remaining rows are written
+ * to a temporary file. Column data that cannot be serialized is written
+ * to the temporary file as a string.
+ *
+ * @author Sualeh Fatehi
+ */
+final class BufferedDataRows
+  implements DataRows, AutoCloseable
+{
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(BufferedDataRows.class.getName());
+
+  /**
+   * Reads all rows.
+   *
+   * @param dataRows
+   *        Rows to read
+   * @param maxRowsInMemory
+   *        Number of rows to hold in memory, before rows are written to
+   *        a temporary file
+   * @return Buffered rows
+   * @throws SQLException
+   *         On an exception reading rows
+   * @throws IOException
+   *         On an exception writing the temporary file
+   */
+  static BufferedDataRows buffer(final DataRows dataRows,
+                                 final int maxRowsInMemory)
+    throws SQLException, IOException
+  {
+    requireNonNull(dataRows, "No rows provided");
+
+    final BufferedDataRows bufferedDataRows = new BufferedDataRows(dataRows
+      .getColumnNames());
+    try
+    {
+      ObjectOutputStream spillOut = null;
+      try
+      {
+        while (dataRows.next())
+        {
+          final Object[] row = dataRows.row();
+          if (bufferedDataRows.rows.size() < maxRowsInMemory)
+          {
+            bufferedDataRows.rows.add(row.clone());
+            continue;
+          }
+
+          if (spillOut == null)
+          {
+            bufferedDataRows.spillFile = createTempFilePath("data", "ser");
+            spillOut = new ObjectOutputStream(new BufferedOutputStream(newOutputStream(bufferedDataRows.spillFile)));
+          }
+          for (int i = 0; i < row.length; i++)
+          {
+            final Object columnData = row[i];
+            if (columnData == null || columnData instanceof Serializable)
+            {
+              spillOut.writeObject(columnData);
+            }
+            else
+            {
+              spillOut.writeObject(columnData.toString());
+            }
+          }
+          // Do not hold on to references to rows that were written
+          spillOut.reset();
+          bufferedDataRows.spilledRowCount++;
+        }
+      }
+      finally
+      {
+        if (spillOut != null)
+        {
+          spillOut.close();
+        }
+      }
+    }
+    catch (final SQLException | IOException | RuntimeException e)
+    {
+      bufferedDataRows.close();
+      throw e;
+    }
+
+    if (bufferedDataRows.spillFile != null)
+    {
+      LOGGER.log(Level.FINE,
+                 new StringFormat("Wrote %d rows to temporary file <%s>",
+                                  bufferedDataRows.spilledRowCount,
+                                  bufferedDataRows.spillFile));
+    }
+
+    return bufferedDataRows;
+  }
+
+  private final String[] columnNames;
+  private final List<Object[]> rows;
+  private Path spillFile;
+  private int spilledRowCount;
+
+  private Iterator<Object[]> rowsIterator;
+  private ObjectInputStream spillIn;
+  private int spilledRowsRead;
+  private Object[] currentRow;
+
+  private BufferedDataRows(final String[] columnNames)
+  {
+    this.columnNames = columnNames;
+    rows = new ArrayList<>();
+  }
+
+  @Override
+  public void close()
+  {
+    rows.clear();
+    try
+    {
+      if (spillIn != null)
+      {
+        spillIn.close();
+        spillIn = null;
+      }
+      if (spillFile != null)
+      {
+        deleteIfExists(spillFile);
+      }
+    }
+    catch (final IOException e)
+    {
+      LOGGER.log(Level.WARNING,
+                 new StringFormat("Could not delete temporary file <%s>",
+                                  spillFile),
+                 e);
+    }
+  }
+
+  @Override
+  public String[] getColumnNames()
+  {
+    return columnNames;
+  }
+
+  @Override
+  public boolean next()
+    throws SQLException
+  {
+    if (rowsIterator == null)
+    {
+      rowsIterator = rows.iterator();
+    }
+    if (rowsIterator.hasNext())
+    {
+      currentRow = rowsIterator.next();
+      return true;
+    }
+
+    if (spilledRowsRead >= spilledRowCount)
+    {
+      currentRow = null;
+      return false;
+    }
+
+    try
+    {
+      if (spillIn == null)
+      {
+        spillIn = new ObjectInputStream(new BufferedInputStream(newInputStream(spillFile)));
+        currentRow = new Object[columnNames.length];
+      }
+      for (int i = 0; i < currentRow.length; i++)
+      {
+        currentRow[i] = spillIn.readObject();
+      }
+      spilledRowsRead++;
+      return true;
+    }
+    catch (final IOException | ClassNotFoundException e)
+    {
+      throw new SQLException("Could not read rows from temporary file "
+                             + spillFile,
+                             e);
+    }
+  }
+
+  @Override
+  public Object[] row()
+  {
+    return currentRow;
+  }
+
+}
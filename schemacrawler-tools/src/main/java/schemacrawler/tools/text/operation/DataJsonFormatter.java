@@ -29,21 +29,20 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.text.operation;
 
 
+import java.io.IOException;
+import java.io.Reader;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.List;
 
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.text.base.BaseJsonFormatter;
+import schemacrawler.tools.text.utility.StreamingBinaryData;
 import schemacrawler.tools.text.utility.org.json.JSONArray;
 import schemacrawler.tools.text.utility.org.json.JSONException;
-import schemacrawler.tools.text.utility.org.json.JSONObject;
-import schemacrawler.tools.traversal.DataTraversalHandler;
 import schemacrawler.utility.Query;
 
 /**
@@ -53,11 +52,10 @@ import schemacrawler.utility.Query;
  */
 final class DataJsonFormatter
   extends BaseJsonFormatter<OperationOptions>
-  implements DataTraversalHandler
+  implements BufferedDataTraversalHandler
 {
 
   private final Operation operation;
-  private final JSONArray jsonDataArray;
 
   /**
    * Text formatting of data.
@@ -82,20 +80,42 @@ final class DataJsonFormatter
           outputOptions,
           identifierQuoteString);
     this.operation = operation;
+  }
+
+  @Override
+  public void begin()
+    throws SchemaCrawlerException
+  {
+    super.begin();
 
-    jsonDataArray = new JSONArray();
     try
     {
       if (operation != null)
       {
-        jsonRoot.put("description", operation.getDescription());
+        jsonWriter.put("description", operation.getDescription());
       }
-      jsonRoot.put("data", jsonDataArray);
+      jsonWriter.beginArray("data");
+    }
+    catch (final JSONException e)
+    {
+      throw new SchemaCrawlerException(e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public void end()
+    throws SchemaCrawlerException
+  {
+    try
+    {
+      jsonWriter.endArray();
     }
     catch (final JSONException e)
     {
       throw new SchemaCrawlerException(e.getMessage(), e);
     }
+
+    super.end();
   }
 
   /**
@@ -118,12 +138,27 @@ final class DataJsonFormatter
     handleData(title, rows);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void handleData(final Table table, final DataRows rows)
+    throws SchemaCrawlerException
+  {
+    handleData(getTableName(table), rows);
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public void handleData(final Table table, final ResultSet rows)
     throws SchemaCrawlerException
+  {
+    handleData(getTableName(table), rows);
+  }
+
+  private String getTableName(final Table table)
   {
     final String tableName;
     if (table != null)
@@ -141,8 +176,7 @@ final class DataJsonFormatter
     {
       tableName = "";
     }
-
-    handleData(tableName, rows);
+    return tableName;
   }
 
   /**
@@ -151,7 +185,7 @@ final class DataJsonFormatter
    * @param results
    *        Results
    */
-  private long handleAggregateOperationForTable(final ResultSet results)
+  private long handleAggregateOperationForTable(final DataRows results)
     throws SchemaCrawlerException
   {
     try
@@ -159,7 +193,11 @@ final class DataJsonFormatter
       long aggregate = 0;
       if (results.next())
       {
-        aggregate = results.getLong(1);
+        final Object value = results.row()[0];
+        if (value instanceof Number)
+        {
+          aggregate = ((Number) value).longValue();
+        }
       }
       return aggregate;
     }
@@ -177,28 +215,37 @@ final class DataJsonFormatter
       return;
     }
 
+    handleData(title, new DataResultSet(rows, options));
+  }
+
+  private void handleData(final String title, final DataRows dataRows)
+    throws SchemaCrawlerException
+  {
+    if (dataRows == null)
+    {
+      return;
+    }
+
     try
     {
-      final JSONObject jsonData = new JSONObject();
-      jsonData.put("title", title);
+      jsonWriter.beginObject();
+      jsonWriter.put("title", title);
 
       if (operation == Operation.count)
       {
-        final long aggregate = handleAggregateOperationForTable(rows);
-        jsonData.put("value", aggregate);
+        final long aggregate = handleAggregateOperationForTable(dataRows);
+        jsonWriter.put("value", aggregate);
       }
       else
       {
         try
         {
-          final DataResultSet dataRows = new DataResultSet(rows,
-                                                           options
-                                                             .isShowLobs());
-
-          jsonData.put("columnNames", new JSONArray(dataRows.getColumnNames()));
+          jsonWriter.put("columnNames",
+                         new JSONArray(dataRows.getColumnNames()));
 
-          final JSONArray jsonRows = iterateRows(dataRows);
-          jsonData.put("rows", jsonRows);
+          jsonWriter.beginArray("rows");
+          iterateRows(dataRows);
+          jsonWriter.endArray();
         }
         catch (final SQLException e)
         {
@@ -206,7 +253,7 @@ final class DataJsonFormatter
         }
       }
 
-      jsonDataArray.put(jsonData);
+      jsonWriter.endObject();
     }
     catch (final JSONException e)
     {
@@ -215,46 +262,73 @@ final class DataJsonFormatter
 
   }
 
-  private JSONArray iterateRows(final DataResultSet dataRows)
-    throws SQLException
+  /**
+   * Writes each row as it is read, so that the rows of a table are not
+   * held in memory.
+   */
+  private void iterateRows(final DataRows dataRows)
+    throws SQLException, JSONException
   {
-    final JSONArray jsonRows = new JSONArray();
     while (dataRows.next())
     {
-      final List<Object> currentRowRaw = dataRows.row();
-      final List<Object> currentRow = new ArrayList<>();
-      for (final Object columnData: currentRowRaw)
+      jsonWriter.beginArray();
+      for (final Object columnData: dataRows.row())
+      {
+        if (columnData instanceof StreamingBinaryData)
+        {
+          writeStreamingValue((StreamingBinaryData) columnData);
+        }
+        else
+        {
+          jsonWriter.value(jsonValue(columnData));
+        }
+      }
+      jsonWriter.endArray();
+    }
+  }
+
+  private Object jsonValue(final Object columnData)
+  {
+    if (columnData == null || columnData instanceof Number
+        || columnData instanceof CharSequence
+        || columnData instanceof Boolean || columnData instanceof Date
+        || columnData instanceof Calendar)
+    {
+      return columnData;
+    }
+    else
+    {
+      final Class<? extends Object> columnDataClass = columnData.getClass();
+      try
       {
-        if (columnData == null || columnData instanceof Number
-            || columnData instanceof CharSequence
-            || columnData instanceof Boolean || columnData instanceof Date
-            || columnData instanceof Calendar)
+        if (columnDataClass.getMethod("toString")
+          .getDeclaringClass() != Object.class)
         {
-          currentRow.add(columnData);
+          return columnData.toString();
         }
         else
         {
-          final Class<? extends Object> columnDataClass = columnData.getClass();
-          try
-          {
-            if (columnDataClass.getMethod("toString")
-              .getDeclaringClass() != Object.class)
-            {
-              currentRow.add(columnData.toString());
-            }
-            else
-            {
-              currentRow.add(columnDataClass.getSimpleName());
-            }
-          }
-          catch (final NoSuchMethodException | SecurityException e)
-          {
-            currentRow.add(columnDataClass.getSimpleName());
-          }
+          return columnDataClass.getSimpleName();
         }
       }
-      jsonRows.put(new JSONArray(currentRow));
+      catch (final NoSuchMethodException | SecurityException e)
+      {
+        return columnDataClass.getSimpleName();
+      }
     }
-    return jsonRows;
   }
+
+  private void writeStreamingValue(final StreamingBinaryData columnData)
+    throws SQLException, JSONException
+  {
+    try (final Reader reader = columnData.openReader();)
+    {
+      jsonWriter.valueFrom(reader);
+    }
+    catch (final IOException e)
+    {
+      throw new SQLException("Could not read LOB data", e);
+    }
+  }
+
 }
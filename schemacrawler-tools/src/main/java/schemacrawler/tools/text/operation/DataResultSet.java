@@ -29,13 +29,21 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.text.operation;
 
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Objects.requireNonNull;
 import static sf.util.IOUtility.readFully;
 
 import java.io.BufferedInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.Writer;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.Blob;
 import java.sql.Clob;
 import java.sql.NClob;
@@ -43,7 +51,6 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLFeatureNotSupportedException;
 import java.sql.Types;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.logging.Level;
 
@@ -51,6 +58,7 @@ import schemacrawler.crawl.ResultsCrawler;
 import schemacrawler.schema.ResultsColumn;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.text.utility.BinaryData;
+import schemacrawler.tools.text.utility.StreamingBinaryData;
 import sf.util.SchemaCrawlerLogger;
 
 /**
@@ -59,6 +67,7 @@ import sf.util.SchemaCrawlerLogger;
  * @author Sualeh Fatehi
  */
 final class DataResultSet
+  implements DataRows
 {
 
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
@@ -66,16 +75,22 @@ final class DataResultSet
 
   private final ResultSet rows;
   private final List<ResultsColumn> resultsColumns;
-  private final boolean showLobs;
+  private final LobPolicy lobPolicy;
+  private final int lobPreviewLength;
+  private final Object[] currentRow;
 
-  public DataResultSet(final ResultSet rows, final boolean showLobs)
+  public DataResultSet(final ResultSet rows, final OperationOptions options)
     throws SchemaCrawlerException
   {
     this.rows = requireNonNull(rows, "Cannot use null results");
-    this.showLobs = showLobs;
+    requireNonNull(options, "No operation options provided");
+    lobPolicy = options.getLobPolicy();
+    lobPreviewLength = options.getLobPreviewLength();
     resultsColumns = new ResultsCrawler(rows).crawl().getColumns();
+    currentRow = new Object[resultsColumns.size()];
   }
 
+  @Override
   public String[] getColumnNames()
   {
     final int columnCount = resultsColumns.size();
@@ -87,22 +102,30 @@ final class DataResultSet
     return columnNames;
   }
 
+  @Override
   public boolean next()
     throws SQLException
   {
     return rows.next();
   }
 
-  public List<Object> row()
+  /**
+   * Reads the data for the current row. The same array is reused for
+   * every row, so it is overwritten by the next call, and should not
+   * be held on to.
+   *
+   * @return Column data for the current row
+   * @throws SQLException
+   *         On an exception reading the row
+   */
+  @Override
+  public Object[] row()
     throws SQLException
   {
-    final int columnCount = resultsColumns.size();
-    final List<Object> currentRow = new ArrayList<>(columnCount);
-    for (int i = 0; i < columnCount; i++)
+    for (int i = 0; i < currentRow.length; i++)
     {
-      currentRow.add(getColumnData(i));
+      currentRow[i] = getColumnData(i);
     }
-
     return currentRow;
   }
 
@@ -189,110 +212,260 @@ final class DataResultSet
     return columnData;
   }
 
-  private BinaryData readBlob(final Blob blob)
+  /**
+   * Hashes all the data from an input stream, reading it in chunks.
+   */
+  private BinaryData hash(final InputStream in)
+    throws IOException
   {
-    if (blob == null)
+    final MessageDigest digest = newMessageDigest();
+    final byte[] buffer = new byte[8192];
+    int length;
+    while ((length = in.read(buffer)) != -1)
     {
-      return null;
+      digest.update(buffer, 0, length);
+    }
+    return hashData(digest);
+  }
+
+  /**
+   * Hashes all the data from a reader, reading it in chunks. Characters
+   * are hashed as UTF-8 bytes.
+   */
+  private BinaryData hash(final Reader rdr)
+    throws IOException
+  {
+    final MessageDigest digest = newMessageDigest();
+    final OutputStream discard = new OutputStream()
+    {
+      @Override
+      public void write(final int b)
+      {
+        // Discard data, which has already been hashed
+      }
+    };
+    try (final Writer writer = new OutputStreamWriter(new DigestOutputStream(discard,
+                                                                             digest),
+                                                      UTF_8);)
+    {
+      final char[] buffer = new char[8192];
+      int length;
+      while ((length = rdr.read(buffer)) != -1)
+      {
+        writer.write(buffer, 0, length);
+      }
     }
-    else if (showLobs)
+    return hashData(digest);
+  }
+
+  private BinaryData hashData(final MessageDigest digest)
+  {
+    final StringBuilder hash = new StringBuilder("SHA-256:");
+    for (final byte b: digest.digest())
+    {
+      hash.append(String.format("%02x", b));
+    }
+    return new BinaryData(hash.toString());
+  }
+
+  private MessageDigest newMessageDigest()
+  {
+    try
+    {
+      return MessageDigest.getInstance("SHA-256");
+    }
+    catch (final NoSuchAlgorithmException e)
+    {
+      // SHA-256 is available on every Java platform
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Opens a reader on CLOB data, either as a character stream, or as an
+   * ASCII stream.
+   *
+   * @return Reader, or null if the CLOB cannot be read as a stream
+   */
+  private Reader openClobReader(final Clob clob)
+    throws SQLException
+  {
+    Reader rdr;
+    try
+    {
+      rdr = clob.getCharacterStream();
+    }
+    catch (final SQLFeatureNotSupportedException e)
+    {
+      LOGGER.log(Level.FINEST,
+                 "Could not read CLOB data, as character stream",
+                 e);
+      rdr = null;
+    }
+    if (rdr == null)
     {
-      InputStream in = null;
-      BinaryData lobData;
       try
       {
-        try
-        {
-          in = blob.getBinaryStream();
-        }
-        catch (final SQLFeatureNotSupportedException e)
-        {
-          LOGGER.log(Level.FINEST, "Could not read BLOB data", e);
-          in = null;
-        }
-
-        if (in != null)
-        {
-          lobData = new BinaryData(readFully(in));
-        }
-        else
-        {
-          lobData = new BinaryData();
-        }
+        rdr = new InputStreamReader(clob.getAsciiStream());
       }
-      catch (final SQLException e)
+      catch (final SQLFeatureNotSupportedException e)
       {
-        LOGGER.log(Level.WARNING, "Could not read BLOB data", e);
-        lobData = new BinaryData();
+        LOGGER.log(Level.FINEST, "Could not read CLOB data, as ASCII stream", e);
+        rdr = null;
       }
-      return lobData;
+    }
+    return rdr;
+  }
+
+  private InputStream openBlobStream(final Blob blob)
+    throws SQLException
+  {
+    try
+    {
+      return blob.getBinaryStream();
+    }
+    catch (final SQLFeatureNotSupportedException e)
+    {
+      LOGGER.log(Level.FINEST, "Could not read BLOB data", e);
+      return null;
+    }
+  }
+
+  private BinaryData preview(final String data, final boolean isTruncated)
+  {
+    if (isTruncated)
+    {
+      return new BinaryData(data + "...");
     }
     else
     {
-      return new BinaryData();
+      return new BinaryData(data);
     }
   }
 
-  private BinaryData readClob(final Clob clob)
+  private BinaryData readBlob(final Blob blob)
   {
-    if (clob == null)
+    if (blob == null)
     {
       return null;
     }
-    else if (showLobs)
+
+    try
     {
-      Reader rdr = null;
-      BinaryData lobData;
-      try
+      switch (lobPolicy)
       {
-        try
-        {
-          rdr = clob.getCharacterStream();
-        }
-        catch (final SQLFeatureNotSupportedException e)
-        {
-          LOGGER.log(Level.FINEST,
-                     "Could not read CLOB data, as character stream",
-                     e);
-          rdr = null;
-        }
-        if (rdr == null)
-        {
-          try
-          {
-            rdr = new InputStreamReader(clob.getAsciiStream());
-          }
-          catch (final SQLFeatureNotSupportedException e)
+        case full:
+          return readBlobFully(blob);
+        case preview:
+          final long length = blob.length();
+          final byte[] bytes = blob
+            .getBytes(1, (int) Math.min(length, lobPreviewLength));
+          return preview(new String(bytes, UTF_8), length > bytes.length);
+        case hash:
+          try (final InputStream in = openBlobStream(blob);)
           {
-            LOGGER.log(Level.FINEST,
-                       "Could not read CLOB data, as ASCII stream",
-                       e);
-            rdr = null;
+            return in == null? new BinaryData(): hash(in);
           }
-        }
+        case stream:
+          return new StreamingBinaryData(() -> {
+            try
+            {
+              return new InputStreamReader(blob.getBinaryStream(), UTF_8);
+            }
+            catch (final SQLException e)
+            {
+              throw new IOException("Could not read BLOB data", e);
+            }
+          });
+        default:
+          return new BinaryData();
+      }
+    }
+    catch (final SQLException | IOException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not read BLOB data", e);
+      return new BinaryData();
+    }
+  }
+
+  private BinaryData readBlobFully(final Blob blob)
+    throws SQLException
+  {
+    final InputStream in = openBlobStream(blob);
+    if (in != null)
+    {
+      return new BinaryData(readFully(in));
+    }
+    else
+    {
+      return new BinaryData();
+    }
+  }
+
+  private BinaryData readClob(final Clob clob)
+  {
+    if (clob == null)
+    {
+      return null;
+    }
 
-        if (rdr != null)
-        {
-          String lobDataString = readFully(rdr);
-          if (lobDataString.isEmpty())
+    try
+    {
+      switch (lobPolicy)
+      {
+        case full:
+          return readClobFully(clob);
+        case preview:
+          final long length = clob.length();
+          final String data = clob
+            .getSubString(1, (int) Math.min(length, lobPreviewLength));
+          return preview(data, length > data.length());
+        case hash:
+          try (final Reader rdr = openClobReader(clob);)
           {
-            // Attempt yet another read
-            final long clobLength = clob.length();
-            lobDataString = clob.getSubString(1, (int) clobLength);
+            return rdr == null? new BinaryData(): hash(rdr);
           }
-          lobData = new BinaryData(lobDataString);
-        }
-        else
-        {
-          lobData = new BinaryData();
-        }
+        case stream:
+          return new StreamingBinaryData(() -> {
+            try
+            {
+              final Reader rdr = openClobReader(clob);
+              if (rdr == null)
+              {
+                throw new IOException("Could not read CLOB data");
+              }
+              return rdr;
+            }
+            catch (final SQLException e)
+            {
+              throw new IOException("Could not read CLOB data", e);
+            }
+          });
+        default:
+          return new BinaryData();
       }
-      catch (final SQLException e)
+    }
+    catch (final SQLException | IOException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not read CLOB data", e);
+      return new BinaryData();
+    }
+  }
+
+  private BinaryData readClobFully(final Clob clob)
+    throws SQLException
+  {
+    final Reader rdr = openClobReader(clob);
+    if (rdr != null)
+    {
+      String lobDataString = readFully(rdr);
+      if (lobDataString.isEmpty())
       {
-        LOGGER.log(Level.WARNING, "Could not read CLOB data", e);
-        lobData = new BinaryData();
+        // Attempt yet another read
+        final long clobLength = clob.length();
+        lobDataString = clob.getSubString(1, (int) clobLength);
       }
-      return lobData;
+      return new BinaryData(lobDataString);
     }
     else
     {
@@ -302,7 +475,8 @@ final class DataResultSet
 
   /**
    * Reads data from an input stream into a string. Default system
-   * encoding is assumed.
+   * encoding is assumed. Streams can only be read before the next
+   * column is read, so they are read fully when LOB data is streamed.
    *
    * @param columnData
    *        Column data object returned by JDBC
@@ -314,14 +488,38 @@ final class DataResultSet
     {
       return null;
     }
-    else if (showLobs)
+
+    final BufferedInputStream in = new BufferedInputStream(stream);
+    try
     {
-      final BufferedInputStream in = new BufferedInputStream(stream);
-      final BinaryData lobData = new BinaryData(readFully(in));
-      return lobData;
+      switch (lobPolicy)
+      {
+        case full:
+        case stream:
+          return new BinaryData(readFully(in));
+        case preview:
+          final byte[] bytes = new byte[lobPreviewLength];
+          int length = 0;
+          int read = 0;
+          while (length < bytes.length && read != -1)
+          {
+            read = in.read(bytes, length, bytes.length - length);
+            if (read > 0)
+            {
+              length = length + read;
+            }
+          }
+          return preview(new String(bytes, 0, length, UTF_8),
+                         read != -1 && in.read() != -1);
+        case hash:
+          return hash(in);
+        default:
+          return new BinaryData();
+      }
     }
-    else
+    catch (final IOException e)
     {
+      LOGGER.log(Level.WARNING, "Could not read LOB data", e);
       return new BinaryData();
     }
   }
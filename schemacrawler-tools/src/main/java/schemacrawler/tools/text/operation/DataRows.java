@@ -0,0 +1,57 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.operation;
+
+
+import java.sql.SQLException;
+
+/**
+ * Rows of data, read one row at a time.
+ *
+ * @author Sualeh Fatehi
+ */
+interface DataRows
+{
+
+  String[] getColumnNames();
+
+  boolean next()
+    throws SQLException;
+
+  /**
+   * Column data for the current row. The returned array may be reused
+   * for the next row, so it should not be held on to.
+   *
+   * @return Column data for the current row
+   * @throws SQLException
+   *         On an exception reading the row
+   */
+  Object[] row()
+    throws SQLException;
+
+}
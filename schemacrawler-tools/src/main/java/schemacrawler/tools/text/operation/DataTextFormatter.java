@@ -33,7 +33,6 @@ import static schemacrawler.tools.analysis.counts.CountsUtility.getRowCountMessa
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.List;
 
 import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
@@ -41,7 +40,6 @@ import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.text.base.BaseTabularFormatter;
 import schemacrawler.tools.text.utility.TextFormattingHelper.DocumentHeaderType;
 import schemacrawler.tools.text.utility.html.Alignment;
-import schemacrawler.tools.traversal.DataTraversalHandler;
 import schemacrawler.utility.Query;
 import sf.util.Color;
 
@@ -52,7 +50,7 @@ import sf.util.Color;
  */
 final class DataTextFormatter
   extends BaseTabularFormatter<OperationOptions>
-  implements DataTraversalHandler
+  implements BufferedDataTraversalHandler
 {
 
   private int dataBlockCount;
@@ -118,12 +116,27 @@ final class DataTextFormatter
     handleData(title, rows);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void handleData(final Table table, final DataRows rows)
+    throws SchemaCrawlerException
+  {
+    handleData(getTableName(table), rows);
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public void handleData(final Table table, final ResultSet rows)
     throws SchemaCrawlerException
+  {
+    handleData(getTableName(table), rows);
+  }
+
+  private String getTableName(final Table table)
   {
     final String tableName;
     if (table != null)
@@ -141,8 +154,7 @@ final class DataTextFormatter
     {
       tableName = "";
     }
-
-    handleData(tableName, rows);
+    return tableName;
   }
 
   private String getMessage(final double aggregate)
@@ -169,7 +181,7 @@ final class DataTextFormatter
    *        Results
    */
   private void handleAggregateOperationForTable(final String title,
-                                                final ResultSet results)
+                                                final DataRows results)
     throws SchemaCrawlerException
   {
     long aggregate = 0;
@@ -177,7 +189,11 @@ final class DataTextFormatter
     {
       if (results.next())
       {
-        aggregate = results.getLong(1);
+        final Object value = results.row()[0];
+        if (value instanceof Number)
+        {
+          aggregate = ((Number) value).longValue();
+        }
       }
     }
     catch (final SQLException e)
@@ -197,6 +213,17 @@ final class DataTextFormatter
       return;
     }
 
+    handleData(title, new DataResultSet(rows, options));
+  }
+
+  private void handleData(final String title, final DataRows dataRows)
+    throws SchemaCrawlerException
+  {
+    if (dataRows == null)
+    {
+      return;
+    }
+
     if (dataBlockCount == 0)
     {
       printHeader();
@@ -204,7 +231,7 @@ final class DataTextFormatter
 
     if (operation == Operation.count)
     {
-      handleAggregateOperationForTable(title, rows);
+      handleAggregateOperationForTable(title, dataRows);
     }
     else
     {
@@ -214,9 +241,6 @@ final class DataTextFormatter
       formattingHelper.writeObjectNameRow("", title, "", Color.white);
       try
       {
-        final DataResultSet dataRows = new DataResultSet(rows,
-                                                         options.isShowLobs());
-
         formattingHelper.writeRowHeader(dataRows.getColumnNames());
 
         iterateRows(dataRows);
@@ -231,15 +255,12 @@ final class DataTextFormatter
     dataBlockCount++;
   }
 
-  private void iterateRows(final DataResultSet dataRows)
+  private void iterateRows(final DataRows dataRows)
     throws SQLException
   {
     while (dataRows.next())
     {
-      final List<Object> currentRow = dataRows.row();
-      final Object[] columnData = currentRow
-        .toArray(new Object[currentRow.size()]);
-      formattingHelper.writeRow(columnData);
+      formattingHelper.writeRow(dataRows.row());
     }
   }
 
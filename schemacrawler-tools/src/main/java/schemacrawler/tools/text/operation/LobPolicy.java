@@ -0,0 +1,62 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.operation;
+
+
+/**
+ * How the data in large object columns, such as CLOBs and BLOBs, is
+ * read and shown.
+ *
+ * @author Sualeh Fatehi
+ */
+public enum LobPolicy
+{
+
+ /**
+  * Do not read LOB data, and show a placeholder instead.
+  */
+ hide,
+ /**
+  * Read LOB data fully into memory, and show all of it.
+  */
+ full,
+ /**
+  * Read and show only the start of LOB data, up to the preview length.
+  */
+ preview,
+ /**
+  * Read LOB data in chunks, and show only a SHA-256 hash of it.
+  */
+ hash,
+ /**
+  * Copy LOB data to the output in chunks, as it is written. Data is
+  * read on one connection, one table at a time.
+  */
+ stream;
+
+}
@@ -34,11 +34,18 @@ import static schemacrawler.utility.QueryUtility.executeAgainstTable;
 import static sf.util.DatabaseUtility.createStatement;
 import static sf.util.DatabaseUtility.executeSql;
 
+import java.sql.Connection;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 
 import schemacrawler.schema.Catalog;
@@ -46,7 +53,6 @@ import schemacrawler.schema.Table;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.executable.BaseSchemaCrawlerCommand;
 import schemacrawler.tools.options.TextOutputFormat;
-import schemacrawler.tools.traversal.DataTraversalHandler;
 import schemacrawler.utility.Identifiers;
 import schemacrawler.utility.NamedObjectSort;
 import schemacrawler.utility.Query;
@@ -64,6 +70,12 @@ public final class OperationCommand
   private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
     .getLogger(OperationCommand.class.getName());
 
+  /**
+   * Number of rows of a table that are held in memory, when tables are
+   * read in parallel. Any more rows are written to a temporary file.
+   */
+  private static final int MAX_ROWS_IN_MEMORY = 10_000;
+
   private OperationOptions operationOptions;
 
   public OperationCommand(final String command)
@@ -94,7 +106,7 @@ public final class OperationCommand
       return;
     }
 
-    final DataTraversalHandler handler = getDataTraversalHandler();
+    final BufferedDataTraversalHandler handler = getDataTraversalHandler();
     final Query query = getQuery();
 
     try (final Statement statement = createStatement(connection);)
@@ -120,18 +132,26 @@ public final class OperationCommand
         final Identifiers identifiers = Identifiers.identifiers()
           .withIdentifierQuoteString(identifierQuoteString).build();
 
-        for (final Table table: getSortedTables(catalog))
+        final List<? extends Table> tables = getSortedTables(catalog);
+        if (isParallel(tables))
         {
-          final boolean isAlphabeticalSortForTableColumns = operationOptions
-            .isAlphabeticalSortForTableColumns();
-          try (
-              final ResultSet results = executeAgainstTable(query,
-                                                            statement,
-                                                            table,
-                                                            isAlphabeticalSortForTableColumns,
-                                                            identifiers);)
+          executeInParallel(handler, query, tables, identifiers);
+        }
+        else
+        {
+          for (final Table table: tables)
           {
-            handler.handleData(table, results);
+            final boolean isAlphabeticalSortForTableColumns = operationOptions
+              .isAlphabeticalSortForTableColumns();
+            try (
+                final ResultSet results = executeAgainstTable(query,
+                                                              statement,
+                                                              table,
+                                                              isAlphabeticalSortForTableColumns,
+                                                              identifiers);)
+            {
+              handler.handleData(table, results);
+            }
           }
         }
       }
@@ -180,12 +200,104 @@ public final class OperationCommand
     return true;
   }
 
-  private DataTraversalHandler getDataTraversalHandler()
+  /**
+   * Reads data for tables on worker threads, each with its own
+   * connection, and hands the data to the formatter in table order. Only
+   * a limited number of tables are read ahead of the table that is being
+   * formatted, and large tables are buffered in temporary files, so that
+   * memory use stays bounded.
+   */
+  private void executeInParallel(final BufferedDataTraversalHandler handler,
+                                 final Query query,
+                                 final List<? extends Table> tables,
+                                 final Identifiers identifiers)
+    throws Exception
+  {
+    final int parallelism = Math.min(operationOptions.getParallelism(),
+                                     tables.size());
+    LOGGER.log(Level.INFO,
+               new StringFormat("Reading data for %d tables, %d at a time",
+                                tables.size(),
+                                parallelism));
+
+    final List<CompletableFuture<BufferedDataRows>> results = new ArrayList<>();
+    for (int i = 0; i < tables.size(); i++)
+    {
+      results.add(new CompletableFuture<>());
+    }
+    // Tables are claimed in order, and each claimed table holds a
+    // permit until it is formatted, which limits read-ahead
+    final Semaphore readAhead = new Semaphore(2 * parallelism);
+    final AtomicInteger nextTable = new AtomicInteger();
+
+    final AtomicInteger threadCount = new AtomicInteger();
+    final ExecutorService executorService = Executors
+      .newFixedThreadPool(parallelism, runnable -> {
+        final Thread thread = new Thread(runnable,
+                                         "schemacrawler-operation-"
+                                                   + threadCount
+                                                     .incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+      });
+    try
+    {
+      for (int i = 0; i < parallelism; i++)
+      {
+        executorService.execute(() -> readTables(query,
+                                                 tables,
+                                                 identifiers,
+                                                 results,
+                                                 readAhead,
+                                                 nextTable));
+      }
+
+      for (int i = 0; i < tables.size(); i++)
+      {
+        try (final BufferedDataRows rows = results.get(i).get();)
+        {
+          handler.handleData(tables.get(i), rows);
+        }
+        catch (final ExecutionException e)
+        {
+          final Throwable cause = e.getCause();
+          if (cause instanceof Exception)
+          {
+            throw (Exception) cause;
+          }
+          else
+          {
+            throw new SchemaCrawlerException("Could not read data", cause);
+          }
+        }
+        readAhead.release();
+      }
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerException("Interrupted while reading data", e);
+    }
+    finally
+    {
+      executorService.shutdownNow();
+      // Clean up any data that was read ahead, but not formatted
+      for (final CompletableFuture<BufferedDataRows> result: results)
+      {
+        if (!result.cancel(false) && !result.isCompletedExceptionally())
+        {
+          result.join().close();
+        }
+      }
+    }
+  }
+
+  private BufferedDataTraversalHandler getDataTraversalHandler()
     throws SchemaCrawlerException
   {
     final Operation operation = getOperation();
 
-    final DataTraversalHandler formatter;
+    final BufferedDataTraversalHandler formatter;
     final TextOutputFormat outputFormat = TextOutputFormat
       .fromFormat(outputOptions.getOutputFormatValue());
     final String identifierQuoteString = identifiers.getIdentifierQuoteString();
@@ -257,6 +369,17 @@ public final class OperationCommand
     return tables;
   }
 
+  /**
+   * Streamed LOB data can only be read while its result set is open, so
+   * it cannot be read ahead of formatting.
+   */
+  private boolean isParallel(final List<? extends Table> tables)
+  {
+    return connectionSupplier != null
+           && operationOptions.getParallelism() > 1 && tables.size() > 1
+           && operationOptions.getLobPolicy() != LobPolicy.stream;
+  }
+
   private boolean isOutputFormatSupported()
   {
     final String outputFormatValue = outputOptions.getOutputFormatValue();
@@ -265,6 +388,96 @@ public final class OperationCommand
     return isOutputFormatSupported;
   }
 
+  /**
+   * Worker loop, which claims tables in order, and reads each table on
+   * a connection of its own.
+   */
+  private void readTables(final Query query,
+                          final List<? extends Table> tables,
+                          final Identifiers identifiers,
+                          final List<CompletableFuture<BufferedDataRows>> results,
+                          final Semaphore readAhead,
+                          final AtomicInteger nextTable)
+  {
+    final boolean isAlphabeticalSortForTableColumns = operationOptions
+      .isAlphabeticalSortForTableColumns();
+
+    Connection workerConnection = null;
+    Statement workerStatement = null;
+    try
+    {
+      while (true)
+      {
+        try
+        {
+          readAhead.acquire();
+        }
+        catch (final InterruptedException e)
+        {
+          return;
+        }
+        final int index = nextTable.getAndIncrement();
+        if (index >= tables.size())
+        {
+          readAhead.release();
+          return;
+        }
+
+        final Table table = tables.get(index);
+        try
+        {
+          if (workerStatement == null)
+          {
+            workerConnection = connectionSupplier.get();
+            workerStatement = createStatement(workerConnection);
+          }
+          try (
+              final ResultSet tableResults = executeAgainstTable(query,
+                                                                 workerStatement,
+                                                                 table,
+                                                                 isAlphabeticalSortForTableColumns,
+                                                                 identifiers);)
+          {
+            final BufferedDataRows rows = BufferedDataRows
+              .buffer(new DataResultSet(tableResults, operationOptions),
+                      MAX_ROWS_IN_MEMORY);
+            if (!results.get(index).complete(rows))
+            {
+              // Formatting was abandoned
+              rows.close();
+              return;
+            }
+          }
+        }
+        catch (final Exception e)
+        {
+          // Tables are claimed in order, so the formatter stops at this
+          // table, before it waits on any table that is not claimed
+          results.get(index).completeExceptionally(e);
+          return;
+        }
+      }
+    }
+    finally
+    {
+      try
+      {
+        if (workerStatement != null)
+        {
+          workerStatement.close();
+        }
+        if (workerConnection != null)
+        {
+          workerConnection.close();
+        }
+      }
+      catch (final SQLException e)
+      {
+        LOGGER.log(Level.WARNING, "Could not close connection", e);
+      }
+    }
+  }
+
   private void loadOperationOptions()
   {
     if (operationOptions == null)
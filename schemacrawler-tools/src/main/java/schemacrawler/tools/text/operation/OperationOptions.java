@@ -40,12 +40,51 @@ public final class OperationOptions
   extends BaseTextOptions
 {
 
-  private final boolean isShowLobs;
+  private final LobPolicy lobPolicy;
+  private final int lobPreviewLength;
+  private final int parallelism;
 
   protected OperationOptions(final OperationOptionsBuilder builder)
   {
     super(builder);
-    isShowLobs = builder.isShowLobs;
+    lobPolicy = builder.lobPolicy;
+    lobPreviewLength = builder.lobPreviewLength;
+    parallelism = builder.parallelism;
+  }
+
+  /**
+   * How LOB data is read and shown.
+   *
+   * @return How LOB data is read and shown
+   */
+  public LobPolicy getLobPolicy()
+  {
+    return lobPolicy;
+  }
+
+  /**
+   * Maximum number of characters, or bytes, of LOB data that are read
+   * to show a preview.
+   *
+   * @return Maximum length of LOB data previews
+   */
+  public int getLobPreviewLength()
+  {
+    return lobPreviewLength;
+  }
+
+  /**
+   * Number of tables to run an operation against at the same time,
+   * each on its own connection. Operations are run one table at a time
+   * if this is 1, or if no source of additional connections is
+   * available.
+   *
+   * @return Number of tables to run an operation against at the same
+   *         time
+   */
+  public int getParallelism()
+  {
+    return parallelism;
   }
 
   /**
@@ -55,6 +94,6 @@ public final class OperationOptions
    */
   public boolean isShowLobs()
   {
-    return isShowLobs;
+    return lobPolicy != LobPolicy.hide;
   }
 }
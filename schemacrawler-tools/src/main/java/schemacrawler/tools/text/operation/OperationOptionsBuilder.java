@@ -29,6 +29,8 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.text.operation;
 
 
+import static java.util.Objects.requireNonNull;
+
 import schemacrawler.schemacrawler.Config;
 import schemacrawler.tools.text.base.BaseTextOptionsBuilder;
 
@@ -42,6 +44,12 @@ public final class OperationOptionsBuilder
 {
   private static final String SHOW_LOBS = SCHEMACRAWLER_FORMAT_PREFIX
                                           + "data.show_lobs";
+  private static final String LOB_POLICY = SCHEMACRAWLER_FORMAT_PREFIX
+                                           + "data.lobs";
+  private static final String LOB_PREVIEW_LENGTH = SCHEMACRAWLER_FORMAT_PREFIX
+                                                   + "data.lobs.preview_length";
+  private static final String PARALLELISM = SCHEMACRAWLER_FORMAT_PREFIX
+                                            + "data.parallelism";
 
   public static OperationOptionsBuilder builder()
   {
@@ -63,11 +71,15 @@ public final class OperationOptionsBuilder
     return new OperationOptionsBuilder().fromConfig(config).toOptions();
   }
 
-  protected boolean isShowLobs;
+  protected LobPolicy lobPolicy;
+  protected int lobPreviewLength;
+  protected int parallelism;
 
   private OperationOptionsBuilder()
   {
-    // Set default values, if any
+    lobPolicy = LobPolicy.hide;
+    lobPreviewLength = 4096;
+    parallelism = 1;
   }
 
   @Override
@@ -80,7 +92,11 @@ public final class OperationOptionsBuilder
     super.fromConfig(map);
 
     final Config config = new Config(map);
-    isShowLobs = config.getBooleanValue(SHOW_LOBS, false);
+    showLobs(config.getBooleanValue(SHOW_LOBS, false));
+    withLobPolicy(config.getEnumValue(LOB_POLICY, lobPolicy));
+    withLobPreviewLength(config.getIntegerValue(LOB_PREVIEW_LENGTH,
+                                                lobPreviewLength));
+    withParallelism(config.getIntegerValue(PARALLELISM, parallelism));
 
     return this;
   }
@@ -94,7 +110,9 @@ public final class OperationOptionsBuilder
     }
     super.fromOptions(options);
 
-    isShowLobs = options.isShowLobs();
+    lobPolicy = options.getLobPolicy();
+    lobPreviewLength = options.getLobPreviewLength();
+    parallelism = options.getParallelism();
 
     return this;
   }
@@ -105,7 +123,8 @@ public final class OperationOptionsBuilder
   }
 
   /**
-   * Show LOB data, or not.
+   * Show LOB data, or not. LOB data is read fully when it is shown,
+   * unless another LOB policy has been set.
    *
    * @param value
    *        Whether to show LOB data.
@@ -113,7 +132,14 @@ public final class OperationOptionsBuilder
    */
   public OperationOptionsBuilder showLobs(final boolean value)
   {
-    isShowLobs = value;
+    if (!value)
+    {
+      lobPolicy = LobPolicy.hide;
+    }
+    else if (lobPolicy == LobPolicy.hide)
+    {
+      lobPolicy = LobPolicy.full;
+    }
     return this;
   }
 
@@ -121,10 +147,69 @@ public final class OperationOptionsBuilder
   public Config toConfig()
   {
     final Config config = super.toConfig();
-    config.setBooleanValue(SHOW_LOBS, isShowLobs);
+    config.setBooleanValue(SHOW_LOBS, lobPolicy != LobPolicy.hide);
+    config.setEnumValue(LOB_POLICY, lobPolicy);
+    config.setStringValue(LOB_PREVIEW_LENGTH, String.valueOf(lobPreviewLength));
+    config.setStringValue(PARALLELISM, String.valueOf(parallelism));
     return config;
   }
 
+  /**
+   * How LOB data is read and shown.
+   *
+   * @param lobPolicy
+   *        How LOB data is read and shown
+   * @return Builder
+   */
+  public OperationOptionsBuilder withLobPolicy(final LobPolicy lobPolicy)
+  {
+    this.lobPolicy = requireNonNull(lobPolicy, "No LOB policy provided");
+    return this;
+  }
+
+  /**
+   * Maximum number of characters, or bytes, of LOB data that are read
+   * to show a preview. Values less than 1 are treated as 1.
+   *
+   * @param lobPreviewLength
+   *        Maximum length of LOB data previews
+   * @return Builder
+   */
+  public OperationOptionsBuilder withLobPreviewLength(final int lobPreviewLength)
+  {
+    if (lobPreviewLength < 1)
+    {
+      this.lobPreviewLength = 1;
+    }
+    else
+    {
+      this.lobPreviewLength = lobPreviewLength;
+    }
+    return this;
+  }
+
+  /**
+   * Number of tables to run an operation against at the same time,
+   * each on its own connection. Values less than 1 are treated as 1.
+   *
+   * @param parallelism
+   *        Number of tables to run an operation against at the same
+   *        time
+   * @return Builder
+   */
+  public OperationOptionsBuilder withParallelism(final int parallelism)
+  {
+    if (parallelism < 1)
+    {
+      this.parallelism = 1;
+    }
+    else
+    {
+      this.parallelism = parallelism;
+    }
+    return this;
+  }
+
   @Override
   public OperationOptions toOptions()
   {
@@ -50,6 +50,7 @@ public abstract class BaseSchemaTextOptions
   private final boolean isShowOrdinalNumbers;
   private final boolean isShowStandardColumnTypeNames;
   private final boolean isShowRowCounts;
+  private final int parallelism;
 
   protected BaseSchemaTextOptions(final BaseSchemaTextOptionsBuilder<?, ? extends BaseSchemaTextOptions> builder)
   {
@@ -68,6 +69,7 @@ public abstract class BaseSchemaTextOptions
     isShowOrdinalNumbers = builder.isShowOrdinalNumbers;
     isShowStandardColumnTypeNames = builder.isShowStandardColumnTypeNames;
     isShowRowCounts = builder.isShowRowCounts;
+    parallelism = builder.parallelism;
   }
 
   public boolean isAlphabeticalSortForForeignKeys()
@@ -100,7 +102,8 @@ public abstract class BaseSchemaTextOptions
       && isShowWeakAssociations == that.isShowWeakAssociations
       && isShowOrdinalNumbers == that.isShowOrdinalNumbers
       && isShowStandardColumnTypeNames == that.isShowStandardColumnTypeNames
-      && isShowRowCounts == that.isShowRowCounts;
+      && isShowRowCounts == that.isShowRowCounts
+      && parallelism == that.parallelism;
   }
 
   @Override
@@ -118,7 +121,18 @@ public abstract class BaseSchemaTextOptions
                         isShowWeakAssociations,
                         isShowOrdinalNumbers,
                         isShowStandardColumnTypeNames,
-                        isShowRowCounts);
+                        isShowRowCounts,
+                        parallelism);
+  }
+
+  /**
+   * Number of table and routine sections to format at the same time.
+   *
+   * @return Number of sections to format at the same time
+   */
+  public int getParallelism()
+  {
+    return parallelism;
   }
 
   public boolean isAlphabeticalSortForIndexes()
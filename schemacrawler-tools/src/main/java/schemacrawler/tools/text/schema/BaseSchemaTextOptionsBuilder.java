@@ -65,6 +65,9 @@ public abstract class BaseSchemaTextOptionsBuilder<B extends BaseSchemaTextOptio
   private static final String SC_SORT_ALPHABETICALLY_TABLE_FOREIGNKEYS =
     SCHEMACRAWLER_FORMAT_PREFIX + "sort_alphabetically.table_foreignkeys";
 
+  private static final String PARALLELISM =
+    SCHEMACRAWLER_FORMAT_PREFIX + "parallelism";
+
   protected boolean isAlphabeticalSortForForeignKeys;
   protected boolean isAlphabeticalSortForIndexes;
   protected boolean isHideForeignKeyNames;
@@ -78,10 +81,11 @@ public abstract class BaseSchemaTextOptionsBuilder<B extends BaseSchemaTextOptio
   protected boolean isShowOrdinalNumbers;
   protected boolean isShowStandardColumnTypeNames;
   protected boolean isShowRowCounts;
+  protected int parallelism;
 
   public BaseSchemaTextOptionsBuilder()
   {
-
+    parallelism = 1;
   }
 
   @Override
@@ -115,6 +119,8 @@ public abstract class BaseSchemaTextOptionsBuilder<B extends BaseSchemaTextOptio
     isAlphabeticalSortForIndexes = config
       .getBooleanValue(SC_SORT_ALPHABETICALLY_TABLE_INDEXES);
 
+    withParallelism(config.getIntegerValue(PARALLELISM, parallelism));
+
     return (B) this;
   }
 
@@ -144,6 +150,8 @@ public abstract class BaseSchemaTextOptionsBuilder<B extends BaseSchemaTextOptio
       .isAlphabeticalSortForForeignKeys();
     isAlphabeticalSortForIndexes = options.isAlphabeticalSortForIndexes();
 
+    parallelism = options.getParallelism();
+
     return (B) this;
   }
 
@@ -336,6 +344,8 @@ public abstract class BaseSchemaTextOptionsBuilder<B extends BaseSchemaTextOptio
     config.setBooleanValue(SC_SORT_ALPHABETICALLY_TABLE_INDEXES,
                            isAlphabeticalSortForIndexes);
 
+    config.setStringValue(PARALLELISM, String.valueOf(parallelism));
+
     return config;
   }
 
@@ -357,4 +367,26 @@ public abstract class BaseSchemaTextOptionsBuilder<B extends BaseSchemaTextOptio
     return (B) this;
   }
 
+  /**
+   * Number of table and routine sections to format at the same time.
+   * Sections are always written to the output in order. Values less
+   * than 1 are treated as 1, which formats one section at a time.
+   *
+   * @param parallelism
+   *        Number of sections to format at the same time
+   * @return Builder
+   */
+  public final B withParallelism(final int parallelism)
+  {
+    if (parallelism < 1)
+    {
+      this.parallelism = 1;
+    }
+    else
+    {
+      this.parallelism = parallelism;
+    }
+    return (B) this;
+  }
+
 }
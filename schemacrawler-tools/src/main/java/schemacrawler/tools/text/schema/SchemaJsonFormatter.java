@@ -127,7 +127,6 @@ final class SchemaJsonFormatter
       try
       {
         final JSONObject jsonColumnDataType = new JSONObject();
-        jsonRoot.accumulate("columnDataypes", jsonColumnDataType);
 
         final String databaseSpecificTypeName;
         if (options.isShowUnqualifiedNames())
@@ -152,6 +151,8 @@ final class SchemaJsonFormatter
                                columnDataType.isAutoIncrementable());
         jsonColumnDataType.put("searchable",
                                columnDataType.getSearchable().toString());
+
+        jsonWriter.accumulate("columnDataypes", jsonColumnDataType);
       }
       catch (final JSONException e)
       {
@@ -175,7 +176,6 @@ final class SchemaJsonFormatter
     try
     {
       final JSONObject jsonRoutine = new JSONObject();
-      jsonRoot.accumulate("routines", jsonRoutine);
 
       jsonRoutine.put("name", routine.getName());
       if (!options.isShowUnqualifiedNames())
@@ -209,6 +209,8 @@ final class SchemaJsonFormatter
           }
         }
       }
+
+      jsonWriter.accumulate("routines", jsonRoutine);
     }
     catch (final JSONException e)
     {
@@ -232,7 +234,6 @@ final class SchemaJsonFormatter
     try
     {
       final JSONObject jsonSequence = new JSONObject();
-      jsonRoot.accumulate("sequences", jsonSequence);
 
       jsonSequence.put("name", sequence.getName());
       if (!options.isShowUnqualifiedNames())
@@ -248,6 +249,8 @@ final class SchemaJsonFormatter
         jsonSequence.put("maximumValue", sequence.getMaximumValue());
         jsonSequence.put("cycle", sequence.isCycle());
       }
+
+      jsonWriter.accumulate("sequences", jsonSequence);
     }
     catch (final JSONException e)
     {
@@ -271,7 +274,6 @@ final class SchemaJsonFormatter
     try
     {
       final JSONObject jsonSynonym = new JSONObject();
-      jsonRoot.accumulate("synonyms", jsonSynonym);
 
       jsonSynonym.put("name", synonym.getName());
       if (!options.isShowUnqualifiedNames())
@@ -293,6 +295,8 @@ final class SchemaJsonFormatter
         }
         jsonSynonym.put("referencedObject", referencedObjectName);
       }
+
+      jsonWriter.accumulate("synonyms", jsonSynonym);
     }
     catch (final JSONException e)
     {
@@ -311,8 +315,6 @@ final class SchemaJsonFormatter
 
     try
     {
-      jsonRoot.accumulate("tables", jsonTable);
-
       jsonTable.put("name", table.getName());
       if (!options.isShowUnqualifiedNames())
       {
@@ -430,6 +432,8 @@ final class SchemaJsonFormatter
           jsonTable.put("additionalInformation", jsonAdditionalInformation);
         }
       }
+
+      jsonWriter.accumulate("tables", jsonTable);
     }
     catch (final JSONException e)
     {
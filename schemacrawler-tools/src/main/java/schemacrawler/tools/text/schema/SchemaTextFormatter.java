@@ -74,7 +74,7 @@ import schemacrawler.tools.analysis.associations.WeakAssociationsUtility;
 import schemacrawler.tools.options.OutputOptions;
 import schemacrawler.tools.text.base.BaseTabularFormatter;
 import schemacrawler.tools.text.utility.TextFormattingHelper.DocumentHeaderType;
-import schemacrawler.tools.traversal.SchemaTraversalHandler;
+import schemacrawler.tools.traversal.BufferedSchemaTraversalHandler;
 import schemacrawler.utility.MetaDataUtility;
 import schemacrawler.utility.MetaDataUtility.ForeignKeyCardinality;
 import schemacrawler.utility.NamedObjectSort;
@@ -86,7 +86,7 @@ import schemacrawler.utility.NamedObjectSort;
  */
 final class SchemaTextFormatter
   extends BaseTabularFormatter<SchemaTextOptions>
-  implements SchemaTraversalHandler
+  implements BufferedSchemaTraversalHandler
 {
 
   private static final String SPACE = " ";
@@ -132,6 +132,35 @@ final class SchemaTextFormatter
     isBrief = schemaTextDetailType == SchemaTextDetailType.brief;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String render(final Routine routine)
+    throws SchemaCrawlerException
+  {
+    return buffer(() -> handle(routine));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String render(final Table table)
+    throws SchemaCrawlerException
+  {
+    return buffer(() -> handle(table));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void write(final String section)
+  {
+    formattingHelper.append(section);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -35,6 +35,7 @@ import schemacrawler.schema.Catalog;
 import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.analysis.associations.CatalogWithAssociations;
 import schemacrawler.tools.analysis.counts.CatalogWithCounts;
+import schemacrawler.tools.analysis.counts.CountsOptionsBuilder;
 import schemacrawler.tools.executable.BaseSchemaCrawlerCommand;
 import schemacrawler.tools.options.TextOutputFormat;
 import schemacrawler.tools.traversal.SchemaTraversalHandler;
@@ -81,7 +82,11 @@ public final class SchemaTextRenderer
     {
       aCatalog = new CatalogWithCounts(aCatalog,
                                        connection,
-                                       schemaCrawlerOptions);
+                                       connectionSupplier,
+                                       informationSchemaViews,
+                                       schemaCrawlerOptions,
+                                       CountsOptionsBuilder
+                                         .newCountsOptions(additionalConfiguration));
     }
 
     final SchemaTraversalHandler formatter = getSchemaTraversalHandler();
@@ -93,6 +98,7 @@ public final class SchemaTextRenderer
       .getNamedObjectSort(schemaTextOptions.isAlphabeticalSortForTables()));
     traverser.setRoutinesComparator(NamedObjectSort
       .getNamedObjectSort(schemaTextOptions.isAlphabeticalSortForRoutines()));
+    traverser.setParallelism(schemaTextOptions.getParallelism());
 
     traverser.traverse();
 
@@ -29,9 +29,13 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.text.utility;
 
 
+import static schemacrawler.tools.text.utility.html.Entities.escapeForXMLElement;
 import static sf.util.Utility.isBlank;
 
+import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.Reader;
+import java.util.logging.Level;
 
 import schemacrawler.tools.options.TextOutputFormat;
 import schemacrawler.tools.text.utility.html.Alignment;
@@ -40,6 +44,7 @@ import schemacrawler.tools.text.utility.html.TableCell;
 import schemacrawler.tools.text.utility.html.TableHeaderCell;
 import schemacrawler.tools.text.utility.html.TableRow;
 import sf.util.Color;
+import sf.util.SchemaCrawlerLogger;
 
 /**
  * Methods to format entire rows of output as HTML.
@@ -50,6 +55,9 @@ abstract class BaseTextFormattingHelper
   implements TextFormattingHelper
 {
 
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(BaseTextFormattingHelper.class.getName());
+
   /**
    * System specific line separator character.
    */
@@ -122,7 +130,8 @@ abstract class BaseTextFormattingHelper
                           Color.white,
                           2,
                           outputFormat));
-    out.println(row.toString());
+    row.print(out);
+    out.println();
   }
 
   /**
@@ -194,7 +203,8 @@ abstract class BaseTextFormattingHelper
                           Color.white,
                           1,
                           outputFormat));
-    out.println(row.toString());
+    row.print(out);
+    out.println();
   }
 
   /**
@@ -215,7 +225,8 @@ abstract class BaseTextFormattingHelper
                                Color.white,
                                3,
                                outputFormat));
-    out.println(tableRow.toString());
+    tableRow.print(out);
+    out.println();
   }
 
   /**
@@ -263,7 +274,8 @@ abstract class BaseTextFormattingHelper
                           1,
                           outputFormat));
 
-    out.println(row.toString());
+    row.print(out);
+    out.println();
   }
 
   /**
@@ -306,7 +318,8 @@ abstract class BaseTextFormattingHelper
                           1,
                           outputFormat));
 
-    out.println(row.toString());
+    row.print(out);
+    out.println();
   }
 
   /**
@@ -323,28 +336,23 @@ abstract class BaseTextFormattingHelper
     {
       outputFormat = TextOutputFormat.tsv;
     }
-    final TableRow row = new TableRow(outputFormat);
     for (final Object element: columnData)
     {
-      if (element == null)
-      {
-        row.add(newTableCell(null, "data_null", outputFormat));
-      }
-      else if (element instanceof BinaryData)
+      if (element instanceof StreamingBinaryData)
       {
-        row.add(newTableCell(element.toString(), "data_binary", outputFormat));
-      }
-      else if (element instanceof Number)
-      {
-        row.add(newTableCell(element.toString(), "data_number", outputFormat));
-      }
-      else
-      {
-        row.add(newTableCell(element.toString(), "", outputFormat));
+        writeStreamingRow(outputFormat, columnData);
+        return;
       }
     }
 
-    out.println(row.toString());
+    final TableRow row = new TableRow(outputFormat);
+    for (final Object element: columnData)
+    {
+      row.add(newDataCell(element, outputFormat));
+    }
+
+    row.print(out);
+    out.println();
   }
 
   /**
@@ -376,7 +384,8 @@ abstract class BaseTextFormattingHelper
       row.add(headerCell);
     }
 
-    out.println(row.toString());
+    row.print(out);
+    out.println();
   }
 
   @Override
@@ -392,7 +401,58 @@ abstract class BaseTextFormattingHelper
                           Color.white,
                           3,
                           outputFormat));
-    out.println(row.toString());
+    row.print(out);
+    out.println();
+  }
+
+  /**
+   * Copies streamed LOB data to the output in chunks, escaping it for
+   * HTML if needed.
+   */
+  private void copyData(final StreamingBinaryData data,
+                        final boolean escapeText)
+  {
+    try (final Reader reader = data.openReader();)
+    {
+      final char[] buffer = new char[8192];
+      int length;
+      while ((length = reader.read(buffer)) != -1)
+      {
+        if (escapeText)
+        {
+          escapeForXMLElement(buffer, 0, length, out);
+        }
+        else
+        {
+          out.write(buffer, 0, length);
+        }
+      }
+    }
+    catch (final IOException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not read LOB data", e);
+    }
+  }
+
+  private TableCell newDataCell(final Object element,
+                                final TextOutputFormat outputFormat)
+  {
+    if (element == null)
+    {
+      return newTableCell(null, "data_null", outputFormat);
+    }
+    else if (element instanceof BinaryData)
+    {
+      return newTableCell(element.toString(), "data_binary", outputFormat);
+    }
+    else if (element instanceof Number)
+    {
+      return newTableCell(element.toString(), "data_number", outputFormat);
+    }
+    else
+    {
+      return newTableCell(element.toString(), "", outputFormat);
+    }
   }
 
   private TableCell newTableCell(final String text,
@@ -410,4 +470,55 @@ abstract class BaseTextFormattingHelper
                          outputFormat);
   }
 
+  /**
+   * Writes a row of data with streamed LOB data, one cell at a time,
+   * with the same layout as {@link TableRow}.
+   */
+  private void writeStreamingRow(final TextOutputFormat outputFormat,
+                                 final Object[] columnData)
+  {
+    final boolean isHtml = outputFormat == TextOutputFormat.html;
+    if (isHtml)
+    {
+      out.println("\t<tr>");
+    }
+    for (int i = 0; i < columnData.length; i++)
+    {
+      final Object element = columnData[i];
+      if (isHtml)
+      {
+        out.print("\t\t");
+      }
+      else if (i > 0)
+      {
+        out.print("\t");
+      }
+      if (element instanceof StreamingBinaryData)
+      {
+        if (isHtml)
+        {
+          out.print("<td class='data_binary'>");
+        }
+        copyData((StreamingBinaryData) element, isHtml);
+        if (isHtml)
+        {
+          out.print("</td>");
+        }
+      }
+      else
+      {
+        newDataCell(element, outputFormat).print(out);
+      }
+      if (isHtml)
+      {
+        out.println();
+      }
+    }
+    if (isHtml)
+    {
+      out.print("\t</tr>");
+    }
+    out.println();
+  }
+
 }
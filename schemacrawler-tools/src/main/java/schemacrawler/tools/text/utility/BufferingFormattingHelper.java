@@ -0,0 +1,282 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.utility;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.function.Function;
+
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+import schemacrawler.tools.text.utility.html.Alignment;
+import sf.util.Color;
+
+/**
+ * Formats rows of output with another formatting helper, but allows
+ * output to be redirected to a buffer on a given thread. This allows
+ * independent sections of output to be formatted at the same time on
+ * several threads, and then written to the output in order.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class BufferingFormattingHelper
+  implements TextFormattingHelper
+{
+
+  /**
+   * Formats output with the formatting helper.
+   */
+  @FunctionalInterface
+  public interface Formatting
+  {
+
+    void format()
+      throws SchemaCrawlerException;
+
+  }
+
+  private final TextFormattingHelper outputHelper;
+  private final Function<PrintWriter, TextFormattingHelper> helperFactory;
+  private final ThreadLocal<TextFormattingHelper> bufferHelper;
+
+  /**
+   * Formats rows of output.
+   *
+   * @param out
+   *        Output to write to
+   * @param helperFactory
+   *        Creates formatting helpers, for the output and for buffers
+   */
+  public BufferingFormattingHelper(final PrintWriter out,
+                                   final Function<PrintWriter, TextFormattingHelper> helperFactory)
+  {
+    this.helperFactory = requireNonNull(helperFactory,
+                                        "No formatting helper factory provided");
+    outputHelper = helperFactory.apply(out);
+    bufferHelper = new ThreadLocal<>();
+  }
+
+  @Override
+  public TextFormattingHelper append(final String text)
+  {
+    helper().append(text);
+    return this;
+  }
+
+  /**
+   * Formats output into a buffer, rather than the output. Only
+   * formatting on the current thread is redirected, so several threads
+   * can buffer output at the same time.
+   *
+   * @param formatting
+   *        Formatting to buffer
+   * @return Buffered output
+   * @throws SchemaCrawlerException
+   *         On an exception from the formatting
+   */
+  public String buffer(final Formatting formatting)
+    throws SchemaCrawlerException
+  {
+    requireNonNull(formatting, "No formatting provided");
+
+    final TextFormattingHelper previousHelper = bufferHelper.get();
+    final StringWriter buffer = new StringWriter(4096);
+    bufferHelper.set(helperFactory.apply(new PrintWriter(buffer)));
+    try
+    {
+      formatting.format();
+    }
+    finally
+    {
+      if (previousHelper == null)
+      {
+        bufferHelper.remove();
+      }
+      else
+      {
+        bufferHelper.set(previousHelper);
+      }
+    }
+    return buffer.toString();
+  }
+
+  @Override
+  public String createAnchor(final String text, final String link)
+  {
+    return helper().createAnchor(text, link);
+  }
+
+  @Override
+  public String createLeftArrow()
+  {
+    return helper().createLeftArrow();
+  }
+
+  @Override
+  public String createRightArrow()
+  {
+    return helper().createRightArrow();
+  }
+
+  @Override
+  public String createWeakLeftArrow()
+  {
+    return helper().createWeakLeftArrow();
+  }
+
+  @Override
+  public String createWeakRightArrow()
+  {
+    return helper().createWeakRightArrow();
+  }
+
+  @Override
+  public void println()
+  {
+    helper().println();
+  }
+
+  @Override
+  public void writeDescriptionRow(final String description)
+  {
+    helper().writeDescriptionRow(description);
+  }
+
+  @Override
+  public void writeDetailRow(final String text1,
+                             final String text2,
+                             final String text3)
+  {
+    helper().writeDetailRow(text1, text2, text3);
+  }
+
+  @Override
+  public void writeDetailRow(final String text1,
+                             final String text2,
+                             final String text3,
+                             final boolean escapeText,
+                             final boolean emphasize,
+                             final String style)
+  {
+    helper()
+      .writeDetailRow(text1, text2, text3, escapeText, emphasize, style);
+  }
+
+  @Override
+  public void writeDocumentEnd()
+  {
+    helper().writeDocumentEnd();
+  }
+
+  @Override
+  public void writeDocumentStart()
+  {
+    helper().writeDocumentStart();
+  }
+
+  @Override
+  public void writeEmptyRow()
+  {
+    helper().writeEmptyRow();
+  }
+
+  @Override
+  public void writeHeader(final DocumentHeaderType type, final String header)
+  {
+    helper().writeHeader(type, header);
+  }
+
+  @Override
+  public void writeNameRow(final String name, final String description)
+  {
+    helper().writeNameRow(name, description);
+  }
+
+  @Override
+  public void writeNameValueRow(final String name,
+                                final String value,
+                                final Alignment valueAlignment)
+  {
+    helper().writeNameValueRow(name, value, valueAlignment);
+  }
+
+  @Override
+  public void writeObjectEnd()
+  {
+    helper().writeObjectEnd();
+  }
+
+  @Override
+  public void writeObjectNameRow(final String id,
+                                 final String name,
+                                 final String description,
+                                 final Color backgroundColor)
+  {
+    helper().writeObjectNameRow(id, name, description, backgroundColor);
+  }
+
+  @Override
+  public void writeObjectStart()
+  {
+    helper().writeObjectStart();
+  }
+
+  @Override
+  public void writeRow(final Object... columnData)
+  {
+    helper().writeRow(columnData);
+  }
+
+  @Override
+  public void writeRowHeader(final String... columnNames)
+  {
+    helper().writeRowHeader(columnNames);
+  }
+
+  @Override
+  public void writeWideRow(final String definition, final String style)
+  {
+    helper().writeWideRow(definition, style);
+  }
+
+  private TextFormattingHelper helper()
+  {
+    final TextFormattingHelper helper = bufferHelper.get();
+    if (helper == null)
+    {
+      return outputHelper;
+    }
+    else
+    {
+      return helper;
+    }
+  }
+
+}
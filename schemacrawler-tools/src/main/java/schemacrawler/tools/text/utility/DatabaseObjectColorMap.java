@@ -100,7 +100,7 @@ public class DatabaseObjectColorMap
     colorMap = new RegularExpressionColorMap(properties);
   }
 
-  public Color getColor(final DatabaseObject dbObject)
+  public synchronized Color getColor(final DatabaseObject dbObject)
   {
     requireNonNull(dbObject, "No database object provided");
     if (noColors)
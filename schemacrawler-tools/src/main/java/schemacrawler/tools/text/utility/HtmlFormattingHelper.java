@@ -145,27 +145,31 @@ public final class HtmlFormattingHelper
                                  final String description,
                                  final Color backgroundColor)
   {
-    final StringBuilder buffer = new StringBuilder(1024);
-    buffer.append("  <caption style='background-color: ")
-      .append(backgroundColor).append(";'>");
+    out.write("  <caption style='background-color: ");
+    out.print(backgroundColor);
+    out.write(";'>");
     if (!isBlank(name))
     {
-      buffer.append("<span");
+      out.write("<span");
       if (!isBlank(id))
       {
-        buffer.append(" id='").append(id).append("'");
+        out.write(" id='");
+        out.write(id);
+        out.write("'");
       }
-      buffer.append(" class='caption_name'>").append(escapeForXMLElement(name))
-        .append("</span>");
+      out.write(" class='caption_name'>");
+      escapeForXMLElement(name, out);
+      out.write("</span>");
     }
     if (!isBlank(description))
     {
-      buffer.append(" <span class='caption_description'>")
-        .append(escapeForXMLElement(description)).append("</span>");
+      out.write(" <span class='caption_description'>");
+      escapeForXMLElement(description, out);
+      out.write("</span>");
     }
-    buffer.append("</caption>").append(System.lineSeparator());
-
-    out.println(buffer.toString());
+    out.write("</caption>");
+    out.println();
+    out.println();
   }
 
   /**
@@ -30,10 +30,8 @@ package schemacrawler.tools.text.utility;
 
 import java.io.PrintWriter;
 
-import schemacrawler.schemacrawler.SchemaCrawlerException;
 import schemacrawler.tools.options.TextOutputFormat;
-import schemacrawler.tools.text.utility.org.json.JSONException;
-import schemacrawler.tools.text.utility.org.json.JSONObject;
+import schemacrawler.tools.text.utility.org.json.JSONStreamWriter;
 
 public class JsonFormattingHelper
   extends PlainTextFormattingHelper
@@ -45,17 +43,17 @@ public class JsonFormattingHelper
     super(out, outputFormat);
   }
 
-  public void write(final JSONObject jsonObject)
-    throws SchemaCrawlerException
+  /**
+   * Creates a writer for a JSON object, which writes to the output as
+   * each property is provided.
+   *
+   * @return JSON object writer
+   */
+  public JSONStreamWriter newJsonStreamWriter()
   {
-    try
-    {
-      jsonObject.write(out, 2);
-    }
-    catch (final JSONException e)
-    {
-      throw new SchemaCrawlerException("Could not write database", e);
-    }
+    // Wrap the output, so that lines are not flushed as they are
+    // written
+    return new JSONStreamWriter(new PrintWriter(out), 2);
   }
 
 }
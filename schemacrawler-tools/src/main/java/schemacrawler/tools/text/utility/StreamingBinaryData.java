@@ -0,0 +1,117 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.utility;
+
+
+import static java.util.Objects.requireNonNull;
+import static sf.util.IOUtility.readFully;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.logging.Level;
+
+import sf.util.SchemaCrawlerLogger;
+
+/**
+ * LOB data that is not read into memory, but is copied to the output in
+ * chunks when it is written. The data can only be read while the
+ * result set that it came from is open, and positioned on its row.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class StreamingBinaryData
+  extends BinaryData
+{
+
+  /**
+   * Opens a reader on LOB data.
+   */
+  @FunctionalInterface
+  public interface Source
+  {
+
+    Reader open()
+      throws IOException;
+
+  }
+
+  private static final long serialVersionUID = 2405823126459286093L;
+
+  private static final SchemaCrawlerLogger LOGGER = SchemaCrawlerLogger
+    .getLogger(StreamingBinaryData.class.getName());
+
+  private final transient Source source;
+
+  public StreamingBinaryData(final Source source)
+  {
+    super("");
+    this.source = requireNonNull(source, "No LOB data source provided");
+  }
+
+  /**
+   * Opens a reader on the LOB data. The caller is responsible for
+   * closing the reader.
+   *
+   * @return Reader for the LOB data
+   * @throws IOException
+   *         On an exception reading the LOB data
+   */
+  public Reader openReader()
+    throws IOException
+  {
+    return source.open();
+  }
+
+  /**
+   * Reads the LOB data fully into memory, for output that cannot be
+   * streamed.
+   */
+  @Override
+  public String toString()
+  {
+    try (final Reader reader = openReader();)
+    {
+      return readFully(reader);
+    }
+    catch (final IOException e)
+    {
+      LOGGER.log(Level.WARNING, "Could not read LOB data", e);
+      return "";
+    }
+  }
+
+  /**
+   * LOB data cannot be read once the result set has moved on, so it is
+   * read into memory when it is serialized.
+   */
+  private Object writeReplace()
+  {
+    return new BinaryData(toString());
+  }
+
+}
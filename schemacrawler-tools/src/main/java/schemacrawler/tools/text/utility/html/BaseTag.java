@@ -31,6 +31,8 @@ package schemacrawler.tools.text.utility.html;
 import static schemacrawler.tools.text.utility.html.Entities.escapeForXMLElement;
 import static sf.util.Utility.isBlank;
 
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -55,7 +57,7 @@ abstract class BaseTag
   private final Color bgColor;
   private final boolean emphasizeText;
 
-  private final Map<String, String> attributes;
+  private Map<String, String> attributes;
 
   protected BaseTag(final String text,
                     final boolean escapeText,
@@ -74,99 +76,135 @@ abstract class BaseTag
     this.align = align;
     this.bgColor = bgColor;
     this.emphasizeText = emphasizeText;
-    attributes = new HashMap<>();
   }
 
   public String addAttribute(final String key, final String value)
   {
+    if (attributes == null)
+    {
+      attributes = new HashMap<>();
+    }
     return attributes.put(key, value);
   }
 
   /**
-   * Converts the table cell to HTML.
+   * Writes the tag straight to the output, without creating an
+   * intermediate string.
    *
-   * @return HTML
+   * @param out
+   *        Output to write to
    */
-  @Override
-  public String toString()
+  public void print(final PrintWriter out)
   {
     if (outputFormat == TextOutputFormat.html)
     {
-      return toHtmlString();
+      printHtml(out);
     }
     else
     {
-      return toPlainTextString();
+      printPlainText(out);
     }
   }
 
-  protected abstract String getTag();
-
   /**
-   * Converts the tag to HTML.
+   * Converts the table cell to HTML.
    *
    * @return HTML
    */
-  private String toHtmlString()
+  @Override
+  public String toString()
+  {
+    final StringWriter writer = new StringWriter(1024);
+    print(new PrintWriter(writer));
+    return writer.toString();
+  }
+
+  protected abstract String getTag();
+
+  private void printHtml(final PrintWriter out)
   {
-    final StringBuilder buffer = new StringBuilder(1024);
-    buffer.append("<").append(getTag());
-    for (final Entry<String, String> attribute: attributes.entrySet())
+    out.write("<");
+    out.write(getTag());
+    if (attributes != null)
     {
-      buffer.append(" ").append(attribute.getKey()).append("='")
-        .append(attribute.getValue()).append("'");
+      for (final Entry<String, String> attribute: attributes.entrySet())
+      {
+        out.write(" ");
+        out.write(attribute.getKey());
+        out.write("='");
+        out.print(attribute.getValue());
+        out.write("'");
+      }
     }
     if (bgColor != null && !bgColor.equals(Color.white))
     {
-      buffer.append(" bgcolor='").append(bgColor).append("'");
+      out.write(" bgcolor='");
+      out.print(bgColor);
+      out.write("'");
     }
     if (!isBlank(styleClass))
     {
-      buffer.append(" class='").append(styleClass).append("'");
+      out.write(" class='");
+      out.write(styleClass);
+      out.write("'");
     }
     else if (align != null && align != Alignment.inherit)
     {
-      buffer.append(" align='").append(align).append("'");
+      out.write(" align='");
+      out.print(align);
+      out.write("'");
     }
-    buffer.append(">");
+    out.write(">");
     if (emphasizeText)
     {
-      buffer.append("<b><i>");
+      out.write("<b><i>");
+    }
+    if (escapeText)
+    {
+      escapeForXMLElement(text, out);
+    }
+    else
+    {
+      out.write(text);
     }
-    buffer.append(escapeText? escapeForXMLElement(text): text);
     if (emphasizeText)
     {
-      buffer.append("</i></b>");
+      out.write("</i></b>");
     }
-    buffer.append("</").append(getTag()).append(">");
-
-    return buffer.toString();
+    out.write("</");
+    out.write(getTag());
+    out.write(">");
   }
 
-  /**
-   * Converts the tag to text.
-   *
-   * @return Text
-   */
-  private String toPlainTextString()
+  private void printPlainText(final PrintWriter out)
   {
-    if (outputFormat == TextOutputFormat.tsv)
+    if (outputFormat == TextOutputFormat.tsv || characterWidth <= 0)
     {
-      return text;
+      out.write(text);
     }
     else
     {
-      if (characterWidth > 0)
+      // Pad to the character width, in the same way as String.format
+      final int padding = characterWidth - text.length();
+      if (align == Alignment.right)
       {
-        final String format = String
-          .format("%%%s%ds", align == Alignment.right? "": "-", characterWidth);
-        return String.format(format, text);
+        printSpaces(out, padding);
+        out.write(text);
       }
       else
       {
-        return text;
+        out.write(text);
+        printSpaces(out, padding);
       }
     }
   }
 
+  private void printSpaces(final PrintWriter out, final int count)
+  {
+    for (int i = 0; i < count; i++)
+    {
+      out.write(' ');
+    }
+  }
+
 }
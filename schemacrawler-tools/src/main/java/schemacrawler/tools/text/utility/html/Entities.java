@@ -28,6 +28,9 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.text.utility.html;
 
 
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
 /**
  * XML escapes entities.
  *
@@ -83,27 +86,84 @@ public final class Entities
    */
   public static String escapeForXMLElement(final String text)
   {
-    final StringBuilder buffer = new StringBuilder(text.length() * 2);
-    for (int i = 0; i < text.length(); ++i)
+    final StringWriter writer = new StringWriter(text.length() * 2);
+    escapeForXMLElement(text, new PrintWriter(writer));
+    return writer.toString();
+  }
+
+  /**
+   * XML escapes the characters in some text, and writes them straight
+   * to the output, without creating an intermediate string.
+   *
+   * @param text
+   *        Text to escape.
+   * @param offset
+   *        Offset of the first character to escape
+   * @param length
+   *        Number of characters to escape
+   * @param out
+   *        Output to write to
+   */
+  public static void escapeForXMLElement(final char[] text,
+                                         final int offset,
+                                         final int length,
+                                         final PrintWriter out)
+  {
+    int start = offset;
+    final int end = offset + length;
+    for (int i = offset; i < end; ++i)
     {
-      final char ch = text.charAt(i);
-      switch (ch)
+      final String entity = entityForXMLElement(text[i]);
+      if (entity != null)
       {
-        case 62:
-          buffer.append("&gt;");
-          break;
-        case 38:
-          buffer.append("&amp;");
-          break;
-        case 60:
-          buffer.append("&lt;");
-          break;
-        default:
-          buffer.append(ch);
-          break;
+        out.write(text, start, i - start);
+        out.write(entity);
+        start = i + 1;
       }
     }
-    return buffer.toString();
+    out.write(text, start, end - start);
+  }
+
+  /**
+   * XML escapes the characters in some text, and writes them straight
+   * to the output, without creating an intermediate string.
+   *
+   * @param text
+   *        Text to escape.
+   * @param out
+   *        Output to write to
+   */
+  public static void escapeForXMLElement(final String text,
+                                         final PrintWriter out)
+  {
+    int start = 0;
+    final int end = text.length();
+    for (int i = 0; i < end; ++i)
+    {
+      final String entity = entityForXMLElement(text.charAt(i));
+      if (entity != null)
+      {
+        out.write(text, start, i - start);
+        out.write(entity);
+        start = i + 1;
+      }
+    }
+    out.write(text, start, end - start);
+  }
+
+  private static String entityForXMLElement(final char ch)
+  {
+    switch (ch)
+    {
+      case 62:
+        return "&gt;";
+      case 38:
+        return "&amp;";
+      case 60:
+        return "&lt;";
+      default:
+        return null;
+    }
   }
 
 }
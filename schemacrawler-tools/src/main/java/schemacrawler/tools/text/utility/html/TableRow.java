@@ -29,6 +29,8 @@ http://www.gnu.org/licenses/
 package schemacrawler.tools.text.utility.html;
 
 
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -76,23 +78,37 @@ public final class TableRow
   }
 
   /**
-   * Converts the table row to HTML.
+   * Writes the table row straight to the output, without creating
+   * intermediate strings for the row or its cells.
    *
-   * @return HTML
+   * @param out
+   *        Output to write to
    */
-  @Override
-  public String toString()
+  public void print(final PrintWriter out)
   {
     if (outputFormat == TextOutputFormat.html)
     {
-      return toHtmlString();
+      printHtml(out);
     }
     else
     {
-      return toPlainTextString();
+      printPlainText(out);
     }
   }
 
+  /**
+   * Converts the table row to HTML.
+   *
+   * @return HTML
+   */
+  @Override
+  public String toString()
+  {
+    final StringWriter writer = new StringWriter(1024);
+    print(new PrintWriter(writer));
+    return writer.toString();
+  }
+
   private String getFieldSeparator()
   {
     String fieldSeparator;
@@ -107,44 +123,30 @@ public final class TableRow
     return fieldSeparator;
   }
 
-  /**
-   * Converts the table row to HTML.
-   *
-   * @return HTML
-   */
-  private String toHtmlString()
+  private void printHtml(final PrintWriter out)
   {
-    final StringBuilder buffer = new StringBuilder(1024);
-    buffer.append("\t<tr>").append(System.lineSeparator());
+    out.write("\t<tr>");
+    out.write(System.lineSeparator());
     for (final TableCell cell: cells)
     {
-      buffer.append("\t\t").append(cell).append(System.lineSeparator());
+      out.write("\t\t");
+      cell.print(out);
+      out.write(System.lineSeparator());
     }
-    buffer.append("\t</tr>");
-
-    return buffer.toString();
+    out.write("\t</tr>");
   }
 
-  /**
-   * Converts the table row to text.
-   *
-   * @return Text
-   */
-  private String toPlainTextString()
+  private void printPlainText(final PrintWriter out)
   {
-    final StringBuilder buffer = new StringBuilder(1024);
-
+    final String fieldSeparator = getFieldSeparator();
     for (int i = 0; i < cells.size(); i++)
     {
-      final TableCell cell = cells.get(i);
       if (i > 0)
       {
-        buffer.append(getFieldSeparator());
+        out.write(fieldSeparator);
       }
-      buffer.append(cell.toString());
+      cells.get(i).print(out);
     }
-
-    return buffer.toString();
   }
 
 }
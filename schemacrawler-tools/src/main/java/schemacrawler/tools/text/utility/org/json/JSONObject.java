@@ -349,7 +349,7 @@ public class JSONObject
    *        A String
    * @return A String correctly formatted for insertion in a JSON text.
    */
-  private static String quote(final String string)
+  static String quote(final String string)
   {
     if (string == null || string.length() == 0)
     {
@@ -358,62 +358,78 @@ public class JSONObject
 
     char b;
     char c = 0;
-    String hhhh;
     int i;
     final int len = string.length();
-    final StringBuffer sb = new StringBuffer(len + 4);
+    final StringBuilder sb = new StringBuilder(len + 4);
 
     sb.append('"');
     for (i = 0; i < len; i += 1)
     {
       b = c;
       c = string.charAt(i);
-      switch (c)
-      {
-        case '\\':
-        case '"':
-          sb.append('\\');
-          sb.append(c);
-          break;
-        case '/':
-          if (b == '<')
-          {
-            sb.append('\\');
-          }
-          sb.append(c);
-          break;
-        case '\b':
-          sb.append("\\b");
-          break;
-        case '\t':
-          sb.append("\\t");
-          break;
-        case '\n':
-          sb.append("\\n");
-          break;
-        case '\f':
-          sb.append("\\f");
-          break;
-        case '\r':
-          sb.append("\\r");
-          break;
-        default:
-          if (c < ' ' || c >= '\u0080' && c < '\u00a0'
-              || c >= '\u2000' && c < '\u2100')
-          {
-            hhhh = "000" + Integer.toHexString(c);
-            sb.append("\\u" + hhhh.substring(hhhh.length() - 4));
-          }
-          else
-          {
-            sb.append(c);
-          }
-      }
+      escape(b, c, sb);
     }
     sb.append('"');
     return sb.toString();
   }
 
+  /**
+   * Append a character of a string to a JSON text, with a backslash
+   * sequence if needed.
+   *
+   * @param b
+   *        The previous character in the string, or 0
+   * @param c
+   *        The character to append
+   * @param sb
+   *        Buffer to append to
+   */
+  static void escape(final char b, final char c, final StringBuilder sb)
+  {
+    String hhhh;
+    switch (c)
+    {
+      case '\\':
+      case '"':
+        sb.append('\\');
+        sb.append(c);
+        break;
+      case '/':
+        if (b == '<')
+        {
+          sb.append('\\');
+        }
+        sb.append(c);
+        break;
+      case '\b':
+        sb.append("\\b");
+        break;
+      case '\t':
+        sb.append("\\t");
+        break;
+      case '\n':
+        sb.append("\\n");
+        break;
+      case '\f':
+        sb.append("\\f");
+        break;
+      case '\r':
+        sb.append("\\r");
+        break;
+      default:
+        if (c < ' ' || c >= '\u0080' && c < '\u00a0'
+            || c >= '\u2000' && c < '\u2100')
+        {
+          hhhh = "000" + Integer.toHexString(c);
+          sb.append("\\u" + hhhh.substring(hhhh.length() - 4));
+        }
+        else
+        {
+          sb.append(c);
+        }
+    }
+  }
+
   /**
    * The map where the JSONObject's properties are kept.
    */
@@ -900,9 +916,9 @@ public class JSONObject
    * @throws JSONException
    *         If the object contains an invalid number.
    */
-  private void write(final PrintWriter writer,
-                     final int indentFactor,
-                     final int indent)
+  void write(final PrintWriter writer,
+             final int indentFactor,
+             final int indent)
     throws JSONException
   {
     int i;
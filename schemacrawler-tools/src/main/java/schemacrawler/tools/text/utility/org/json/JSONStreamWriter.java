@@ -0,0 +1,431 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.text.utility.org.json;
+
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Writes JSON one property or array element at a time, so that large
+ * documents do not need to be held in memory as a tree of
+ * {@link JSONObject}s. Objects and arrays can be nested, and values are
+ * written as soon as they are provided. The layout of the output is the
+ * same as that of {@link JSONObject#write(java.io.Writer, int)}, except
+ * that keys are written in the order that they are provided, and
+ * streamed objects and arrays are always written over multiple lines.
+ * <p>
+ * Accumulated values follow the rules of
+ * {@link JSONObject#accumulate(String, Object)}, so a single value is
+ * written without an enclosing array. For this, the first value under
+ * a key is held back until the next value, or the next key, is
+ * provided. Values for a key must be accumulated without any other key
+ * in between.
+ *
+ * @author Sualeh Fatehi
+ */
+public final class JSONStreamWriter
+{
+
+  private static final class Scope
+  {
+
+    private final boolean isArray;
+    private final Set<String> keys;
+    private int count;
+    private String accumulateKey;
+    private JSONObject firstAccumulatedValue;
+    private int accumulatedCount;
+
+    Scope(final boolean isArray)
+    {
+      this.isArray = isArray;
+      keys = new HashSet<>();
+    }
+
+  }
+
+  private final PrintWriter writer;
+  private final int indentFactor;
+  private final Deque<Scope> scopes;
+
+  /**
+   * Writes JSON to a writer.
+   *
+   * @param writer
+   *        Writer to write to
+   * @param indentFactor
+   *        The number of spaces to add to each level of indentation.
+   */
+  public JSONStreamWriter(final PrintWriter writer, final int indentFactor)
+  {
+    this.writer = requireNonNull(writer, "No writer provided");
+    this.indentFactor = indentFactor;
+    scopes = new ArrayDeque<>();
+  }
+
+  /**
+   * Accumulate a value under a key of the current object, similar to
+   * {@link JSONObject#accumulate(String, Object)}.
+   *
+   * @param key
+   *        A key string.
+   * @param value
+   *        An object to be accumulated under the key.
+   * @throws JSONException
+   *         If the key is null, or if other keys were written after
+   *         values were previously accumulated under this key.
+   */
+  public void accumulate(final String key, final JSONObject value)
+    throws JSONException
+  {
+    if (value == null)
+    {
+      return;
+    }
+
+    final Scope scope = currentScope(false);
+    if (key != null && key.equals(scope.accumulateKey))
+    {
+      final int newindent = indent() + indentFactor;
+      if (scope.accumulatedCount == 1)
+      {
+        writer.println("[");
+        indent(newindent);
+        writer.print(JSONObject
+          .valueToString(scope.firstAccumulatedValue, indentFactor, newindent));
+        scope.firstAccumulatedValue = null;
+      }
+      writer.println(",");
+      indent(newindent);
+      writer.print(JSONObject.valueToString(value, indentFactor, newindent));
+      scope.accumulatedCount++;
+    }
+    else
+    {
+      writeKey(scope, key);
+      scope.accumulateKey = key;
+      scope.firstAccumulatedValue = value;
+      scope.accumulatedCount = 1;
+    }
+  }
+
+  /**
+   * Start an array, as an element of the current array.
+   *
+   * @throws JSONException
+   *         If the current scope is not an array.
+   */
+  public void beginArray()
+    throws JSONException
+  {
+    writeElementSeparator(currentScope(true));
+    writer.print("[");
+    scopes.push(new Scope(true));
+  }
+
+  /**
+   * Start an array, as the value of a key of the current object.
+   *
+   * @param key
+   *        A key string.
+   * @throws JSONException
+   *         If the current scope is not an object, or if the key is
+   *         null or has already been written.
+   */
+  public void beginArray(final String key)
+    throws JSONException
+  {
+    writeKey(currentScope(false), key);
+    writer.print("[");
+    scopes.push(new Scope(true));
+  }
+
+  /**
+   * Start an object, either as the top level object, or as an element
+   * of the current array.
+   *
+   * @throws JSONException
+   *         If the current scope is an object.
+   */
+  public void beginObject()
+    throws JSONException
+  {
+    if (!scopes.isEmpty())
+    {
+      writeElementSeparator(currentScope(true));
+    }
+    writer.print("{");
+    scopes.push(new Scope(false));
+  }
+
+  /**
+   * End the current array.
+   *
+   * @throws JSONException
+   *         If the current scope is not an array.
+   */
+  public void endArray()
+    throws JSONException
+  {
+    final Scope scope = currentScope(true);
+    endScope(scope, "]");
+  }
+
+  /**
+   * End the current object, writing any value that is held back.
+   *
+   * @throws JSONException
+   *         If the current scope is not an object.
+   */
+  public void endObject()
+    throws JSONException
+  {
+    final Scope scope = currentScope(false);
+    endAccumulate(scope);
+    endScope(scope, "}");
+    if (scopes.isEmpty() && scope.count == 0)
+    {
+      writer.println();
+    }
+  }
+
+  /**
+   * Write a key/value pair to the current object, similar to
+   * {@link JSONObject#put(String, Object)}. Null values are not
+   * written.
+   *
+   * @param key
+   *        A key string.
+   * @param value
+   *        An object which is the value. It should be of one of these
+   *        types: Boolean, Double, Integer, JSONArray, JSONObject,
+   *        Long, or String.
+   * @throws JSONException
+   *         If the value is non-finite number, if the current scope is
+   *         not an object, or if the key is null or has already been
+   *         written.
+   */
+  public void put(final String key, final Object value)
+    throws JSONException
+  {
+    final Scope scope = currentScope(false);
+    if (value == null)
+    {
+      return;
+    }
+    JSONObject.testValidity(value);
+
+    writeKey(scope, key);
+    if (value instanceof JSONObject)
+    {
+      ((JSONObject) value).write(writer, indentFactor, indent());
+    }
+    else if (value instanceof JSONArray)
+    {
+      ((JSONArray) value).write(writer, indentFactor, indent());
+    }
+    else
+    {
+      writer.print(JSONObject.valueToString(value));
+    }
+  }
+
+  /**
+   * Write an element of the current array. Null values are written as
+   * JSON nulls.
+   *
+   * @param value
+   *        An object which is the value. It should be of one of these
+   *        types: Boolean, Double, Integer, JSONArray, JSONObject,
+   *        Long, or String.
+   * @throws JSONException
+   *         If the value is non-finite number, or if the current scope
+   *         is not an array.
+   */
+  public void value(final Object value)
+    throws JSONException
+  {
+    final Scope scope = currentScope(true);
+    JSONObject.testValidity(value);
+
+    writeElementSeparator(scope);
+    writer.print(JSONObject.valueToString(value, indentFactor, indent()));
+  }
+
+  /**
+   * Write a string element of the current array, copying the string
+   * from a reader in chunks, so that long strings are not held in
+   * memory. The reader is not closed.
+   *
+   * @param reader
+   *        Reader for the string value.
+   * @throws JSONException
+   *         If the reader cannot be read, or if the current scope is not
+   *         an array.
+   */
+  public void valueFrom(final Reader reader)
+    throws JSONException
+  {
+    requireNonNull(reader, "No reader provided");
+    final Scope scope = currentScope(true);
+
+    writeElementSeparator(scope);
+    final char[] buffer = new char[8192];
+    final StringBuilder sb = new StringBuilder(buffer.length + 16);
+    char c = 0;
+    writer.print('"');
+    try
+    {
+      int length;
+      while ((length = reader.read(buffer)) != -1)
+      {
+        for (int i = 0; i < length; i++)
+        {
+          final char b = c;
+          c = buffer[i];
+          JSONObject.escape(b, c, sb);
+        }
+        writer.append(sb);
+        sb.setLength(0);
+      }
+    }
+    catch (final IOException e)
+    {
+      throw new JSONException(e);
+    }
+    writer.print('"');
+  }
+
+  private Scope currentScope(final boolean isArray)
+    throws JSONException
+  {
+    final Scope scope = scopes.peek();
+    if (scope == null)
+    {
+      throw new JSONException("No JSON object has been started");
+    }
+    if (scope.isArray != isArray)
+    {
+      throw new JSONException(String.format("Not in a JSON %s",
+                                            isArray? "array": "object"));
+    }
+    return scope;
+  }
+
+  private void endAccumulate(final Scope scope)
+    throws JSONException
+  {
+    if (scope.accumulateKey == null)
+    {
+      return;
+    }
+
+    if (scope.accumulatedCount == 1)
+    {
+      scope.firstAccumulatedValue.write(writer, indentFactor, indent());
+    }
+    else
+    {
+      writer.println();
+      indent(indent());
+      writer.print("]");
+    }
+
+    scope.accumulateKey = null;
+    scope.firstAccumulatedValue = null;
+    scope.accumulatedCount = 0;
+  }
+
+  private void endScope(final Scope scope, final String close)
+  {
+    scopes.pop();
+    if (scope.count > 0)
+    {
+      writer.println();
+      indent(indent());
+    }
+    writer.print(close);
+  }
+
+  /**
+   * Indentation of the values in the current scope.
+   */
+  private int indent()
+  {
+    return scopes.size() * indentFactor;
+  }
+
+  private void indent(final int indent)
+  {
+    for (int i = 0; i < indent; i += 1)
+    {
+      writer.print(' ');
+    }
+  }
+
+  private void writeElementSeparator(final Scope scope)
+  {
+    scope.count++;
+    if (scope.count > 1)
+    {
+      writer.println(",");
+    }
+    else
+    {
+      writer.println();
+    }
+    indent(indent());
+  }
+
+  private void writeKey(final Scope scope, final String key)
+    throws JSONException
+  {
+    if (key == null)
+    {
+      throw new JSONException("Null key.");
+    }
+    endAccumulate(scope);
+    if (!scope.keys.add(key))
+    {
+      throw new JSONException("Duplicate key " + key);
+    }
+
+    writeElementSeparator(scope);
+    writer.print(JSONObject.quote(key));
+    writer.print(": ");
+  }
+
+}
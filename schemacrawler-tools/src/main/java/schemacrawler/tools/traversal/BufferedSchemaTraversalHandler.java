@@ -0,0 +1,78 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.tools.traversal;
+
+
+import schemacrawler.schema.Routine;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.SchemaCrawlerException;
+
+/**
+ * A schema traversal handler that can render table and routine sections
+ * into strings, rather than the output. Sections can be rendered on
+ * several threads at the same time, and are then written to the output
+ * in order.
+ */
+public interface BufferedSchemaTraversalHandler
+  extends SchemaTraversalHandler
+{
+
+  /**
+   * Renders the section for a routine, in the same way as
+   * {@link #handle(Routine)}, but into a string. May be called from any
+   * thread.
+   *
+   * @param routine
+   *        Routine metadata.
+   * @return Rendered section
+   */
+  String render(final Routine routine)
+    throws SchemaCrawlerException;
+
+  /**
+   * Renders the section for a table, in the same way as
+   * {@link #handle(Table)}, but into a string. May be called from any
+   * thread.
+   *
+   * @param table
+   *        Table metadata.
+   * @return Rendered section
+   */
+  String render(final Table table)
+    throws SchemaCrawlerException;
+
+  /**
+   * Writes a rendered section to the output.
+   *
+   * @param section
+   *        Rendered section
+   */
+  void write(final String section)
+    throws SchemaCrawlerException;
+
+}
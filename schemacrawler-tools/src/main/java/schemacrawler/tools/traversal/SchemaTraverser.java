@@ -30,10 +30,15 @@ package schemacrawler.tools.traversal;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.ColumnDataType;
@@ -48,15 +53,29 @@ import schemacrawler.utility.NamedObjectSort;
 public class SchemaTraverser
 {
 
+  /**
+   * Renders a section of output for a schema object.
+   */
+  @FunctionalInterface
+  private interface SectionRenderer<N>
+  {
+
+    String render(N object)
+      throws SchemaCrawlerException;
+
+  }
+
   private Catalog catalog;
   private SchemaTraversalHandler handler;
   private Comparator<NamedObject> tablesComparator;
   private Comparator<NamedObject> routinesComparator;
+  private int parallelism;
 
   public SchemaTraverser()
   {
     tablesComparator = NamedObjectSort.natural;
     routinesComparator = NamedObjectSort.natural;
+    parallelism = 1;
   }
 
   public Catalog getCatalog()
@@ -69,6 +88,18 @@ public class SchemaTraverser
     return handler;
   }
 
+  /**
+   * Number of table or routine sections that are rendered at the same
+   * time. Sections are rendered one at a time if this is 1, or if the
+   * handler cannot render sections into buffers.
+   *
+   * @return Number of sections that are rendered at the same time
+   */
+  public int getParallelism()
+  {
+    return parallelism;
+  }
+
   public Comparator<NamedObject> getRoutinesComparator()
   {
     return routinesComparator;
@@ -89,6 +120,18 @@ public class SchemaTraverser
     this.handler = requireNonNull(handler, "No handler provided");
   }
 
+  /**
+   * Number of table or routine sections that are rendered at the same
+   * time. Values less than 1 are treated as 1.
+   *
+   * @param parallelism
+   *        Number of sections that are rendered at the same time
+   */
+  public void setParallelism(final int parallelism)
+  {
+    this.parallelism = Math.max(parallelism, 1);
+  }
+
   public void setRoutinesComparator(final Comparator<NamedObject> routinesComparator)
   {
     this.routinesComparator = requireNonNull(routinesComparator,
@@ -123,11 +166,19 @@ public class SchemaTraverser
 
       handler.handleTablesStart();
 
-      final List<? extends Table> tablesList = new ArrayList<>(tables);
+      final List<Table> tablesList = new ArrayList<>(tables);
       tablesList.sort(tablesComparator);
-      for (final Table table: tablesList)
+      if (isParallel(tablesList))
       {
-        handler.handle(table);
+        final BufferedSchemaTraversalHandler bufferedHandler = (BufferedSchemaTraversalHandler) handler;
+        renderInParallel(tablesList, bufferedHandler::render);
+      }
+      else
+      {
+        for (final Table table: tablesList)
+        {
+          handler.handle(table);
+        }
       }
 
       handler.handleTablesEnd();
@@ -137,11 +188,19 @@ public class SchemaTraverser
     {
       handler.handleRoutinesStart();
 
-      final List<? extends Routine> routinesList = new ArrayList<>(routines);
+      final List<Routine> routinesList = new ArrayList<>(routines);
       routinesList.sort(routinesComparator);
-      for (final Routine routine: routinesList)
+      if (isParallel(routinesList))
+      {
+        final BufferedSchemaTraversalHandler bufferedHandler = (BufferedSchemaTraversalHandler) handler;
+        renderInParallel(routinesList, bufferedHandler::render);
+      }
+      else
       {
-        handler.handle(routine);
+        for (final Routine routine: routinesList)
+        {
+          handler.handle(routine);
+        }
       }
 
       handler.handleRoutinesEnd();
@@ -186,4 +245,75 @@ public class SchemaTraverser
     handler.end();
   }
 
+  private boolean isParallel(final List<?> objects)
+  {
+    return parallelism > 1 && objects.size() > 1
+           && handler instanceof BufferedSchemaTraversalHandler;
+  }
+
+  /**
+   * Renders sections on a fork-join pool, and writes them to the output
+   * in order. Only a sliding window of sections is rendered ahead of the
+   * section that is being written, so memory use stays bounded.
+   */
+  private <N> void renderInParallel(final List<N> objects,
+                                    final SectionRenderer<N> renderer)
+    throws SchemaCrawlerException
+  {
+    final BufferedSchemaTraversalHandler bufferedHandler = (BufferedSchemaTraversalHandler) handler;
+    final int windowSize = 4 * parallelism;
+    final Deque<Future<String>> window = new ArrayDeque<>(windowSize);
+    final ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try
+    {
+      for (final N object: objects)
+      {
+        if (window.size() >= windowSize)
+        {
+          bufferedHandler.write(waitForSection(window.poll()));
+        }
+        window.add(pool.submit(() -> renderer.render(object)));
+      }
+      while (!window.isEmpty())
+      {
+        bufferedHandler.write(waitForSection(window.poll()));
+      }
+    }
+    finally
+    {
+      pool.shutdownNow();
+    }
+  }
+
+  private String waitForSection(final Future<String> section)
+    throws SchemaCrawlerException
+  {
+    try
+    {
+      return section.get();
+    }
+    catch (final InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      throw new SchemaCrawlerException("Interrupted while rendering output",
+                                       e);
+    }
+    catch (final ExecutionException e)
+    {
+      final Throwable cause = e.getCause();
+      if (cause instanceof SchemaCrawlerException)
+      {
+        throw (SchemaCrawlerException) cause;
+      }
+      else if (cause instanceof RuntimeException)
+      {
+        throw (RuntimeException) cause;
+      }
+      else
+      {
+        throw new SchemaCrawlerException("Could not render output", cause);
+      }
+    }
+  }
+
 }
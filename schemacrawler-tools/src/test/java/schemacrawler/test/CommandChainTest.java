@@ -0,0 +1,117 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static schemacrawler.utility.SchemaCrawlerUtility.getCatalog;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.tools.executable.CommandChain;
+import schemacrawler.tools.options.TextOutputFormat;
+import schemacrawler.tools.text.schema.SchemaTextDetailType;
+import schemacrawler.tools.text.schema.SchemaTextOptionsBuilder;
+import schemacrawler.tools.text.schema.SchemaTextRenderer;
+import schemacrawler.utility.Identifiers;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class CommandChainTest
+{
+
+  private static List<String> execute(final Connection connection,
+                                      final boolean isConcurrent)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+      .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"))
+      .includeAllRoutines().toOptions();
+    final Catalog catalog = getCatalog(connection, schemaCrawlerOptions);
+
+    final SchemaTextRenderer scCommand = new SchemaTextRenderer(SchemaTextDetailType.details
+      .name());
+    scCommand.setSchemaCrawlerOptions(schemaCrawlerOptions);
+    scCommand.setAdditionalConfiguration(SchemaTextOptionsBuilder.builder()
+      .noInfo().weakAssociations().toConfig());
+    scCommand.setCatalog(catalog);
+    scCommand.setIdentifiers(Identifiers.STANDARD);
+
+    final List<Path> outputFiles = new ArrayList<>();
+    final CommandChain chain = new CommandChain(scCommand);
+    chain.setConcurrent(isConcurrent);
+    for (final TextOutputFormat outputFormat: new TextOutputFormat[] {
+        TextOutputFormat.text, TextOutputFormat.html, TextOutputFormat.json })
+    {
+      for (final SchemaTextDetailType schemaTextDetailType: new SchemaTextDetailType[] {
+          SchemaTextDetailType.brief, SchemaTextDetailType.details })
+      {
+        final Path outputFile = Files.createTempFile("sc", ".out");
+        outputFile.toFile().deleteOnExit();
+        chain.addNext(schemaTextDetailType.name(), outputFormat, outputFile);
+        outputFiles.add(outputFile);
+      }
+    }
+    chain.execute();
+
+    final List<String> outputs = new ArrayList<>();
+    for (final Path outputFile: outputFiles)
+    {
+      outputs.add(new String(Files.readAllBytes(outputFile), UTF_8));
+    }
+    return outputs;
+  }
+
+  @Test
+  public void concurrentChain(final Connection connection)
+    throws Exception
+  {
+    final List<String> serialOutputs = execute(connection, false);
+    final List<String> concurrentOutputs = execute(connection, true);
+
+    assertThat(serialOutputs.get(3), containsString("AUTHORS"));
+    assertThat(concurrentOutputs, is(serialOutputs));
+  }
+
+}
@@ -0,0 +1,199 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.test;
+
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.tools.options.TextOutputFormat;
+import schemacrawler.tools.text.utility.html.Alignment;
+import schemacrawler.tools.text.utility.html.Anchor;
+import schemacrawler.tools.text.utility.html.Entities;
+import schemacrawler.tools.text.utility.html.TableCell;
+import schemacrawler.tools.text.utility.html.TableRow;
+
+public class HtmlTagsTest
+{
+
+  private static final String NEWLINE = System.lineSeparator();
+
+  @Test
+  public void anchor()
+  {
+    final Anchor anchor = new Anchor("<table>",
+                                     true,
+                                     0,
+                                     Alignment.inherit,
+                                     false,
+                                     "",
+                                     null,
+                                     "#table",
+                                     TextOutputFormat.html);
+    assertThat(print(anchor), is("<a href='#table'>&lt;table&gt;</a>"));
+    assertThat(anchor.toString(), is(print(anchor)));
+  }
+
+  @Test
+  public void escapeForXMLElement()
+  {
+    final String text = "a<b & c>d";
+    final String escapedText = "a&lt;b &amp; c&gt;d";
+    assertThat(Entities.escapeForXMLElement(text), is(escapedText));
+
+    final StringWriter writer = new StringWriter();
+    final PrintWriter out = new PrintWriter(writer);
+    Entities.escapeForXMLElement(text, out);
+    Entities.escapeForXMLElement(("[" + text + "]").toCharArray(),
+                                 1,
+                                 text.length(),
+                                 out);
+    out.flush();
+    assertThat(writer.toString(), is(escapedText + escapedText));
+  }
+
+  @Test
+  public void htmlTableRow()
+  {
+    final TableRow row = new TableRow(TextOutputFormat.html);
+    row.add(new TableCell("a<b&c>",
+                          true,
+                          10,
+                          Alignment.right,
+                          true,
+                          null,
+                          null,
+                          2,
+                          TextOutputFormat.html));
+    row.add(new TableCell("<i>x</i>",
+                          false,
+                          0,
+                          Alignment.left,
+                          false,
+                          "data_type",
+                          null,
+                          1,
+                          TextOutputFormat.html));
+
+    final String expected = "\t<tr>" + NEWLINE
+                            + "\t\t<td colspan='2' align='right'><b><i>a&lt;b&amp;c&gt;</i></b></td>"
+                            + NEWLINE
+                            + "\t\t<td class='data_type'><i>x</i></td>"
+                            + NEWLINE + "\t</tr>";
+    assertThat(print(row), is(expected));
+    assertThat(row.toString(), is(expected));
+    assertThat(row.firstCell().toString(), is(print(row.firstCell())));
+  }
+
+  @Test
+  public void textTableRow()
+  {
+    final TableRow row = textRow(TextOutputFormat.text);
+    final String expected = String.format("%6s", "abc") + "  "
+                            + String.format("%-5s", "de") + "  "
+                            + "too long";
+    assertThat(print(row), is(expected));
+    assertThat(row.toString(), is(expected));
+  }
+
+  @Test
+  public void tsvTableRow()
+  {
+    final TableRow row = textRow(TextOutputFormat.tsv);
+    final String expected = "abc\tde\ttoo long";
+    assertThat(print(row), is(expected));
+    assertThat(row.toString(), is(expected));
+  }
+
+  private String print(final Anchor anchor)
+  {
+    final StringWriter writer = new StringWriter();
+    final PrintWriter out = new PrintWriter(writer);
+    anchor.print(out);
+    out.flush();
+    return writer.toString();
+  }
+
+  private String print(final TableCell cell)
+  {
+    final StringWriter writer = new StringWriter();
+    final PrintWriter out = new PrintWriter(writer);
+    cell.print(out);
+    out.flush();
+    return writer.toString();
+  }
+
+  private String print(final TableRow row)
+  {
+    final StringWriter writer = new StringWriter();
+    final PrintWriter out = new PrintWriter(writer);
+    row.print(out);
+    out.flush();
+    return writer.toString();
+  }
+
+  private TableRow textRow(final TextOutputFormat outputFormat)
+  {
+    final TableRow row = new TableRow(outputFormat);
+    row.add(new TableCell("abc",
+                          true,
+                          6,
+                          Alignment.right,
+                          false,
+                          null,
+                          null,
+                          1,
+                          outputFormat));
+    row.add(new TableCell("de",
+                          true,
+                          5,
+                          Alignment.left,
+                          false,
+                          null,
+                          null,
+                          1,
+                          outputFormat));
+    row.add(new TableCell("too long",
+                          true,
+                          4,
+                          Alignment.left,
+                          false,
+                          null,
+                          null,
+                          1,
+                          outputFormat));
+    return row;
+  }
+
+}
@@ -1,11 +1,14 @@
 package schemacrawler.test;
 
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 import static schemacrawler.test.utility.TestUtility.clean;
 import static schemacrawler.test.utility.TestUtility.compareOutput;
 
 import java.io.FileWriter;
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -20,7 +23,9 @@ import schemacrawler.test.utility.TestContextParameterResolver;
 import schemacrawler.test.utility.TestLoggingExtension;
 import schemacrawler.tools.options.TextOutputFormat;
 import schemacrawler.tools.text.utility.org.json.JSONArray;
+import schemacrawler.tools.text.utility.org.json.JSONException;
 import schemacrawler.tools.text.utility.org.json.JSONObject;
+import schemacrawler.tools.text.utility.org.json.JSONStreamWriter;
 import sf.util.IOUtility;
 
 @ExtendWith(TestLoggingExtension.class)
@@ -57,21 +62,90 @@ public class JsonLibraryTest
     testJson(testContext, jsonObject);
   }
 
-  private void testJson(final TestContext testContext,
-                        final JSONObject jsonObject)
+  @Test
+  public void streamedJsonArrays(final TestContext testContext)
     throws Exception
   {
+    final String referenceFile = testContext.testMethodName() + ".json";
+
+    final Path testOutputFile = IOUtility
+      .createTempFilePath(referenceFile, TextOutputFormat.json.getFormat());
+
+    try (PrintWriter out = new PrintWriter(new FileWriter(testOutputFile
+      .toFile()));)
+    {
+      final JSONStreamWriter jsonWriter = new JSONStreamWriter(out, 2);
+      jsonWriter.beginObject();
+      jsonWriter.beginArray("data");
+      jsonWriter.beginObject();
+      jsonWriter.put("title", "streamed");
+      jsonWriter.beginArray("rows");
+      for (int i = 1; i <= 2; i++)
+      {
+        jsonWriter.beginArray();
+        jsonWriter.value(i);
+        jsonWriter.value("name" + i);
+        jsonWriter.value(null);
+        jsonWriter.endArray();
+      }
+      jsonWriter.endArray();
+      jsonWriter.endObject();
+      jsonWriter.endArray();
+      jsonWriter.beginArray("empty");
+      jsonWriter.endArray();
+      jsonWriter.endObject();
+    }
+
+    compareJson(referenceFile, testOutputFile);
+  }
 
+  @Test
+  public void streamedJsonObject(final TestContext testContext)
+    throws Exception
+  {
     final String referenceFile = testContext.testMethodName() + ".json";
 
     final Path testOutputFile = IOUtility
       .createTempFilePath(referenceFile, TextOutputFormat.json.getFormat());
 
-    try (Writer out = new FileWriter(testOutputFile.toFile());)
+    try (PrintWriter out = new PrintWriter(new FileWriter(testOutputFile
+      .toFile()));)
     {
-      jsonObject.write(out, 2);
+      final JSONStreamWriter jsonWriter = new JSONStreamWriter(out, 2);
+      jsonWriter.beginObject();
+      jsonWriter.put("name", "streamed");
+      jsonWriter.put("array", new JSONArray());
+      jsonWriter.accumulate("single", new JSONObject().put("id", 1));
+      for (int i = 1; i <= 3; i++)
+      {
+        jsonWriter.accumulate("multiple",
+                              new JSONObject().put("id", i)
+                                .put("name", "name" + i));
+      }
+      jsonWriter.put("object", new JSONObject());
+      jsonWriter.endObject();
     }
 
+    compareJson(referenceFile, testOutputFile);
+  }
+
+  @Test
+  public void streamedJsonObjectDuplicateKey()
+    throws Exception
+  {
+    final JSONStreamWriter jsonWriter = new JSONStreamWriter(new PrintWriter(new StringWriter()),
+                                                             2);
+    jsonWriter.beginObject();
+    jsonWriter.accumulate("tables", new JSONObject());
+    jsonWriter.put("name", "streamed");
+    assertThrows(JSONException.class,
+                 () -> jsonWriter.accumulate("tables", new JSONObject()));
+  }
+
+  private void compareJson(final String referenceFile,
+                           final Path testOutputFile)
+    throws Exception
+  {
     final List<String> failures = new ArrayList<>();
 
     failures.addAll(compareOutput(JSON_LIBRARY_OUTPUT + referenceFile,
@@ -83,4 +157,22 @@ public class JsonLibraryTest
     }
   }
 
+  private void testJson(final TestContext testContext,
+                        final JSONObject jsonObject)
+    throws Exception
+  {
+
+    final String referenceFile = testContext.testMethodName() + ".json";
+
+    final Path testOutputFile = IOUtility
+      .createTempFilePath(referenceFile, TextOutputFormat.json.getFormat());
+
+    try (Writer out = new FileWriter(testOutputFile.toFile());)
+    {
+      jsonObject.write(out, 2);
+    }
+
+    compareJson(referenceFile, testOutputFile);
+  }
+
 }
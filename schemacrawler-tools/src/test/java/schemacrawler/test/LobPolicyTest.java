@@ -0,0 +1,215 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static schemacrawler.test.utility.ExecutableTestUtility.executableExecution;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.RegularExpressionInclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+import schemacrawler.tools.options.TextOutputFormat;
+import schemacrawler.tools.text.operation.LobPolicy;
+import schemacrawler.tools.text.operation.OperationOptions;
+import schemacrawler.tools.text.operation.OperationOptionsBuilder;
+
+public class LobPolicyTest
+{
+
+  private static String document()
+  {
+    final StringBuilder document = new StringBuilder();
+    for (int i = 0; i < 2000; i++)
+    {
+      document.append(i).append(" <a href=\"/x\">\t&\"</a>\n");
+    }
+    return document.toString();
+  }
+
+  private Connection connection;
+
+  @Test
+  public void fullLobs()
+    throws Exception
+  {
+    final String output = execute(LobPolicy.full, TextOutputFormat.text);
+    assertThat(output, containsString(document()));
+    assertThat(output, containsString("Image data"));
+  }
+
+  @Test
+  public void hashLobs()
+    throws Exception
+  {
+    final String output = execute(LobPolicy.hash, TextOutputFormat.text);
+    assertThat(output, containsString(sha256(document())));
+    assertThat(output, containsString(sha256("Image data")));
+    assertThat(output, not(containsString("Image data")));
+  }
+
+  @Test
+  public void hideLobs()
+    throws Exception
+  {
+    final String output = execute(LobPolicy.hide, TextOutputFormat.text);
+    assertThat(output, containsString("<binary>"));
+    assertThat(output, not(containsString("Image data")));
+  }
+
+  @Test
+  public void lobPolicyOptions()
+  {
+    final OperationOptions defaultOptions = OperationOptionsBuilder
+      .newOperationOptions();
+    assertThat(defaultOptions.getLobPolicy(), is(LobPolicy.hide));
+    assertThat(defaultOptions.isShowLobs(), is(false));
+
+    assertThat(OperationOptionsBuilder.builder().showLobs().toOptions()
+      .getLobPolicy(), is(LobPolicy.full));
+    assertThat(OperationOptionsBuilder.builder().withLobPolicy(LobPolicy.hash)
+      .showLobs().toOptions().getLobPolicy(), is(LobPolicy.hash));
+    assertThat(OperationOptionsBuilder.builder().withLobPolicy(LobPolicy.hash)
+      .showLobs(false).toOptions().getLobPolicy(), is(LobPolicy.hide));
+    assertThat(OperationOptionsBuilder.builder().withLobPreviewLength(-1)
+      .toOptions().getLobPreviewLength(), is(1));
+
+    final Config config = OperationOptionsBuilder.builder()
+      .withLobPolicy(LobPolicy.preview).withLobPreviewLength(10).toConfig();
+    final OperationOptions options = OperationOptionsBuilder
+      .newOperationOptions(config);
+    assertThat(options.getLobPolicy(), is(LobPolicy.preview));
+    assertThat(options.getLobPreviewLength(), is(10));
+    assertThat(options.isShowLobs(), is(true));
+  }
+
+  @Test
+  public void previewLobs()
+    throws Exception
+  {
+    final String output = execute(LobPolicy.preview, TextOutputFormat.text);
+    assertThat(output, containsString("0 <a href=...\t"));
+    assertThat(output, containsString("Image data"));
+    assertThat(output, not(containsString("Image data...")));
+    assertThat(output, not(containsString("1 <a href")));
+  }
+
+  @BeforeEach
+  public void createDatabase()
+    throws Exception
+  {
+    connection = DriverManager.getConnection("jdbc:hsqldb:mem:lobs", "sa", "");
+    try (final Statement statement = connection.createStatement();)
+    {
+      statement.execute("CREATE TABLE LOBS "
+                        + "(ID INTEGER PRIMARY KEY, DOCUMENT CLOB, IMAGE BLOB)");
+    }
+    try (
+        final PreparedStatement statement = connection
+          .prepareStatement("INSERT INTO LOBS VALUES (1, ?, ?)");)
+    {
+      statement.setString(1, document());
+      statement.setBytes(2, "Image data".getBytes(UTF_8));
+      statement.executeUpdate();
+    }
+  }
+
+  @AfterEach
+  public void dropDatabase()
+    throws Exception
+  {
+    try (final Statement statement = connection.createStatement();)
+    {
+      statement.execute("SHUTDOWN");
+    }
+    connection.close();
+  }
+
+  @Test
+  public void streamLobs()
+    throws Exception
+  {
+    for (final TextOutputFormat outputFormat: new TextOutputFormat[] {
+        TextOutputFormat.text, TextOutputFormat.html, TextOutputFormat.json })
+    {
+      assertThat(outputFormat.name(),
+                 execute(LobPolicy.stream, outputFormat),
+                 is(execute(LobPolicy.full, outputFormat)));
+    }
+  }
+
+  private String execute(final LobPolicy lobPolicy,
+                         final TextOutputFormat outputFormat)
+    throws Exception
+  {
+    final Config config = OperationOptionsBuilder.builder().noInfo()
+      .withLobPolicy(lobPolicy).withLobPreviewLength(10).toConfig();
+
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable("dump");
+    executable
+      .setSchemaCrawlerOptions(SchemaCrawlerOptionsBuilder.builder()
+        .includeSchemas(new RegularExpressionInclusionRule("PUBLIC\\.PUBLIC"))
+        .toOptions());
+    executable.setAdditionalConfiguration(config);
+
+    final Path outputFile = executableExecution(connection,
+                                                executable,
+                                                outputFormat);
+    return new String(Files.readAllBytes(outputFile), UTF_8);
+  }
+
+  private String sha256(final String data)
+    throws Exception
+  {
+    final StringBuilder hash = new StringBuilder("SHA-256:");
+    for (final byte b: MessageDigest.getInstance("SHA-256")
+      .digest(data.getBytes(UTF_8)))
+    {
+      hash.append(String.format("%02x", b));
+    }
+    return hash.toString();
+  }
+
+}
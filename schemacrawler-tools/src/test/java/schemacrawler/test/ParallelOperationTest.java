@@ -0,0 +1,193 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static schemacrawler.test.utility.ExecutableTestUtility.executableExecution;
+import static schemacrawler.test.utility.ExecutableTestUtility.executableOf;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+import schemacrawler.tools.options.TextOutputFormat;
+import schemacrawler.tools.text.operation.Operation;
+import schemacrawler.tools.text.operation.OperationOptionsBuilder;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class ParallelOperationTest
+{
+
+  private static Supplier<Connection> connectionSupplier(final DatabaseConnectionInfo connectionInfo,
+                                                         final AtomicInteger connectionCount)
+  {
+    return () -> {
+      try
+      {
+        connectionCount.incrementAndGet();
+        return DriverManager
+          .getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+      }
+      catch (final SQLException e)
+      {
+        throw new SchemaCrawlerRuntimeException(e.getMessage(), e);
+      }
+    };
+  }
+
+  private static String execute(final Connection connection,
+                                final Supplier<Connection> connectionSupplier,
+                                final Operation operation,
+                                final TextOutputFormat outputFormat,
+                                final int parallelism)
+    throws Exception
+  {
+    final Config config = OperationOptionsBuilder.builder().noInfo()
+      .withParallelism(parallelism).toConfig();
+
+    final SchemaCrawlerExecutable executable = executableOf(operation
+      .name());
+    executable.setAdditionalConfiguration(config);
+    executable.setConnectionSupplier(connectionSupplier);
+
+    final Path outputFile = executableExecution(connection,
+                                                executable,
+                                                outputFormat);
+    return new String(Files.readAllBytes(outputFile), StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void parallelCount(final Connection connection,
+                            final DatabaseConnectionInfo connectionInfo)
+    throws Exception
+  {
+    compareOutput(connection,
+                  connectionInfo,
+                  Operation.count,
+                  TextOutputFormat.text);
+  }
+
+  @Test
+  public void parallelDump(final Connection connection,
+                           final DatabaseConnectionInfo connectionInfo)
+    throws Exception
+  {
+    compareOutput(connection,
+                  connectionInfo,
+                  Operation.dump,
+                  TextOutputFormat.text);
+  }
+
+  @Test
+  public void parallelDumpJson(final Connection connection,
+                               final DatabaseConnectionInfo connectionInfo)
+    throws Exception
+  {
+    compareOutput(connection,
+                  connectionInfo,
+                  Operation.dump,
+                  TextOutputFormat.json);
+  }
+
+  @Test
+  public void parallelDumpWithoutConnectionSupplier(final Connection connection)
+    throws Exception
+  {
+    final String serialOutput = execute(connection,
+                                        null,
+                                        Operation.dump,
+                                        TextOutputFormat.text,
+                                        1);
+    final String parallelOutput = execute(connection,
+                                          null,
+                                          Operation.dump,
+                                          TextOutputFormat.text,
+                                          4);
+
+    assertThat(parallelOutput, is(serialOutput));
+  }
+
+  @Test
+  public void parallelism()
+  {
+    assertThat(OperationOptionsBuilder.newOperationOptions()
+      .getParallelism(), is(1));
+    assertThat(OperationOptionsBuilder.builder().withParallelism(-2)
+      .toOptions().getParallelism(), is(1));
+    assertThat(OperationOptionsBuilder.builder().withParallelism(4)
+      .toOptions().getParallelism(), is(4));
+    assertThat(OperationOptionsBuilder.builder()
+      .fromConfig(OperationOptionsBuilder.builder().withParallelism(3)
+        .toConfig())
+      .toOptions().getParallelism(), is(3));
+  }
+
+  private void compareOutput(final Connection connection,
+                             final DatabaseConnectionInfo connectionInfo,
+                             final Operation operation,
+                             final TextOutputFormat outputFormat)
+    throws Exception
+  {
+    final String serialOutput = execute(connection,
+                                        null,
+                                        operation,
+                                        outputFormat,
+                                        1);
+
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final String parallelOutput = execute(connection,
+                                          connectionSupplier(connectionInfo,
+                                                             connectionCount),
+                                          operation,
+                                          outputFormat,
+                                          3);
+
+    assertThat(connectionCount.get(), is(greaterThan(0)));
+    assertThat(serialOutput, is(not(equalTo(""))));
+    assertThat(parallelOutput, is(serialOutput));
+  }
+
+}
@@ -0,0 +1,142 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+package schemacrawler.test;
+
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static schemacrawler.test.utility.ExecutableTestUtility.executableExecution;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schemacrawler.Config;
+import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+import schemacrawler.tools.executable.SchemaCrawlerExecutable;
+import schemacrawler.tools.options.TextOutputFormat;
+import schemacrawler.tools.text.schema.SchemaTextDetailType;
+import schemacrawler.tools.text.schema.SchemaTextOptionsBuilder;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class ParallelSchemaTextTest
+{
+
+  private static String execute(final Connection connection,
+                                final SchemaTextDetailType schemaTextDetailType,
+                                final TextOutputFormat outputFormat,
+                                final int parallelism)
+    throws Exception
+  {
+    final SchemaCrawlerOptionsBuilder schemaCrawlerOptionsBuilder = SchemaCrawlerOptionsBuilder
+      .builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+      .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"))
+      .includeAllSequences().includeAllRoutines();
+
+    final Config config = SchemaTextOptionsBuilder.builder().noInfo()
+      .withParallelism(parallelism).toConfig();
+
+    final SchemaCrawlerExecutable executable = new SchemaCrawlerExecutable(schemaTextDetailType
+      .name());
+    executable
+      .setSchemaCrawlerOptions(schemaCrawlerOptionsBuilder.toOptions());
+    executable.setAdditionalConfiguration(config);
+
+    final Path outputFile = executableExecution(connection,
+                                                executable,
+                                                outputFormat);
+    return new String(Files.readAllBytes(outputFile), StandardCharsets.UTF_8);
+  }
+
+  @Test
+  public void parallelism()
+  {
+    assertThat(SchemaTextOptionsBuilder.newSchemaTextOptions()
+      .getParallelism(), is(1));
+    assertThat(SchemaTextOptionsBuilder.builder().withParallelism(0)
+      .toOptions().getParallelism(), is(1));
+    assertThat(SchemaTextOptionsBuilder.builder()
+      .fromConfig(SchemaTextOptionsBuilder.builder().withParallelism(3)
+        .toConfig())
+      .toOptions().getParallelism(), is(3));
+  }
+
+  @Test
+  public void parallelSchemaBrief(final Connection connection)
+    throws Exception
+  {
+    compareOutput(connection,
+                  SchemaTextDetailType.brief,
+                  TextOutputFormat.text);
+  }
+
+  @Test
+  public void parallelSchemaDetails(final Connection connection)
+    throws Exception
+  {
+    compareOutput(connection,
+                  SchemaTextDetailType.details,
+                  TextOutputFormat.text);
+  }
+
+  @Test
+  public void parallelSchemaDetailsHtml(final Connection connection)
+    throws Exception
+  {
+    compareOutput(connection,
+                  SchemaTextDetailType.details,
+                  TextOutputFormat.html);
+  }
+
+  private void compareOutput(final Connection connection,
+                             final SchemaTextDetailType schemaTextDetailType,
+                             final TextOutputFormat outputFormat)
+    throws Exception
+  {
+    final String serialOutput = execute(connection,
+                                        schemaTextDetailType,
+                                        outputFormat,
+                                        1);
+    final String parallelOutput = execute(connection,
+                                          schemaTextDetailType,
+                                          outputFormat,
+                                          4);
+
+    assertThat(serialOutput, containsString("AUTHORS"));
+    assertThat(parallelOutput, is(serialOutput));
+  }
+
+}
@@ -31,13 +31,21 @@ package schemacrawler.test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static schemacrawler.test.utility.FileHasContent.classpathResource;
 import static schemacrawler.test.utility.FileHasContent.hasSameContentAs;
 import static schemacrawler.test.utility.FileHasContent.outputOf;
 import static schemacrawler.utility.SchemaCrawlerUtility.getCatalog;
 
 import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -45,16 +53,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import schemacrawler.schema.Catalog;
 import schemacrawler.schema.Schema;
 import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.InformationSchemaKey;
+import schemacrawler.schemacrawler.InformationSchemaViews;
+import schemacrawler.schemacrawler.InformationSchemaViewsBuilder;
 import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
 import schemacrawler.schemacrawler.SchemaCrawlerOptions;
 import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaCrawlerRuntimeException;
 import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.DatabaseConnectionInfo;
 import schemacrawler.test.utility.TestContext;
 import schemacrawler.test.utility.TestContextParameterResolver;
 import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
 import schemacrawler.test.utility.TestWriter;
 import schemacrawler.tools.analysis.counts.CatalogWithCounts;
+import schemacrawler.tools.analysis.counts.CountsOptions;
+import schemacrawler.tools.analysis.counts.CountsOptionsBuilder;
 import schemacrawler.tools.analysis.counts.CountsUtility;
+import schemacrawler.tools.analysis.counts.RowCountMethod;
 import schemacrawler.utility.NamedObjectSort;
 
 @ExtendWith(TestDatabaseConnectionParameterResolver.class)
@@ -62,6 +78,192 @@ import schemacrawler.utility.NamedObjectSort;
 public class TableCountsTest
 {
 
+  private static SchemaCrawlerOptions schemaCrawlerOptions()
+  {
+    return SchemaCrawlerOptionsBuilder.builder()
+      .withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+      .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"))
+      .toOptions();
+  }
+
+  @Test
+  public void countsOptions()
+  {
+    final CountsOptions defaultOptions = CountsOptionsBuilder
+      .newCountsOptions();
+    assertThat(defaultOptions.getRowCountMethod(), is(RowCountMethod.exact));
+    assertThat(defaultOptions.getParallelism(), is(1));
+    assertThat(defaultOptions.getTimeoutSeconds(), is(0));
+
+    final CountsOptions options = CountsOptionsBuilder
+      .newCountsOptions(CountsOptionsBuilder.builder()
+        .withRowCountMethod(RowCountMethod.estimate).withParallelism(4)
+        .withTimeoutSeconds(30).toConfig());
+    assertThat(options.getRowCountMethod(), is(RowCountMethod.estimate));
+    assertThat(options.getParallelism(), is(4));
+    assertThat(options.getTimeoutSeconds(), is(30));
+
+    assertThat(CountsOptionsBuilder.builder().withParallelism(-1)
+      .withTimeoutSeconds(-1).toOptions().getParallelism(), is(1));
+  }
+
+  @Test
+  public void estimatedTableCounts(final Connection connection)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = schemaCrawlerOptions();
+
+    final Map<Table, Long> exactCounts = new CatalogWithCounts(getCatalog(connection,
+                                                                          schemaCrawlerOptions),
+                                                               connection,
+                                                               schemaCrawlerOptions)
+                                                                 .getCounts();
+
+    final InformationSchemaViews informationSchemaViews = InformationSchemaViewsBuilder
+      .builder()
+      .withSql(InformationSchemaKey.EXT_TABLE_ROW_COUNTS,
+               "SELECT TABLE_CATALOG, TABLE_SCHEMA, TABLE_NAME, "
+                                                          + "CARDINALITY AS ROW_COUNT "
+                                                          + "FROM INFORMATION_SCHEMA.SYSTEM_TABLESTATS")
+      .toOptions();
+    final CatalogWithCounts catalog = new CatalogWithCounts(getCatalog(connection,
+                                                                       schemaCrawlerOptions),
+                                                            connection,
+                                                            null,
+                                                            informationSchemaViews,
+                                                            schemaCrawlerOptions,
+                                                            CountsOptionsBuilder
+                                                              .builder()
+                                                              .withRowCountMethod(RowCountMethod.estimate)
+                                                              .toOptions());
+
+    // Statistics for in-memory tables match the exact counts, except
+    // for temporary tables, whose rows are not visible to statistics
+    int matchingEstimatesCount = 0;
+    for (final Table table: catalog.getTables())
+    {
+      final RowCountMethod rowCountMethod = CountsUtility
+        .getRowCountMethod(table);
+      if (rowCountMethod == RowCountMethod.estimate)
+      {
+        if (CountsUtility.getRowCount(table) == count(exactCounts, table))
+        {
+          matchingEstimatesCount++;
+        }
+      }
+      else
+      {
+        // Views have no statistics, and are counted
+        assertThat(rowCountMethod, is(RowCountMethod.exact));
+        assertThat(table.getFullName(),
+                   CountsUtility.getRowCount(table),
+                   is(count(exactCounts, table)));
+      }
+    }
+    assertThat(matchingEstimatesCount, is(greaterThan(0)));
+  }
+
+  @Test
+  public void parallelTableCounts(final Connection connection,
+                                  final DatabaseConnectionInfo connectionInfo)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = schemaCrawlerOptions();
+
+    final Map<Table, Long> serialCounts = new CatalogWithCounts(getCatalog(connection,
+                                                                           schemaCrawlerOptions),
+                                                                connection,
+                                                                schemaCrawlerOptions)
+                                                                  .getCounts();
+
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final Supplier<Connection> connectionSupplier = () -> {
+      try
+      {
+        connectionCount.incrementAndGet();
+        return DriverManager
+          .getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+      }
+      catch (final SQLException e)
+      {
+        throw new SchemaCrawlerRuntimeException(e.getMessage(), e);
+      }
+    };
+    final CatalogWithCounts catalog = new CatalogWithCounts(getCatalog(connection,
+                                                                       schemaCrawlerOptions),
+                                                            connection,
+                                                            connectionSupplier,
+                                                            null,
+                                                            schemaCrawlerOptions,
+                                                            CountsOptionsBuilder
+                                                              .builder()
+                                                              .withParallelism(3)
+                                                              .withTimeoutSeconds(60)
+                                                              .toOptions());
+
+    assertThat(connectionCount.get(), is(3));
+    assertThat(catalog.getCounts().size(), is(serialCounts.size()));
+    for (final Table table: catalog.getTables())
+    {
+      assertThat(CountsUtility.getRowCountMethod(table),
+                 is(RowCountMethod.exact));
+      assertThat(table.getFullName(),
+                 CountsUtility.getRowCount(table),
+                 is(count(serialCounts, table)));
+    }
+  }
+
+  @Test
+  public void parallelTableCountsWithFailedConnections(final Connection connection,
+                                                       final DatabaseConnectionInfo connectionInfo)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = schemaCrawlerOptions();
+
+    final Map<Table, Long> serialCounts = new CatalogWithCounts(getCatalog(connection,
+                                                                           schemaCrawlerOptions),
+                                                                connection,
+                                                                schemaCrawlerOptions)
+                                                                  .getCounts();
+
+    // Only one of the additional connections can be opened
+    final AtomicInteger connectionCount = new AtomicInteger();
+    final Supplier<Connection> connectionSupplier = () -> {
+      try
+      {
+        if (connectionCount.incrementAndGet() > 1)
+        {
+          throw new SQLException("Cannot open connection");
+        }
+        return DriverManager
+          .getConnection(connectionInfo.getConnectionUrl(), "sa", "");
+      }
+      catch (final SQLException e)
+      {
+        throw new SchemaCrawlerRuntimeException(e.getMessage(), e);
+      }
+    };
+    final CatalogWithCounts catalog = new CatalogWithCounts(getCatalog(connection,
+                                                                       schemaCrawlerOptions),
+                                                            connection,
+                                                            connectionSupplier,
+                                                            null,
+                                                            schemaCrawlerOptions,
+                                                            CountsOptionsBuilder
+                                                              .builder()
+                                                              .withParallelism(3)
+                                                              .toOptions());
+
+    assertThat(connectionCount.get(), is(3));
+    assertThat(catalog.getCounts().size(), is(serialCounts.size()));
+    for (final Table table: catalog.getTables())
+    {
+      assertThat(table.getFullName(),
+                 CountsUtility.getRowCount(table),
+                 is(count(serialCounts, table)));
+    }
+  }
+
   @Test
   public void tableCounts(final TestContext testContext,
                           final Connection connection)
@@ -101,4 +303,22 @@ public class TableCountsTest
                  .testMethodFullName())));
   }
 
+  @Test
+  public void noRowCountMethod()
+  {
+    assertThat(CountsUtility.getRowCountMethod(null), is(nullValue()));
+  }
+
+  private long count(final Map<Table, Long> counts, final Table table)
+  {
+    for (final Map.Entry<Table, Long> count: counts.entrySet())
+    {
+      if (count.getKey().getFullName().equals(table.getFullName()))
+      {
+        return count.getValue();
+      }
+    }
+    return -1;
+  }
+
 }
@@ -0,0 +1,159 @@
+/*
+========================================================================
+SchemaCrawler
+http://www.schemacrawler.com
+Copyright (c) 2000-2019, Sualeh Fatehi <sualeh@hotmail.com>.
+All rights reserved.
+------------------------------------------------------------------------
+
+SchemaCrawler is distributed in the hope that it will be useful, but
+WITHOUT ANY WARRANTY; without even the implied warranty of
+MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+
+SchemaCrawler and the accompanying materials are made available under
+the terms of the Eclipse Public License v1.0, GNU General Public License
+v3 or GNU Lesser General Public License v3.
+
+You may elect to redistribute this code under any of these licenses.
+
+The Eclipse Public License is available at:
+http://www.eclipse.org/legal/epl-v10.html
+
+The GNU General Public License v3 and the GNU Lesser General Public
+License v3 are available at:
+http://www.gnu.org/licenses/
+
+========================================================================
+*/
+
+package schemacrawler.tools.analysis.associations;
+
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static schemacrawler.utility.SchemaCrawlerUtility.getCatalog;
+import static sf.util.Utility.commonPrefix;
+import static sf.util.Utility.isBlank;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import schemacrawler.schema.Catalog;
+import schemacrawler.schema.Table;
+import schemacrawler.schemacrawler.RegularExpressionExclusionRule;
+import schemacrawler.schemacrawler.SchemaCrawlerOptions;
+import schemacrawler.schemacrawler.SchemaCrawlerOptionsBuilder;
+import schemacrawler.schemacrawler.SchemaInfoLevelBuilder;
+import schemacrawler.test.utility.TestDatabaseConnectionParameterResolver;
+
+@ExtendWith(TestDatabaseConnectionParameterResolver.class)
+public class WeakAssociationsAnalyzerTest
+{
+
+  private static final List<String> TABLE_NAMES = Arrays
+    .asList("CUSTOMER",
+            "ORDER_ITEM",
+            "ORDER_LINE",
+            "ORDER_NOTE_A",
+            "ORDER_NOTE_B",
+            "Order_Status",
+            "X_ONE",
+            "X_TWO",
+            "X_TWO",
+            "X_");
+
+  @Test
+  public void countCommonPrefixes()
+  {
+    // Compare every pair of table names
+    final Map<String, Integer> expectedCommonPrefixes = new HashMap<>();
+    for (int i = 0; i < TABLE_NAMES.size(); i++)
+    {
+      for (int j = i + 1; j < TABLE_NAMES.size(); j++)
+      {
+        final String commonPrefix = commonPrefix(TABLE_NAMES.get(i),
+                                                 TABLE_NAMES.get(j));
+        if (!isBlank(commonPrefix) && commonPrefix.endsWith("_"))
+        {
+          expectedCommonPrefixes.merge(commonPrefix, 1, Integer::sum);
+        }
+      }
+    }
+
+    assertThat(TableMatchKeys.countCommonPrefixes(TABLE_NAMES),
+               is(equalTo(expectedCommonPrefixes)));
+  }
+
+  @Test
+  public void findTableNamePrefixes()
+  {
+    assertThat(TableMatchKeys.findTableNamePrefixes(TABLE_NAMES),
+               contains("x_", "order_", ""));
+    assertThat(TableMatchKeys.findTableNamePrefixes(Arrays
+      .asList("CUSTOMER", "PRODUCT")), contains(""));
+  }
+
+  @Test
+  public void findTableNamePrefixesForUpperCaseNames()
+  {
+    // Common prefixes have always been lower case, so upper case
+    // prefixes are removed from lower case table names
+    final List<String> tableNames = Arrays.asList("CUSTOMER",
+                                                  "ORDER_ITEM",
+                                                  "ORDER_LINE",
+                                                  "PRODUCT");
+    assertThat(commonPrefix(tableNames.get(1), tableNames.get(2)),
+               is("order_"));
+    assertThat(TableMatchKeys.findTableNamePrefixes(tableNames),
+               contains("order_", ""));
+  }
+
+  @Test
+  public void parallelWeakAssociations(final Connection connection)
+    throws Exception
+  {
+    final SchemaCrawlerOptions schemaCrawlerOptions = SchemaCrawlerOptionsBuilder
+      .builder().withSchemaInfoLevel(SchemaInfoLevelBuilder.maximum())
+      .includeSchemas(new RegularExpressionExclusionRule(".*\\.FOR_LINT"))
+      .toOptions();
+
+    final List<String> serialWeakAssociations = weakAssociations(getCatalog(connection,
+                                                                            schemaCrawlerOptions),
+                                                                 false);
+    final List<String> parallelWeakAssociations = weakAssociations(getCatalog(connection,
+                                                                              schemaCrawlerOptions),
+                                                                   true);
+
+    assertThat(serialWeakAssociations, is(not(empty())));
+    assertThat(parallelWeakAssociations, is(equalTo(serialWeakAssociations)));
+  }
+
+  private List<String> weakAssociations(final Catalog catalog,
+                                        final boolean parallel)
+  {
+    final List<Table> tables = new ArrayList<>(catalog.getTables());
+    final Collection<WeakAssociationForeignKey> weakAssociations = new WeakAssociationsAnalyzer(tables,
+                                                                                                parallel)
+                                                                                                  .analyzeTables();
+    final List<String> weakAssociationNames = new ArrayList<>();
+    for (final WeakAssociationForeignKey weakAssociation: weakAssociations)
+    {
+      weakAssociationNames
+        .add(weakAssociation.getName() + " " + weakAssociation);
+    }
+    return weakAssociationNames;
+  }
+
+}